@@ -19,6 +19,7 @@ package io.zeebe.broker.clustering;
 
 import static io.zeebe.broker.clustering.base.ClusterBaseLayerServiceNames.*;
 import static io.zeebe.broker.clustering.orchestration.ClusterOrchestrationLayerServiceNames.CLUSTER_ORCHESTRATION_INSTALL_SERVICE_NAME;
+import static io.zeebe.broker.logstreams.LogStreamServiceNames.RECOVERY_LIMITER;
 import static io.zeebe.broker.transport.TransportServiceNames.*;
 
 import io.zeebe.broker.Loggers;
@@ -29,6 +30,7 @@ import io.zeebe.broker.clustering.base.gossip.GossipJoinService;
 import io.zeebe.broker.clustering.base.gossip.GossipService;
 import io.zeebe.broker.clustering.base.raft.RaftPersistentConfigurationManagerService;
 import io.zeebe.broker.clustering.base.snapshots.SnapshotReplicationInstallService;
+import io.zeebe.broker.clustering.base.topology.ClientTopologyPublisherService;
 import io.zeebe.broker.clustering.base.topology.TopologyManagerService;
 import io.zeebe.broker.clustering.orchestration.ClusterOrchestrationInstallService;
 import io.zeebe.broker.system.Component;
@@ -50,6 +52,7 @@ public class ClusterComponent implements Component {
     initClusterBaseLayer(context, serviceContainer);
     initBootstrapSystemPartition(context, serviceContainer);
     initClusterOrchestrationLayer(serviceContainer);
+    initClientTopologyPublisher(serviceContainer);
   }
 
   private void initClusterBaseLayer(
@@ -149,6 +152,7 @@ public class ClusterComponent implements Component {
         .createService(RAFT_BOOTSTRAP_SERVICE, raftBootstrapService)
         .dependency(
             RAFT_CONFIGURATION_MANAGER, raftBootstrapService.getConfigurationManagerInjector())
+        .dependency(RECOVERY_LIMITER, raftBootstrapService.getRecoveryLimiterInjector())
         .install();
   }
 
@@ -211,4 +215,18 @@ public class ClusterComponent implements Component {
             clusterOrchestrationInstallService.getSystemLeaderGroupReference())
         .install();
   }
+
+  private void initClientTopologyPublisher(final ServiceContainer serviceContainer) {
+    final ClientTopologyPublisherService clientTopologyPublisherService =
+        new ClientTopologyPublisherService();
+
+    serviceContainer
+        .createService(CLIENT_TOPOLOGY_PUBLISHER_SERVICE, clientTopologyPublisherService)
+        .dependency(
+            TOPOLOGY_MANAGER_SERVICE, clientTopologyPublisherService.getTopologyManagerInjector())
+        .dependency(
+            serverTransport(CLIENT_API_SERVER_NAME),
+            clientTopologyPublisherService.getClientApiTransportInjector())
+        .install();
+  }
 }
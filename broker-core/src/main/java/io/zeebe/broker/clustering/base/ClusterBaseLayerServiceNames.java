@@ -41,6 +41,8 @@ public class ClusterBaseLayerServiceNames {
       ServiceName.newServiceName("cluster.base.topologyManager", TopologyManager.class);
   public static final ServiceName<Object> REMOTE_ADDRESS_MANAGER_SERVICE =
       ServiceName.newServiceName("cluster.base.remoteAddrManager", Object.class);
+  public static final ServiceName<Object> CLIENT_TOPOLOGY_PUBLISHER_SERVICE =
+      ServiceName.newServiceName("cluster.base.clientTopologyPublisher", Object.class);
 
   public static final ServiceName<Gossip> GOSSIP_SERVICE =
       ServiceName.newServiceName("cluster.base.gossip", Gossip.class);
@@ -25,10 +25,12 @@ import static io.zeebe.broker.transport.TransportServiceNames.clientTransport;
 import io.zeebe.broker.clustering.base.partitions.PartitionInstallService;
 import io.zeebe.broker.clustering.base.raft.RaftPersistentConfiguration;
 import io.zeebe.broker.clustering.base.raft.RaftPersistentConfigurationManager;
+import io.zeebe.broker.logstreams.RecoveryLimiter;
 import io.zeebe.broker.system.configuration.BrokerCfg;
 import io.zeebe.protocol.Protocol;
 import io.zeebe.servicecontainer.*;
 import io.zeebe.util.buffer.BufferUtil;
+import io.zeebe.util.sched.future.ActorFuture;
 import java.util.List;
 
 /**
@@ -38,6 +40,7 @@ import java.util.List;
 public class BootstrapLocalPartitions implements Service<Object> {
   private final Injector<RaftPersistentConfigurationManager> configurationManagerInjector =
       new Injector<>();
+  private final Injector<RecoveryLimiter> recoveryLimiterInjector = new Injector<>();
   private final BrokerCfg brokerCfg;
 
   public BootstrapLocalPartitions(BrokerCfg brokerCfg) {
@@ -48,6 +51,7 @@ public class BootstrapLocalPartitions implements Service<Object> {
   public void start(ServiceStartContext startContext) {
     final RaftPersistentConfigurationManager configurationManager =
         configurationManagerInjector.getValue();
+    final RecoveryLimiter recoveryLimiter = recoveryLimiterInjector.getValue();
 
     startContext.run(
         () -> {
@@ -55,13 +59,30 @@ public class BootstrapLocalPartitions implements Service<Object> {
               configurationManager.getConfigurations().join();
 
           for (RaftPersistentConfiguration configuration : configurations) {
-            installPartition(startContext, configuration);
+            final PartitionInstallService partitionInstallService =
+                createPartitionInstallService(configuration);
+
+            // the partition holds a recovery permit until the log stream is opened and raft is
+            // started, its stream processors acquire their own permits
+            recoveryLimiter.recover(
+                () -> installPartition(startContext, configuration, partitionInstallService),
+                v -> partitionInstallService.getRaftInstallFuture());
           }
         });
   }
 
-  private void installPartition(
-      ServiceStartContext startContext, RaftPersistentConfiguration configuration) {
+  private PartitionInstallService createPartitionInstallService(
+      RaftPersistentConfiguration configuration) {
+    final boolean isInternalSystemPartition =
+        configuration.getPartitionId() == Protocol.SYSTEM_PARTITION;
+
+    return new PartitionInstallService(brokerCfg, configuration, isInternalSystemPartition);
+  }
+
+  private ActorFuture<Void> installPartition(
+      ServiceStartContext startContext,
+      RaftPersistentConfiguration configuration,
+      PartitionInstallService partitionInstallService) {
     final String partitionName =
         String.format(
             "%s-%d",
@@ -69,13 +90,8 @@ public class BootstrapLocalPartitions implements Service<Object> {
             configuration.getPartitionId());
     final ServiceName<Void> partitionInstallServiceName =
         partitionInstallServiceName(partitionName);
-    final boolean isInternalSystemPartition =
-        configuration.getPartitionId() == Protocol.SYSTEM_PARTITION;
-
-    final PartitionInstallService partitionInstallService =
-        new PartitionInstallService(brokerCfg, configuration, isInternalSystemPartition);
 
-    startContext
+    return startContext
         .createService(partitionInstallServiceName, partitionInstallService)
         .dependency(LOCAL_NODE, partitionInstallService.getLocalNodeInjector())
         .dependency(
@@ -92,4 +108,8 @@ public class BootstrapLocalPartitions implements Service<Object> {
   public Injector<RaftPersistentConfigurationManager> getConfigurationManagerInjector() {
     return configurationManagerInjector;
   }
+
+  public Injector<RecoveryLimiter> getRecoveryLimiterInjector() {
+    return recoveryLimiterInjector;
+  }
 }
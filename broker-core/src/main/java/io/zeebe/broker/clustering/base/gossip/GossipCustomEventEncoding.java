@@ -76,13 +76,19 @@ public final class GossipCustomEventEncoding {
 
   public static int writeTopology(Topology topology, MutableDirectBuffer writeBuffer, int offset) {
     for (NodeInfo member : topology.getMembers()) {
-      offset = writePartitions(member, writeBuffer, offset);
+      offset = writePartitions(topology, member, writeBuffer, offset);
     }
 
     return offset;
   }
 
-  public static int writePartitions(NodeInfo member, MutableDirectBuffer writeBuffer, int offset) {
+  /**
+   * Writes the partitions of the member, followed by the raft terms of the partitions the member
+   * is leader of. The terms are appended after the partitions so that brokers which don't read them
+   * can still read the partitions.
+   */
+  public static int writePartitions(
+      Topology topology, NodeInfo member, MutableDirectBuffer writeBuffer, int offset) {
     final Set<PartitionInfo> leader = member.getLeaders();
     final Set<PartitionInfo> follower = member.getFollowers();
 
@@ -98,6 +104,12 @@ public final class GossipCustomEventEncoding {
       offset = writePartition(partition, RaftState.FOLLOWER, writeBuffer, offset);
     }
 
+    for (PartitionInfo partition : leader) {
+      final int term = topology.getLeaderTerm(partition.getPartitionId());
+      writeBuffer.putInt(offset, term, ByteOrder.LITTLE_ENDIAN);
+      offset += SIZE_OF_INT;
+    }
+
     return offset;
   }
 
@@ -127,6 +139,22 @@ public final class GossipCustomEventEncoding {
     final int count = buffer.getInt(offset, ByteOrder.LITTLE_ENDIAN);
     offset += SIZE_OF_INT;
 
+    // the leader terms follow the partitions; they are missing if the sender doesn't write them
+    int termOffset = offset;
+    int leaderCount = 0;
+    for (int i = 0; i < count; i++) {
+      termOffset += 2 * SIZE_OF_INT;
+
+      final int topicNameLength = buffer.getInt(termOffset, ByteOrder.LITTLE_ENDIAN);
+      termOffset += SIZE_OF_INT + topicNameLength;
+
+      if (buffer.getByte(termOffset) == (byte) 1) {
+        leaderCount += 1;
+      }
+      termOffset += SIZE_OF_BYTE;
+    }
+    final boolean hasTerms = termOffset + leaderCount * SIZE_OF_INT <= buffer.capacity();
+
     for (int i = 0; i < count; i++) {
       final int partition = buffer.getInt(offset, ByteOrder.LITTLE_ENDIAN);
       offset += SIZE_OF_INT;
@@ -145,7 +173,14 @@ public final class GossipCustomEventEncoding {
       offset += SIZE_OF_BYTE;
       final RaftState raftState = stateByte == (byte) 1 ? RaftState.LEADER : RaftState.FOLLOWER;
 
-      topologyManager.updatePartition(partition, topicBuffer, replicationFactor, member, raftState);
+      int term = Topology.UNKNOWN_TERM;
+      if (raftState == RaftState.LEADER && hasTerms) {
+        term = buffer.getInt(termOffset, ByteOrder.LITTLE_ENDIAN);
+        termOffset += SIZE_OF_INT;
+      }
+
+      topologyManager.updatePartition(
+          partition, topicBuffer, replicationFactor, member, raftState, term);
     }
   }
 }
@@ -28,8 +28,12 @@ import io.zeebe.broker.clustering.base.raft.RaftPersistentConfiguration;
 import io.zeebe.broker.clustering.base.topology.NodeInfo;
 import io.zeebe.broker.clustering.base.topology.PartitionInfo;
 import io.zeebe.broker.logstreams.SnapshotStorageService;
+import io.zeebe.broker.logstreams.processor.RecordBlockSummarizer;
 import io.zeebe.broker.system.configuration.BrokerCfg;
+import io.zeebe.broker.system.configuration.DataCfg;
+import io.zeebe.broker.system.configuration.TopicCfg;
 import io.zeebe.logstreams.LogStreams;
+import io.zeebe.logstreams.log.LogFlushPolicy;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.spi.SnapshotStorage;
 import io.zeebe.raft.Raft;
@@ -39,6 +43,8 @@ import io.zeebe.raft.state.RaftState;
 import io.zeebe.servicecontainer.*;
 import io.zeebe.transport.ClientTransport;
 import io.zeebe.transport.SocketAddress;
+import io.zeebe.util.ByteValue;
+import io.zeebe.util.DurationUtil;
 import io.zeebe.util.buffer.BufferUtil;
 import io.zeebe.util.sched.channel.OneToOneRingBufferChannel;
 import io.zeebe.util.sched.future.ActorFuture;
@@ -69,6 +75,7 @@ public class PartitionInstallService implements Service<Void>, RaftStateListener
   private ServiceName<LogStream> logStreamServiceName;
 
   private ServiceName<SnapshotStorage> snapshotStorageServiceName;
+  private volatile ActorFuture<Void> raftInstallFuture;
 
   public PartitionInstallService(
       BrokerCfg brokerCfg,
@@ -114,6 +121,9 @@ public class PartitionInstallService implements Service<Void>, RaftStateListener
         LogStreams.createFsLogStream(topicName, partitionId)
             .logDirectory(configuration.getLogDirectory().getAbsolutePath())
             .logSegmentSize((int) configuration.getLogSegmentSize())
+            .ioDeviceId(configuration.getIoDeviceId())
+            .flushPolicy(createFlushPolicy(topicNameString))
+            .blockSummarizer(new RecordBlockSummarizer())
             .logName(logName)
             .snapshotStorage(LogStreams.createFsSnapshotStore(snapshotPath).build())
             .buildWith(partitionInstall);
@@ -148,7 +158,7 @@ public class PartitionInstallService implements Service<Void>, RaftStateListener
         .group(RAFT_SERVICE_GROUP)
         .install();
 
-    partitionInstall.install();
+    raftInstallFuture = partitionInstall.install();
   }
 
   @Override
@@ -258,6 +268,47 @@ public class PartitionInstallService implements Service<Void>, RaftStateListener
     }
   }
 
+  /**
+   * Creates the log flush policy of the topic. The settings of a configured default topic override
+   * the ones of the data configuration.
+   */
+  private LogFlushPolicy createFlushPolicy(String topicName) {
+    final DataCfg dataCfg = brokerCfg.getData();
+
+    String policy = dataCfg.getLogFlushPolicy();
+    String interval = dataCfg.getLogFlushInterval();
+    String bytes = dataCfg.getLogFlushBytes();
+
+    for (TopicCfg topicCfg : brokerCfg.getTopics()) {
+      if (topicCfg.getName().equals(topicName)) {
+        if (topicCfg.getLogFlushPolicy() != null) {
+          policy = topicCfg.getLogFlushPolicy();
+        }
+        if (topicCfg.getLogFlushInterval() != null) {
+          interval = topicCfg.getLogFlushInterval();
+        }
+        if (topicCfg.getLogFlushBytes() != null) {
+          bytes = topicCfg.getLogFlushBytes();
+        }
+      }
+    }
+
+    switch (policy) {
+      case "os":
+        return LogFlushPolicy.osManaged();
+      case "block":
+        return LogFlushPolicy.everyBlock();
+      case "interval":
+        return LogFlushPolicy.interval(
+            DurationUtil.parse(interval), new ByteValue(bytes).toBytes());
+      default:
+        throw new IllegalArgumentException(
+            String.format(
+                "Unknown log flush policy '%s' of topic '%s'; must be one of: os, block, interval",
+                policy, topicName));
+    }
+  }
+
   private void removeFollowerPartitionService(Raft raft) {
     final ServiceName<Partition> partitionServiceName =
         followerPartitionServiceName(raft.getName());
@@ -268,6 +319,14 @@ public class PartitionInstallService implements Service<Void>, RaftStateListener
     }
   }
 
+  /**
+   * @return a future which is completed when the log stream of the partition is opened and raft is
+   *     started, or <code>null</code> if the service is not started yet
+   */
+  public ActorFuture<Void> getRaftInstallFuture() {
+    return raftInstallFuture;
+  }
+
   public Injector<ClientTransport> getClientTransportInjector() {
     return clientTransportInjector;
   }
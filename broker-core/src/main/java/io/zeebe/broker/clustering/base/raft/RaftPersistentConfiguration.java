@@ -67,11 +67,13 @@ public class RaftPersistentConfiguration implements RaftPersistentStorage {
 
   private final File logDirectory;
   private final File snapshotsDirectory;
+  private final short ioDeviceId;
 
   public RaftPersistentConfiguration(
-      final File metaFile, File partitionLogDir, File partitionSnapshotsDir) {
+      final File metaFile, File partitionLogDir, File partitionSnapshotsDir, short ioDeviceId) {
     this.logDirectory = partitionLogDir;
     this.snapshotsDirectory = partitionSnapshotsDir;
+    this.ioDeviceId = ioDeviceId;
     file = metaFile;
     tmpFile = new File(file.getAbsolutePath() + ".tmp");
     path = Paths.get(file.getAbsolutePath());
@@ -221,6 +223,11 @@ public class RaftPersistentConfiguration implements RaftPersistentStorage {
     return logDirectory;
   }
 
+  /** @return the offset of the data directory this partition is stored in */
+  public short getIoDeviceId() {
+    return ioDeviceId;
+  }
+
   public RaftPersistentConfiguration setTopicName(DirectBuffer topicName) {
     configuration.setTopicName(BufferUtil.bufferAsString(topicName));
     return this;
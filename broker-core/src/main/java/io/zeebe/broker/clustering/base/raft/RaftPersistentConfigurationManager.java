@@ -26,6 +26,7 @@ import io.zeebe.util.buffer.BufferUtil;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
+import io.zeebe.util.sched.metrics.IoDeviceMetrics;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -35,6 +36,9 @@ import org.agrona.DirectBuffer;
 /**
  * Manages {@link RaftPersistentConfiguration} instances. When the broker is started, it loads the
  * stored files. Knows where to put new configuration files when a new raft is started.
+ *
+ * <p>Each data directory is treated as a separate I/O device. New partitions are placed on the
+ * least loaded directory, see {@link #assignDataDirectory()}.
  */
 public class RaftPersistentConfigurationManager extends Actor {
   private static final String PARTITION_METAFILE_NAME = "partition.json";
@@ -44,10 +48,18 @@ public class RaftPersistentConfigurationManager extends Actor {
   private final List<RaftPersistentConfiguration> configurations = new ArrayList<>();
   private final DataCfg dataConfiguration;
 
+  private final IoDeviceMetrics ioDeviceMetrics;
+
   private final int[] partitionCountPerDataDirectory;
 
   public RaftPersistentConfigurationManager(DataCfg dataConfiguration) {
+    this(dataConfiguration, null);
+  }
+
+  public RaftPersistentConfigurationManager(
+      DataCfg dataConfiguration, IoDeviceMetrics ioDeviceMetrics) {
     this.dataConfiguration = dataConfiguration;
+    this.ioDeviceMetrics = ioDeviceMetrics;
     this.partitionCountPerDataDirectory = new int[dataConfiguration.getDirectories().length];
   }
 
@@ -73,7 +85,8 @@ public class RaftPersistentConfigurationManager extends Actor {
         final File logDirectory = new File(partitionDirectory, PARTITION_LOG_DIR);
         final File snapshotsDirectory = new File(partitionDirectory, PARTITION_SNAPSHOTS_DIR);
         configurations.add(
-            new RaftPersistentConfiguration(configFile, logDirectory, snapshotsDirectory));
+            new RaftPersistentConfiguration(
+                configFile, logDirectory, snapshotsDirectory, (short) offset));
         partitionCountPerDataDirectory[offset]++;
       }
     }
@@ -115,7 +128,8 @@ public class RaftPersistentConfigurationManager extends Actor {
               snapshotDirectory.mkdir();
 
               final RaftPersistentConfiguration storage =
-                  new RaftPersistentConfiguration(metafile, logDirectory, snapshotDirectory);
+                  new RaftPersistentConfiguration(
+                      metafile, logDirectory, snapshotDirectory, (short) assignedDataDirOffset);
 
               storage
                   .setTopicName(topicName)
@@ -147,15 +161,27 @@ public class RaftPersistentConfigurationManager extends Actor {
     return future;
   }
 
+  /**
+   * Picks the data directory with the lowest load. Without device metrics, the load is the number
+   * of partitions in the directory. Otherwise it is the number of bytes written to the directory
+   * since startup plus the average number of bytes written per partition for each partition in the
+   * directory, so that partitions which were recovered but did not write yet are accounted for.
+   */
   private int assignDataDirectory() {
-    int min = Integer.MAX_VALUE;
+    final long bytesPerPartition = averageWrittenBytesPerPartition();
+
+    long min = Long.MAX_VALUE;
     int minOffset = -1;
 
     for (int i = 0; i < partitionCountPerDataDirectory.length; i++) {
-      final int partitionCount = partitionCountPerDataDirectory[i];
+      long load = partitionCountPerDataDirectory[i] * bytesPerPartition;
 
-      if (partitionCount < min) {
-        min = partitionCount;
+      if (hasDeviceMetrics(i)) {
+        load += ioDeviceMetrics.getWrittenBytes(i);
+      }
+
+      if (load < min) {
+        min = load;
         minOffset = i;
       }
     }
@@ -163,6 +189,28 @@ public class RaftPersistentConfigurationManager extends Actor {
     return minOffset;
   }
 
+  private long averageWrittenBytesPerPartition() {
+    long writtenBytes = 0;
+    long partitionCount = 0;
+
+    for (int i = 0; i < partitionCountPerDataDirectory.length; i++) {
+      if (hasDeviceMetrics(i)) {
+        writtenBytes += ioDeviceMetrics.getWrittenBytes(i);
+      }
+      partitionCount += partitionCountPerDataDirectory[i];
+    }
+
+    if (partitionCount == 0) {
+      return 1;
+    } else {
+      return Math.max(1, writtenBytes / partitionCount);
+    }
+  }
+
+  private boolean hasDeviceMetrics(int dataDirOffset) {
+    return ioDeviceMetrics != null && dataDirOffset < ioDeviceMetrics.getNumOfDevices();
+  }
+
   public ActorFuture<Void> deleteConfiguration(RaftPersistentConfiguration configuration) {
     return actor.call(
         () -> {
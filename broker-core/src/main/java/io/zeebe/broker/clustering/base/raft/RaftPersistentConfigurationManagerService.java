@@ -52,7 +52,9 @@ public class RaftPersistentConfigurationManagerService
       }
     }
 
-    service = new RaftPersistentConfigurationManager(configuration.getData());
+    service =
+        new RaftPersistentConfigurationManager(
+            configuration.getData(), startContext.getScheduler().getIoDeviceMetrics());
 
     startContext.async(startContext.getScheduler().submitActor(service));
   }
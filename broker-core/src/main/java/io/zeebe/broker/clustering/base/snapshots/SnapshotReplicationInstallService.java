@@ -39,10 +39,12 @@ public class SnapshotReplicationInstallService
 
   private ServiceStartContext startContext;
   private final Duration snapshotReplicationPeriod;
+  private final int snapshotReplicationFetchWindow;
 
   public SnapshotReplicationInstallService(final BrokerCfg config) {
     this.snapshotReplicationPeriod =
         DurationUtil.parse(config.getData().getSnapshotReplicationPeriod());
+    this.snapshotReplicationFetchWindow = config.getData().getSnapshotReplicationFetchWindow();
   }
 
   @Override
@@ -62,7 +64,7 @@ public class SnapshotReplicationInstallService
     final ServiceName<SnapshotReplicationService> serviceName =
         snapshotReplicationServiceName(partition);
     final SnapshotReplicationService service =
-        new SnapshotReplicationService(snapshotReplicationPeriod);
+        new SnapshotReplicationService(snapshotReplicationPeriod, snapshotReplicationFetchWindow);
 
     if (!startContext.hasService(serviceName)) {
       LOG.debug("Installing snapshot replication service for {}", partition.getInfo());
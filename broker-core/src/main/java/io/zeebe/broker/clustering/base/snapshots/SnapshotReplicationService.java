@@ -40,6 +40,7 @@ import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.time.Duration;
 import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Queue;
 import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
@@ -54,6 +55,9 @@ public class SnapshotReplicationService extends Actor
     implements Service<SnapshotReplicationService> {
   private static final Logger LOG = Loggers.CLUSTERING_LOGGER;
 
+  private static final int CHUNK_LENGTH = ServerTransportBuilder.DEFAULT_MAX_MESSAGE_LENGTH;
+  private static final int MAX_FETCH_RETRIES = 3;
+
   private final Injector<ClientTransport> managementClientApiInjector = new Injector<>();
   private ClientTransport clientTransport;
 
@@ -76,6 +80,7 @@ public class SnapshotReplicationService extends Actor
       new FetchSnapshotChunkResponse();
 
   private final Duration pollInterval;
+  private final int fetchWindow;
   private final Duration errorRetryInterval = Duration.ofSeconds(1);
   private RemoteAddress leaderNodeAddress;
 
@@ -87,10 +92,23 @@ public class SnapshotReplicationService extends Actor
       new ArrayDeque<>();
   private SnapshotWriter currentSnapshotWriter;
   private ListSnapshotsResponse.SnapshotMetadata currentReplicatingSnapshot;
+  // offset until the snapshot is written
   private int chunkOffset;
-
-  public SnapshotReplicationService(final Duration pollInterval) {
+  // offset of the next chunk to request
+  private int nextChunkOffset;
+  private int fetchRetries;
+  // requested chunks in order of their offsets
+  private final Deque<PendingChunk> pendingChunks = new ArrayDeque<>();
+  // incremented when the pending chunks are discarded, to ignore the responses of their requests
+  private int fetchGeneration;
+
+  /**
+   * @param pollInterval how often the leader is asked for new snapshots
+   * @param fetchWindow how many chunks of a snapshot are requested at the same time
+   */
+  public SnapshotReplicationService(final Duration pollInterval, final int fetchWindow) {
     this.pollInterval = pollInterval;
+    this.fetchWindow = Math.max(1, fetchWindow);
   }
 
   @Override
@@ -198,7 +216,8 @@ public class SnapshotReplicationService extends Actor
   }
 
   private void replicateNextSnapshot() {
-    chunkOffset = 0;
+    resetFetchState(0);
+    fetchRetries = 0;
     currentReplicatingSnapshot = snapshotsToReplicate.poll();
 
     if (currentReplicatingSnapshot == null) {
@@ -222,28 +241,75 @@ public class SnapshotReplicationService extends Actor
     replicateSnapshot();
   }
 
+  /** Requests the next chunks of the current snapshot until the fetch window is full. */
   private void replicateSnapshot() {
-    final ActorFuture<ClientResponse> awaitFetchChunk =
-        clientTransport.getOutput().sendRequest(leaderNodeAddress, requestForNextChunk());
-    actor.runOnCompletion(
-        awaitFetchChunk,
-        (clientResponse, error) -> {
-          if (error != null) {
-            // TODO: on transport error, should it start back at pollLeaderForSnapshots or
-            // pollSnapshots?
-            LOG.error("Error fetching snapshot chunk", error);
-            abortCurrentSnapshotReplication();
-          } else {
-            handleFetchSnapshotChunkResponse(clientResponse.getResponseBuffer());
-          }
-        });
+    if (currentReplicatingSnapshot == null) {
+      return;
+    }
+
+    while (pendingChunks.size() < fetchWindow
+        && nextChunkOffset < currentReplicatingSnapshot.getLength()) {
+      final ActorFuture<ClientResponse> awaitFetchChunk =
+          clientTransport
+              .getOutput()
+              .sendRequest(leaderNodeAddress, requestForChunk(nextChunkOffset));
+
+      if (awaitFetchChunk == null) {
+        // no request buffer available - try again when a pending chunk is received
+        if (pendingChunks.isEmpty()) {
+          actor.runDelayed(errorRetryInterval, this::replicateSnapshot);
+        }
+        return;
+      }
+
+      pendingChunks.add(new PendingChunk(nextChunkOffset, awaitFetchChunk));
+
+      final int generation = fetchGeneration;
+      actor.runOnCompletion(
+          awaitFetchChunk,
+          (clientResponse, error) -> {
+            if (generation == fetchGeneration) {
+              handlePendingChunks();
+            }
+          });
+
+      nextChunkOffset += CHUNK_LENGTH;
+    }
   }
 
-  private void handleFetchSnapshotChunkResponse(final DirectBuffer buffer) {
+  /** Writes the received chunks in order of their offsets and requests the next ones. */
+  private void handlePendingChunks() {
+    while (!pendingChunks.isEmpty() && pendingChunks.peek().isDone()) {
+      final PendingChunk pendingChunk = pendingChunks.poll();
+
+      if (!handleFetchedChunk(pendingChunk)) {
+        return;
+      } else if (chunkOffset >= currentReplicatingSnapshot.getLength()) {
+        finalizeSnapshot();
+        return;
+      }
+    }
+
+    replicateSnapshot();
+  }
+
+  private boolean handleFetchedChunk(final PendingChunk pendingChunk) {
+    final ActorFuture<ClientResponse> awaitFetchChunk = pendingChunk.awaitFetchChunk;
+
+    if (awaitFetchChunk.isCompletedExceptionally()) {
+      LOG.warn(
+          "Error fetching snapshot chunk at offset {}, resume replication",
+          pendingChunk.offset,
+          awaitFetchChunk.getException());
+      resumeSnapshotReplication();
+      return false;
+    }
+
+    final DirectBuffer buffer = awaitFetchChunk.join().getResponseBuffer();
     if (isErrorResponse(buffer)) {
       logErrorResponse("Error fetching snapshot chunk", buffer);
-      abortCurrentSnapshotReplication();
-      return;
+      skipCurrentSnapshot();
+      return false;
     }
 
     fetchSnapshotChunkResponse.wrap(buffer);
@@ -253,24 +319,58 @@ public class SnapshotReplicationService extends Actor
       StreamUtil.write(chunk, currentSnapshotWriter.getOutputStream());
     } catch (final Exception ex) {
       LOG.error("Error writing snapshot chunk", ex);
-      abortCurrentSnapshotReplication();
-      return;
+      skipCurrentSnapshot();
+      return false;
     }
 
     chunkOffset += chunk.capacity();
-    if (chunkOffset >= currentReplicatingSnapshot.getLength()) {
-      finalizeSnapshot();
+    fetchRetries = 0;
+
+    if (chunkOffset < pendingChunk.offset + CHUNK_LENGTH) {
+      // the leader sent less data than requested - the pending chunks don't fit anymore
+      resetFetchState(chunkOffset);
+    }
+
+    return true;
+  }
+
+  /** Requests the current snapshot again, starting from the data which is already written. */
+  private void resumeSnapshotReplication() {
+    fetchRetries += 1;
+
+    if (fetchRetries > MAX_FETCH_RETRIES) {
+      LOG.error("Failed to fetch snapshot chunk after {} retries, aborting", MAX_FETCH_RETRIES);
+      skipCurrentSnapshot();
+    } else {
+      resetFetchState(chunkOffset);
+      actor.runDelayed(errorRetryInterval, this::replicateSnapshot);
+    }
+  }
+
+  private void skipCurrentSnapshot() {
+    if (snapshotsToReplicate.isEmpty()) {
+      abortCurrentSnapshotReplication();
+      schedulePollSnapshots();
     } else {
-      replicateSnapshot();
+      // continues with the next snapshot
+      abortCurrentSnapshotReplication();
     }
   }
 
+  private void resetFetchState(final int offset) {
+    // responses of the discarded requests are ignored
+    pendingChunks.clear();
+    fetchGeneration += 1;
+    chunkOffset = offset;
+    nextChunkOffset = offset;
+  }
+
   private void finalizeSnapshot() {
     try {
       currentSnapshotWriter.validateAndCommit(currentReplicatingSnapshot.getChecksum());
     } catch (final Exception ex) {
       LOG.error("Error committing temporary snapshot, aborting", ex);
-      abortCurrentSnapshotReplication();
+      skipCurrentSnapshot();
       return;
     }
 
@@ -278,7 +378,7 @@ public class SnapshotReplicationService extends Actor
   }
 
   private void abortCurrentSnapshotReplication() {
-    chunkOffset = 0;
+    resetFetchState(0);
     currentReplicatingSnapshot = null;
 
     if (currentSnapshotWriter != null) {
@@ -290,13 +390,13 @@ public class SnapshotReplicationService extends Actor
     }
   }
 
-  private FetchSnapshotChunkRequest requestForNextChunk() {
+  private FetchSnapshotChunkRequest requestForChunk(final int offset) {
     return fetchSnapshotChunkRequest
         .setPartitionId(partition.getInfo().getPartitionId())
         .setName(currentReplicatingSnapshot.getName())
         .setLogPosition(currentReplicatingSnapshot.getLogPosition())
-        .setChunkLength(ServerTransportBuilder.DEFAULT_MAX_MESSAGE_LENGTH)
-        .setChunkOffset(chunkOffset);
+        .setChunkLength(CHUNK_LENGTH)
+        .setChunkOffset(offset);
   }
 
   private void logErrorResponse(final String message, final DirectBuffer buffer) {
@@ -313,6 +413,20 @@ public class SnapshotReplicationService extends Actor
     return topology.getLeader(partition.getInfo().getPartitionId());
   }
 
+  private static final class PendingChunk {
+    private final int offset;
+    private final ActorFuture<ClientResponse> awaitFetchChunk;
+
+    PendingChunk(final int offset, final ActorFuture<ClientResponse> awaitFetchChunk) {
+      this.offset = offset;
+      this.awaitFetchChunk = awaitFetchChunk;
+    }
+
+    boolean isDone() {
+      return awaitFetchChunk.isDone();
+    }
+  }
+
   public Injector<ClientTransport> getManagementClientApiInjector() {
     return managementClientApiInjector;
   }
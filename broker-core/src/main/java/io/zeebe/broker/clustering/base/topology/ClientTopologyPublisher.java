@@ -0,0 +1,178 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.clustering.base.topology;
+
+import io.zeebe.broker.Loggers;
+import io.zeebe.protocol.clientapi.MessageHeaderEncoder;
+import io.zeebe.protocol.clientapi.TopologyUpdateEncoder;
+import io.zeebe.transport.RemoteAddress;
+import io.zeebe.transport.ServerOutput;
+import io.zeebe.transport.TransportListener;
+import io.zeebe.transport.TransportMessage;
+import io.zeebe.util.buffer.BufferWriter;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.future.ActorFuture;
+import java.time.Duration;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.slf4j.Logger;
+
+/**
+ * Pushes the topology to all connected clients whenever it changes, so that clients can route
+ * requests to new partition leaders without polling the topology.
+ *
+ * <p>Changes which happen in quick succession (e.g. when a broker with many partitions joins) are
+ * published as one update. A broker may push an outdated view, e.g. as old leader before it learns
+ * about the new one. Clients therefore merge the update by the raft terms of the partition leaders.
+ */
+public class ClientTopologyPublisher extends Actor
+    implements TransportListener, TopologyMemberListener, TopologyPartitionListener, BufferWriter {
+  private static final Logger LOG = Loggers.CLUSTERING_LOGGER;
+
+  public static final Duration PUBLISH_DELAY = Duration.ofMillis(50);
+
+  private final TopologyManager topologyManager;
+  private final ServerOutput output;
+
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final TopologyUpdateEncoder updateEncoder = new TopologyUpdateEncoder();
+  private final TransportMessage message = new TransportMessage();
+
+  /** stream id => client; only accessed by the actor */
+  private final Int2ObjectHashMap<RemoteAddress> connectedClients = new Int2ObjectHashMap<>();
+
+  private final ExpandableArrayBuffer topologyBuffer = new ExpandableArrayBuffer();
+  private int topologyLength = 0;
+
+  private boolean isPublishScheduled = false;
+
+  public ClientTopologyPublisher(TopologyManager topologyManager, ServerOutput output) {
+    this.topologyManager = topologyManager;
+    this.output = output;
+  }
+
+  @Override
+  public String getName() {
+    return "client-topology-publisher";
+  }
+
+  @Override
+  protected void onActorStarted() {
+    topologyManager.addTopologyMemberListener(this);
+    topologyManager.addTopologyPartitionListener(this);
+  }
+
+  @Override
+  protected void onActorClosing() {
+    topologyManager.removeTopologyMemberListener(this);
+    topologyManager.removeTopologyPartitionListener(this);
+  }
+
+  public ActorFuture<Void> close() {
+    return actor.close();
+  }
+
+  @Override
+  public void onConnectionEstablished(RemoteAddress remoteAddress) {
+    actor.call(
+        () -> {
+          connectedClients.put(remoteAddress.getStreamId(), remoteAddress);
+
+          if (topologyLength > 0) {
+            sendUpdate(remoteAddress.getStreamId());
+          }
+        });
+  }
+
+  @Override
+  public void onConnectionClosed(RemoteAddress remoteAddress) {
+    actor.call(() -> connectedClients.remove(remoteAddress.getStreamId()));
+  }
+
+  @Override
+  public void onMemberAdded(NodeInfo memberInfo, Topology topology) {
+    actor.call(this::schedulePublish);
+  }
+
+  @Override
+  public void onMemberRemoved(NodeInfo memberInfo, Topology topology) {
+    actor.call(this::schedulePublish);
+  }
+
+  @Override
+  public void onPartitionUpdated(PartitionInfo partitionInfo, NodeInfo member) {
+    actor.call(this::schedulePublish);
+  }
+
+  private void schedulePublish() {
+    if (!isPublishScheduled) {
+      isPublishScheduled = true;
+      actor.runDelayed(PUBLISH_DELAY, this::publish);
+    }
+  }
+
+  private void publish() {
+    isPublishScheduled = false;
+
+    actor.runOnCompletion(
+        topologyManager.getTopologyDto(),
+        (topology, failure) -> {
+          if (failure == null) {
+            topologyLength = topology.getLength();
+            topologyBuffer.checkLimit(topologyLength);
+            topology.write(topologyBuffer, 0);
+
+            connectedClients.keySet().forEach(this::sendUpdate);
+          } else {
+            LOG.debug("Could not publish topology to clients", failure);
+          }
+        });
+  }
+
+  private void sendUpdate(int streamId) {
+    message.reset().remoteStreamId(streamId).writer(this);
+
+    if (!output.sendMessage(message)) {
+      // the client refreshes its topology periodically anyway
+      LOG.debug("Could not push topology update to client with stream id {}", streamId);
+    }
+  }
+
+  @Override
+  public int getLength() {
+    return MessageHeaderEncoder.ENCODED_LENGTH
+        + TopologyUpdateEncoder.BLOCK_LENGTH
+        + TopologyUpdateEncoder.topologyHeaderLength()
+        + topologyLength;
+  }
+
+  @Override
+  public void write(MutableDirectBuffer buffer, int offset) {
+    headerEncoder
+        .wrap(buffer, offset)
+        .blockLength(updateEncoder.sbeBlockLength())
+        .templateId(updateEncoder.sbeTemplateId())
+        .schemaId(updateEncoder.sbeSchemaId())
+        .version(updateEncoder.sbeSchemaVersion());
+
+    updateEncoder
+        .wrap(buffer, offset + headerEncoder.encodedLength())
+        .putTopology(topologyBuffer, 0, topologyLength);
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.clustering.base.topology;
+
+import io.zeebe.servicecontainer.*;
+import io.zeebe.transport.ServerTransport;
+import io.zeebe.util.sched.future.ActorFuture;
+
+public class ClientTopologyPublisherService implements Service<Object> {
+  private final Injector<TopologyManager> topologyManagerInjector = new Injector<>();
+  private final Injector<ServerTransport> clientApiTransportInjector = new Injector<>();
+
+  private ServerTransport clientApiTransport;
+  private ClientTopologyPublisher publisher;
+
+  @Override
+  public void start(ServiceStartContext startContext) {
+    clientApiTransport = clientApiTransportInjector.getValue();
+    publisher =
+        new ClientTopologyPublisher(
+            topologyManagerInjector.getValue(), clientApiTransport.getOutput());
+
+    startContext.getScheduler().submitActor(publisher);
+
+    final ActorFuture<Void> transportRegistration =
+        clientApiTransport.registerChannelListener(publisher);
+    startContext.async(transportRegistration);
+  }
+
+  @Override
+  public void stop(ServiceStopContext stopContext) {
+    clientApiTransport.removeChannelListener(publisher);
+    stopContext.async(publisher.close());
+  }
+
+  @Override
+  public Object get() {
+    return null;
+  }
+
+  public Injector<TopologyManager> getTopologyManagerInjector() {
+    return topologyManagerInjector;
+  }
+
+  public Injector<ServerTransport> getClientApiTransportInjector() {
+    return clientApiTransportInjector;
+  }
+}
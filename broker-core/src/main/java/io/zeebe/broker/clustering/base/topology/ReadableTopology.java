@@ -36,6 +36,12 @@ public interface ReadableTopology {
 
   NodeInfo getLeader(int partitionId);
 
+  /**
+   * @return the raft term of the latest known leader of the partition, or {@link
+   *     Topology#UNKNOWN_TERM}
+   */
+  int getLeaderTerm(int partitionId);
+
   List<NodeInfo> getFollowers(int partitionId);
 
   Collection<PartitionInfo> getPartitions();
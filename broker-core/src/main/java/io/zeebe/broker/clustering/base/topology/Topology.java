@@ -25,6 +25,7 @@ import io.zeebe.util.buffer.BufferUtil;
 import java.util.*;
 import java.util.function.Function;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Int2IntHashMap;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.slf4j.Logger;
 
@@ -35,12 +36,17 @@ import org.slf4j.Logger;
 public class Topology implements ReadableTopology {
   private static final Logger LOG = Loggers.CLUSTERING_LOGGER;
 
+  /** the term of a partition leader which is announced by a broker that doesn't send terms */
+  public static final int UNKNOWN_TERM = -1;
+
   private final NodeInfo local;
 
   private final Int2ObjectHashMap<PartitionInfo> partitions = new Int2ObjectHashMap<>();
   private final List<NodeInfo> members = new ArrayList<>();
 
   private final Int2ObjectHashMap<NodeInfo> partitionLeaders = new Int2ObjectHashMap<>();
+  /** partition id => raft term of the latest known leader; kept when the leader is removed */
+  private final Int2IntHashMap partitionLeaderTerms = new Int2IntHashMap(UNKNOWN_TERM);
   private final Int2ObjectHashMap<List<NodeInfo>> partitionFollowers = new Int2ObjectHashMap<>();
 
   public Topology(NodeInfo localBroker) {
@@ -98,6 +104,11 @@ public class Topology implements ReadableTopology {
     return partitionLeaders.get(partitionId);
   }
 
+  @Override
+  public int getLeaderTerm(int partitionId) {
+    return partitionLeaderTerms.get(partitionId);
+  }
+
   @Override
   public List<NodeInfo> getFollowers(int partitionId) {
     return partitionFollowers.getOrDefault(partitionId, Collections.emptyList());
@@ -162,7 +173,8 @@ public class Topology implements ReadableTopology {
       DirectBuffer topicName,
       int replicationFactor,
       NodeInfo member,
-      RaftState state) {
+      RaftState state,
+      int term) {
     List<NodeInfo> followers = partitionFollowers.get(partitionId);
 
     PartitionInfo partition = partitions.get(partitionId);
@@ -172,18 +184,40 @@ public class Topology implements ReadableTopology {
     }
 
     LOG.debug(
-        "Updating partition information for partition {} on {} with state {}",
+        "Updating partition information for partition {} on {} with state {} in term {}",
         partition,
         member,
-        state);
+        state,
+        term);
 
     if (state != null) {
       switch (state) {
         case LEADER:
+          final int leaderTerm = partitionLeaderTerms.get(partitionId);
+          if (term != UNKNOWN_TERM && term < leaderTerm) {
+            LOG.debug(
+                "Ignoring outdated leader {} of partition {} in term {}; known leader term is {}",
+                member,
+                partition,
+                term,
+                leaderTerm);
+            break;
+          }
+
+          final NodeInfo previousLeader = partitionLeaders.get(partitionId);
+          if (previousLeader != null && !previousLeader.equals(member)) {
+            previousLeader.removeLeader(partition);
+          }
+
           if (followers != null) {
             followers.remove(member);
           }
           partitionLeaders.put(partitionId, member);
+          if (term != UNKNOWN_TERM) {
+            partitionLeaderTerms.put(partitionId, term);
+          } else {
+            partitionLeaderTerms.remove(partitionId);
+          }
 
           member.removeFollower(partition);
           member.addLeader(partition);
@@ -234,7 +268,8 @@ public class Topology implements ReadableTopology {
             .setPartitionId(partition.getPartitionId())
             .setTopicName(topicName, 0, topicName.capacity())
             .setReplicationFactor(partition.getReplicationFactor())
-            .setState(RaftState.LEADER);
+            .setState(RaftState.LEADER)
+            .setTerm(getLeaderTerm(partition.getPartitionId()));
       }
 
       for (PartitionInfo partition : member.getFollowers()) {
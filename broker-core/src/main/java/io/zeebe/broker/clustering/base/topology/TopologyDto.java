@@ -75,12 +75,14 @@ public class TopologyDto extends UnpackedObject {
     private final StringProperty topicNameProp = new StringProperty("topicName");
     private final IntegerProperty partitionIdProp = new IntegerProperty("partitionId");
     private final IntegerProperty replicationFactorProp = new IntegerProperty("replicationFactor");
+    private final IntegerProperty termProp = new IntegerProperty("term", Topology.UNKNOWN_TERM);
 
     public PartitionDto() {
       this.declareProperty(stateProp)
           .declareProperty(topicNameProp)
           .declareProperty(partitionIdProp)
-          .declareProperty(replicationFactorProp);
+          .declareProperty(replicationFactorProp)
+          .declareProperty(termProp);
     }
 
     public RaftState getState() {
@@ -115,5 +117,15 @@ public class TopologyDto extends UnpackedObject {
       partitionIdProp.setValue(partitionId);
       return this;
     }
+
+    /** @return the raft term in which the leader was elected; only set for leaders */
+    public int getTerm() {
+      return termProp.getValue();
+    }
+
+    public PartitionDto setTerm(final int term) {
+      termProp.setValue(term);
+      return this;
+    }
   }
 }
@@ -111,9 +111,11 @@ public class TopologyManagerImpl extends Actor implements TopologyManager, RaftS
       DirectBuffer topicBuffer,
       int replicationFactor,
       NodeInfo member,
-      RaftState raftState) {
+      RaftState raftState,
+      int term) {
     final PartitionInfo updatedPartition =
-        topology.updatePartition(partitionId, topicBuffer, replicationFactor, member, raftState);
+        topology.updatePartition(
+            partitionId, topicBuffer, replicationFactor, member, raftState, term);
 
     notifyPartitionUpdated(updatedPartition, member);
   }
@@ -142,7 +144,8 @@ public class TopologyManagerImpl extends Actor implements TopologyManager, RaftS
               raft.getTopicName(),
               raft.getReplicationFactor(),
               memberInfo,
-              raft.getState());
+              raft.getState(),
+              raft.getTerm());
 
           publishLocalPartitions();
         });
@@ -241,7 +244,7 @@ public class TopologyManagerImpl extends Actor implements TopologyManager, RaftS
             LOG.trace("Got RAFT state sync request.");
 
             for (NodeInfo member : topology.getMembers()) {
-              final int length = writePartitions(member, writeBuffer, 0);
+              final int length = writePartitions(topology, member, writeBuffer, 0);
               request.addPayload(member.getManagementApiAddress(), writeBuffer, 0, length);
             }
 
@@ -259,7 +262,7 @@ public class TopologyManagerImpl extends Actor implements TopologyManager, RaftS
 
   private void publishLocalPartitions() {
     final MutableDirectBuffer eventBuffer = new ExpandableArrayBuffer();
-    final int length = writePartitions(topology.getLocal(), eventBuffer, 0);
+    final int length = writePartitions(topology, topology.getLocal(), eventBuffer, 0);
 
     gossip.publishEvent(PARTITIONS_EVENT_TYPE, eventBuffer, 0, length);
   }
@@ -0,0 +1,136 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.event.processor;
+
+import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.log.LogStreamWriter;
+import io.zeebe.logstreams.log.LogStreamWriterImpl;
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.clientapi.RecordType;
+import io.zeebe.protocol.clientapi.ValueType;
+import io.zeebe.protocol.impl.RecordMetadata;
+import io.zeebe.protocol.intent.SubscriptionIntent;
+import io.zeebe.util.buffer.BufferUtil;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.MutableLong;
+
+/**
+ * Collects the acknowledged positions of topic subscriptions which are not written to the log yet.
+ * On flush, only the latest position of a subscription is written as acknowledge command, instead
+ * of one command for every acknowledgement of a client.
+ */
+public class PendingAcknowledgements {
+  protected final Map<DirectBuffer, MutableLong> ackPositionsByName = new HashMap<>();
+
+  protected final LogStreamWriter logStreamWriter = new LogStreamWriterImpl();
+  protected final RecordMetadata metadata = new RecordMetadata();
+  protected final TopicSubscriptionEvent subscriptionEvent = new TopicSubscriptionEvent();
+
+  public void wrap(LogStream logStream) {
+    logStreamWriter.wrap(logStream);
+  }
+
+  public void add(DirectBuffer subscriptionName, long ackPosition) {
+    final MutableLong pendingAckPosition = ackPositionsByName.get(subscriptionName);
+
+    if (pendingAckPosition != null) {
+      pendingAckPosition.set(ackPosition);
+    } else {
+      ackPositionsByName.put(
+          BufferUtil.cloneBuffer(subscriptionName), new MutableLong(ackPosition));
+    }
+  }
+
+  /**
+   * Writes the pending acknowledgements of all subscriptions.
+   *
+   * @return true, if all acknowledgements are written; otherwise, the remaining ones are written on
+   *     the next flush
+   */
+  public boolean flush() {
+    final Iterator<Entry<DirectBuffer, MutableLong>> iterator =
+        ackPositionsByName.entrySet().iterator();
+
+    while (iterator.hasNext()) {
+      final Entry<DirectBuffer, MutableLong> entry = iterator.next();
+
+      if (writeAcknowledgement(entry.getKey(), entry.getValue().get())) {
+        iterator.remove();
+      } else {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Writes the pending acknowledgement of the given subscription, if any.
+   *
+   * @return true, if the acknowledgement is written or nothing was pending
+   */
+  public boolean flush(DirectBuffer subscriptionName) {
+    final MutableLong pendingAckPosition = ackPositionsByName.get(subscriptionName);
+
+    if (pendingAckPosition == null) {
+      return true;
+    } else if (writeAcknowledgement(subscriptionName, pendingAckPosition.get())) {
+      ackPositionsByName.remove(subscriptionName);
+      return true;
+    } else {
+      return false;
+    }
+  }
+
+  public boolean isPending(DirectBuffer subscriptionName) {
+    return ackPositionsByName.containsKey(subscriptionName);
+  }
+
+  public void clear() {
+    ackPositionsByName.clear();
+  }
+
+  protected boolean writeAcknowledgement(DirectBuffer subscriptionName, long ackPosition) {
+    subscriptionEvent.reset();
+    subscriptionEvent
+        .setName(subscriptionName, 0, subscriptionName.capacity())
+        .setAckPosition(ackPosition);
+
+    metadata
+        .reset()
+        .recordType(RecordType.COMMAND)
+        .valueType(ValueType.SUBSCRIPTION)
+        .intent(SubscriptionIntent.ACKNOWLEDGE)
+        .protocolVersion(Protocol.PROTOCOL_VERSION)
+        .requestStreamId(-1)
+        .requestId(-1);
+
+    final long position =
+        logStreamWriter
+            .positionAsKey()
+            .metadataWriter(metadata)
+            .valueWriter(subscriptionEvent)
+            .tryWrite();
+
+    return position >= 0;
+  }
+}
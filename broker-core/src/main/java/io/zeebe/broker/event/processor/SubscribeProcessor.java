@@ -128,7 +128,9 @@ public class SubscribeProcessor implements EventProcessor {
               resumePosition,
               subscriptionName,
               subscriberEvent.getBufferSize(),
-              manager.getEventWriterFactory().get());
+              manager.getPushProcessorEventFilter(),
+              manager.getEventWriterFactory().get(),
+              manager.getBatchWriterFactory().get());
 
       final ActorFuture<StreamProcessorService> future = manager.openPushProcessorAsync(processor);
 
@@ -36,8 +36,10 @@ import io.zeebe.protocol.intent.SubscriptionIntent;
 import io.zeebe.servicecontainer.ServiceContainer;
 import io.zeebe.servicecontainer.ServiceName;
 import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.time.Duration;
 import java.util.Iterator;
 import java.util.function.Supplier;
 import org.agrona.DirectBuffer;
@@ -46,6 +48,13 @@ public class TopicSubscriptionManagementProcessor implements StreamProcessor {
 
   protected static final int MAXIMUM_SUBSCRIPTION_NAME_LENGTH = 32;
 
+  /**
+   * Interval in which the acknowledgements of the clients are written to the log. Only the latest
+   * acknowledged position of a subscription is written, so that frequent acknowledgements of a
+   * client don't fill the log.
+   */
+  protected static final Duration ACKNOWLEDGEMENT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+
   protected final SnapshotSupport snapshotResource;
 
   protected LogStream logStream;
@@ -61,9 +70,11 @@ public class TopicSubscriptionManagementProcessor implements StreamProcessor {
   protected final ErrorResponseWriter errorWriter;
   protected final CommandResponseWriter responseWriter;
   protected final Supplier<SubscribedRecordWriter> eventWriterFactory;
+  protected final Supplier<SubscribedRecordBatchWriter> batchWriterFactory;
   protected final StreamProcessorServiceFactory streamProcessorServiceFactory;
   protected final ServiceContainer serviceContext;
   protected final Bytes2LongZbMap ackMap;
+  protected final PendingAcknowledgements pendingAcknowledgements = new PendingAcknowledgements();
 
   private ActorControl actor;
 
@@ -74,6 +85,7 @@ public class TopicSubscriptionManagementProcessor implements StreamProcessor {
 
   protected final RecordMetadata metadata = new RecordMetadata();
   protected final TopicSubscriptionEvent subscriptionEvent = new TopicSubscriptionEvent();
+  protected final TopicSubscriptionEvent ackResponseEvent = new TopicSubscriptionEvent();
   protected final TopicSubscriberEvent subscriberEvent = new TopicSubscriberEvent();
   protected LoggedEvent currentEvent;
 
@@ -84,6 +96,7 @@ public class TopicSubscriptionManagementProcessor implements StreamProcessor {
       CommandResponseWriter responseWriter,
       ErrorResponseWriter errorWriter,
       Supplier<SubscribedRecordWriter> eventWriterFactory,
+      Supplier<SubscribedRecordBatchWriter> batchWriterFactory,
       StreamProcessorServiceFactory streamProcessorServiceFactory,
       ServiceContainer serviceContainer) {
     this.partition = partition;
@@ -92,6 +105,7 @@ public class TopicSubscriptionManagementProcessor implements StreamProcessor {
     this.responseWriter = responseWriter;
     this.errorWriter = errorWriter;
     this.eventWriterFactory = eventWriterFactory;
+    this.batchWriterFactory = batchWriterFactory;
     this.ackMap = new Bytes2LongZbMap(MAXIMUM_SUBSCRIPTION_NAME_LENGTH);
     this.snapshotResource = new ZbMapSnapshotSupport<>(ackMap);
     this.serviceContext = serviceContainer;
@@ -102,6 +116,14 @@ public class TopicSubscriptionManagementProcessor implements StreamProcessor {
     return eventWriterFactory;
   }
 
+  public Supplier<SubscribedRecordBatchWriter> getBatchWriterFactory() {
+    return batchWriterFactory;
+  }
+
+  public MetadataFilter getPushProcessorEventFilter() {
+    return pushProcessorEventFilter;
+  }
+
   @Override
   public void onOpen(StreamProcessorContext context) {
     this.actor = context.getActorControl();
@@ -110,11 +132,15 @@ public class TopicSubscriptionManagementProcessor implements StreamProcessor {
     this.logStreamPartitionId = logStream.getPartitionId();
 
     this.logStream = logStream;
+
+    pendingAcknowledgements.wrap(logStream);
+    actor.runAtFixedRate(ACKNOWLEDGEMENT_FLUSH_INTERVAL, pendingAcknowledgements::flush);
   }
 
   @Override
   public void onClose() {
     ackMap.close();
+    pendingAcknowledgements.clear();
   }
 
   @Override
@@ -171,6 +197,55 @@ public class TopicSubscriptionManagementProcessor implements StreamProcessor {
     ackMap.put(subscriptionName, 0, subscriptionName.capacity(), ackPosition);
   }
 
+  /**
+   * Handles an acknowledgement of a client. The push processor gets the credits immediately but the
+   * acknowledged position is written to the log on the next flush only.
+   */
+  public void acknowledgeAsync(
+      DirectBuffer subscriptionName, long ackPosition, int requestStreamId, long requestId) {
+    actor.call(
+        () -> {
+          final TopicSubscriptionPushProcessor subscriptionProcessor =
+              subscriptionRegistry.getProcessorByName(subscriptionName);
+
+          if (subscriptionProcessor != null) {
+            subscriptionProcessor.onAck(ackPosition);
+          }
+
+          pendingAcknowledgements.add(subscriptionName, ackPosition);
+
+          actor.runUntilDone(
+              () -> {
+                final boolean responseWritten =
+                    writeAcknowledgementResponse(
+                        subscriptionName, ackPosition, requestStreamId, requestId);
+
+                if (responseWritten) {
+                  actor.done();
+                } else {
+                  actor.yield();
+                }
+              });
+        });
+  }
+
+  protected boolean writeAcknowledgementResponse(
+      DirectBuffer subscriptionName, long ackPosition, int requestStreamId, long requestId) {
+    ackResponseEvent.reset();
+    ackResponseEvent
+        .setName(subscriptionName, 0, subscriptionName.capacity())
+        .setAckPosition(ackPosition);
+
+    return responseWriter
+        .partitionId(logStreamPartitionId)
+        .valueWriter(ackResponseEvent)
+        .timestamp(ActorClock.currentTimeMillis())
+        .recordType(RecordType.EVENT)
+        .valueType(ValueType.SUBSCRIPTION)
+        .intent(SubscriptionIntent.ACKNOWLEDGED)
+        .tryWriteResponse(requestStreamId, requestId);
+  }
+
   public ActorFuture<Void> closePushProcessorAsync(long subscriberKey) {
     final CompletableActorFuture<Void> future = new CompletableActorFuture<>();
     actor.call(
@@ -197,6 +272,9 @@ public class TopicSubscriptionManagementProcessor implements StreamProcessor {
   }
 
   protected ActorFuture<Void> closePushProcessor(TopicSubscriptionPushProcessor processor) {
+    // write the pending acknowledgement now, so that a new subscriber resumes after it
+    pendingAcknowledgements.flush(processor.getName());
+
     final ServiceName<StreamProcessorService> pushProcessorServiceName =
         LogStreamServiceNames.streamProcessorService(
             logStream.getLogName(), pushProcessorName(processor));
@@ -226,7 +304,7 @@ public class TopicSubscriptionManagementProcessor implements StreamProcessor {
         .processor(processor)
         .processorId(StreamProcessorIds.TOPIC_SUBSCRIPTION_PUSH_PROCESSOR_ID)
         .processorName(pushProcessorName(processor))
-        .eventFilter(pushProcessorEventFilter)
+        .eventFilter(processor.getEventFilter())
         .additionalDependencies(partitionServiceName)
         .readOnly(true)
         .build();
@@ -19,12 +19,17 @@ package io.zeebe.broker.event.processor;
 
 import static io.zeebe.util.buffer.BufferUtil.cloneBuffer;
 
+import io.zeebe.broker.logstreams.processor.MetadataFilter;
 import io.zeebe.broker.logstreams.processor.NoopSnapshotSupport;
+import io.zeebe.broker.transport.clientapi.SubscribedRecordBatchWriter;
 import io.zeebe.broker.transport.clientapi.SubscribedRecordWriter;
+import io.zeebe.broker.workflow.data.WorkflowInstancePayloadResolver;
 import io.zeebe.logstreams.log.*;
 import io.zeebe.logstreams.processor.*;
 import io.zeebe.logstreams.spi.SnapshotSupport;
+import io.zeebe.protocol.clientapi.RecordType;
 import io.zeebe.protocol.clientapi.SubscriptionType;
+import io.zeebe.protocol.clientapi.ValueType;
 import io.zeebe.protocol.impl.RecordMetadata;
 import io.zeebe.util.collection.LongRingBuffer;
 import org.agrona.DirectBuffer;
@@ -44,9 +49,17 @@ public class TopicSubscriptionPushProcessor implements StreamProcessor, EventPro
 
   protected final SnapshotSupport snapshotSupport = new NoopSnapshotSupport();
   protected final SubscribedRecordWriter channelWriter;
+  protected final SubscribedRecordBatchWriter batchWriter;
+
+  /** true, if the current event was already added to the batch */
+  protected boolean isEventBatched;
+
+  protected final MetadataFilter eventFilter;
+  protected final EventProcessor pushBatchProcessor = new PushBatchProcessor();
 
   protected LongRingBuffer pendingEvents;
   private StreamProcessorContext context;
+  private WorkflowInstancePayloadResolver payloadResolver;
 
   public TopicSubscriptionPushProcessor(
       int clientStreamId,
@@ -54,8 +67,12 @@ public class TopicSubscriptionPushProcessor implements StreamProcessor, EventPro
       long startPosition,
       DirectBuffer name,
       int bufferSize,
-      SubscribedRecordWriter channelWriter) {
+      MetadataFilter eventFilter,
+      SubscribedRecordWriter channelWriter,
+      SubscribedRecordBatchWriter batchWriter) {
+    this.eventFilter = eventFilter;
     this.channelWriter = channelWriter;
+    this.batchWriter = batchWriter;
     this.clientStreamId = clientStreamId;
     this.subscriberKey = subscriberKey;
     this.startPosition = startPosition;
@@ -72,6 +89,7 @@ public class TopicSubscriptionPushProcessor implements StreamProcessor, EventPro
 
     final LogStream logStream = context.getLogStream();
     this.logStreamPartitionId = logStream.getPartitionId();
+    this.payloadResolver = new WorkflowInstancePayloadResolver(logStream);
 
     setToStartPosition(logReader);
     context.suspendController();
@@ -99,50 +117,121 @@ public class TopicSubscriptionPushProcessor implements StreamProcessor, EventPro
     startPosition = logReader.getPosition();
   }
 
+  @Override
+  public void onClose() {
+    payloadResolver.close();
+  }
+
   @Override
   public SnapshotSupport getStateResource() {
     return snapshotSupport;
   }
 
+  /**
+   * @return the filter of the events to push. While a batch is pending, the filter lets all events
+   *     pass, so that the batch can be pushed if the last available event is not pushed itself.
+   */
+  public MetadataFilter getEventFilter() {
+    return metadata -> !batchWriter.isEmpty() || eventFilter.applies(metadata);
+  }
+
   @Override
   public EventProcessor onEvent(LoggedEvent event) {
     this.event = event;
-    return this;
+    this.isEventBatched = false;
+
+    event.readMetadata(metadata);
+
+    if (eventFilter.applies(metadata)) {
+      return this;
+    } else if (!context.getLogStreamReader().hasNext()) {
+      return pushBatchProcessor;
+    } else {
+      return null;
+    }
   }
 
+  /**
+   * Collects the events in a batch, which is pushed if it is full, if no more events are available
+   * right now or if the subscription reached its limit of pending events. So the events are pushed
+   * in batches while the subscription catches up, without delaying the push of new events.
+   */
   @Override
   public boolean executeSideEffects() {
-    event.readMetadata(metadata);
+    if (!isEventBatched) {
+      final boolean isAdded = addEventToBatch();
+      if (!isAdded) {
+        return false;
+      }
+
+      isEventBatched = true;
 
-    final boolean success =
-        channelWriter
-            .partitionId(logStreamPartitionId)
-            .valueType(metadata.getValueType())
-            .recordType(metadata.getRecordType())
-            .intent(metadata.getIntent())
-            .key(event.getKey())
-            .timestamp(event.getTimestamp())
-            .position(event.getPosition())
-            .sourceRecordPosition(event.getSourceEventPosition())
-            .subscriberKey(subscriberKey)
-            .subscriptionType(SubscriptionType.TOPIC_SUBSCRIPTION)
-            .rejectionType(metadata.getRejectionType())
-            .rejectionReason(metadata.getRejectionReason())
-            .value(event.getValueBuffer(), event.getValueOffset(), event.getValueLength())
-            .tryWriteMessage(clientStreamId);
-
-    if (success) {
       final boolean elementAdded = pendingEvents.addElementToHead(event.getPosition());
       if (!elementAdded) {
         throw new RuntimeException("Cannot record pending event " + elementAdded);
       }
+    }
 
-      if (pendingEvents.isSaturated()) {
-        this.context.suspendController();
-      }
+    final boolean isPushRequired =
+        pendingEvents.isSaturated() || !context.getLogStreamReader().hasNext();
+
+    if (isPushRequired && !batchWriter.tryWriteMessage(clientStreamId)) {
+      return false;
+    }
+
+    if (pendingEvents.isSaturated()) {
+      this.context.suspendController();
+    }
+
+    return true;
+  }
+
+  private class PushBatchProcessor implements EventProcessor {
+    @Override
+    public boolean executeSideEffects() {
+      return batchWriter.tryWriteMessage(clientStreamId);
+    }
+  }
+
+  private boolean addEventToBatch() {
+    if (wrapEvent().tryAddToBatch(batchWriter)) {
+      return true;
+    } else if (!batchWriter.isEmpty()) {
+      // the batch is full, push it and add the event to the next one
+      return batchWriter.tryWriteMessage(clientStreamId)
+          && (wrapEvent().tryAddToBatch(batchWriter)
+              || wrapEvent().tryWriteMessage(clientStreamId));
+    } else {
+      // the event is too large for a batch
+      return wrapEvent().tryWriteMessage(clientStreamId);
+    }
+  }
+
+  private SubscribedRecordWriter wrapEvent() {
+    channelWriter
+        .partitionId(logStreamPartitionId)
+        .valueType(metadata.getValueType())
+        .recordType(metadata.getRecordType())
+        .intent(metadata.getIntent())
+        .key(event.getKey())
+        .timestamp(event.getTimestamp())
+        .position(event.getPosition())
+        .sourceRecordPosition(event.getSourceEventPosition())
+        .subscriberKey(subscriberKey)
+        .subscriptionType(SubscriptionType.TOPIC_SUBSCRIPTION)
+        .rejectionType(metadata.getRejectionType())
+        .rejectionReason(metadata.getRejectionReason());
+
+    if (metadata.getValueType() == ValueType.WORKFLOW_INSTANCE
+        && metadata.getRecordType() == RecordType.EVENT) {
+      // the subscriber gets the payload, even if the event refers to the payload of another record
+      final DirectBuffer value = payloadResolver.resolveValue(event);
+      channelWriter.value(value, 0, value.capacity());
+    } else {
+      channelWriter.value(event.getValueBuffer(), event.getValueOffset(), event.getValueLength());
     }
 
-    return success;
+    return channelWriter;
   }
 
   public int getChannelId() {
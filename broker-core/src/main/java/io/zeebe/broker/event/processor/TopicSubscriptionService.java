@@ -22,17 +22,22 @@ import io.zeebe.broker.clustering.base.partitions.Partition;
 import io.zeebe.broker.logstreams.processor.*;
 import io.zeebe.broker.transport.clientapi.*;
 import io.zeebe.logstreams.impl.service.StreamProcessorService;
+import io.zeebe.protocol.clientapi.ErrorCode;
 import io.zeebe.protocol.clientapi.ValueType;
 import io.zeebe.servicecontainer.*;
 import io.zeebe.transport.*;
+import io.zeebe.util.buffer.BufferUtil;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
+import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.slf4j.Logger;
 
 public class TopicSubscriptionService extends Actor
-    implements Service<TopicSubscriptionService>, TransportListener {
+    implements Service<TopicSubscriptionService>,
+        TransportListener,
+        SubscriptionAcknowledgementHandler {
   private static final Logger LOG = Loggers.SERVICES_LOGGER;
 
   protected static final MetadataFilter TOPIC_SUBSCRIPTION_EVENT_FILTER =
@@ -53,6 +58,8 @@ public class TopicSubscriptionService extends Actor
   protected final Injector<ServerTransport> clientApiTransportInjector = new Injector<>();
   protected final Injector<StreamProcessorServiceFactory> streamProcessorServiceFactoryInjector =
       new Injector<>();
+  protected final Injector<ClientApiMessageHandler> clientApiMessageHandlerInjector =
+      new Injector<>();
 
   protected final ServiceContainer serviceContainer;
 
@@ -60,7 +67,9 @@ public class TopicSubscriptionService extends Actor
       new Int2ObjectHashMap<>();
 
   protected ServerOutput serverOutput;
+  protected ErrorResponseWriter errorResponseWriter;
   protected StreamProcessorServiceFactory streamProcessorServiceFactory;
+  protected ClientApiMessageHandler clientApiMessageHandler;
 
   protected final ServiceGroupReference<Partition> partitionsGroupReference =
       ServiceGroupReference.<Partition>create()
@@ -91,6 +100,10 @@ public class TopicSubscriptionService extends Actor
     return streamProcessorServiceFactoryInjector;
   }
 
+  public Injector<ClientApiMessageHandler> getClientApiMessageHandlerInjector() {
+    return clientApiMessageHandlerInjector;
+  }
+
   public ServiceGroupReference<Partition> getPartitionsGroupReference() {
     return partitionsGroupReference;
   }
@@ -105,15 +118,21 @@ public class TopicSubscriptionService extends Actor
 
     final ServerTransport transport = clientApiTransportInjector.getValue();
     this.serverOutput = transport.getOutput();
+    this.errorResponseWriter = new ErrorResponseWriter(serverOutput);
 
     final ActorFuture<Void> registration = transport.registerChannelListener(this);
     startContext.async(registration);
 
     startContext.getScheduler().submitActor(this);
+
+    clientApiMessageHandler = clientApiMessageHandlerInjector.getValue();
+    clientApiMessageHandler.setSubscriptionAcknowledgementHandler(this);
   }
 
   @Override
   public void stop(ServiceStopContext stopContext) {
+    clientApiMessageHandler.setSubscriptionAcknowledgementHandler(null);
+
     actor.close();
   }
 
@@ -128,6 +147,7 @@ public class TopicSubscriptionService extends Actor
                   new CommandResponseWriter(serverOutput),
                   new ErrorResponseWriter(serverOutput),
                   () -> new SubscribedRecordWriter(serverOutput),
+                  () -> new SubscribedRecordBatchWriter(serverOutput),
                   streamProcessorServiceFactory,
                   serviceContainer);
 
@@ -185,6 +205,33 @@ public class TopicSubscriptionService extends Actor
     }
   }
 
+  @Override
+  public boolean onAcknowledgement(
+      final int partitionId,
+      final DirectBuffer subscriptionName,
+      final long ackPosition,
+      final int requestStreamId,
+      final long requestId) {
+    final DirectBuffer name = BufferUtil.cloneBuffer(subscriptionName);
+
+    actor.call(
+        () -> {
+          final TopicSubscriptionManagementProcessor managementProcessor = getManager(partitionId);
+
+          if (managementProcessor != null) {
+            managementProcessor.acknowledgeAsync(name, ackPosition, requestStreamId, requestId);
+          } else {
+            errorResponseWriter
+                .errorCode(ErrorCode.PARTITION_NOT_FOUND)
+                .errorMessage(
+                    "Cannot acknowledge event. Partition with id '%d' not found", partitionId)
+                .tryWriteResponseOrLogFailure(requestStreamId, requestId);
+          }
+        });
+
+    return true;
+  }
+
   private TopicSubscriptionManagementProcessor getManager(final int partitionId) {
     return managersByPartition.get(partitionId);
   }
@@ -20,6 +20,9 @@ package io.zeebe.broker.incident.index;
 import static org.agrona.BitUtil.SIZE_OF_LONG;
 import static org.agrona.BitUtil.SIZE_OF_SHORT;
 
+import io.zeebe.broker.incident.processor.IncidentStreamProcessor;
+import io.zeebe.broker.query.QueryableState;
+import io.zeebe.broker.query.StateQueryResponse;
 import io.zeebe.logstreams.snapshot.ZbMapSnapshotSupport;
 import io.zeebe.map.Long2BytesZbMap;
 import java.nio.ByteOrder;
@@ -32,7 +35,7 @@ import org.agrona.concurrent.UnsafeBuffer;
  * <li>incident event position
  * <li>failure event position
  */
-public class IncidentMap {
+public class IncidentMap implements QueryableState {
   private static final int STATE_OFFSET = 0;
   private static final int INCIDENT_EVENT_POSITION_OFFSET = STATE_OFFSET + SIZE_OF_SHORT;
   private static final int FAILURE_EVENT_POSITION_OFFSET =
@@ -55,6 +58,7 @@ public class IncidentMap {
     this.snapshotSupport = new ZbMapSnapshotSupport<>(map);
   }
 
+  @Override
   public Long2BytesZbMap getMap() {
     return map;
   }
@@ -126,6 +130,28 @@ public class IncidentMap {
     }
   }
 
+  @Override
+  public void addQueryEntry(long key, DirectBuffer value, StateQueryResponse response) {
+    response.addIncident(
+        key,
+        stateName(value.getShort(STATE_OFFSET, BYTE_ORDER)),
+        value.getLong(INCIDENT_EVENT_POSITION_OFFSET, BYTE_ORDER),
+        value.getLong(FAILURE_EVENT_POSITION_OFFSET, BYTE_ORDER));
+  }
+
+  private static String stateName(short state) {
+    switch (state) {
+      case IncidentStreamProcessor.STATE_CREATED:
+        return "CREATED";
+      case IncidentStreamProcessor.STATE_RESOLVING:
+        return "RESOLVING";
+      case IncidentStreamProcessor.STATE_DELETING:
+        return "DELETING";
+      default:
+        return "UNKNOWN";
+    }
+  }
+
   public void close() {
     map.close();
   }
@@ -30,6 +30,7 @@ import io.zeebe.broker.logstreams.processor.TypedStreamEnvironment;
 import io.zeebe.broker.logstreams.processor.TypedStreamProcessor;
 import io.zeebe.broker.logstreams.processor.TypedStreamReader;
 import io.zeebe.broker.logstreams.processor.TypedStreamWriter;
+import io.zeebe.broker.query.StateType;
 import io.zeebe.broker.workflow.data.WorkflowInstanceRecord;
 import io.zeebe.map.Long2LongZbMap;
 import io.zeebe.protocol.clientapi.RejectionType;
@@ -41,9 +42,9 @@ import io.zeebe.protocol.intent.WorkflowInstanceIntent;
 
 /** Is responsible for the incident lifecycle. */
 public class IncidentStreamProcessor {
-  private static final short STATE_CREATED = 1;
-  private static final short STATE_RESOLVING = 2;
-  private static final short STATE_DELETING = 3;
+  public static final short STATE_CREATED = 1;
+  public static final short STATE_RESOLVING = 2;
+  public static final short STATE_DELETING = 3;
 
   private static final long NON_PERSISTENT_INCIDENT = -2L;
 
@@ -58,7 +59,8 @@ public class IncidentStreamProcessor {
             .withStateResource(activityInstanceMap)
             .withStateResource(failedJobMap)
             .withStateResource(incidentMap.getMap())
-            .withStateResource(resolvingEvents);
+            .withStateResource(resolvingEvents)
+            .withQueryableState(StateType.INCIDENT, incidentMap);
 
     // incident events
     builder =
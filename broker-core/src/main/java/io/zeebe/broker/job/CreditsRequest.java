@@ -25,7 +25,9 @@ import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.ringbuffer.OneToOneRingBuffer;
 
 public class CreditsRequest implements BufferReader {
-  protected static final int LENGTH = BitUtil.SIZE_OF_LONG + BitUtil.SIZE_OF_INT;
+  protected static final int LENGTH =
+      BitUtil.SIZE_OF_LONG + BitUtil.SIZE_OF_INT + BitUtil.SIZE_OF_BYTE;
+  protected static final int RETURNED_OFFSET = BitUtil.SIZE_OF_LONG + BitUtil.SIZE_OF_INT;
   protected static final int TYPE = 42;
 
   protected UnsafeBuffer content = new UnsafeBuffer(new byte[LENGTH]);
@@ -57,6 +59,18 @@ public class CreditsRequest implements BufferReader {
     this.content.putInt(BitUtil.SIZE_OF_LONG, credits);
   }
 
+  /**
+   * @return true, if the broker returns the credits because a job could not be activated; false,
+   *     if the subscriber replenishes the credits after it is done with jobs
+   */
+  public boolean isReturned() {
+    return content.getByte(RETURNED_OFFSET) == 1;
+  }
+
+  public void setReturned(boolean returned) {
+    this.content.putByte(RETURNED_OFFSET, (byte) (returned ? 1 : 0));
+  }
+
   /**
    * @param ringBuffer
    * @return true if success
@@ -21,6 +21,7 @@ import static io.zeebe.broker.clustering.base.ClusterBaseLayerServiceNames.LEADE
 import static io.zeebe.broker.job.JobQueueServiceNames.JOB_QUEUE_MANAGER;
 import static io.zeebe.broker.job.JobQueueServiceNames.JOB_QUEUE_SUBSCRIPTION_MANAGER;
 import static io.zeebe.broker.logstreams.LogStreamServiceNames.STREAM_PROCESSOR_SERVICE_FACTORY;
+import static io.zeebe.broker.system.SystemServiceNames.STATE_QUERY_SERVICE;
 import static io.zeebe.broker.transport.TransportServiceNames.CLIENT_API_SERVER_NAME;
 import static io.zeebe.broker.transport.TransportServiceNames.serverTransport;
 
@@ -34,7 +35,8 @@ public class JobQueueComponent implements Component {
     final ServiceContainer serviceContainer = context.getServiceContainer();
 
     final JobSubscriptionManagerService jobSubscriptionManagerService =
-        new JobSubscriptionManagerService(serviceContainer);
+        new JobSubscriptionManagerService(
+            serviceContainer, context.getBrokerConfiguration().getJobs());
     serviceContainer
         .createService(JOB_QUEUE_SUBSCRIPTION_MANAGER, jobSubscriptionManagerService)
         .dependency(
@@ -60,6 +62,7 @@ public class JobQueueComponent implements Component {
         .dependency(
             STREAM_PROCESSOR_SERVICE_FACTORY,
             jobQueueManagerService.getStreamProcessorServiceFactoryInjector())
+        .dependency(STATE_QUERY_SERVICE, jobQueueManagerService.getStateQueryServiceInjector())
         .groupReference(
             LEADER_PARTITION_GROUP_NAME, jobQueueManagerService.getPartitionsGroupReference())
         .install();
@@ -25,6 +25,7 @@ import io.zeebe.broker.job.processor.JobInstanceStreamProcessor;
 import io.zeebe.broker.job.processor.JobTimeOutStreamProcessor;
 import io.zeebe.broker.logstreams.processor.StreamProcessorServiceFactory;
 import io.zeebe.broker.logstreams.processor.TypedStreamEnvironment;
+import io.zeebe.broker.query.StateQueryService;
 import io.zeebe.servicecontainer.*;
 import io.zeebe.transport.ServerTransport;
 import io.zeebe.util.sched.Actor;
@@ -39,6 +40,7 @@ public class JobQueueManagerService implements Service<JobQueueManagerService> {
   private final Injector<JobSubscriptionManager> jobSubscriptionManagerInjector = new Injector<>();
   private final Injector<StreamProcessorServiceFactory> streamProcessorServiceFactoryInjector =
       new Injector<>();
+  private final Injector<StateQueryService> stateQueryServiceInjector = new Injector<>();
 
   private final ServiceGroupReference<Partition> partitionsReference =
       ServiceGroupReference.<Partition>create().onAdd(this::addPartition).build();
@@ -54,7 +56,8 @@ public class JobQueueManagerService implements Service<JobQueueManagerService> {
     final JobInstanceStreamProcessor jobInstanceStreamProcessor =
         new JobInstanceStreamProcessor(jobSubscriptionManager);
     final TypedStreamEnvironment env =
-        new TypedStreamEnvironment(partition.getLogStream(), serverTransport.getOutput());
+        new TypedStreamEnvironment(partition.getLogStream(), serverTransport.getOutput())
+            .withStateQueryService(stateQueryServiceInjector.getValue());
 
     streamProcessorServiceFactory
         .createService(partition, name)
@@ -119,4 +122,8 @@ public class JobQueueManagerService implements Service<JobQueueManagerService> {
   public Injector<StreamProcessorServiceFactory> getStreamProcessorServiceFactoryInjector() {
     return streamProcessorServiceFactoryInjector;
   }
+
+  public Injector<StateQueryService> getStateQueryServiceInjector() {
+    return stateQueryServiceInjector;
+  }
 }
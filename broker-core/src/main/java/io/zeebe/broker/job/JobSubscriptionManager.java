@@ -23,6 +23,7 @@ import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
 import io.zeebe.broker.Loggers;
 import io.zeebe.broker.clustering.base.partitions.Partition;
 import io.zeebe.broker.job.processor.ActivateJobStreamProcessor;
+import io.zeebe.broker.job.processor.JobDistributionStrategy;
 import io.zeebe.broker.job.processor.JobSubscription;
 import io.zeebe.broker.logstreams.processor.StreamProcessorServiceFactory;
 import io.zeebe.broker.logstreams.processor.TypedStreamEnvironment;
@@ -43,6 +44,7 @@ import io.zeebe.util.sched.future.CompletableActorFuture;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.collections.Long2ObjectHashMap;
@@ -54,6 +56,7 @@ public class JobSubscriptionManager extends Actor implements TransportListener {
   protected final StreamProcessorServiceFactory factory;
   protected final ServiceContainer serviceContext;
   private final ServerTransport transport;
+  private final Supplier<JobDistributionStrategy> distributionStrategyFactory;
 
   protected final Int2ObjectHashMap<PartitionBucket> logStreamBuckets = new Int2ObjectHashMap<>();
   private final Subscriptions subscriptions = new Subscriptions();
@@ -81,8 +84,10 @@ public class JobSubscriptionManager extends Actor implements TransportListener {
   public JobSubscriptionManager(
       ServiceContainer serviceContainer,
       StreamProcessorServiceFactory factory,
-      ServerTransport transport) {
+      ServerTransport transport,
+      Supplier<JobDistributionStrategy> distributionStrategyFactory) {
     this.transport = transport;
+    this.distributionStrategyFactory = distributionStrategyFactory;
     this.serviceContext = serviceContainer;
     this.factory = factory;
 
@@ -399,7 +404,8 @@ public class JobSubscriptionManager extends Actor implements TransportListener {
     }
 
     private ActorFuture<StreamProcessorService> createStreamProcessor(DirectBuffer type) {
-      final ActivateJobStreamProcessor processor = new ActivateJobStreamProcessor(type);
+      final ActivateJobStreamProcessor processor =
+          new ActivateJobStreamProcessor(type, distributionStrategyFactory.get());
 
       final ActorFuture<StreamProcessorService> openFuture =
           factory
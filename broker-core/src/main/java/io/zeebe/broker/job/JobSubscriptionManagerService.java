@@ -18,11 +18,15 @@
 package io.zeebe.broker.job;
 
 import io.zeebe.broker.clustering.base.partitions.Partition;
+import io.zeebe.broker.job.processor.JobDistributionStrategies;
+import io.zeebe.broker.job.processor.JobDistributionStrategy;
 import io.zeebe.broker.logstreams.processor.StreamProcessorServiceFactory;
+import io.zeebe.broker.system.configuration.JobsCfg;
 import io.zeebe.servicecontainer.*;
 import io.zeebe.transport.ServerTransport;
 import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.future.ActorFuture;
+import java.util.function.Supplier;
 
 public class JobSubscriptionManagerService implements Service<JobSubscriptionManager> {
   protected final Injector<ServerTransport> transportInjector = new Injector<>();
@@ -30,6 +34,7 @@ public class JobSubscriptionManagerService implements Service<JobSubscriptionMan
       new Injector<>();
 
   protected final ServiceContainer serviceContainer;
+  private final JobsCfg jobsCfg;
 
   protected JobSubscriptionManager service;
 
@@ -39,8 +44,9 @@ public class JobSubscriptionManagerService implements Service<JobSubscriptionMan
           .onRemove((name, partition) -> service.removePartition(partition))
           .build();
 
-  public JobSubscriptionManagerService(ServiceContainer serviceContainer) {
+  public JobSubscriptionManagerService(ServiceContainer serviceContainer, JobsCfg jobsCfg) {
     this.serviceContainer = serviceContainer;
+    this.jobsCfg = jobsCfg;
   }
 
   @Override
@@ -49,10 +55,16 @@ public class JobSubscriptionManagerService implements Service<JobSubscriptionMan
     final StreamProcessorServiceFactory streamProcessorServiceFactory =
         streamProcessorServiceFactoryInjector.getValue();
 
+    final Supplier<JobDistributionStrategy> distributionStrategyFactory =
+        JobDistributionStrategies.forName(jobsCfg.getDistributionStrategy());
+
     final ActorScheduler actorScheduler = startContext.getScheduler();
     service =
         new JobSubscriptionManager(
-            serviceContainer, streamProcessorServiceFactory, clientApiTransport);
+            serviceContainer,
+            streamProcessorServiceFactory,
+            clientApiTransport,
+            distributionStrategyFactory);
     actorScheduler.submitActor(service);
 
     final ActorFuture<Void> transportRegistration =
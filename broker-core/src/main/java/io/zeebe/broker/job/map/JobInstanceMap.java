@@ -19,6 +19,9 @@ package io.zeebe.broker.job.map;
 
 import static org.agrona.BitUtil.SIZE_OF_SHORT;
 
+import io.zeebe.broker.job.processor.JobInstanceStreamProcessor;
+import io.zeebe.broker.query.QueryableState;
+import io.zeebe.broker.query.StateQueryResponse;
 import io.zeebe.map.Long2BytesZbMap;
 import java.nio.ByteOrder;
 import org.agrona.DirectBuffer;
@@ -30,7 +33,7 @@ import org.agrona.concurrent.UnsafeBuffer;
  * <li>worker length
  * <li>worker (max 64 chars)
  */
-public class JobInstanceMap {
+public class JobInstanceMap implements QueryableState {
   private static final int MAP_VALUE_SIZE = SIZE_OF_SHORT;
   private static final int STATE_OFFSET = 0;
 
@@ -48,6 +51,7 @@ public class JobInstanceMap {
     map.remove(workflowInstanceKey);
   }
 
+  @Override
   public Long2BytesZbMap getMap() {
     return map;
   }
@@ -67,6 +71,26 @@ public class JobInstanceMap {
     map.put(jobInstanceKey, buffer);
   }
 
+  @Override
+  public void addQueryEntry(long key, DirectBuffer value, StateQueryResponse response) {
+    response.addJob(key, stateName(value.getShort(STATE_OFFSET, BYTE_ORDER)));
+  }
+
+  private static String stateName(short state) {
+    switch (state) {
+      case JobInstanceStreamProcessor.STATE_CREATED:
+        return "CREATED";
+      case JobInstanceStreamProcessor.STATE_ACTIVATED:
+        return "ACTIVATED";
+      case JobInstanceStreamProcessor.STATE_FAILED:
+        return "FAILED";
+      case JobInstanceStreamProcessor.STATE_TIMED_OUT:
+        return "TIMED_OUT";
+      default:
+        return "UNKNOWN";
+    }
+  }
+
   public void close() {
     map.close();
   }
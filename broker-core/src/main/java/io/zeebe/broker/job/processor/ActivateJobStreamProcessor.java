@@ -23,7 +23,6 @@ import io.zeebe.broker.job.CreditsRequest;
 import io.zeebe.broker.job.CreditsRequestBuffer;
 import io.zeebe.broker.job.JobSubscriptionManager;
 import io.zeebe.broker.job.data.JobRecord;
-import io.zeebe.broker.job.processor.JobSubscriptions.SubscriptionIterator;
 import io.zeebe.broker.logstreams.processor.*;
 import io.zeebe.logstreams.processor.StreamProcessorContext;
 import io.zeebe.protocol.clientapi.ValueType;
@@ -43,7 +42,7 @@ public class ActivateJobStreamProcessor
       new CreditsRequestBuffer(JobSubscriptionManager.NUM_CONCURRENT_REQUESTS);
 
   private final JobSubscriptions subscriptions = new JobSubscriptions(8);
-  private final SubscriptionIterator jobDistributionIterator;
+  private final JobDistributionStrategy distributionStrategy;
 
   private final DirectBuffer subscribedJobType;
   private ActorControl actor;
@@ -53,8 +52,13 @@ public class ActivateJobStreamProcessor
   private ChannelSubscription creditsSubscription;
 
   public ActivateJobStreamProcessor(DirectBuffer jobType) {
+    this(jobType, new RoundRobinJobDistribution());
+  }
+
+  public ActivateJobStreamProcessor(
+      DirectBuffer jobType, JobDistributionStrategy distributionStrategy) {
     this.subscribedJobType = jobType;
-    this.jobDistributionIterator = subscriptions.iterator();
+    this.distributionStrategy = distributionStrategy;
   }
 
   public DirectBuffer getSubscriptedJobType() {
@@ -141,31 +145,25 @@ public class ActivateJobStreamProcessor
     final long subscriberKey = request.getSubscriberKey();
     final int credits = request.getCredits();
 
+    final JobSubscription subscription = subscriptions.getSubscription(subscriberKey);
+    if (subscription != null) {
+      if (request.isReturned()) {
+        subscription.onJobsReturned(credits);
+      } else {
+        subscription.onJobsCompleted(credits, ActorClock.currentTimeMillis());
+      }
+    }
+
     subscriptions.addCredits(subscriberKey, credits);
 
     context.resumeController();
   }
 
-  protected JobSubscription getNextAvailableSubscription() {
+  protected JobSubscription getNextAvailableSubscription(JobRecord job) {
     JobSubscription nextSubscription = null;
 
     if (subscriptions.getTotalCredits() > 0) {
-
-      final int subscriptionSize = subscriptions.size();
-      int seenSubscriptions = 0;
-
-      while (seenSubscriptions < subscriptionSize && nextSubscription == null) {
-        if (!jobDistributionIterator.hasNext()) {
-          jobDistributionIterator.reset();
-        }
-
-        final JobSubscription subscription = jobDistributionIterator.next();
-        if (subscription.getCredits() > 0) {
-          nextSubscription = subscription;
-        }
-
-        seenSubscriptions += 1;
-      }
+      nextSubscription = distributionStrategy.selectSubscription(subscriptions, job);
     }
     return nextSubscription;
   }
@@ -178,7 +176,7 @@ public class ActivateJobStreamProcessor
     final boolean handlesJobType = BufferUtil.equals(jobEvent.getType(), subscribedJobType);
 
     if (handlesJobType && jobEvent.getRetries() > 0) {
-      selectedSubscriber = getNextAvailableSubscription();
+      selectedSubscriber = getNextAvailableSubscription(jobEvent);
       if (selectedSubscriber != null) {
         final long deadline = ActorClock.currentTimeMillis() + selectedSubscriber.getTimeout();
 
@@ -211,6 +209,7 @@ public class ActivateJobStreamProcessor
   public void updateState(TypedRecord<JobRecord> event) {
     if (selectedSubscriber != null) {
       subscriptions.addCredits(selectedSubscriber.getSubscriberKey(), -1);
+      selectedSubscriber.onJobActivated(ActorClock.currentTimeMillis());
 
       if (subscriptions.getTotalCredits() <= 0) {
         context.suspendController();
@@ -0,0 +1,81 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.job.processor;
+
+import io.zeebe.broker.job.data.JobRecord;
+import io.zeebe.broker.job.processor.JobSubscriptions.SubscriptionIterator;
+
+/**
+ * Hands the job to the subscription which is expected to complete it first, i.e. the one with the
+ * lowest ratio of outstanding jobs (including the new one) to its completion rate. A subscription
+ * which has not completed any jobs yet is assumed to be as fast as the fastest known one, so that
+ * new workers get jobs until their rate is measured.
+ */
+public class CompletionRateJobDistribution implements JobDistributionStrategy {
+  private SubscriptionIterator iterator;
+
+  @Override
+  public JobSubscription selectSubscription(JobSubscriptions subscriptions, JobRecord job) {
+    if (iterator == null) {
+      iterator = subscriptions.iterator();
+    }
+
+    double maxCompletionRate = 0;
+
+    iterator.reset();
+    while (iterator.hasNext()) {
+      final JobSubscription subscription = iterator.next();
+      if (subscription.hasCompletionRate()) {
+        maxCompletionRate = Math.max(maxCompletionRate, subscription.getCompletionRate());
+      }
+    }
+
+    JobSubscription selectedSubscription = null;
+    double minCompletionTime = Double.MAX_VALUE;
+
+    iterator.reset();
+    while (iterator.hasNext()) {
+      final JobSubscription subscription = iterator.next();
+
+      if (subscription.getCredits() > 0) {
+        final double completionTime = expectedCompletionTime(subscription, maxCompletionRate);
+        if (completionTime < minCompletionTime) {
+          selectedSubscription = subscription;
+          minCompletionTime = completionTime;
+        }
+      }
+    }
+
+    return selectedSubscription;
+  }
+
+  private static double expectedCompletionTime(
+      JobSubscription subscription, double maxCompletionRate) {
+    final int jobs = subscription.getOutstandingJobs() + 1;
+
+    final double completionRate =
+        subscription.hasCompletionRate() ? subscription.getCompletionRate() : maxCompletionRate;
+
+    if (completionRate > 0) {
+      return jobs / completionRate;
+    } else {
+      // no rates are known yet
+      return jobs;
+    }
+  }
+}
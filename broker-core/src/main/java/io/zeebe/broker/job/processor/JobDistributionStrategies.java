@@ -0,0 +1,53 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.job.processor;
+
+import java.util.function.Supplier;
+
+public class JobDistributionStrategies {
+  public static final String ROUND_ROBIN = "round-robin";
+  public static final String LEAST_OUTSTANDING = "least-outstanding";
+  public static final String COMPLETION_RATE = "completion-rate";
+  public static final String WORKFLOW_INSTANCE_AFFINITY = "workflow-instance-affinity";
+
+  /**
+   * @param name the configured name of the strategy
+   * @return a factory which creates a new instance of the strategy for each job type
+   */
+  public static Supplier<JobDistributionStrategy> forName(String name) {
+    switch (name) {
+      case ROUND_ROBIN:
+        return RoundRobinJobDistribution::new;
+      case LEAST_OUTSTANDING:
+        return LeastOutstandingJobDistribution::new;
+      case COMPLETION_RATE:
+        return CompletionRateJobDistribution::new;
+      case WORKFLOW_INSTANCE_AFFINITY:
+        return WorkflowInstanceAffinityJobDistribution::new;
+      default:
+        throw new IllegalArgumentException(
+            String.format(
+                "Unknown job distribution strategy '%s'; must be one of: %s, %s, %s, %s",
+                name,
+                ROUND_ROBIN,
+                LEAST_OUTSTANDING,
+                COMPLETION_RATE,
+                WORKFLOW_INSTANCE_AFFINITY));
+    }
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.job.processor;
+
+import io.zeebe.broker.job.data.JobRecord;
+
+/**
+ * Decides which subscription of a job type gets the next job. An instance belongs to the activate
+ * processor of one job type and is only called from its actor.
+ */
+public interface JobDistributionStrategy {
+
+  /**
+   * Selects a subscription for the given job. Only subscriptions with credits can be selected.
+   *
+   * @param subscriptions the subscriptions of the job type
+   * @param job the job to activate
+   * @return the selected subscription, or <code>null</code> if no subscription has credits
+   */
+  JobSubscription selectSubscription(JobSubscriptions subscriptions, JobRecord job);
+}
@@ -22,6 +22,7 @@ import io.zeebe.broker.job.JobSubscriptionManager;
 import io.zeebe.broker.job.data.JobRecord;
 import io.zeebe.broker.job.map.JobInstanceMap;
 import io.zeebe.broker.logstreams.processor.*;
+import io.zeebe.broker.query.StateType;
 import io.zeebe.broker.transport.clientapi.SubscribedRecordWriter;
 import io.zeebe.protocol.clientapi.RecordType;
 import io.zeebe.protocol.clientapi.RejectionType;
@@ -31,10 +32,10 @@ import io.zeebe.protocol.impl.RecordMetadata;
 import io.zeebe.protocol.intent.JobIntent;
 
 public class JobInstanceStreamProcessor {
-  protected static final short STATE_CREATED = 1;
-  protected static final short STATE_ACTIVATED = 2;
-  protected static final short STATE_FAILED = 3;
-  protected static final short STATE_TIMED_OUT = 4;
+  public static final short STATE_CREATED = 1;
+  public static final short STATE_ACTIVATED = 2;
+  public static final short STATE_FAILED = 3;
+  public static final short STATE_TIMED_OUT = 4;
 
   protected SubscribedRecordWriter subscribedEventWriter;
   protected final JobSubscriptionManager jobSubscriptionManager;
@@ -63,6 +64,7 @@ public class JobInstanceStreamProcessor {
         .onCommand(ValueType.JOB, JobIntent.UPDATE_RETRIES, new UpdateRetriesJobProcessor())
         .onCommand(ValueType.JOB, JobIntent.CANCEL, new CancelJobProcessor())
         .withStateResource(jobIndex.getMap())
+        .withQueryableState(StateType.JOB, jobIndex)
         .build();
   }
 
@@ -121,6 +123,7 @@ public class JobInstanceStreamProcessor {
 
         creditsRequest.setSubscriberKey(subscriptionId);
         creditsRequest.setCredits(1);
+        creditsRequest.setReturned(true);
         success = jobSubscriptionManager.increaseSubscriptionCreditsAsync(creditsRequest);
       }
 
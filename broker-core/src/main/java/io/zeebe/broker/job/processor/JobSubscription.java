@@ -24,6 +24,9 @@ import org.agrona.DirectBuffer;
 public class JobSubscription {
   public static final int WORKER_MAX_LENGTH = 64;
 
+  /** the time in which older completions lose most of their weight for the completion rate */
+  public static final long COMPLETION_RATE_WINDOW_MS = 10_000;
+
   private final int partitionId;
 
   private final DirectBuffer jobType;
@@ -37,6 +40,15 @@ public class JobSubscription {
 
   private int credits;
 
+  /** the jobs which are activated for this subscription and not completed yet */
+  private int outstandingJobs;
+
+  /** the moving average of the completed jobs per second while the subscription had jobs */
+  private double completionRate;
+
+  private boolean hasCompletionRate;
+  private long rateIntervalStart;
+
   public JobSubscription(
       int partitionId, DirectBuffer jobType, long timeout, DirectBuffer worker, int streamId) {
     this.partitionId = partitionId;
@@ -81,4 +93,58 @@ public class JobSubscription {
   public int getPartitionId() {
     return partitionId;
   }
+
+  public int getOutstandingJobs() {
+    return outstandingJobs;
+  }
+
+  /** @return the completed jobs per second, if {@link #hasCompletionRate()} */
+  public double getCompletionRate() {
+    return completionRate;
+  }
+
+  public boolean hasCompletionRate() {
+    return hasCompletionRate;
+  }
+
+  public void onJobActivated(long now) {
+    if (outstandingJobs == 0) {
+      // don't count the time as completion time in which the subscription had no jobs
+      rateIntervalStart = now;
+    }
+    outstandingJobs += 1;
+  }
+
+  /**
+   * Called when the subscriber returns credits since it is done with the given number of jobs.
+   * Updates the completion rate by the rate since the last call, weighted by the length of the
+   * interval.
+   */
+  public void onJobsCompleted(int jobs, long now) {
+    if (outstandingJobs == 0 || jobs <= 0) {
+      return;
+    }
+
+    final long interval = Math.max(1, now - rateIntervalStart);
+    final double rate = jobs * 1000.0 / interval;
+
+    if (hasCompletionRate) {
+      final double weight = 1 - Math.exp(-(double) interval / COMPLETION_RATE_WINDOW_MS);
+      completionRate += weight * (rate - completionRate);
+    } else {
+      completionRate = rate;
+      hasCompletionRate = true;
+    }
+
+    outstandingJobs = Math.max(0, outstandingJobs - jobs);
+    rateIntervalStart = now;
+  }
+
+  /**
+   * Called when the broker returns credits since the given number of jobs could not be activated.
+   * The jobs are not outstanding anymore, but they don't count as completed.
+   */
+  public void onJobsReturned(int jobs) {
+    outstandingJobs = Math.max(0, outstandingJobs - jobs);
+  }
 }
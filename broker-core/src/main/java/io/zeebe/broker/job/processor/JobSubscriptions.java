@@ -86,6 +86,11 @@ public class JobSubscriptions implements Iterable<JobSubscription> {
     }
   }
 
+  public JobSubscription getSubscription(long subscriberKey) {
+    final long idx = lookupTable.get(subscriberKey);
+    return idx >= 0 ? subscriptions[(int) idx] : null;
+  }
+
   public int getTotalCredits() {
     return totalCredits;
   }
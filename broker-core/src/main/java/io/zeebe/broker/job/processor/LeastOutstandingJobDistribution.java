@@ -0,0 +1,60 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.job.processor;
+
+import io.zeebe.broker.job.data.JobRecord;
+import io.zeebe.broker.job.processor.JobSubscriptions.SubscriptionIterator;
+
+/**
+ * Hands the job to the subscription with the fewest outstanding jobs, so that a slow worker doesn't
+ * hoard jobs up to its credits while a fast one idles. On a tie, the subscription with more credits
+ * wins.
+ */
+public class LeastOutstandingJobDistribution implements JobDistributionStrategy {
+  private SubscriptionIterator iterator;
+
+  @Override
+  public JobSubscription selectSubscription(JobSubscriptions subscriptions, JobRecord job) {
+    if (iterator == null) {
+      iterator = subscriptions.iterator();
+    }
+    iterator.reset();
+
+    JobSubscription selectedSubscription = null;
+
+    while (iterator.hasNext()) {
+      final JobSubscription subscription = iterator.next();
+
+      if (subscription.getCredits() > 0
+          && (selectedSubscription == null || isLessLoaded(subscription, selectedSubscription))) {
+        selectedSubscription = subscription;
+      }
+    }
+
+    return selectedSubscription;
+  }
+
+  private static boolean isLessLoaded(JobSubscription subscription, JobSubscription other) {
+    final int outstandingJobs = subscription.getOutstandingJobs();
+    final int otherOutstandingJobs = other.getOutstandingJobs();
+
+    return outstandingJobs < otherOutstandingJobs
+        || (outstandingJobs == otherOutstandingJobs
+            && subscription.getCredits() > other.getCredits());
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.job.processor;
+
+import io.zeebe.broker.job.data.JobRecord;
+import io.zeebe.broker.job.processor.JobSubscriptions.SubscriptionIterator;
+
+/** Hands the jobs to the subscriptions with credits in turn. */
+public class RoundRobinJobDistribution implements JobDistributionStrategy {
+  private SubscriptionIterator iterator;
+
+  @Override
+  public JobSubscription selectSubscription(JobSubscriptions subscriptions, JobRecord job) {
+    if (iterator == null) {
+      iterator = subscriptions.iterator();
+    }
+
+    JobSubscription nextSubscription = null;
+
+    final int subscriptionSize = subscriptions.size();
+    int seenSubscriptions = 0;
+
+    while (seenSubscriptions < subscriptionSize && nextSubscription == null) {
+      if (!iterator.hasNext()) {
+        iterator.reset();
+      }
+
+      final JobSubscription subscription = iterator.next();
+      if (subscription.getCredits() > 0) {
+        nextSubscription = subscription;
+      }
+
+      seenSubscriptions += 1;
+    }
+
+    return nextSubscription;
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.job.processor;
+
+import io.zeebe.broker.job.data.JobRecord;
+import io.zeebe.broker.job.processor.JobSubscriptions.SubscriptionIterator;
+
+/**
+ * Hands the jobs of the same workflow instance to the same subscription, so that workers can keep
+ * instance related data cached. The subscription is chosen by rendezvous hashing of the workflow
+ * instance key and the subscriber key: the subscription with the highest score among the ones with
+ * credits wins. Adding or removing a subscription only moves the instances of this subscription.
+ *
+ * <p>Jobs which don't belong to a workflow instance are distributed by {@link
+ * LeastOutstandingJobDistribution}.
+ */
+public class WorkflowInstanceAffinityJobDistribution implements JobDistributionStrategy {
+  private final LeastOutstandingJobDistribution fallbackDistribution =
+      new LeastOutstandingJobDistribution();
+
+  private SubscriptionIterator iterator;
+
+  @Override
+  public JobSubscription selectSubscription(JobSubscriptions subscriptions, JobRecord job) {
+    final long workflowInstanceKey = job.headers().getWorkflowInstanceKey();
+    if (workflowInstanceKey < 0) {
+      return fallbackDistribution.selectSubscription(subscriptions, job);
+    }
+
+    if (iterator == null) {
+      iterator = subscriptions.iterator();
+    }
+    iterator.reset();
+
+    JobSubscription selectedSubscription = null;
+    long maxScore = Long.MIN_VALUE;
+
+    while (iterator.hasNext()) {
+      final JobSubscription subscription = iterator.next();
+
+      if (subscription.getCredits() > 0) {
+        final long score = score(workflowInstanceKey, subscription.getSubscriberKey());
+        if (selectedSubscription == null || score > maxScore) {
+          selectedSubscription = subscription;
+          maxScore = score;
+        }
+      }
+    }
+
+    return selectedSubscription;
+  }
+
+  /** the finalization step of MurmurHash3 applied to the combined keys */
+  private static long score(long workflowInstanceKey, long subscriberKey) {
+    long hash = workflowInstanceKey * 0x9E3779B97F4A7C15L + subscriberKey;
+    hash ^= hash >>> 33;
+    hash *= 0xFF51AFD7ED558CCDL;
+    hash ^= hash >>> 33;
+    hash *= 0xC4CEB9FE1A85EC53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
@@ -31,4 +31,7 @@ public class LogStreamServiceNames {
   public static final ServiceName<StreamProcessorServiceFactory> STREAM_PROCESSOR_SERVICE_FACTORY =
       ServiceName.newServiceName(
           "logstreams.processor-factory", StreamProcessorServiceFactory.class);
+
+  public static final ServiceName<RecoveryLimiter> RECOVERY_LIMITER =
+      ServiceName.newServiceName("logstreams.recovery-limiter", RecoveryLimiter.class);
 }
@@ -19,6 +19,7 @@ package io.zeebe.broker.logstreams;
 
 import static io.zeebe.broker.clustering.base.ClusterBaseLayerServiceNames.LEADER_PARTITION_GROUP_NAME;
 import static io.zeebe.broker.clustering.base.ClusterBaseLayerServiceNames.LEADER_PARTITION_SYSTEM_GROUP_NAME;
+import static io.zeebe.broker.logstreams.LogStreamServiceNames.RECOVERY_LIMITER;
 import static io.zeebe.broker.logstreams.LogStreamServiceNames.STREAM_PROCESSOR_SERVICE_FACTORY;
 
 import io.zeebe.broker.event.TopicSubscriptionServiceNames;
@@ -26,6 +27,7 @@ import io.zeebe.broker.event.processor.TopicSubscriptionService;
 import io.zeebe.broker.logstreams.processor.StreamProcessorServiceFactory;
 import io.zeebe.broker.system.Component;
 import io.zeebe.broker.system.SystemContext;
+import io.zeebe.broker.system.configuration.DataCfg;
 import io.zeebe.broker.transport.TransportServiceNames;
 import io.zeebe.servicecontainer.ServiceContainer;
 import io.zeebe.util.DurationUtil;
@@ -47,6 +49,9 @@ public class LogStreamsComponent implements Component {
         .dependency(
             LogStreamServiceNames.STREAM_PROCESSOR_SERVICE_FACTORY,
             topicSubscriptionService.getStreamProcessorServiceFactoryInjector())
+        .dependency(
+            TransportServiceNames.CLIENT_API_MESSAGE_HANDLER,
+            topicSubscriptionService.getClientApiMessageHandlerInjector())
         .groupReference(
             LEADER_PARTITION_GROUP_NAME, topicSubscriptionService.getPartitionsGroupReference())
         .groupReference(
@@ -54,12 +59,18 @@ public class LogStreamsComponent implements Component {
             topicSubscriptionService.getSystemPartitionGroupReference())
         .install();
 
-    final Duration snapshotPeriod =
-        DurationUtil.parse(context.getBrokerConfiguration().getData().getSnapshotPeriod());
+    final DataCfg dataCfg = context.getBrokerConfiguration().getData();
+
+    final RecoveryLimiter recoveryLimiter =
+        new RecoveryLimiter(dataCfg.getPartitionRecoveryConcurrency());
+    serviceContainer.createService(RECOVERY_LIMITER, recoveryLimiter).install();
+
+    final Duration snapshotPeriod = DurationUtil.parse(dataCfg.getSnapshotPeriod());
     final StreamProcessorServiceFactory streamProcessorFactory =
         new StreamProcessorServiceFactory(serviceContainer, snapshotPeriod);
     serviceContainer
         .createService(STREAM_PROCESSOR_SERVICE_FACTORY, streamProcessorFactory)
+        .dependency(RECOVERY_LIMITER, streamProcessorFactory.getRecoveryLimiterInjector())
         .install();
   }
 }
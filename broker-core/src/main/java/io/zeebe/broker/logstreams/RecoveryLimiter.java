@@ -0,0 +1,129 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams;
+
+import io.zeebe.servicecontainer.Service;
+import io.zeebe.servicecontainer.ServiceStartContext;
+import io.zeebe.servicecontainer.ServiceStopContext;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Limits how many recoveries run at the same time, i.e. partitions which open their log stream and
+ * start raft, and stream processors which recover from their snapshot and reprocess their events.
+ * A recovery holds a permit until it is done. A concurrency of 0 means no limit.
+ */
+public class RecoveryLimiter extends Actor implements Service<RecoveryLimiter> {
+  private final Deque<Runnable> pendingRecoveries = new ArrayDeque<>();
+  private final int concurrency;
+
+  private int runningRecoveries = 0;
+
+  public RecoveryLimiter(int concurrency) {
+    this.concurrency = concurrency;
+  }
+
+  @Override
+  public String getName() {
+    return "recovery-limiter";
+  }
+
+  @Override
+  public void start(ServiceStartContext startContext) {
+    startContext.async(startContext.getScheduler().submitActor(this));
+  }
+
+  @Override
+  public void stop(ServiceStopContext stopContext) {
+    stopContext.async(actor.close());
+  }
+
+  @Override
+  public RecoveryLimiter get() {
+    return this;
+  }
+
+  /**
+   * Starts the recovery when a permit is available.
+   *
+   * @param startRecovery starts the recovery, e.g. installs the service
+   * @param awaitRecovered returns a future which is completed when the started recovery is done
+   * @return a future which is completed with the result of the started recovery
+   */
+  public <T> ActorFuture<T> recover(
+      Supplier<ActorFuture<T>> startRecovery, Function<T, ActorFuture<?>> awaitRecovered) {
+    final CompletableActorFuture<T> startedFuture = new CompletableActorFuture<>();
+
+    actor.run(
+        () -> {
+          pendingRecoveries.add(() -> startRecovery(startRecovery, awaitRecovered, startedFuture));
+          startNextRecoveries();
+        });
+
+    return startedFuture;
+  }
+
+  private <T> void startRecovery(
+      Supplier<ActorFuture<T>> startRecovery,
+      Function<T, ActorFuture<?>> awaitRecovered,
+      CompletableActorFuture<T> startedFuture) {
+    runningRecoveries += 1;
+
+    final ActorFuture<T> future;
+    try {
+      future = startRecovery.get();
+    } catch (RuntimeException e) {
+      startedFuture.completeExceptionally(e);
+      onRecoveryDone();
+      return;
+    }
+
+    actor.runOnCompletion(
+        future,
+        (value, startFailure) -> {
+          if (startFailure == null) {
+            startedFuture.complete(value);
+
+            actor.runOnCompletion(
+                awaitRecovered.apply(value), (recovered, failure) -> onRecoveryDone());
+          } else {
+            startedFuture.completeExceptionally(startFailure);
+
+            onRecoveryDone();
+          }
+        });
+  }
+
+  private void onRecoveryDone() {
+    runningRecoveries -= 1;
+
+    startNextRecoveries();
+  }
+
+  private void startNextRecoveries() {
+    while (!pendingRecoveries.isEmpty()
+        && (concurrency <= 0 || runningRecoveries < concurrency)) {
+      pendingRecoveries.poll().run();
+    }
+  }
+}
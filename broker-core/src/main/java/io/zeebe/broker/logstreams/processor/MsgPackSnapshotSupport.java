@@ -0,0 +1,115 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams.processor;
+
+import com.fasterxml.jackson.databind.*;
+import io.zeebe.logstreams.spi.ComposableSnapshotSupport;
+import io.zeebe.util.ReflectUtil;
+import java.io.*;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+/**
+ * Writes the state as MessagePack, which is more compact and faster to write and read than the
+ * JSON of {@link JsonSnapshotSupport}. The snapshot starts with a header of a marker byte and the
+ * format version. Snapshots without the header are read as JSON, so that existing snapshots of a
+ * {@link JsonSnapshotSupport} can still be recovered.
+ */
+public class MsgPackSnapshotSupport<T> implements ComposableSnapshotSupport {
+  /** never used by MessagePack or as first byte of JSON */
+  public static final int HEADER_MARKER = 0xC1;
+
+  public static final int FORMAT_VERSION = 1;
+
+  private static final ObjectMapper MSGPACK_OBJECT_MAPPER =
+      new ObjectMapper(new MessagePackFactory());
+  private static final ObjectMapper JSON_OBJECT_MAPPER = new ObjectMapper();
+
+  private final Class<T> dataType;
+  private final ObjectWriter writer;
+  private final ObjectReader reader;
+  private final ObjectReader legacyReader;
+
+  private final ByteArrayOutputStream outBuffer = new ByteArrayOutputStream();
+
+  private T data;
+
+  public T getData() {
+    return data;
+  }
+
+  public MsgPackSnapshotSupport(Class<T> type) {
+    this.dataType = type;
+    this.writer = MSGPACK_OBJECT_MAPPER.writerFor(type);
+    this.reader = MSGPACK_OBJECT_MAPPER.readerFor(type);
+    this.legacyReader = JSON_OBJECT_MAPPER.readerFor(type);
+    reset();
+  }
+
+  @Override
+  public long writeSnapshot(OutputStream outputStream) throws Exception {
+    final long size = outBuffer.size();
+
+    outBuffer.writeTo(outputStream);
+    outBuffer.reset();
+
+    return size;
+  }
+
+  @Override
+  public void recoverFromSnapshot(InputStream inputStream) throws Exception {
+    final PushbackInputStream snapshotStream = new PushbackInputStream(inputStream);
+
+    final int marker = snapshotStream.read();
+    if (marker == HEADER_MARKER) {
+      final int version = snapshotStream.read();
+      if (version != FORMAT_VERSION) {
+        throw new IllegalStateException(
+            String.format(
+                "Cannot recover from snapshot with format version %d, expected %d",
+                version, FORMAT_VERSION));
+      }
+
+      data = reader.readValue(snapshotStream);
+    } else {
+      snapshotStream.unread(marker);
+
+      data = legacyReader.readValue(snapshotStream);
+    }
+  }
+
+  @Override
+  public void reset() {
+    data = ReflectUtil.newInstance(dataType);
+  }
+
+  @Override
+  public long snapshotSize() {
+    outBuffer.reset();
+
+    outBuffer.write(HEADER_MARKER);
+    outBuffer.write(FORMAT_VERSION);
+
+    try {
+      writer.writeValue(outBuffer, data);
+    } catch (Exception e) {
+      throw new RuntimeException("Exception while writing msgpack snapshot", e);
+    }
+
+    return outBuffer.size();
+  }
+}
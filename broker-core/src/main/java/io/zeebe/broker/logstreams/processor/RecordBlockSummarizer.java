@@ -0,0 +1,51 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams.processor;
+
+import io.zeebe.logstreams.log.LogBlockSummarizer;
+import io.zeebe.logstreams.log.LoggedEvent;
+import io.zeebe.protocol.clientapi.ValueType;
+import io.zeebe.protocol.impl.RecordMetadata;
+
+/**
+ * Summarizes a record by its value type and intent. Each value type gets {@link
+ * #BITS_PER_VALUE_TYPE} bits of the summary and the intent selects one of them. Intents (and value
+ * types beyond the summary's capacity) share bits, which only causes blocks to be read
+ * unnecessarily.
+ */
+public class RecordBlockSummarizer implements LogBlockSummarizer {
+  public static final int BITS_PER_VALUE_TYPE = 6;
+
+  private final RecordMetadata metadata = new RecordMetadata();
+
+  @Override
+  public long summarize(LoggedEvent event) {
+    event.readMetadata(metadata);
+
+    return summarize(metadata.getValueType(), metadata.getIntent().value());
+  }
+
+  public static long summarize(ValueType valueType, int intent) {
+    if (valueType == ValueType.NULL_VAL || valueType == ValueType.SBE_UNKNOWN) {
+      return ALL;
+    }
+
+    final int bit = valueType.value() * BITS_PER_VALUE_TYPE + intent % BITS_PER_VALUE_TYPE;
+    return 1L << (bit % Long.SIZE);
+  }
+}
@@ -25,4 +25,7 @@ public interface StreamProcessorLifecycleAware {
   default void onRecovered(TypedStreamProcessor streamProcessor) {};
 
   default void onClose() {};
+
+  /** Callback instead of {@link #onClose()} if the stream processor closes because it failed */
+  default void onFailure() {};
 }
@@ -18,8 +18,10 @@
 package io.zeebe.broker.logstreams.processor;
 
 import io.zeebe.broker.clustering.base.partitions.Partition;
+import io.zeebe.broker.logstreams.RecoveryLimiter;
 import io.zeebe.logstreams.LogStreams;
 import io.zeebe.logstreams.impl.service.StreamProcessorService;
+import io.zeebe.logstreams.log.LogBlockSummarizer;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.log.LoggedEvent;
 import io.zeebe.logstreams.processor.EventFilter;
@@ -34,11 +36,15 @@ import io.zeebe.util.sched.future.ActorFuture;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 public class StreamProcessorServiceFactory implements Service<StreamProcessorServiceFactory> {
   private final ServiceContainer serviceContainer;
   private final Duration snapshotPeriod;
+  private final Injector<RecoveryLimiter> recoveryLimiterInjector = new Injector<>();
+
   private ActorScheduler actorScheduler;
+  private RecoveryLimiter recoveryLimiter;
 
   public StreamProcessorServiceFactory(ServiceContainer serviceContainer, Duration snapshotPeriod) {
     this.serviceContainer = serviceContainer;
@@ -48,6 +54,7 @@ public class StreamProcessorServiceFactory implements Service<StreamProcessorSer
   @Override
   public void start(ServiceStartContext startContext) {
     this.actorScheduler = startContext.getScheduler();
+    this.recoveryLimiter = recoveryLimiterInjector.getValue();
   }
 
   @Override
@@ -55,6 +62,10 @@ public class StreamProcessorServiceFactory implements Service<StreamProcessorSer
     return this;
   }
 
+  public Injector<RecoveryLimiter> getRecoveryLimiterInjector() {
+    return recoveryLimiterInjector;
+  }
+
   public Builder createService(Partition partition, ServiceName<Partition> serviceName) {
     return new Builder(partition, serviceName);
   }
@@ -69,6 +80,8 @@ public class StreamProcessorServiceFactory implements Service<StreamProcessorSer
     private final List<ServiceName<?>> additionalDependencies = new ArrayList<>();
 
     protected MetadataFilter customEventFilter;
+    protected Function<LoggedEvent, RecordMetadata> metadataReader;
+    protected long blockFilter = LogBlockSummarizer.ALL;
     protected boolean readOnly = false;
 
     public Builder(Partition partition, ServiceName<Partition> serviceName) {
@@ -95,11 +108,16 @@ public class StreamProcessorServiceFactory implements Service<StreamProcessorSer
     public Builder processor(TypedStreamProcessor processor) {
       this.streamProcessor = processor;
       this.customEventFilter = processor.buildTypeFilter();
+      // share the decoded metadata between the filter and the processor
+      this.metadataReader = processor::readMetadata;
+      // skip the blocks of the log which don't contain any record of the processor
+      this.blockFilter = processor.buildBlockFilter();
       return this;
     }
 
     public Builder eventFilter(MetadataFilter eventFilter) {
       this.customEventFilter = eventFilter;
+      this.blockFilter = LogBlockSummarizer.ALL;
       return this;
     }
 
@@ -124,34 +142,58 @@ public class StreamProcessorServiceFactory implements Service<StreamProcessorSer
       if (customEventFilter != null) {
         metadataFilter = metadataFilter.and(customEventFilter);
       }
-      final EventFilter eventFilter = new MetadataEventFilter(metadataFilter);
-
-      return LogStreams.createStreamProcessor(processorName, processorId, streamProcessor)
-          .actorScheduler(actorScheduler)
-          .serviceContainer(serviceContainer)
-          .snapshotStorage(snapshotStorage)
-          .snapshotPeriod(snapshotPeriod)
-          .logStream(logStream)
-          .eventFilter(eventFilter)
-          .readOnly(readOnly)
-          .additionalDependencies(additionalDependencies)
-          .build();
+      final EventFilter eventFilter =
+          metadataReader != null
+              ? new MetadataEventFilter(metadataFilter, metadataReader)
+              : new MetadataEventFilter(metadataFilter);
+
+      // the stream processor is installed when a permit is available and holds it until it has
+      // recovered its snapshot and reprocessed its events
+      return recoveryLimiter.recover(
+          () ->
+              LogStreams.createStreamProcessor(processorName, processorId, streamProcessor)
+                  .actorScheduler(actorScheduler)
+                  .serviceContainer(serviceContainer)
+                  .snapshotStorage(snapshotStorage)
+                  .snapshotPeriod(snapshotPeriod)
+                  .logStream(logStream)
+                  .eventFilter(eventFilter)
+                  .blockFilter(blockFilter)
+                  .readOnly(readOnly)
+                  .additionalDependencies(additionalDependencies)
+                  .build(),
+          service -> service.getController().getRecoveredFuture());
     }
   }
 
-  private static class MetadataEventFilter implements EventFilter {
+  static class MetadataEventFilter implements EventFilter {
 
-    protected final RecordMetadata metadata = new RecordMetadata();
     protected final MetadataFilter metadataFilter;
+    protected final Function<LoggedEvent, RecordMetadata> metadataReader;
 
     MetadataEventFilter(MetadataFilter metadataFilter) {
+      this(metadataFilter, new RecordMetadataReader());
+    }
+
+    MetadataEventFilter(
+        MetadataFilter metadataFilter, Function<LoggedEvent, RecordMetadata> metadataReader) {
       this.metadataFilter = metadataFilter;
+      this.metadataReader = metadataReader;
     }
 
     @Override
     public boolean applies(LoggedEvent event) {
+      return metadataFilter.applies(metadataReader.apply(event));
+    }
+  }
+
+  private static class RecordMetadataReader implements Function<LoggedEvent, RecordMetadata> {
+    protected final RecordMetadata metadata = new RecordMetadata();
+
+    @Override
+    public RecordMetadata apply(LoggedEvent event) {
       event.readMetadata(metadata);
-      return metadataFilter.applies(metadata);
+      return metadata;
     }
   }
 
@@ -33,6 +33,10 @@ public class TypedEventImpl implements TypedRecord {
     this.value = value;
   }
 
+  public LoggedEvent getRawEvent() {
+    return rawEvent;
+  }
+
   @Override
   public long getPosition() {
     return rawEvent.getPosition();
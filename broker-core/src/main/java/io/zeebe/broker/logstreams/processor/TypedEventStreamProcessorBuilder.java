@@ -17,6 +17,9 @@
  */
 package io.zeebe.broker.logstreams.processor;
 
+import io.zeebe.broker.query.QueryableState;
+import io.zeebe.broker.query.StateQueryService;
+import io.zeebe.broker.query.StateType;
 import io.zeebe.logstreams.processor.EventLifecycleContext;
 import io.zeebe.logstreams.snapshot.BaseValueSnapshotSupport;
 import io.zeebe.logstreams.snapshot.ComposedSnapshot;
@@ -29,6 +32,7 @@ import io.zeebe.msgpack.value.BaseValue;
 import io.zeebe.protocol.clientapi.RecordType;
 import io.zeebe.protocol.clientapi.ValueType;
 import io.zeebe.protocol.intent.Intent;
+import io.zeebe.util.sched.ActorControl;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
@@ -123,6 +127,42 @@ public class TypedEventStreamProcessorBuilder {
     return this;
   }
 
+  /**
+   * Registers the state at the state query service of the environment (if any), once the stream
+   * processor has recovered.
+   */
+  public TypedEventStreamProcessorBuilder withQueryableState(
+      StateType stateType, QueryableState state) {
+    final StateQueryService stateQueryService = environment.getStateQueryService();
+
+    if (stateQueryService != null) {
+      withListener(
+          new StreamProcessorLifecycleAware() {
+            private int partitionId;
+
+            @Override
+            public void onRecovered(TypedStreamProcessor streamProcessor) {
+              partitionId = streamProcessor.getEnvironment().getStream().getPartitionId();
+              final ActorControl actor =
+                  streamProcessor.getStreamProcessorContext().getActorControl();
+
+              stateQueryService.register(partitionId, stateType, actor, state);
+            }
+
+            @Override
+            public void onClose() {
+              stateQueryService.unregister(partitionId, stateType, state);
+            }
+
+            @Override
+            public void onFailure() {
+              stateQueryService.unregister(partitionId, stateType, state);
+            }
+          });
+    }
+    return this;
+  }
+
   public TypedStreamProcessor build() {
 
     final SnapshotSupport snapshotSupport;
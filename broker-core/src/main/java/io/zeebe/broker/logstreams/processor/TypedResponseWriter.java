@@ -45,6 +45,9 @@ public interface TypedResponseWriter {
    *
    * <p>The other write methods will use the record position as source record position.</p>
    *
+   * <p>The value is written as it is serialized in the log, i.e. changes of the value are not
+   * part of the response.</p>
+   *
    * @return true if successful
    */
   boolean writeRecordUnchanged(TypedRecord<?> record);
@@ -18,11 +18,14 @@
 package io.zeebe.broker.logstreams.processor;
 
 import io.zeebe.broker.transport.clientapi.CommandResponseWriter;
+import io.zeebe.logstreams.log.LoggedEvent;
 import io.zeebe.protocol.clientapi.RecordType;
 import io.zeebe.protocol.clientapi.RejectionType;
 import io.zeebe.protocol.impl.RecordMetadata;
 import io.zeebe.protocol.intent.Intent;
 import io.zeebe.transport.ServerOutput;
+import io.zeebe.util.buffer.BufferWriter;
+import io.zeebe.util.buffer.DirectBufferWriter;
 import java.nio.charset.StandardCharsets;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -32,6 +35,7 @@ public class TypedResponseWriterImpl implements TypedResponseWriter {
   protected int partitionId;
 
   private final UnsafeBuffer stringWrapper = new UnsafeBuffer(0, 0);
+  private final DirectBufferWriter rawValueWriter = new DirectBufferWriter();
 
   public TypedResponseWriterImpl(ServerOutput output, int partitionId) {
     this.writer = new CommandResponseWriter(output);
@@ -78,10 +82,25 @@ public class TypedResponseWriterImpl implements TypedResponseWriter {
         .valueType(metadata.getValueType())
         .rejectionType(metadata.getRejectionType())
         .rejectionReason(metadata.getRejectionReason())
-        .valueWriter(record.getValue())
+        .valueWriter(unchangedValueWriter(record))
         .tryWriteResponse(metadata.getRequestStreamId(), metadata.getRequestId());
   }
 
+  /**
+   * The value of a record which is read from the log is already serialized in the log buffer. The
+   * response copies these bytes instead of encoding the value again.
+   */
+  private BufferWriter unchangedValueWriter(TypedRecord<?> record) {
+    if (record instanceof TypedEventImpl) {
+      final LoggedEvent rawEvent = ((TypedEventImpl) record).getRawEvent();
+
+      return rawValueWriter.wrap(
+          rawEvent.getValueBuffer(), rawEvent.getValueOffset(), rawEvent.getValueLength());
+    } else {
+      return record.getValue();
+    }
+  }
+
   private boolean write(
       RecordType type,
       Intent intent,
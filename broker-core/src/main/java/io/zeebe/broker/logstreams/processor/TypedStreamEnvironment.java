@@ -21,6 +21,7 @@ import io.zeebe.broker.clustering.orchestration.id.IdRecord;
 import io.zeebe.broker.clustering.orchestration.topic.TopicRecord;
 import io.zeebe.broker.incident.data.IncidentRecord;
 import io.zeebe.broker.job.data.JobRecord;
+import io.zeebe.broker.query.StateQueryService;
 import io.zeebe.broker.system.workflow.repository.data.DeploymentRecord;
 import io.zeebe.broker.workflow.data.WorkflowInstanceRecord;
 import io.zeebe.logstreams.log.LogStream;
@@ -46,6 +47,7 @@ public class TypedStreamEnvironment {
 
   private TypedStreamReader reader;
   private TypedStreamWriter writer;
+  private StateQueryService stateQueryService;
 
   public TypedStreamEnvironment(LogStream stream, ServerOutput output) {
     this.output = output;
@@ -64,6 +66,16 @@ public class TypedStreamEnvironment {
     return stream;
   }
 
+  /** Makes the queryable state of the stream processors available to the given service. */
+  public TypedStreamEnvironment withStateQueryService(StateQueryService stateQueryService) {
+    this.stateQueryService = stateQueryService;
+    return this;
+  }
+
+  public StateQueryService getStateQueryService() {
+    return stateQueryService;
+  }
+
   public TypedEventStreamProcessorBuilder newStreamProcessor() {
     return new TypedEventStreamProcessorBuilder(this);
   }
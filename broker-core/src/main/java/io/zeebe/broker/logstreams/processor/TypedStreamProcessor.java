@@ -26,8 +26,10 @@ import io.zeebe.logstreams.processor.StreamProcessor;
 import io.zeebe.logstreams.processor.StreamProcessorContext;
 import io.zeebe.logstreams.spi.SnapshotSupport;
 import io.zeebe.msgpack.UnpackedObject;
+import io.zeebe.protocol.clientapi.RecordType;
 import io.zeebe.protocol.clientapi.ValueType;
 import io.zeebe.protocol.impl.RecordMetadata;
+import io.zeebe.protocol.intent.Intent;
 import io.zeebe.transport.ServerOutput;
 import io.zeebe.util.ReflectUtil;
 import io.zeebe.util.sched.ActorControl;
@@ -45,6 +47,8 @@ public class TypedStreamProcessor implements StreamProcessor {
   protected final List<StreamProcessorLifecycleAware> lifecycleListeners = new ArrayList<>();
 
   protected final RecordMetadata metadata = new RecordMetadata();
+  // position of the event which is decoded in metadata
+  protected long metadataPosition = -1L;
   protected final EnumMap<ValueType, Class<? extends UnpackedObject>> eventRegistry;
   protected final EnumMap<ValueType, UnpackedObject> eventCache;
 
@@ -84,6 +88,7 @@ public class TypedStreamProcessor implements StreamProcessor {
 
     this.actor = context.getActorControl();
     this.streamProcessorContext = context;
+    this.metadataPosition = -1L;
     lifecycleListeners.forEach(e -> e.onOpen(this));
   }
 
@@ -97,6 +102,11 @@ public class TypedStreamProcessor implements StreamProcessor {
     lifecycleListeners.forEach(e -> e.onClose());
   }
 
+  @Override
+  public void onFailure() {
+    lifecycleListeners.forEach(e -> e.onFailure());
+  }
+
   @Override
   public SnapshotSupport getStateResource() {
     return snapshotSupport;
@@ -104,8 +114,7 @@ public class TypedStreamProcessor implements StreamProcessor {
 
   @Override
   public EventProcessor onEvent(LoggedEvent event) {
-    metadata.reset();
-    event.readMetadata(metadata);
+    readMetadata(event);
 
     final TypedRecordProcessor currentProcessor =
         recordProcessors.get(
@@ -124,11 +133,44 @@ public class TypedStreamProcessor implements StreamProcessor {
     }
   }
 
+  /**
+   * Decodes the metadata of the given event, or returns the metadata which is already decoded for
+   * the event. It allows to share the decoded metadata between the event filter and the processor.
+   */
+  public RecordMetadata readMetadata(LoggedEvent event) {
+    final long position = event.getPosition();
+
+    if (position != metadataPosition) {
+      metadata.reset();
+      event.readMetadata(metadata);
+      metadataPosition = position;
+    }
+
+    return metadata;
+  }
+
   public MetadataFilter buildTypeFilter() {
     return m ->
         recordProcessors.containsKey(m.getRecordType(), m.getValueType(), m.getIntent().value());
   }
 
+  /** @return the summary bits of all records which are handled by this processor */
+  public long buildBlockFilter() {
+    final int intentCardinality = Intent.maxCardinality();
+
+    long blockFilter = 0;
+    for (RecordType recordType : RecordType.values()) {
+      for (ValueType valueType : ValueType.values()) {
+        for (int intent = 0; intent < intentCardinality; intent++) {
+          if (recordProcessors.containsKey(recordType, valueType, intent)) {
+            blockFilter |= RecordBlockSummarizer.summarize(valueType, intent);
+          }
+        }
+      }
+    }
+    return blockFilter;
+  }
+
   public ActorFuture<Void> runAsync(Runnable runnable) {
     return actor.call(runnable);
   }
@@ -21,5 +21,9 @@ import io.zeebe.msgpack.UnpackedObject;
 import io.zeebe.util.CloseableSilently;
 
 public interface TypedStreamReader extends CloseableSilently {
+  /**
+   * Reads the record at the given position. If it is a workflow instance event which refers to the
+   * payload of another record, then the payload is resolved.
+   */
   <T extends UnpackedObject> TypedRecord<T> readValue(long position, Class<T> eventClass);
 }
@@ -17,11 +17,14 @@
  */
 package io.zeebe.broker.logstreams.processor;
 
+import io.zeebe.broker.workflow.data.WorkflowInstancePayloadResolver;
+import io.zeebe.broker.workflow.data.WorkflowInstanceRecord;
 import io.zeebe.logstreams.log.BufferedLogStreamReader;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.log.LogStreamReader;
 import io.zeebe.logstreams.log.LoggedEvent;
 import io.zeebe.msgpack.UnpackedObject;
+import io.zeebe.protocol.clientapi.RecordType;
 import io.zeebe.protocol.clientapi.ValueType;
 import io.zeebe.protocol.impl.RecordMetadata;
 import io.zeebe.util.ReflectUtil;
@@ -30,13 +33,18 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class TypedStreamReaderImpl implements TypedStreamReader {
+  protected final LogStream stream;
   protected final LogStreamReader reader;
   protected final TypedEventImpl event = new TypedEventImpl();
   protected final RecordMetadata metadata = new RecordMetadata();
   protected final Map<Class<? extends UnpackedObject>, UnpackedObject> eventCache;
 
+  // created on first use, since most readers never read a workflow instance record
+  protected WorkflowInstancePayloadResolver payloadResolver;
+
   public TypedStreamReaderImpl(
       LogStream stream, EnumMap<ValueType, Class<? extends UnpackedObject>> eventRegistry) {
+    this.stream = stream;
     this.reader = new BufferedLogStreamReader(stream);
     this.eventCache = new HashMap<>();
     eventRegistry.forEach((t, c) -> eventCache.put(c, ReflectUtil.newInstance(c)));
@@ -58,13 +66,30 @@ public class TypedStreamReaderImpl implements TypedStreamReader {
     value.reset();
     rawEvent.readValue(value);
 
+    if (value instanceof WorkflowInstanceRecord && metadata.getRecordType() == RecordType.EVENT) {
+      resolvePayload((WorkflowInstanceRecord) value);
+    }
+
     event.wrap(rawEvent, metadata, value);
 
     return event;
   }
 
+  private void resolvePayload(WorkflowInstanceRecord value) {
+    if (value.hasPayloadReference()) {
+      if (payloadResolver == null) {
+        payloadResolver = new WorkflowInstancePayloadResolver(stream);
+      }
+      payloadResolver.resolvePayload(value);
+    }
+  }
+
   @Override
   public void close() {
     reader.close();
+
+    if (payloadResolver != null) {
+      payloadResolver.close();
+    }
   }
 }
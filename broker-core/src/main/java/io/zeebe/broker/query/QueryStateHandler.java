@@ -0,0 +1,107 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.query;
+
+import static io.zeebe.util.buffer.BufferUtil.cloneBuffer;
+
+import io.zeebe.broker.transport.controlmessage.AbstractControlMessageHandler;
+import io.zeebe.protocol.clientapi.ControlMessageType;
+import io.zeebe.protocol.clientapi.ErrorCode;
+import io.zeebe.protocol.impl.RecordMetadata;
+import io.zeebe.transport.ServerOutput;
+import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.future.ActorFuture;
+import org.agrona.DirectBuffer;
+
+public class QueryStateHandler extends AbstractControlMessageHandler {
+  private final StateQueryService queryService;
+
+  public QueryStateHandler(final ServerOutput output, final StateQueryService queryService) {
+    super(output);
+    this.queryService = queryService;
+  }
+
+  @Override
+  public ControlMessageType getMessageType() {
+    return ControlMessageType.QUERY_STATE;
+  }
+
+  @Override
+  public void handle(
+      final ActorControl actor,
+      final int partitionId,
+      final DirectBuffer buffer,
+      final RecordMetadata metadata) {
+    final int requestStreamId = metadata.getRequestStreamId();
+    final long requestId = metadata.getRequestId();
+
+    final StateQueryRequest request = new StateQueryRequest();
+    try {
+      request.wrap(cloneBuffer(buffer));
+    } catch (Exception e) {
+      sendErrorResponse(
+          actor,
+          requestStreamId,
+          requestId,
+          ErrorCode.INVALID_MESSAGE,
+          "Cannot read state query. %s",
+          e.getMessage());
+      return;
+    }
+
+    final int limit = request.getLimit();
+    if (limit < 1 || limit > StateQueryRequest.MAX_LIMIT) {
+      sendErrorResponse(
+          actor,
+          requestStreamId,
+          requestId,
+          ErrorCode.INVALID_MESSAGE,
+          "Limit must be between 1 and %d but was %d",
+          StateQueryRequest.MAX_LIMIT,
+          limit);
+      return;
+    }
+
+    final ActorFuture<StateQueryResponse> future = queryService.query(partitionId, request);
+    if (future == null) {
+      sendErrorResponse(
+          actor,
+          requestStreamId,
+          requestId,
+          ErrorCode.PARTITION_NOT_FOUND,
+          "Cannot query state of partition %d. The partition is not led by this broker.",
+          partitionId);
+      return;
+    }
+
+    actor.runOnCompletion(
+        future,
+        (response, throwable) -> {
+          if (throwable == null) {
+            sendResponse(actor, requestStreamId, requestId, response);
+          } else {
+            sendErrorResponse(
+                actor,
+                requestStreamId,
+                requestId,
+                "Cannot query state. %s",
+                throwable.getMessage());
+          }
+        });
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.query;
+
+import io.zeebe.map.Long2BytesZbMap;
+import org.agrona.DirectBuffer;
+
+/** State of a stream processor which can be read by {@link StateQueryRequest}s. */
+public interface QueryableState {
+
+  Long2BytesZbMap getMap();
+
+  /**
+   * Adds the entry of the map to the response.
+   *
+   * @param key the key of the entry
+   * @param value the value of the entry, only valid during the call
+   */
+  void addQueryEntry(long key, DirectBuffer value, StateQueryResponse response);
+}
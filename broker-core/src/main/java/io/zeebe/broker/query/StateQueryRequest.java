@@ -0,0 +1,85 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.query;
+
+import io.zeebe.msgpack.UnpackedObject;
+import io.zeebe.msgpack.property.EnumProperty;
+import io.zeebe.msgpack.property.IntegerProperty;
+import io.zeebe.msgpack.property.LongProperty;
+
+/**
+ * Looks up the entry with the given key or, if no key is set, scans the entries in the order of
+ * their keys, starting at <code>fromKey</code>.
+ */
+public class StateQueryRequest extends UnpackedObject {
+  public static final int DEFAULT_LIMIT = 100;
+  public static final int MAX_LIMIT = 1000;
+
+  private final EnumProperty<StateType> stateTypeProp =
+      new EnumProperty<>("stateType", StateType.class);
+  private final LongProperty keyProp = new LongProperty("key", -1L);
+  private final LongProperty fromKeyProp = new LongProperty("fromKey", 0L);
+  private final IntegerProperty limitProp = new IntegerProperty("limit", DEFAULT_LIMIT);
+
+  public StateQueryRequest() {
+    this.declareProperty(stateTypeProp)
+        .declareProperty(keyProp)
+        .declareProperty(fromKeyProp)
+        .declareProperty(limitProp);
+  }
+
+  public StateType getStateType() {
+    return stateTypeProp.getValue();
+  }
+
+  public StateQueryRequest setStateType(StateType stateType) {
+    this.stateTypeProp.setValue(stateType);
+    return this;
+  }
+
+  public boolean isLookup() {
+    return getKey() >= 0;
+  }
+
+  public long getKey() {
+    return keyProp.getValue();
+  }
+
+  public StateQueryRequest setKey(long key) {
+    this.keyProp.setValue(key);
+    return this;
+  }
+
+  public long getFromKey() {
+    return fromKeyProp.getValue();
+  }
+
+  public StateQueryRequest setFromKey(long fromKey) {
+    this.fromKeyProp.setValue(fromKey);
+    return this;
+  }
+
+  public int getLimit() {
+    return limitProp.getValue();
+  }
+
+  public StateQueryRequest setLimit(int limit) {
+    this.limitProp.setValue(limit);
+    return this;
+  }
+}
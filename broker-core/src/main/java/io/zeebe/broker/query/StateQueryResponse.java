@@ -0,0 +1,149 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.query;
+
+import io.zeebe.msgpack.UnpackedObject;
+import io.zeebe.msgpack.property.ArrayProperty;
+import io.zeebe.msgpack.property.IntegerProperty;
+import io.zeebe.msgpack.property.LongProperty;
+import io.zeebe.msgpack.property.StringProperty;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Contains the found entries in the list of the queried state type. The other lists are empty. If
+ * a scan is limited, <code>nextKey</code> is the key to continue the scan with, otherwise it is
+ * <code>-1</code>.
+ */
+public class StateQueryResponse extends UnpackedObject {
+  private final LongProperty nextKeyProp = new LongProperty("nextKey", -1L);
+
+  private final ArrayProperty<WorkflowInstanceEntry> workflowInstancesProp =
+      new ArrayProperty<>("workflowInstances", new WorkflowInstanceEntry());
+  private final ArrayProperty<ActivityInstanceEntry> activityInstancesProp =
+      new ArrayProperty<>("activityInstances", new ActivityInstanceEntry());
+  private final ArrayProperty<JobEntry> jobsProp = new ArrayProperty<>("jobs", new JobEntry());
+  private final ArrayProperty<IncidentEntry> incidentsProp =
+      new ArrayProperty<>("incidents", new IncidentEntry());
+
+  // copy of the activity id since arrayproperty#add copies the value not before the next add()
+  private final MutableDirectBuffer activityIdBuffer = new ExpandableArrayBuffer(256);
+
+  public StateQueryResponse() {
+    this.declareProperty(nextKeyProp)
+        .declareProperty(workflowInstancesProp)
+        .declareProperty(activityInstancesProp)
+        .declareProperty(jobsProp)
+        .declareProperty(incidentsProp);
+  }
+
+  public long getNextKey() {
+    return nextKeyProp.getValue();
+  }
+
+  public StateQueryResponse setNextKey(long nextKey) {
+    this.nextKeyProp.setValue(nextKey);
+    return this;
+  }
+
+  public void addWorkflowInstance(
+      long key, long workflowKey, long position, int activeTokenCount, long activityInstanceKey) {
+    final WorkflowInstanceEntry entry = workflowInstancesProp.add();
+    entry.keyProp.setValue(key);
+    entry.workflowKeyProp.setValue(workflowKey);
+    entry.positionProp.setValue(position);
+    entry.activeTokenCountProp.setValue(activeTokenCount);
+    entry.activityInstanceKeyProp.setValue(activityInstanceKey);
+  }
+
+  public void addActivityInstance(long key, DirectBuffer activityId, long jobKey) {
+    final ActivityInstanceEntry entry = activityInstancesProp.add();
+
+    activityIdBuffer.putBytes(0, activityId, 0, activityId.capacity());
+
+    entry.keyProp.setValue(key);
+    entry.activityIdProp.setValue(activityIdBuffer, 0, activityId.capacity());
+    entry.jobKeyProp.setValue(jobKey);
+  }
+
+  public void addJob(long key, String state) {
+    final JobEntry entry = jobsProp.add();
+    entry.keyProp.setValue(key);
+    entry.stateProp.setValue(state);
+  }
+
+  public void addIncident(
+      long key, String state, long incidentEventPosition, long failureEventPosition) {
+    final IncidentEntry entry = incidentsProp.add();
+    entry.keyProp.setValue(key);
+    entry.stateProp.setValue(state);
+    entry.incidentEventPositionProp.setValue(incidentEventPosition);
+    entry.failureEventPositionProp.setValue(failureEventPosition);
+  }
+
+  protected static class WorkflowInstanceEntry extends UnpackedObject {
+    private final LongProperty keyProp = new LongProperty("key");
+    private final LongProperty workflowKeyProp = new LongProperty("workflowKey");
+    private final LongProperty positionProp = new LongProperty("position");
+    private final IntegerProperty activeTokenCountProp = new IntegerProperty("activeTokenCount");
+    private final LongProperty activityInstanceKeyProp = new LongProperty("activityInstanceKey");
+
+    public WorkflowInstanceEntry() {
+      this.declareProperty(keyProp)
+          .declareProperty(workflowKeyProp)
+          .declareProperty(positionProp)
+          .declareProperty(activeTokenCountProp)
+          .declareProperty(activityInstanceKeyProp);
+    }
+  }
+
+  protected static class ActivityInstanceEntry extends UnpackedObject {
+    private final LongProperty keyProp = new LongProperty("key");
+    private final StringProperty activityIdProp = new StringProperty("activityId");
+    private final LongProperty jobKeyProp = new LongProperty("jobKey");
+
+    public ActivityInstanceEntry() {
+      this.declareProperty(keyProp).declareProperty(activityIdProp).declareProperty(jobKeyProp);
+    }
+  }
+
+  protected static class JobEntry extends UnpackedObject {
+    private final LongProperty keyProp = new LongProperty("key");
+    private final StringProperty stateProp = new StringProperty("state");
+
+    public JobEntry() {
+      this.declareProperty(keyProp).declareProperty(stateProp);
+    }
+  }
+
+  protected static class IncidentEntry extends UnpackedObject {
+    private final LongProperty keyProp = new LongProperty("key");
+    private final StringProperty stateProp = new StringProperty("state");
+    private final LongProperty incidentEventPositionProp =
+        new LongProperty("incidentEventPosition");
+    private final LongProperty failureEventPositionProp = new LongProperty("failureEventPosition");
+
+    public IncidentEntry() {
+      this.declareProperty(keyProp)
+          .declareProperty(stateProp)
+          .declareProperty(incidentEventPositionProp)
+          .declareProperty(failureEventPositionProp);
+    }
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.query;
+
+import io.zeebe.servicecontainer.Service;
+import io.zeebe.servicecontainer.ServiceStartContext;
+import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Knows the queryable state of the stream processors on the leader partitions of this broker. A
+ * query is executed on the actor of the stream processor which owns the state, i.e. between the
+ * processing of two records. So it sees a consistent state without locking and without copying
+ * it.
+ *
+ * <p>A scan visits every entry of the state. In order to not block the processing, it is split into
+ * steps of {@link StateScan#ENTRIES_PER_STEP} entries. Each step is submitted to the end of the
+ * actor's queue, so that records are processed between the steps.
+ */
+public class StateQueryService implements Service<StateQueryService> {
+  private static final String STATE_CLOSED_MESSAGE = "State is closed";
+
+  private final Map<Long, RegisteredState> states = new ConcurrentHashMap<>();
+
+  @Override
+  public void start(ServiceStartContext startContext) {}
+
+  @Override
+  public StateQueryService get() {
+    return this;
+  }
+
+  /** Must be called from the given actor, after the stream processor has recovered its state. */
+  public void register(
+      int partitionId, StateType stateType, ActorControl actor, QueryableState state) {
+    states.put(key(partitionId, stateType), new RegisteredState(actor, state));
+  }
+
+  /**
+   * Must be called from the actor of the state, before the state or the actor is closed. Fails the
+   * scans which are in progress, since their next steps are discarded when the actor closes.
+   */
+  public void unregister(int partitionId, StateType stateType, QueryableState state) {
+    final long key = key(partitionId, stateType);
+
+    final RegisteredState registered = states.get(key);
+    if (registered != null && registered.state == state) {
+      states.remove(key, registered);
+
+      registered.scans.forEach(scan -> scan.fail(new IllegalStateException(STATE_CLOSED_MESSAGE)));
+    }
+  }
+
+  /**
+   * @return the future of the response, or <code>null</code> if the state of the partition is not
+   *     available on this broker, e.g. because it is not the leader of the partition
+   */
+  public ActorFuture<StateQueryResponse> query(int partitionId, StateQueryRequest request) {
+    final long key = key(partitionId, request.getStateType());
+
+    final RegisteredState registered = states.get(key);
+    if (registered == null) {
+      return null;
+    }
+
+    if (request.isLookup()) {
+      return registered.actor.call(
+          () -> {
+            ensureRegistered(key, registered);
+
+            final StateQueryResponse response = new StateQueryResponse();
+            StateQuery.lookup(registered.state, request.getKey(), response);
+            return response;
+          });
+    } else {
+      final ScanJob scanJob = new ScanJob(key, registered, request);
+      registered.scans.add(scanJob);
+
+      if (states.get(key) == registered) {
+        registered.actor.run(scanJob);
+      } else {
+        scanJob.fail(new IllegalStateException(STATE_CLOSED_MESSAGE));
+      }
+      return scanJob.future;
+    }
+  }
+
+  private void ensureRegistered(long key, RegisteredState registered) {
+    if (states.get(key) != registered) {
+      throw new IllegalStateException(STATE_CLOSED_MESSAGE);
+    }
+  }
+
+  private static long key(int partitionId, StateType stateType) {
+    return ((long) partitionId << 32) | stateType.ordinal();
+  }
+
+  private final class ScanJob implements Runnable {
+    private final CompletableActorFuture<StateQueryResponse> future =
+        new CompletableActorFuture<>();
+
+    private final long key;
+    private final RegisteredState registered;
+    private final StateQueryRequest request;
+
+    private StateScan scan;
+
+    ScanJob(long key, RegisteredState registered, StateQueryRequest request) {
+      this.key = key;
+      this.registered = registered;
+      this.request = request;
+    }
+
+    @Override
+    public void run() {
+      if (!registered.scans.contains(this)) {
+        // failed when the state was unregistered
+        return;
+      }
+
+      try {
+        ensureRegistered(key, registered);
+
+        if (scan == null) {
+          scan = new StateScan(registered.state, request.getFromKey(), request.getLimit());
+        }
+
+        if (scan.scanNext()) {
+          final StateQueryResponse response = new StateQueryResponse();
+          scan.writeResponse(response);
+
+          if (registered.scans.remove(this)) {
+            future.complete(response);
+          }
+        } else {
+          registered.actor.submit(this);
+        }
+      } catch (Exception e) {
+        fail(e);
+      }
+    }
+
+    void fail(Exception e) {
+      if (registered.scans.remove(this)) {
+        future.completeExceptionally(e);
+      }
+    }
+  }
+
+  private static final class RegisteredState {
+    private final ActorControl actor;
+    private final QueryableState state;
+
+    // the scans in progress; the one who removes a scan completes its future
+    private final Set<ScanJob> scans = ConcurrentHashMap.newKeySet();
+
+    RegisteredState(ActorControl actor, QueryableState state) {
+      this.actor = actor;
+      this.state = state;
+    }
+  }
+}
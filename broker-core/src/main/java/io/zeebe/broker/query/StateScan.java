@@ -0,0 +1,187 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.query;
+
+import io.zeebe.map.ZbMapIterator;
+import io.zeebe.map.iterator.Long2BytesZbMapEntry;
+import io.zeebe.map.types.ByteArrayValueHandler;
+import io.zeebe.map.types.LongKeyHandler;
+import java.util.Arrays;
+
+/**
+ * Finds the entries of a state with the smallest keys, starting from a given key. Since the entries
+ * are not ordered by key, the scan has to visit every entry of the state. Each call of {@link
+ * #scanNext()} visits a limited number of entries, so that the scan can be spread over multiple
+ * jobs of the actor which owns the state. The state may be modified between the calls.
+ */
+public class StateScan {
+  public static final int ENTRIES_PER_STEP = 1_000;
+
+  /**
+   * Number of times the scan starts again with the first entry because the entries of the state
+   * were rearranged, before it visits the remaining entries in one step to guarantee progress.
+   */
+  public static final int MAX_RESTARTS = 3;
+
+  private final QueryableState state;
+  private final long fromKey;
+  private final int limit;
+  private final int entriesPerStep;
+
+  private final ZbMapIterator<LongKeyHandler, ByteArrayValueHandler, Long2BytesZbMapEntry>
+      iterator;
+
+  // max heap of the smallest keys
+  private final long[] keys;
+  private int keyCount;
+  private boolean hasMoreKeys;
+
+  private boolean isResumed;
+  private int restarts;
+
+  /** Must be called from the actor of the state. */
+  public StateScan(QueryableState state, long fromKey, int limit) {
+    this(state, fromKey, limit, ENTRIES_PER_STEP);
+  }
+
+  /** Must be called from the actor of the state. */
+  public StateScan(QueryableState state, long fromKey, int limit, int entriesPerStep) {
+    this.state = state;
+    this.fromKey = fromKey;
+    this.limit = limit;
+    this.entriesPerStep = entriesPerStep;
+    this.keys = new long[limit];
+    this.iterator = new ZbMapIterator<>(state.getMap(), new Long2BytesZbMapEntry());
+  }
+
+  /**
+   * Visits the next entries of the state. Entries which are added or removed while the scan is in
+   * progress may or may not be found. Must be called from the actor of the state.
+   *
+   * @return <code>true</code>, if all entries are visited
+   */
+  public boolean scanNext() {
+    int maxEntries = entriesPerStep;
+
+    if (isResumed) {
+      if (!iterator.resume()) {
+        restarts += 1;
+      }
+
+      if (restarts > MAX_RESTARTS) {
+        maxEntries = Integer.MAX_VALUE;
+      }
+    }
+
+    for (int i = 0; i < maxEntries && iterator.hasNext(); i++) {
+      addKey(iterator.next().getKey());
+    }
+    isResumed = true;
+
+    return !iterator.hasNext();
+  }
+
+  /**
+   * Adds the found entries to the response. Must be called from the actor of the state, after
+   * {@link #scanNext()} returned <code>true</code>.
+   */
+  public void writeResponse(StateQueryResponse response) {
+    Arrays.sort(keys, 0, keyCount);
+
+    for (int i = 0; i < keyCount; i++) {
+      StateQuery.lookup(state, keys[i], response);
+    }
+
+    if (hasMoreKeys) {
+      response.setNextKey(keys[keyCount - 1] + 1);
+    }
+  }
+
+  private void addKey(long key) {
+    if (key < fromKey) {
+      return;
+    }
+
+    if (keyCount == limit && key > keys[0]) {
+      hasMoreKeys = true;
+      return;
+    }
+
+    if (isResumed && containsKey(key)) {
+      // a resumed iteration can return an entry again
+      return;
+    }
+
+    if (keyCount < limit) {
+      keys[keyCount] = key;
+      siftUp(keys, keyCount);
+      keyCount += 1;
+    } else {
+      hasMoreKeys = true;
+
+      keys[0] = key;
+      siftDown(keys, keyCount);
+    }
+  }
+
+  private boolean containsKey(long key) {
+    for (int i = 0; i < keyCount; i++) {
+      if (keys[i] == key) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void siftUp(long[] heap, int index) {
+    final long key = heap[index];
+
+    while (index > 0) {
+      final int parent = (index - 1) >> 1;
+      if (heap[parent] >= key) {
+        break;
+      }
+      heap[index] = heap[parent];
+      index = parent;
+    }
+
+    heap[index] = key;
+  }
+
+  private static void siftDown(long[] heap, int size) {
+    final long key = heap[0];
+    int index = 0;
+
+    while (true) {
+      int child = 2 * index + 1;
+      if (child >= size) {
+        break;
+      }
+      if (child + 1 < size && heap[child + 1] > heap[child]) {
+        child += 1;
+      }
+      if (heap[child] <= key) {
+        break;
+      }
+      heap[index] = heap[child];
+      index = child;
+    }
+
+    heap[index] = key;
+  }
+}
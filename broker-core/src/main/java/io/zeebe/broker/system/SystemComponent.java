@@ -22,6 +22,7 @@ import static io.zeebe.broker.logstreams.LogStreamServiceNames.STREAM_PROCESSOR_
 import static io.zeebe.broker.system.SystemServiceNames.*;
 import static io.zeebe.broker.transport.TransportServiceNames.*;
 
+import io.zeebe.broker.query.StateQueryService;
 import io.zeebe.broker.system.metrics.MetricsFileWriterService;
 import io.zeebe.broker.system.workflow.repository.api.management.DeploymentManagerRequestHandler;
 import io.zeebe.broker.system.workflow.repository.service.DeploymentManager;
@@ -37,6 +38,8 @@ public class SystemComponent implements Component {
         new MetricsFileWriterService(context.getBrokerConfiguration().getMetrics());
     serviceContainer.createService(METRICS_FILE_WRITER, metricsFileWriterService).install();
 
+    serviceContainer.createService(STATE_QUERY_SERVICE, new StateQueryService()).install();
+
     final DeploymentManagerRequestHandler requestHandlerService =
         new DeploymentManagerRequestHandler();
     serviceContainer
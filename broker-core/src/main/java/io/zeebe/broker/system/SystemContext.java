@@ -115,14 +115,22 @@ public class SystemContext implements AutoCloseable {
     final int cpuThreads = cfg.getCpuThreadCount();
     final int ioThreads = cfg.getIoThreadCount();
 
+    // each data directory is treated as a separate I/O device
+    final int[] ioDeviceConcurrency = new int[brokerCfg.getData().getDirectories().length];
+    Arrays.fill(ioDeviceConcurrency, cfg.getIoDeviceConcurrency());
+
     Loggers.SYSTEM_LOGGER.info(
-        "Scheduler configuration: Threads{cpu-bound: {}, io-bound: {}}.", cpuThreads, ioThreads);
+        "Scheduler configuration: Threads{cpu-bound: {}, io-bound: {}, io-devices: {}}.",
+        cpuThreads,
+        ioThreads,
+        ioDeviceConcurrency.length);
 
     return ActorScheduler.newActorScheduler()
         .setActorClock(clock)
         .setMetricsManager(metricsManager)
         .setCpuBoundActorThreadCount(cpuThreads)
         .setIoBoundActorThreadCount(ioThreads)
+        .setIoDeviceConcurrency(ioDeviceConcurrency)
         .setSchedulerName(brokerId)
         .build();
   }
@@ -17,6 +17,7 @@
  */
 package io.zeebe.broker.system;
 
+import io.zeebe.broker.query.StateQueryService;
 import io.zeebe.broker.system.metrics.MetricsFileWriter;
 import io.zeebe.broker.system.workflow.repository.api.management.DeploymentManagerRequestHandler;
 import io.zeebe.broker.system.workflow.repository.service.*;
@@ -26,6 +27,9 @@ public class SystemServiceNames {
   public static final ServiceName<MetricsFileWriter> METRICS_FILE_WRITER =
       ServiceName.newServiceName("broker.metricsFileWriter", MetricsFileWriter.class);
 
+  public static final ServiceName<StateQueryService> STATE_QUERY_SERVICE =
+      ServiceName.newServiceName("broker.stateQueryService", StateQueryService.class);
+
   public static final ServiceName<DeploymentManager> DEPLOYMENT_MANAGER_SERVICE =
       ServiceName.newServiceName("broker.system.deployment.manager", DeploymentManager.class);
 
@@ -30,6 +30,7 @@ public class BrokerCfg {
   private ThreadsCfg threads = new ThreadsCfg();
   private MetricsCfg metrics = new MetricsCfg();
   private DataCfg data = new DataCfg();
+  private JobsCfg jobs = new JobsCfg();
   private GossipConfiguration gossip = new GossipConfiguration();
   private RaftConfiguration raft = new RaftConfiguration();
   private List<TopicCfg> topics = new ArrayList<>();
@@ -40,6 +41,7 @@ public class BrokerCfg {
     threads.init(this, brokerBase);
     metrics.init(this, brokerBase);
     data.init(this, brokerBase);
+    jobs.init(this, brokerBase);
   }
 
   public int getBootstrap() {
@@ -90,6 +92,14 @@ public class BrokerCfg {
     this.data = logs;
   }
 
+  public JobsCfg getJobs() {
+    return jobs;
+  }
+
+  public void setJobs(JobsCfg jobs) {
+    this.jobs = jobs;
+  }
+
   public GossipConfiguration getGossip() {
     return gossip;
   }
@@ -26,6 +26,16 @@ public class DataCfg implements ConfigurationEntry {
 
   private String snapshotReplicationPeriod = "5m";
 
+  private int snapshotReplicationFetchWindow = 4;
+
+  private String logFlushPolicy = "os";
+
+  private String logFlushInterval = "10ms";
+
+  private String logFlushBytes = "4M";
+
+  private int partitionRecoveryConcurrency = 0;
+
   @Override
   public void init(BrokerCfg globalConfig, String brokerBase) {
     for (int i = 0; i < directories.length; i++) {
@@ -64,4 +74,44 @@ public class DataCfg implements ConfigurationEntry {
   public void setSnapshotReplicationPeriod(String snapshotReplicationPeriod) {
     this.snapshotReplicationPeriod = snapshotReplicationPeriod;
   }
+
+  public int getSnapshotReplicationFetchWindow() {
+    return snapshotReplicationFetchWindow;
+  }
+
+  public void setSnapshotReplicationFetchWindow(int snapshotReplicationFetchWindow) {
+    this.snapshotReplicationFetchWindow = snapshotReplicationFetchWindow;
+  }
+
+  public String getLogFlushPolicy() {
+    return logFlushPolicy;
+  }
+
+  public void setLogFlushPolicy(String logFlushPolicy) {
+    this.logFlushPolicy = logFlushPolicy;
+  }
+
+  public String getLogFlushInterval() {
+    return logFlushInterval;
+  }
+
+  public void setLogFlushInterval(String logFlushInterval) {
+    this.logFlushInterval = logFlushInterval;
+  }
+
+  public String getLogFlushBytes() {
+    return logFlushBytes;
+  }
+
+  public void setLogFlushBytes(String logFlushBytes) {
+    this.logFlushBytes = logFlushBytes;
+  }
+
+  public int getPartitionRecoveryConcurrency() {
+    return partitionRecoveryConcurrency;
+  }
+
+  public void setPartitionRecoveryConcurrency(int partitionRecoveryConcurrency) {
+    this.partitionRecoveryConcurrency = partitionRecoveryConcurrency;
+  }
 }
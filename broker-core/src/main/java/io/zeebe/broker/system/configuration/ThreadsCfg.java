@@ -20,6 +20,7 @@ package io.zeebe.broker.system.configuration;
 public class ThreadsCfg implements ConfigurationEntry {
   private int cpuThreadCount = 2;
   private int ioThreadCount = 2;
+  private int ioDeviceConcurrency = 2;
 
   public int getCpuThreadCount() {
     return cpuThreadCount;
@@ -36,4 +37,12 @@ public class ThreadsCfg implements ConfigurationEntry {
   public void setIoThreadCount(int ioThreads) {
     this.ioThreadCount = ioThreads;
   }
+
+  public int getIoDeviceConcurrency() {
+    return ioDeviceConcurrency;
+  }
+
+  public void setIoDeviceConcurrency(int ioDeviceConcurrency) {
+    this.ioDeviceConcurrency = ioDeviceConcurrency;
+  }
 }
@@ -22,6 +22,11 @@ public class TopicCfg {
   private int partitions = 0;
   private int replicationFactor = 0;
 
+  // overrides the log flush settings of the data configuration if set
+  private String logFlushPolicy;
+  private String logFlushInterval;
+  private String logFlushBytes;
+
   public String getName() {
     return name;
   }
@@ -46,6 +51,30 @@ public class TopicCfg {
     this.replicationFactor = replicationFactor;
   }
 
+  public String getLogFlushPolicy() {
+    return logFlushPolicy;
+  }
+
+  public void setLogFlushPolicy(String logFlushPolicy) {
+    this.logFlushPolicy = logFlushPolicy;
+  }
+
+  public String getLogFlushInterval() {
+    return logFlushInterval;
+  }
+
+  public void setLogFlushInterval(String logFlushInterval) {
+    this.logFlushInterval = logFlushInterval;
+  }
+
+  public String getLogFlushBytes() {
+    return logFlushBytes;
+  }
+
+  public void setLogFlushBytes(String logFlushBytes) {
+    this.logFlushBytes = logFlushBytes;
+  }
+
   @Override
   public String toString() {
     return "TopicCfg{"
@@ -56,6 +85,8 @@ public class TopicCfg {
         + partitions
         + ", replicationFactor="
         + replicationFactor
+        + ", logFlushPolicy="
+        + logFlushPolicy
         + '}';
   }
 }
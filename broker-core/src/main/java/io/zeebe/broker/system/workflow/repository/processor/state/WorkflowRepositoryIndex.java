@@ -17,13 +17,13 @@
  */
 package io.zeebe.broker.system.workflow.repository.processor.state;
 
-import io.zeebe.broker.logstreams.processor.JsonSnapshotSupport;
+import io.zeebe.broker.logstreams.processor.MsgPackSnapshotSupport;
 import io.zeebe.broker.system.workflow.repository.processor.state.WorkflowRepositoryIndex.WorkflowRepositoryIndexData;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.stream.Collectors;
 
-public class WorkflowRepositoryIndex extends JsonSnapshotSupport<WorkflowRepositoryIndexData> {
+public class WorkflowRepositoryIndex extends MsgPackSnapshotSupport<WorkflowRepositoryIndexData> {
   public WorkflowRepositoryIndex() {
     super(WorkflowRepositoryIndexData.class);
   }
@@ -22,7 +22,7 @@ import io.zeebe.dispatcher.Dispatcher;
 import io.zeebe.servicecontainer.*;
 import io.zeebe.transport.BufferingServerTransport;
 import io.zeebe.transport.Transports;
-import io.zeebe.transport.impl.memory.NonBlockingMemoryPool;
+import io.zeebe.transport.impl.memory.SlabMemoryPool;
 import io.zeebe.util.ByteValue;
 import io.zeebe.util.sched.ActorScheduler;
 import java.net.InetSocketAddress;
@@ -37,6 +37,8 @@ public class BufferingServerTransportService implements Service<BufferingServerT
   protected final InetSocketAddress bindAddress;
   private final ByteValue sendBufferSize;
 
+  private SlabMemoryPool messageMemoryPool;
+
   protected BufferingServerTransport serverTransport;
 
   public BufferingServerTransportService(
@@ -51,11 +53,14 @@ public class BufferingServerTransportService implements Service<BufferingServerT
     final ActorScheduler scheduler = serviceContext.getScheduler();
     final Dispatcher receiveBuffer = receiveBufferInjector.getValue();
 
+    messageMemoryPool =
+        new SlabMemoryPool(sendBufferSize, scheduler.getMetricsManager(), readableName);
+
     serverTransport =
         Transports.newServerTransport()
             .name(readableName)
             .bindAddress(bindAddress)
-            .messageMemoryPool(new NonBlockingMemoryPool(sendBufferSize))
+            .messageMemoryPool(messageMemoryPool)
             .scheduler(scheduler)
             .buildBuffering(receiveBuffer);
 
@@ -64,7 +69,11 @@ public class BufferingServerTransportService implements Service<BufferingServerT
 
   @Override
   public void stop(ServiceStopContext serviceStopContext) {
-    serviceStopContext.async(serverTransport.closeAsync());
+    serviceStopContext.run(
+        () -> {
+          serverTransport.close();
+          messageMemoryPool.close();
+        });
   }
 
   @Override
@@ -19,10 +19,11 @@ package io.zeebe.broker.transport;
 
 import io.zeebe.servicecontainer.*;
 import io.zeebe.transport.*;
-import io.zeebe.transport.impl.memory.NonBlockingMemoryPool;
+import io.zeebe.transport.impl.memory.SlabMemoryPool;
 import io.zeebe.util.ByteValue;
 import io.zeebe.util.sched.ActorScheduler;
 import java.net.InetSocketAddress;
+import java.util.function.UnaryOperator;
 import org.slf4j.Logger;
 
 public class ServerTransportService implements Service<ServerTransport> {
@@ -34,14 +35,26 @@ public class ServerTransportService implements Service<ServerTransport> {
   protected final String readableName;
   protected final InetSocketAddress bindAddress;
   private final ByteValue sendBufferSize;
+  private final UnaryOperator<ServerOutput> outputDecorator;
+
+  private SlabMemoryPool messageMemoryPool;
 
   protected ServerTransport serverTransport;
 
   public ServerTransportService(
       String readableName, InetSocketAddress bindAddress, ByteValue sendBufferSize) {
+    this(readableName, bindAddress, sendBufferSize, UnaryOperator.identity());
+  }
+
+  public ServerTransportService(
+      String readableName,
+      InetSocketAddress bindAddress,
+      ByteValue sendBufferSize,
+      UnaryOperator<ServerOutput> outputDecorator) {
     this.readableName = readableName;
     this.bindAddress = bindAddress;
     this.sendBufferSize = sendBufferSize;
+    this.outputDecorator = outputDecorator;
   }
 
   @Override
@@ -50,12 +63,16 @@ public class ServerTransportService implements Service<ServerTransport> {
     final ServerRequestHandler requestHandler = requestHandlerInjector.getValue();
     final ServerMessageHandler messageHandler = messageHandlerInjector.getValue();
 
+    messageMemoryPool =
+        new SlabMemoryPool(sendBufferSize, scheduler.getMetricsManager(), readableName);
+
     serverTransport =
         Transports.newServerTransport()
             .name(readableName)
             .bindAddress(bindAddress)
             .scheduler(scheduler)
-            .messageMemoryPool(new NonBlockingMemoryPool(sendBufferSize))
+            .messageMemoryPool(messageMemoryPool)
+            .outputDecorator(outputDecorator)
             .build(messageHandler, requestHandler);
 
     LOG.info("Bound {} to {}", readableName, bindAddress);
@@ -63,7 +80,11 @@ public class ServerTransportService implements Service<ServerTransport> {
 
   @Override
   public void stop(ServiceStopContext serviceStopContext) {
-    serviceStopContext.async(serverTransport.closeAsync());
+    serviceStopContext.run(
+        () -> {
+          serverTransport.close();
+          messageMemoryPool.close();
+        });
   }
 
   @Override
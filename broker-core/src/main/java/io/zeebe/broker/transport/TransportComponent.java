@@ -30,6 +30,7 @@ import io.zeebe.broker.system.*;
 import io.zeebe.broker.system.configuration.NetworkCfg;
 import io.zeebe.broker.system.configuration.SocketBindingCfg;
 import io.zeebe.broker.transport.clientapi.ClientApiMessageHandlerService;
+import io.zeebe.broker.transport.clientapi.CommandBatchResponseCollector;
 import io.zeebe.broker.transport.controlmessage.ControlMessageHandlerManagerService;
 import io.zeebe.dispatcher.*;
 import io.zeebe.servicecontainer.ServiceContainer;
@@ -40,6 +41,7 @@ import io.zeebe.util.sched.future.ActorFuture;
 import java.net.InetSocketAddress;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.function.UnaryOperator;
 
 public class TransportComponent implements Component {
   @Override
@@ -82,7 +84,8 @@ public class TransportComponent implements Component {
             REPLICATION_API_SERVER_NAME,
             networkCfg.getReplication(),
             REPLICATION_API_MESSAGE_HANDLER,
-            REPLICATION_API_MESSAGE_HANDLER);
+            REPLICATION_API_MESSAGE_HANDLER,
+            UnaryOperator.identity());
 
     context.addRequiredStartAction(replactionApiFuture);
 
@@ -95,13 +98,18 @@ public class TransportComponent implements Component {
 
     context.addRequiredStartAction(managementApiFuture);
 
+    // responses to batched commands are collected before they are sent
+    final CommandBatchResponseCollector batchResponseCollector =
+        new CommandBatchResponseCollector();
+
     final ActorFuture<ServerTransport> clientApiFuture =
         bindNonBufferingProtocolEndpoint(
             serviceContainer,
             CLIENT_API_SERVER_NAME,
             networkCfg.getClient(),
             CLIENT_API_MESSAGE_HANDLER,
-            CLIENT_API_MESSAGE_HANDLER);
+            CLIENT_API_MESSAGE_HANDLER,
+            batchResponseCollector::decorate);
 
     context.addRequiredStartAction(clientApiFuture);
 
@@ -112,7 +120,7 @@ public class TransportComponent implements Component {
             new ByteValue(networkCfg.getClient().getControlMessageBufferSize()));
 
     final ClientApiMessageHandlerService messageHandlerService =
-        new ClientApiMessageHandlerService();
+        new ClientApiMessageHandlerService(batchResponseCollector);
     serviceContainer
         .createService(CLIENT_API_MESSAGE_HANDLER, messageHandlerService)
         .dependency(
@@ -154,6 +162,9 @@ public class TransportComponent implements Component {
         .dependency(
             ClusterBaseLayerServiceNames.TOPOLOGY_MANAGER_SERVICE,
             controlMessageHandlerManagerService.getTopologyManagerInjector())
+        .dependency(
+            SystemServiceNames.STATE_QUERY_SERVICE,
+            controlMessageHandlerManagerService.getStateQueryServiceInjector())
         .dependency(
             TransportServiceNames.clientTransport(MANAGEMENT_API_CLIENT_NAME),
             controlMessageHandlerManagerService.getManagementClientTransportInjector())
@@ -181,7 +192,8 @@ public class TransportComponent implements Component {
       String name,
       SocketBindingCfg socketBindingCfg,
       ServiceName<? extends ServerRequestHandler> requestHandlerService,
-      ServiceName<? extends ServerMessageHandler> messageHandlerService) {
+      ServiceName<? extends ServerMessageHandler> messageHandlerService,
+      UnaryOperator<ServerOutput> outputDecorator) {
 
     final SocketAddress bindAddr = socketBindingCfg.toSocketAddress();
 
@@ -191,7 +203,8 @@ public class TransportComponent implements Component {
         bindAddr.toInetSocketAddress(),
         new ByteValue(socketBindingCfg.getSendBufferSize()),
         requestHandlerService,
-        messageHandlerService);
+        messageHandlerService,
+        outputDecorator);
   }
 
   protected ActorFuture<ServerTransport> createServerTransport(
@@ -200,9 +213,10 @@ public class TransportComponent implements Component {
       InetSocketAddress bindAddress,
       ByteValue sendBufferSize,
       ServiceName<? extends ServerRequestHandler> requestHandlerDependency,
-      ServiceName<? extends ServerMessageHandler> messageHandlerDependency) {
+      ServiceName<? extends ServerMessageHandler> messageHandlerDependency,
+      UnaryOperator<ServerOutput> outputDecorator) {
     final ServerTransportService service =
-        new ServerTransportService(name, bindAddress, sendBufferSize);
+        new ServerTransportService(name, bindAddress, sendBufferSize, outputDecorator);
 
     return serviceContainer
         .createService(TransportServiceNames.serverTransport(name), service)
@@ -17,6 +17,8 @@
  */
 package io.zeebe.broker.transport.clientapi;
 
+import static io.zeebe.logstreams.impl.LogEntryDescriptor.headerLength;
+
 import io.zeebe.broker.clustering.base.partitions.Partition;
 import io.zeebe.broker.clustering.orchestration.topic.TopicRecord;
 import io.zeebe.broker.event.processor.TopicSubscriberEvent;
@@ -27,12 +29,21 @@ import io.zeebe.broker.transport.controlmessage.ControlMessageRequestHeaderDescr
 import io.zeebe.broker.workflow.data.WorkflowInstanceRecord;
 import io.zeebe.dispatcher.ClaimedFragment;
 import io.zeebe.dispatcher.Dispatcher;
+import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
+import io.zeebe.logstreams.log.LogStreamBatchWriter.LogEntryBuilder;
+import io.zeebe.logstreams.log.LogStreamBatchWriterImpl;
 import io.zeebe.logstreams.log.LogStreamWriter;
 import io.zeebe.logstreams.log.LogStreamWriterImpl;
 import io.zeebe.msgpack.UnpackedObject;
 import io.zeebe.protocol.Protocol;
 import io.zeebe.protocol.clientapi.*;
+import io.zeebe.protocol.clientapi.ExecuteCommandBatchRequestDecoder.CommandsDecoder;
 import io.zeebe.protocol.impl.RecordMetadata;
+import io.zeebe.protocol.intent.Intent;
+import io.zeebe.protocol.intent.JobIntent;
+import io.zeebe.protocol.intent.SubscriptionIntent;
+import io.zeebe.protocol.intent.WorkflowInstanceIntent;
 import io.zeebe.transport.RemoteAddress;
 import io.zeebe.transport.ServerMessageHandler;
 import io.zeebe.transport.ServerOutput;
@@ -48,6 +59,8 @@ public class ClientApiMessageHandler implements ServerMessageHandler, ServerRequ
   protected final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
   protected final ExecuteCommandRequestDecoder executeCommandRequestDecoder =
       new ExecuteCommandRequestDecoder();
+  protected final ExecuteCommandBatchRequestDecoder executeCommandBatchRequestDecoder =
+      new ExecuteCommandBatchRequestDecoder();
   protected final ControlMessageRequestHeaderDescriptor controlMessageRequestHeaderDescriptor =
       new ControlMessageRequestHeaderDescriptor();
 
@@ -58,6 +71,7 @@ public class ClientApiMessageHandler implements ServerMessageHandler, ServerRequ
   protected final Int2ObjectHashMap<Partition> leaderPartitions = new Int2ObjectHashMap<>();
   protected final RecordMetadata eventMetadata = new RecordMetadata();
   protected final LogStreamWriter logStreamWriter = new LogStreamWriterImpl();
+  protected final LogStreamBatchWriter logStreamBatchWriter = new LogStreamBatchWriterImpl();
 
   protected final ErrorResponseWriter errorResponseWriter = new ErrorResponseWriter();
   protected final Dispatcher controlMessageDispatcher;
@@ -65,8 +79,19 @@ public class ClientApiMessageHandler implements ServerMessageHandler, ServerRequ
 
   protected final EnumMap<ValueType, UnpackedObject> recordsByType = new EnumMap<>(ValueType.class);
 
+  protected final CommandBatchResponseCollector batchResponseCollector;
+
+  protected SubscriptionAcknowledgementHandler subscriptionAcknowledgementHandler;
+
   public ClientApiMessageHandler(final Dispatcher controlMessageDispatcher) {
+    this(controlMessageDispatcher, new CommandBatchResponseCollector());
+  }
+
+  public ClientApiMessageHandler(
+      final Dispatcher controlMessageDispatcher,
+      final CommandBatchResponseCollector batchResponseCollector) {
     this.controlMessageDispatcher = controlMessageDispatcher;
+    this.batchResponseCollector = batchResponseCollector;
 
     initEventTypeMap();
   }
@@ -133,6 +158,20 @@ public class ClientApiMessageHandler implements ServerMessageHandler, ServerRequ
           .tryWriteResponseOrLogFailure(output, requestAddress.getStreamId(), requestId);
     }
 
+    if (eventType == ValueType.SUBSCRIPTION
+        && intent == SubscriptionIntent.ACKNOWLEDGE.value()
+        && subscriptionAcknowledgementHandler != null) {
+      // acknowledgements are coalesced before they are written to the log
+      final TopicSubscriptionEvent acknowledgement = (TopicSubscriptionEvent) event;
+
+      return subscriptionAcknowledgementHandler.onAcknowledgement(
+          partitionId,
+          acknowledgement.getName(),
+          acknowledgement.getAckPosition(),
+          requestAddress.getStreamId(),
+          requestId);
+    }
+
     eventMetadata.recordType(RecordType.COMMAND);
     eventMetadata.intent(intent);
     eventMetadata.valueType(eventType);
@@ -157,6 +196,179 @@ public class ClientApiMessageHandler implements ServerMessageHandler, ServerRequ
     return eventPosition >= 0;
   }
 
+  private boolean handleExecuteCommandBatchRequest(
+      final ServerOutput output,
+      final RemoteAddress requestAddress,
+      final long requestId,
+      final RecordMetadata eventMetadata,
+      final DirectBuffer buffer,
+      final int messageOffset) {
+    executeCommandBatchRequestDecoder.wrap(
+        buffer,
+        messageOffset + messageHeaderDecoder.encodedLength(),
+        messageHeaderDecoder.blockLength(),
+        messageHeaderDecoder.version());
+
+    final int partitionId = executeCommandBatchRequestDecoder.partitionId();
+    final Partition partition = leaderPartitions.get(partitionId);
+
+    if (partition == null) {
+      return errorResponseWriter
+          .errorCode(ErrorCode.PARTITION_NOT_FOUND)
+          .errorMessage("Cannot execute commands. Partition with id '%d' not found", partitionId)
+          .tryWriteResponseOrLogFailure(output, requestAddress.getStreamId(), requestId);
+    }
+
+    final CommandsDecoder commands = executeCommandBatchRequestDecoder.commands();
+    final int commandCount = commands.count();
+
+    if (commandCount == 0) {
+      return errorResponseWriter
+          .errorCode(ErrorCode.INVALID_MESSAGE)
+          .errorMessage("Cannot execute commands. Batch must contain at least one command.")
+          .tryWriteResponseOrLogFailure(output, requestAddress.getStreamId(), requestId);
+    }
+
+    // every command gets its own request id, so that the stream processors can respond to it
+    // as to a single command; the responses are collected and sent as one batch response
+    final long firstCommandRequestId =
+        batchResponseCollector.register(requestAddress.getStreamId(), requestId, commandCount);
+
+    boolean isHandled = false;
+    try {
+      isHandled =
+          writeCommandBatch(
+              output,
+              requestAddress,
+              requestId,
+              eventMetadata,
+              buffer,
+              partition,
+              commands,
+              firstCommandRequestId);
+    } finally {
+      if (!isHandled) {
+        // the request is retried as a whole
+        batchResponseCollector.discard(firstCommandRequestId);
+      }
+    }
+
+    return isHandled;
+  }
+
+  private boolean writeCommandBatch(
+      final ServerOutput output,
+      final RemoteAddress requestAddress,
+      final long requestId,
+      final RecordMetadata eventMetadata,
+      final DirectBuffer buffer,
+      final Partition partition,
+      final CommandsDecoder commands,
+      final long firstCommandRequestId) {
+    final LogStream logStream = partition.getLogStream();
+    logStreamBatchWriter.wrap(logStream);
+
+    long commandRequestId = firstCommandRequestId;
+    int writtenCommands = 0;
+    int batchLength = 0;
+    boolean isHandled = true;
+
+    for (CommandsDecoder command : commands) {
+      final long key = command.key();
+      final ValueType eventType = command.valueType();
+      final short intent = command.intent();
+
+      final int eventOffset =
+          executeCommandBatchRequestDecoder.limit() + CommandsDecoder.valueHeaderLength();
+      final int eventLength = command.valueLength();
+      executeCommandBatchRequestDecoder.limit(eventOffset + eventLength);
+
+      final UnpackedObject event = recordsByType.get(eventType);
+
+      if (event == null) {
+        errorResponseWriter
+            .errorCode(ErrorCode.MESSAGE_NOT_SUPPORTED)
+            .errorMessage("Cannot execute command. Invalid event type '%s'.", eventType.name());
+        isHandled &= batchResponseCollector.onResponse(commandRequestId, errorResponseWriter);
+      } else if (!isBatchable(eventType, intent)) {
+        errorResponseWriter
+            .errorCode(ErrorCode.MESSAGE_NOT_SUPPORTED)
+            .errorMessage(
+                "Cannot execute command. Command '%s' of type '%s' can not be batched.",
+                Intent.fromProtocolValue(eventType, intent),
+                eventType.name());
+        isHandled &= batchResponseCollector.onResponse(commandRequestId, errorResponseWriter);
+      } else {
+        event.reset();
+
+        try {
+          // verify that the event / command is valid
+          event.wrap(buffer, eventOffset, eventLength);
+
+          eventMetadata.recordType(RecordType.COMMAND);
+          eventMetadata.intent(intent);
+          eventMetadata.valueType(eventType);
+          eventMetadata.requestId(commandRequestId);
+
+          final LogEntryBuilder logEntryBuilder = logStreamBatchWriter.event();
+
+          if (key != CommandsDecoder.keyNullValue()) {
+            logEntryBuilder.key(key);
+          } else {
+            logEntryBuilder.positionAsKey();
+          }
+
+          logEntryBuilder
+              .metadataWriter(eventMetadata)
+              .value(buffer, eventOffset, eventLength)
+              .entrySourceRecordPosition(command.sourceRecordPosition())
+              .done();
+
+          writtenCommands += 1;
+          batchLength += headerLength(eventMetadata.getLength()) + eventLength;
+        } catch (Throwable t) {
+          errorResponseWriter
+              .errorCode(ErrorCode.INVALID_MESSAGE)
+              .errorMessage("Cannot deserialize command: '%s'.", concatErrorMessages(t));
+          isHandled &= batchResponseCollector.onResponse(commandRequestId, errorResponseWriter);
+        }
+      }
+
+      commandRequestId += 1;
+    }
+
+    // the dispatcher can not claim a batch which is larger than a frame
+    final int maxBatchLength = logStream.getWriteBuffer().getMaxFrameLength();
+
+    if (batchLength >= maxBatchLength) {
+      batchResponseCollector.discard(firstCommandRequestId);
+
+      return errorResponseWriter
+          .errorCode(ErrorCode.INVALID_MESSAGE)
+          .errorMessage(
+              "Cannot execute commands. Batch of %d bytes exceeds the maximum of %d bytes.",
+              batchLength, maxBatchLength)
+          .tryWriteResponseOrLogFailure(output, requestAddress.getStreamId(), requestId);
+    }
+
+    if (writtenCommands > 0) {
+      isHandled &= logStreamBatchWriter.tryWrite() >= 0;
+    }
+
+    return isHandled;
+  }
+
+  /**
+   * Only commands whose processors answer every command with request metadata can be batched. Other
+   * processors (e.g. of topic subscriptions) do not respond to the synthetic request ids, so that
+   * the batch would never be completed.
+   */
+  private static boolean isBatchable(ValueType valueType, short intent) {
+    return (valueType == ValueType.JOB && intent == JobIntent.COMPLETE.value())
+        || (valueType == ValueType.WORKFLOW_INSTANCE
+            && intent == WorkflowInstanceIntent.CREATE.value());
+  }
+
   private String concatErrorMessages(Throwable t) {
     final StringBuilder sb = new StringBuilder();
 
@@ -216,6 +428,11 @@ public class ClientApiMessageHandler implements ServerMessageHandler, ServerRequ
     cmdQueue.add(() -> leaderPartitions.remove(partition.getInfo().getPartitionId()));
   }
 
+  public void setSubscriptionAcknowledgementHandler(
+      final SubscriptionAcknowledgementHandler handler) {
+    cmdQueue.add(() -> subscriptionAcknowledgementHandler = handler);
+  }
+
   @Override
   public boolean onRequest(
       ServerOutput output,
@@ -253,6 +470,12 @@ public class ClientApiMessageHandler implements ServerMessageHandler, ServerRequ
                 output, remoteAddress, requestId, eventMetadata, buffer, offset, length);
         break;
 
+      case ExecuteCommandBatchRequestDecoder.TEMPLATE_ID:
+        isHandled =
+            handleExecuteCommandBatchRequest(
+                output, remoteAddress, requestId, eventMetadata, buffer, offset);
+        break;
+
       case ControlMessageRequestDecoder.TEMPLATE_ID:
         isHandled = handleControlMessageRequest(eventMetadata, buffer, offset, length);
         break;
@@ -23,6 +23,7 @@ import io.zeebe.servicecontainer.*;
 
 public class ClientApiMessageHandlerService implements Service<ClientApiMessageHandler> {
   private final Injector<Dispatcher> controlMessageBufferInjector = new Injector<>();
+  private final CommandBatchResponseCollector batchResponseCollector;
   protected ClientApiMessageHandler service;
 
   protected final ServiceGroupReference<Partition> leaderPartitionsGroupReference =
@@ -31,10 +32,14 @@ public class ClientApiMessageHandlerService implements Service<ClientApiMessageH
           .onRemove((name, partition) -> service.removePartition(partition))
           .build();
 
+  public ClientApiMessageHandlerService(CommandBatchResponseCollector batchResponseCollector) {
+    this.batchResponseCollector = batchResponseCollector;
+  }
+
   @Override
   public void start(ServiceStartContext startContext) {
     final Dispatcher controlMessageBuffer = controlMessageBufferInjector.getValue();
-    service = new ClientApiMessageHandler(controlMessageBuffer);
+    service = new ClientApiMessageHandler(controlMessageBuffer, batchResponseCollector);
   }
 
   @Override
@@ -0,0 +1,274 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.transport.clientapi;
+
+import io.zeebe.protocol.clientapi.ExecuteCommandBatchResponseEncoder;
+import io.zeebe.protocol.clientapi.ExecuteCommandBatchResponseEncoder.ResponsesEncoder;
+import io.zeebe.protocol.clientapi.MessageHeaderEncoder;
+import io.zeebe.transport.ServerOutput;
+import io.zeebe.transport.ServerResponse;
+import io.zeebe.transport.TransportMessage;
+import io.zeebe.util.buffer.BufferWriter;
+import io.zeebe.util.sched.clock.ActorClock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Collects the responses to the commands of a batch request. Every command of a batch is written
+ * to the log with its own synthetic (negative) request id. The responses for these ids are
+ * intercepted by the output returned from {@link #decorate(ServerOutput)} and are sent as one
+ * batch response, as soon as all commands of the batch are answered.
+ *
+ * <p>The collector is used by the client API message handler and by the stream processors of all
+ * partitions, so that its state is guarded by the collector's monitor.
+ */
+public class CommandBatchResponseCollector {
+  public static final Duration DEFAULT_BATCH_TIMEOUT = Duration.ofMinutes(1);
+
+  /** synthetic request id => batch; synthetic ids are never reused */
+  private final Long2ObjectHashMap<PendingBatch> pendingCommands = new Long2ObjectHashMap<>();
+
+  private final Queue<PendingBatch> pendingBatches = new ArrayDeque<>();
+  private long nextRequestId = Long.MIN_VALUE;
+  private final long batchTimeoutMs;
+
+  private ServerOutput output;
+
+  public CommandBatchResponseCollector() {
+    this(DEFAULT_BATCH_TIMEOUT);
+  }
+
+  public CommandBatchResponseCollector(Duration batchTimeout) {
+    this.batchTimeoutMs = batchTimeout.toMillis();
+  }
+
+  /**
+   * Wraps the given output so that responses to batched commands are collected. All other
+   * messages and responses are passed through.
+   */
+  public ServerOutput decorate(ServerOutput output) {
+    this.output = output;
+    return new CollectingServerOutput(output);
+  }
+
+  public static boolean isBatchedCommand(long requestId) {
+    // the request ids of the transport are positive; -1 is the null value of the record metadata
+    return requestId < -1;
+  }
+
+  /**
+   * Registers a batch with the given number of commands.
+   *
+   * @return the synthetic request id of the first command; the following commands have
+   *     consecutive ids
+   */
+  public synchronized long register(int streamId, long requestId, int commandCount) {
+    removeExpiredBatches();
+
+    final long firstCommandRequestId = nextRequestId;
+    nextRequestId += commandCount;
+    final PendingBatch batch =
+        new PendingBatch(
+            streamId,
+            requestId,
+            firstCommandRequestId,
+            commandCount,
+            ActorClock.currentTimeMillis() + batchTimeoutMs);
+
+    for (int i = 0; i < commandCount; i++) {
+      pendingCommands.put(firstCommandRequestId + i, batch);
+    }
+    pendingBatches.add(batch);
+
+    return firstCommandRequestId;
+  }
+
+  /** Removes a registered batch, e.g. if its commands could not be written. */
+  public synchronized void discard(long firstCommandRequestId) {
+    final PendingBatch batch = pendingCommands.get(firstCommandRequestId);
+
+    if (batch != null) {
+      remove(batch);
+    }
+  }
+
+  /**
+   * Sets the response of a batched command. If this was the last missing response of the batch,
+   * the batch response is sent.
+   *
+   * @return false if the batch response could not be sent and should be retried
+   */
+  public synchronized boolean onResponse(long commandRequestId, BufferWriter response) {
+    final PendingBatch batch = pendingCommands.get(commandRequestId);
+
+    if (batch == null) {
+      // timed out, discarded or already sent
+      return true;
+    }
+
+    final int index = (int) (commandRequestId - batch.firstCommandRequestId);
+    batch.setResponse(index, response);
+
+    if (batch.isComplete()) {
+      final boolean isSent = send(batch);
+
+      if (isSent) {
+        remove(batch);
+      }
+
+      return isSent;
+    } else {
+      return true;
+    }
+  }
+
+  synchronized int getPendingBatchCount() {
+    return pendingBatches.size();
+  }
+
+  private boolean send(PendingBatch batch) {
+    final ServerResponse response =
+        new ServerResponse()
+            .writer(batch)
+            .remoteStreamId(batch.streamId)
+            .requestId(batch.requestId);
+
+    return output.sendResponse(response);
+  }
+
+  private void remove(PendingBatch batch) {
+    for (int i = 0; i < batch.responses.length; i++) {
+      pendingCommands.remove(batch.firstCommandRequestId + i);
+    }
+    pendingBatches.remove(batch);
+  }
+
+  private void removeExpiredBatches() {
+    final long now = ActorClock.currentTimeMillis();
+
+    PendingBatch batch = pendingBatches.peek();
+    while (batch != null && batch.deadline <= now) {
+      remove(batch);
+      batch = pendingBatches.peek();
+    }
+  }
+
+  private static class PendingBatch implements BufferWriter {
+    private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+    private final ExecuteCommandBatchResponseEncoder encoder =
+        new ExecuteCommandBatchResponseEncoder();
+
+    private final int streamId;
+    private final long requestId;
+    private final long firstCommandRequestId;
+    private final long deadline;
+
+    private final UnsafeBuffer[] responses;
+    private int missingResponses;
+
+    PendingBatch(
+        int streamId,
+        long requestId,
+        long firstCommandRequestId,
+        int commandCount,
+        long deadline) {
+      this.streamId = streamId;
+      this.requestId = requestId;
+      this.firstCommandRequestId = firstCommandRequestId;
+      this.deadline = deadline;
+      this.responses = new UnsafeBuffer[commandCount];
+      this.missingResponses = commandCount;
+    }
+
+    void setResponse(int index, BufferWriter writer) {
+      // a response can be written again, e.g. if the stream processor retries a side effect
+      if (responses[index] == null) {
+        final UnsafeBuffer response = new UnsafeBuffer(new byte[writer.getLength()]);
+        writer.write(response, 0);
+
+        responses[index] = response;
+        missingResponses -= 1;
+      }
+    }
+
+    boolean isComplete() {
+      return missingResponses == 0;
+    }
+
+    @Override
+    public int getLength() {
+      int length =
+          MessageHeaderEncoder.ENCODED_LENGTH
+              + ExecuteCommandBatchResponseEncoder.BLOCK_LENGTH
+              + ResponsesEncoder.sbeHeaderSize();
+
+      for (UnsafeBuffer response : responses) {
+        length += ResponsesEncoder.responseHeaderLength() + response.capacity();
+      }
+
+      return length;
+    }
+
+    @Override
+    public void write(MutableDirectBuffer buffer, int offset) {
+      headerEncoder
+          .wrap(buffer, offset)
+          .blockLength(encoder.sbeBlockLength())
+          .templateId(encoder.sbeTemplateId())
+          .schemaId(encoder.sbeSchemaId())
+          .version(encoder.sbeSchemaVersion());
+
+      final ResponsesEncoder responsesEncoder =
+          encoder
+              .wrap(buffer, offset + headerEncoder.encodedLength())
+              .responsesCount(responses.length);
+
+      for (UnsafeBuffer response : responses) {
+        responsesEncoder.next().putResponse(response, 0, response.capacity());
+      }
+    }
+  }
+
+  private class CollectingServerOutput implements ServerOutput {
+    private final ServerOutput delegate;
+
+    CollectingServerOutput(ServerOutput delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public boolean sendMessage(TransportMessage transportMessage) {
+      return delegate.sendMessage(transportMessage);
+    }
+
+    @Override
+    public boolean sendResponse(ServerResponse response) {
+      final long requestId = response.getRequestId();
+
+      if (isBatchedCommand(requestId)) {
+        return onResponse(requestId, response.getWriter());
+      } else {
+        return delegate.sendResponse(response);
+      }
+    }
+  }
+}
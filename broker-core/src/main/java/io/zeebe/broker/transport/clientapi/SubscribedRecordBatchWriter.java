@@ -0,0 +1,147 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.transport.clientapi;
+
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.clientapi.MessageHeaderEncoder;
+import io.zeebe.protocol.clientapi.SubscribedRecordBatchEncoder;
+import io.zeebe.protocol.clientapi.SubscribedRecordBatchEncoder.RecordsEncoder;
+import io.zeebe.transport.ServerOutput;
+import io.zeebe.transport.TransportMessage;
+import io.zeebe.util.buffer.BufferWriter;
+import io.zeebe.util.buffer.DirectBufferWriter;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Collects subscribed records of one subscriber and pushes them as one {@link
+ * SubscribedRecordBatchEncoder SubscribedRecordBatch} message. A batch which contains only one
+ * record is pushed as a plain SubscribedRecord message.
+ */
+public class SubscribedRecordBatchWriter implements BufferWriter {
+  public static final int DEFAULT_MAX_BATCH_LENGTH = 64 * 1024;
+
+  /** The maximum count of a group with a uint8 group size. */
+  public static final int MAX_BATCH_RECORD_COUNT = 254;
+
+  protected final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  protected final SubscribedRecordBatchEncoder bodyEncoder = new SubscribedRecordBatchEncoder();
+
+  /** the records, each prefixed with its length like the group entries of the message */
+  private final UnsafeBuffer recordsBuffer;
+
+  private final int maxBatchLength;
+  private int recordsLength;
+  private int recordCount;
+
+  private final DirectBufferWriter singleRecordWriter = new DirectBufferWriter();
+
+  protected final ServerOutput output;
+  protected final TransportMessage message = new TransportMessage();
+
+  public SubscribedRecordBatchWriter(final ServerOutput output) {
+    this(output, DEFAULT_MAX_BATCH_LENGTH);
+  }
+
+  public SubscribedRecordBatchWriter(final ServerOutput output, final int maxBatchLength) {
+    this.output = output;
+    this.maxBatchLength = maxBatchLength;
+    this.recordsBuffer = new UnsafeBuffer(new byte[maxBatchLength]);
+  }
+
+  public boolean canAdd(final BufferWriter record) {
+    return recordCount < MAX_BATCH_RECORD_COUNT
+        && getLength() + RecordsEncoder.recordHeaderLength() + record.getLength()
+            <= maxBatchLength;
+  }
+
+  public void add(final BufferWriter record) {
+    final int recordLength = record.getLength();
+    recordsBuffer.putShort(recordsLength, (short) recordLength, Protocol.ENDIANNESS);
+    recordsLength += RecordsEncoder.recordHeaderLength();
+
+    record.write(recordsBuffer, recordsLength);
+    recordsLength += recordLength;
+
+    recordCount += 1;
+  }
+
+  public boolean isEmpty() {
+    return recordCount == 0;
+  }
+
+  public int getRecordCount() {
+    return recordCount;
+  }
+
+  @Override
+  public int getLength() {
+    return MessageHeaderEncoder.ENCODED_LENGTH
+        + SubscribedRecordBatchEncoder.BLOCK_LENGTH
+        + RecordsEncoder.sbeHeaderSize()
+        + recordsLength;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    headerEncoder
+        .wrap(buffer, offset)
+        .blockLength(bodyEncoder.sbeBlockLength())
+        .templateId(bodyEncoder.sbeTemplateId())
+        .schemaId(bodyEncoder.sbeSchemaId())
+        .version(bodyEncoder.sbeSchemaVersion());
+
+    bodyEncoder.wrap(buffer, offset + headerEncoder.encodedLength()).recordsCount(recordCount);
+
+    // the records are already encoded as group entries
+    buffer.putBytes(bodyEncoder.limit(), recordsBuffer, 0, recordsLength);
+  }
+
+  /**
+   * Pushes the collected records. The batch is empty afterwards, if the message could be written.
+   *
+   * @return <code>true</code>, if the message could be written or the batch is empty
+   */
+  public boolean tryWriteMessage(final int remoteStreamId) {
+    if (recordCount == 0) {
+      return true;
+    }
+
+    message.reset().remoteStreamId(remoteStreamId);
+
+    if (recordCount == 1) {
+      final int recordOffset = RecordsEncoder.recordHeaderLength();
+      singleRecordWriter.wrap(recordsBuffer, recordOffset, recordsLength - recordOffset);
+      message.writer(singleRecordWriter);
+    } else {
+      message.writer(this);
+    }
+
+    final boolean success = output.sendMessage(message);
+    if (success) {
+      reset();
+    }
+
+    return success;
+  }
+
+  public void reset() {
+    recordsLength = 0;
+    recordCount = 0;
+  }
+}
@@ -197,6 +197,25 @@ public class SubscribedRecordWriter implements BufferWriter {
     }
   }
 
+  /**
+   * Adds the record to the batch instead of pushing it directly.
+   *
+   * @return <code>true</code>, if the batch has enough capacity for the record
+   */
+  public boolean tryAddToBatch(SubscribedRecordBatchWriter batchWriter) {
+    Objects.requireNonNull(valueWriter);
+
+    try {
+      final boolean canAdd = batchWriter.canAdd(this);
+      if (canAdd) {
+        batchWriter.add(this);
+      }
+      return canAdd;
+    } finally {
+      reset();
+    }
+  }
+
   protected void reset() {
     this.partitionId = partitionIdNullValue();
     this.position = positionNullValue();
@@ -0,0 +1,40 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.transport.clientapi;
+
+import org.agrona.DirectBuffer;
+
+/**
+ * Handles the acknowledgements of topic subscriptions, instead of writing every acknowledge command
+ * of a client to the log.
+ */
+@FunctionalInterface
+public interface SubscriptionAcknowledgementHandler {
+  /**
+   * Called on the transport's receiver thread; the subscription name buffer is only valid for the
+   * duration of the call.
+   *
+   * @return true, if the acknowledgement is handled; false, if the request should be retried
+   */
+  boolean onAcknowledgement(
+      int partitionId,
+      DirectBuffer subscriptionName,
+      long ackPosition,
+      int requestStreamId,
+      long requestId);
+}
@@ -22,6 +22,8 @@ import io.zeebe.broker.clustering.base.topology.TopologyManager;
 import io.zeebe.broker.event.handler.RemoveTopicSubscriptionHandler;
 import io.zeebe.broker.event.processor.TopicSubscriptionService;
 import io.zeebe.broker.job.JobSubscriptionManager;
+import io.zeebe.broker.query.QueryStateHandler;
+import io.zeebe.broker.query.StateQueryService;
 import io.zeebe.dispatcher.Dispatcher;
 import io.zeebe.servicecontainer.*;
 import io.zeebe.transport.*;
@@ -38,6 +40,7 @@ public class ControlMessageHandlerManagerService implements Service<ControlMessa
   protected final Injector<TopicSubscriptionService> topicSubscriptionServiceInjector =
       new Injector<>();
   private final Injector<TopologyManager> topologyManagerInjector = new Injector<>();
+  private final Injector<StateQueryService> stateQueryServiceInjector = new Injector<>();
 
   protected ControlMessageHandlerManager service;
 
@@ -52,6 +55,7 @@ public class ControlMessageHandlerManagerService implements Service<ControlMessa
     final TopicSubscriptionService topicSubscriptionService =
         topicSubscriptionServiceInjector.getValue();
     final TopologyManager topologyManager = topologyManagerInjector.getValue();
+    final StateQueryService stateQueryService = stateQueryServiceInjector.getValue();
 
     final ServerOutput output = transport.getOutput();
 
@@ -61,7 +65,8 @@ public class ControlMessageHandlerManagerService implements Service<ControlMessa
             new IncreaseJobSubscriptionCreditsHandler(output, jobSubscriptionManager),
             new RemoveJobSubscriptionHandler(output, jobSubscriptionManager),
             new RemoveTopicSubscriptionHandler(output, topicSubscriptionService),
-            new RequestTopologyHandler(output, topologyManager));
+            new RequestTopologyHandler(output, topologyManager),
+            new QueryStateHandler(output, stateQueryService));
 
     service =
         new ControlMessageHandlerManager(
@@ -100,6 +105,10 @@ public class ControlMessageHandlerManagerService implements Service<ControlMessa
     return topologyManagerInjector;
   }
 
+  public Injector<StateQueryService> getStateQueryServiceInjector() {
+    return stateQueryServiceInjector;
+  }
+
   public Injector<ClientTransport> getManagementClientTransportInjector() {
     return managementClientTransportInjector;
   }
@@ -64,6 +64,7 @@ public class IncreaseJobSubscriptionCreditsHandler extends AbstractControlMessag
     } else {
       creditsRequest.setCredits(subscription.getCredits());
       creditsRequest.setSubscriberKey(subscription.getSubscriberKey());
+      creditsRequest.setReturned(false);
 
       final boolean success = manager.increaseSubscriptionCreditsAsync(creditsRequest);
       if (success) {
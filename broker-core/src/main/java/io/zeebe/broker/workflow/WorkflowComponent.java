@@ -19,6 +19,7 @@ package io.zeebe.broker.workflow;
 
 import static io.zeebe.broker.clustering.base.ClusterBaseLayerServiceNames.*;
 import static io.zeebe.broker.logstreams.LogStreamServiceNames.STREAM_PROCESSOR_SERVICE_FACTORY;
+import static io.zeebe.broker.system.SystemServiceNames.STATE_QUERY_SERVICE;
 import static io.zeebe.broker.transport.TransportServiceNames.*;
 import static io.zeebe.broker.workflow.WorkflowServiceNames.WORKFLOW_QUEUE_MANAGER;
 
@@ -46,6 +47,8 @@ public class WorkflowComponent implements Component {
         .dependency(
             STREAM_PROCESSOR_SERVICE_FACTORY,
             workflowQueueManagerService.getStreamProcessorServiceFactoryInjector())
+        .dependency(
+            STATE_QUERY_SERVICE, workflowQueueManagerService.getStateQueryServiceInjector())
         .groupReference(
             LEADER_PARTITION_GROUP_NAME, workflowQueueManagerService.getPartitionsGroupReference())
         .install();
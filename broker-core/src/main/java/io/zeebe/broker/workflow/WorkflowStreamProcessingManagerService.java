@@ -25,6 +25,7 @@ import io.zeebe.broker.clustering.base.topology.TopologyManager;
 import io.zeebe.broker.incident.processor.IncidentStreamProcessor;
 import io.zeebe.broker.logstreams.processor.StreamProcessorServiceFactory;
 import io.zeebe.broker.logstreams.processor.TypedStreamEnvironment;
+import io.zeebe.broker.query.StateQueryService;
 import io.zeebe.broker.workflow.processor.WorkflowInstanceStreamProcessor;
 import io.zeebe.servicecontainer.Injector;
 import io.zeebe.servicecontainer.Service;
@@ -44,6 +45,7 @@ public class WorkflowStreamProcessingManagerService
   private final Injector<ServerTransport> clientApiTransportInjector = new Injector<>();
   private final Injector<ClientTransport> managementApiClientInjector = new Injector<>();
   private final Injector<TopologyManager> topologyManagerInjector = new Injector<>();
+  private final Injector<StateQueryService> stateQueryServiceInjector = new Injector<>();
 
   private final Injector<StreamProcessorServiceFactory> streamProcessorServiceFactoryInjector =
       new Injector<>();
@@ -72,7 +74,8 @@ public class WorkflowStreamProcessingManagerService
         new WorkflowInstanceStreamProcessor(
             managementApiClientInjector.getValue(), topologyManager, PAYLOAD_CACHE_SIZE);
     final TypedStreamEnvironment env =
-        new TypedStreamEnvironment(partition.getLogStream(), transport.getOutput());
+        new TypedStreamEnvironment(partition.getLogStream(), transport.getOutput())
+            .withStateQueryService(stateQueryServiceInjector.getValue());
 
     streamProcessorServiceFactory
         .createService(partition, partitionServiceName)
@@ -85,7 +88,8 @@ public class WorkflowStreamProcessingManagerService
   private void installIncidentStreamProcessor(
       Partition partition, ServiceName<Partition> partitionServiceName) {
     final TypedStreamEnvironment env =
-        new TypedStreamEnvironment(partition.getLogStream(), transport.getOutput());
+        new TypedStreamEnvironment(partition.getLogStream(), transport.getOutput())
+            .withStateQueryService(stateQueryServiceInjector.getValue());
     final IncidentStreamProcessor incidentProcessorFactory = new IncidentStreamProcessor();
 
     streamProcessorServiceFactory
@@ -127,4 +131,8 @@ public class WorkflowStreamProcessingManagerService
   public Injector<ClientTransport> getManagementApiClientInjector() {
     return managementApiClientInjector;
   }
+
+  public Injector<StateQueryService> getStateQueryServiceInjector() {
+    return stateQueryServiceInjector;
+  }
 }
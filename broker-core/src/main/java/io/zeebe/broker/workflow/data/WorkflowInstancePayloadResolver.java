@@ -0,0 +1,95 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.workflow.data;
+
+import io.zeebe.logstreams.log.BufferedLogStreamReader;
+import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.log.LogStreamReader;
+import io.zeebe.logstreams.log.LoggedEvent;
+import io.zeebe.util.cache.ExpandableBufferCache;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Resolves the payload of workflow instance records which refer to the payload of a previous record
+ * (see {@link WorkflowInstanceRecord#getPayloadPosition()}). The referred records are read from the
+ * log, the most recently used payloads are cached.
+ */
+public class WorkflowInstancePayloadResolver implements AutoCloseable {
+  public static final int CACHE_SIZE = 16;
+
+  private final LogStreamReader reader;
+  private final ExpandableBufferCache cache;
+
+  private final WorkflowInstanceRecord payloadRecord = new WorkflowInstanceRecord();
+  private final WorkflowInstanceRecord record = new WorkflowInstanceRecord();
+
+  private final MutableDirectBuffer valueBuffer = new ExpandableArrayBuffer();
+  private final UnsafeBuffer value = new UnsafeBuffer(0, 0);
+
+  public WorkflowInstancePayloadResolver(LogStream logStream) {
+    this.reader = new BufferedLogStreamReader(logStream);
+    this.cache = new ExpandableBufferCache(CACHE_SIZE, 1024, this::readPayload);
+  }
+
+  /** Resolves the payload of the given record, if it refers to the payload of another record. */
+  public void resolvePayload(WorkflowInstanceRecord record) {
+    if (record.hasPayloadReference()) {
+      record.resolvePayload(cache.get(record.getPayloadPosition()));
+    }
+  }
+
+  /**
+   * @return the value of the given workflow instance event, which carries the payload itself. The
+   *     buffer is valid until the next invocation.
+   */
+  public DirectBuffer resolveValue(LoggedEvent event) {
+    record.reset();
+    event.readValue(record);
+
+    if (record.hasPayloadReference()) {
+      record.setPayload(cache.get(record.getPayloadPosition()));
+
+      final int length = record.getLength();
+      record.write(valueBuffer, 0);
+      value.wrap(valueBuffer, 0, length);
+    } else {
+      value.wrap(event.getValueBuffer(), event.getValueOffset(), event.getValueLength());
+    }
+    return value;
+  }
+
+  private DirectBuffer readPayload(long position) {
+    if (!reader.seek(position) || !reader.hasNext()) {
+      throw new IllegalStateException(
+          String.format("Cannot resolve payload. No record found at position %d.", position));
+    }
+
+    final LoggedEvent payloadEvent = reader.next();
+    payloadRecord.reset();
+    payloadEvent.readValue(payloadRecord);
+    return payloadRecord.getPayload();
+  }
+
+  @Override
+  public void close() {
+    reader.close();
+  }
+}
@@ -24,6 +24,8 @@ import io.zeebe.msgpack.property.LongProperty;
 import io.zeebe.msgpack.property.StringProperty;
 import io.zeebe.msgpack.spec.MsgPackHelper;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public class WorkflowInstanceRecord extends UnpackedObject {
@@ -35,6 +37,7 @@ public class WorkflowInstanceRecord extends UnpackedObject {
   public static final String PROP_WORKFLOW_VERSION = "version";
   public static final String PROP_WORKFLOW_KEY = "workflowKey";
   public static final String PROP_WORKFLOW_PAYLOAD = "payload";
+  public static final String PROP_WORKFLOW_PAYLOAD_POSITION = "payloadPosition";
 
   private final StringProperty bpmnProcessIdProp =
       new StringProperty(PROP_WORKFLOW_BPMN_PROCESS_ID, "");
@@ -46,6 +49,10 @@ public class WorkflowInstanceRecord extends UnpackedObject {
   private final StringProperty activityIdProp = new StringProperty(PROP_WORKFLOW_ACTIVITY_ID, "");
 
   private final DocumentProperty payloadProp = new DocumentProperty(PROP_WORKFLOW_PAYLOAD);
+  private final LongProperty payloadPositionProp =
+      new LongProperty(PROP_WORKFLOW_PAYLOAD_POSITION, -1L);
+
+  private final MutableDirectBuffer resolvedPayloadBuffer = new ExpandableArrayBuffer();
 
   public WorkflowInstanceRecord() {
     this.declareProperty(bpmnProcessIdProp)
@@ -53,7 +60,8 @@ public class WorkflowInstanceRecord extends UnpackedObject {
         .declareProperty(workflowKeyProp)
         .declareProperty(workflowInstanceKeyProp)
         .declareProperty(activityIdProp)
-        .declareProperty(payloadProp);
+        .declareProperty(payloadProp)
+        .declareProperty(payloadPositionProp);
   }
 
   public DirectBuffer getBpmnProcessId() {
@@ -121,12 +129,48 @@ public class WorkflowInstanceRecord extends UnpackedObject {
   }
 
   public WorkflowInstanceRecord setPayload(DirectBuffer payload) {
-    payloadProp.setValue(payload);
-    return this;
+    return setPayload(payload, 0, payload.capacity());
   }
 
   public WorkflowInstanceRecord setPayload(DirectBuffer payload, int offset, int length) {
     payloadProp.setValue(payload, offset, length);
+    payloadPositionProp.setValue(-1L);
     return this;
   }
+
+  /**
+   * A record can refer to the payload of a previous record instead of carrying the same payload
+   * again. The payload of such a record is empty until it is resolved (see {@link
+   * #resolvePayload(DirectBuffer)}).
+   *
+   * @return the position of the record which carries the payload of this record, or -1 if this
+   *     record carries its payload itself
+   */
+  public long getPayloadPosition() {
+    return payloadPositionProp.getValue();
+  }
+
+  public boolean hasPayloadReference() {
+    return getPayloadPosition() >= 0;
+  }
+
+  /**
+   * Refers to the payload of the record at the given position instead of carrying the payload. The
+   * record at the given position must carry the payload itself.
+   */
+  public WorkflowInstanceRecord setPayloadReference(long payloadPosition) {
+    payloadProp.setValue(EMPTY_PAYLOAD);
+    payloadPositionProp.setValue(payloadPosition);
+    return this;
+  }
+
+  /**
+   * Sets the payload of a record which refers to the payload of another record. The payload is
+   * copied. The reference is kept, so that follow-up records can refer to the same payload.
+   */
+  public void resolvePayload(DirectBuffer payload) {
+    final int length = payload.capacity();
+    resolvedPayloadBuffer.putBytes(0, payload, 0, length);
+    payloadProp.setValue(resolvedPayloadBuffer, 0, length);
+  }
 }
@@ -21,6 +21,8 @@ import static org.agrona.BitUtil.SIZE_OF_CHAR;
 import static org.agrona.BitUtil.SIZE_OF_INT;
 import static org.agrona.BitUtil.SIZE_OF_LONG;
 
+import io.zeebe.broker.query.QueryableState;
+import io.zeebe.broker.query.StateQueryResponse;
 import io.zeebe.map.Long2BytesZbMap;
 import io.zeebe.model.bpmn.impl.ZeebeConstraints;
 import java.nio.ByteOrder;
@@ -33,7 +35,7 @@ import org.agrona.concurrent.UnsafeBuffer;
  * <li>activity id length
  * <li>activity id (max 255 chars)
  */
-public class ActivityInstanceMap implements AutoCloseable {
+public class ActivityInstanceMap implements AutoCloseable, QueryableState {
   private static final int SIZE_OF_ACTIVITY_ID = ZeebeConstraints.ID_MAX_LENGTH * SIZE_OF_CHAR;
   private static final int INDEX_VALUE_SIZE = SIZE_OF_LONG + SIZE_OF_INT + SIZE_OF_ACTIVITY_ID;
 
@@ -45,6 +47,7 @@ public class ActivityInstanceMap implements AutoCloseable {
 
   private final UnsafeBuffer buffer = new UnsafeBuffer(new byte[INDEX_VALUE_SIZE]);
   private final UnsafeBuffer activityIdBuffer = new UnsafeBuffer(new byte[SIZE_OF_ACTIVITY_ID]);
+  private final UnsafeBuffer queryActivityIdBuffer = new UnsafeBuffer(0, 0);
 
   private final Long2BytesZbMap map;
 
@@ -55,6 +58,7 @@ public class ActivityInstanceMap implements AutoCloseable {
     this.map = new Long2BytesZbMap(INDEX_VALUE_SIZE);
   }
 
+  @Override
   public Long2BytesZbMap getMap() {
     return map;
   }
@@ -124,6 +128,15 @@ public class ActivityInstanceMap implements AutoCloseable {
     }
   }
 
+  @Override
+  public void addQueryEntry(long key, DirectBuffer value, StateQueryResponse response) {
+    final int activityIdLength = value.getInt(ACTIVITY_ID_LENGTH_OFFSET, BYTE_ORDER);
+    queryActivityIdBuffer.wrap(value, ACTIVITY_ID_OFFSET, activityIdLength);
+
+    response.addActivityInstance(
+        key, queryActivityIdBuffer, value.getLong(JOB_KEY_OFFSET, BYTE_ORDER));
+  }
+
   @Override
   public void close() {
     map.close();
@@ -71,6 +71,21 @@ public class PayloadCache implements AutoCloseable, StreamProcessorLifecycleAwar
     return payload == null ? WorkflowInstanceRecord.EMPTY_PAYLOAD : payload;
   }
 
+  /**
+   * @return the position of the record which carries the current payload of the workflow instance,
+   *     or -1 if the workflow instance has no payload
+   */
+  public long getPayloadPosition(long workflowInstanceKey) {
+    return map.get(workflowInstanceKey, -1L);
+  }
+
+  /** Resolves the payload of the given record, if it refers to the payload of another record. */
+  public void resolvePayload(WorkflowInstanceRecord record) {
+    if (record.hasPayloadReference()) {
+      record.resolvePayload(cache.get(record.getPayloadPosition()));
+    }
+  }
+
   public void addPayload(
       long workflowInstanceKey, long payloadEventPosition, DirectBuffer payload) {
     map.put(workflowInstanceKey, payloadEventPosition);
@@ -20,6 +20,8 @@ package io.zeebe.broker.workflow.map;
 import static org.agrona.BitUtil.SIZE_OF_INT;
 import static org.agrona.BitUtil.SIZE_OF_LONG;
 
+import io.zeebe.broker.query.QueryableState;
+import io.zeebe.broker.query.StateQueryResponse;
 import io.zeebe.map.Long2BytesZbMap;
 import io.zeebe.map.iterator.Long2BytesZbMapEntry;
 import java.nio.ByteOrder;
@@ -34,7 +36,7 @@ import org.agrona.concurrent.UnsafeBuffer;
  * <li>active token count
  * <li>activity instance key
  */
-public class WorkflowInstanceIndex implements AutoCloseable {
+public class WorkflowInstanceIndex implements AutoCloseable, QueryableState {
   private static final int INDEX_VALUE_SIZE =
       SIZE_OF_LONG + SIZE_OF_LONG + SIZE_OF_INT + SIZE_OF_LONG;
 
@@ -54,6 +56,7 @@ public class WorkflowInstanceIndex implements AutoCloseable {
     this.map = new Long2BytesZbMap(INDEX_VALUE_SIZE);
   }
 
+  @Override
   public Long2BytesZbMap getMap() {
     return map;
   }
@@ -82,6 +85,16 @@ public class WorkflowInstanceIndex implements AutoCloseable {
     return iterator;
   }
 
+  @Override
+  public void addQueryEntry(long key, DirectBuffer value, StateQueryResponse response) {
+    response.addWorkflowInstance(
+        key,
+        value.getLong(WORKFLOW_KEY_OFFSET, BYTE_ORDER),
+        value.getLong(POSITION_OFFSET, BYTE_ORDER),
+        value.getInt(TOKEN_COUNT_OFFSET, BYTE_ORDER),
+        value.getLong(ACTIVITY_INSTANCE_KEY_OFFSET, BYTE_ORDER));
+  }
+
   @Override
   public void close() {
     map.close();
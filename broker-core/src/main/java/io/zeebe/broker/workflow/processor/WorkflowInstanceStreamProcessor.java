@@ -25,6 +25,7 @@ import io.zeebe.broker.incident.data.IncidentRecord;
 import io.zeebe.broker.job.data.JobHeaders;
 import io.zeebe.broker.job.data.JobRecord;
 import io.zeebe.broker.logstreams.processor.*;
+import io.zeebe.broker.query.StateType;
 import io.zeebe.broker.workflow.data.WorkflowInstanceRecord;
 import io.zeebe.broker.workflow.map.*;
 import io.zeebe.broker.workflow.map.WorkflowInstanceIndex.WorkflowInstance;
@@ -64,6 +65,12 @@ import org.agrona.concurrent.UnsafeBuffer;
 public class WorkflowInstanceStreamProcessor implements StreamProcessorLifecycleAware {
   private static final UnsafeBuffer EMPTY_JOB_TYPE = new UnsafeBuffer("".getBytes());
 
+  /**
+   * Follow-up records refer to an unchanged payload instead of copying it, if the payload has at
+   * least this length. A smaller payload is cheaper to copy than to resolve.
+   */
+  public static final int MIN_REFERENCED_PAYLOAD_LENGTH = 128;
+
   private Metric workflowInstanceEventCreate;
   private Metric workflowInstanceEventCanceled;
   private Metric workflowInstanceEventCompleted;
@@ -168,6 +175,8 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessorLifecycle
         .withStateResource(workflowInstanceIndex.getMap())
         .withStateResource(activityInstanceMap.getMap())
         .withStateResource(payloadCache.getMap())
+        .withQueryableState(StateType.WORKFLOW_INSTANCE, workflowInstanceIndex)
+        .withQueryableState(StateType.ACTIVITY_INSTANCE, activityInstanceMap)
         .withListener(payloadCache)
         .withListener(this)
         .build();
@@ -246,7 +255,10 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessorLifecycle
       this.requestId = command.getMetadata().getRequestId();
       this.requestStreamId = command.getMetadata().getRequestStreamId();
 
-      workflowInstanceCommand.setWorkflowInstanceKey(command.getKey());
+      // a command always carries its payload
+      workflowInstanceCommand
+          .setWorkflowInstanceKey(command.getKey())
+          .setPayload(workflowInstanceCommand.getPayload());
 
       accepted = true;
       resolveWorkflowDefinition(workflowInstanceCommand, ctx);
@@ -352,7 +364,7 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessorLifecycle
             WorkflowInstanceIntent.CREATED,
             command.getValue(),
             this::addRequestMetadata);
-        addStartEventOccured(batchWriter, command.getValue());
+        addStartEventOccured(batchWriter, command);
         return batchWriter.write();
       } else {
         return writer.writeRejection(
@@ -361,7 +373,8 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessorLifecycle
     }
 
     private void addStartEventOccured(
-        TypedBatchWriter batchWriter, WorkflowInstanceRecord createCommand) {
+        TypedBatchWriter batchWriter, TypedRecord<WorkflowInstanceRecord> command) {
+      final WorkflowInstanceRecord createCommand = command.getValue();
       final Workflow workflow =
           workflowCache.getWorkflowByKey(createCommand.getWorkflowKey()).getWorkflow();
       final StartEvent startEvent = workflow.getInitialStartEvent();
@@ -374,6 +387,8 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessorLifecycle
           .setVersion(createCommand.getVersion())
           .setWorkflowInstanceKey(createCommand.getWorkflowInstanceKey())
           .setWorkflowKey(createCommand.getWorkflowKey());
+      referToPayload(startEventRecord, command.getPosition());
+
       batchWriter.addNewEvent(WorkflowInstanceIntent.START_EVENT_OCCURRED, startEventRecord);
     }
   }
@@ -420,7 +435,8 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessorLifecycle
 
     @Override
     public long writeRecord(TypedRecord<WorkflowInstanceRecord> record, TypedStreamWriter writer) {
-      return writer.writeNewEvent(WorkflowInstanceIntent.SEQUENCE_FLOW_TAKEN, record.getValue());
+      return writer.writeNewEvent(
+          WorkflowInstanceIntent.SEQUENCE_FLOW_TAKEN, referToPayloadOf(record));
     }
   }
 
@@ -486,7 +502,8 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessorLifecycle
     @Override
     public long writeRecord(TypedRecord<WorkflowInstanceRecord> record, TypedStreamWriter writer) {
       if (!createsIncident) {
-        return writer.writeNewEvent(WorkflowInstanceIntent.SEQUENCE_FLOW_TAKEN, record.getValue());
+        return writer.writeNewEvent(
+            WorkflowInstanceIntent.SEQUENCE_FLOW_TAKEN, referToPayloadOf(record));
       } else {
         if (!isResolvingIncident) {
           return writer.writeNewCommand(IncidentIntent.CREATE, incidentCommand);
@@ -525,7 +542,7 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessorLifecycle
         return writer.writeFollowUpEvent(
             record.getValue().getWorkflowInstanceKey(),
             WorkflowInstanceIntent.COMPLETED,
-            record.getValue());
+            referToPayloadOf(record));
       } else {
         return 0L;
       }
@@ -567,7 +584,7 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessorLifecycle
 
     @Override
     public long writeRecord(TypedRecord<WorkflowInstanceRecord> record, TypedStreamWriter writer) {
-      return writer.writeNewEvent(nextState, record.getValue());
+      return writer.writeNewEvent(nextState, referToPayloadOf(record));
     }
   }
 
@@ -576,7 +593,9 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessorLifecycle
 
     private boolean createsIncident;
     private boolean isResolvingIncident;
+    private boolean isPayloadMapped;
     private UnsafeBuffer wfInstancePayload = new UnsafeBuffer(0, 0);
+    private long wfInstancePayloadPosition;
 
     @Override
     void processFlowElementEvent(
@@ -586,11 +605,13 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessorLifecycle
 
       final WorkflowInstanceRecord activityEvent = event.getValue();
       wfInstancePayload.wrap(activityEvent.getPayload());
+      wfInstancePayloadPosition = getPayloadPosition(event);
 
       final Mapping[] inputMappings = serviceTask.getInputOutputMapping().getInputMappings();
+      isPayloadMapped = inputMappings.length > 0;
 
       // only if we have no default mapping we have to use the mapping processor
-      if (inputMappings.length > 0) {
+      if (isPayloadMapped) {
         try {
           final int resultLen =
               payloadMappingProcessor.extract(activityEvent.getPayload(), inputMappings);
@@ -612,8 +633,10 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessorLifecycle
     @Override
     public long writeRecord(TypedRecord<WorkflowInstanceRecord> record, TypedStreamWriter writer) {
       if (!createsIncident) {
+        final WorkflowInstanceRecord value =
+            isPayloadMapped ? record.getValue() : referToPayloadOf(record);
         return writer.writeFollowUpEvent(
-            record.getKey(), WorkflowInstanceIntent.ACTIVITY_ACTIVATED, record.getValue());
+            record.getKey(), WorkflowInstanceIntent.ACTIVITY_ACTIVATED, value);
       } else {
         if (!isResolvingIncident) {
           return writer.writeNewCommand(IncidentIntent.CREATE, incidentCommand);
@@ -644,7 +667,7 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessorLifecycle
       if (!createsIncident) {
         payloadCache.addPayload(
             workflowInstanceEvent.getWorkflowInstanceKey(),
-            record.getPosition(),
+            wfInstancePayloadPosition,
             wfInstancePayload);
       }
     }
@@ -776,12 +799,14 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessorLifecycle
     private final IncidentRecord incidentCommand = new IncidentRecord();
     private boolean hasIncident;
     private boolean isResolvingIncident;
+    private long payloadPosition;
 
     @Override
     void processFlowElementEvent(
         TypedRecord<WorkflowInstanceRecord> event, ServiceTask serviceTask) {
       hasIncident = false;
       isResolvingIncident = event.getMetadata().hasIncidentKey();
+      payloadPosition = -1L;
 
       final WorkflowInstanceRecord activityEvent = event.getValue();
       final DirectBuffer workflowInstancePayload =
@@ -800,6 +825,7 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessorLifecycle
 
       if (outputBehavior == OutputBehavior.NONE) {
         activityEvent.setPayload(workflowInstancePayload);
+        payloadPosition = payloadCache.getPayloadPosition(activityEvent.getWorkflowInstanceKey());
       } else {
         if (outputBehavior == OutputBehavior.OVERWRITE) {
           workflowInstancePayload = EMPTY_PAYLOAD;
@@ -831,8 +857,9 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessorLifecycle
     @Override
     public long writeRecord(TypedRecord<WorkflowInstanceRecord> record, TypedStreamWriter writer) {
       if (!hasIncident) {
+        final WorkflowInstanceRecord value = referToPayload(record.getValue(), payloadPosition);
         return writer.writeFollowUpEvent(
-            record.getKey(), WorkflowInstanceIntent.ACTIVITY_COMPLETED, record.getValue());
+            record.getKey(), WorkflowInstanceIntent.ACTIVITY_COMPLETED, value);
       } else {
         if (!isResolvingIncident) {
           return writer.writeNewCommand(IncidentIntent.CREATE, incidentCommand);
@@ -972,6 +999,8 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessorLifecycle
     public CommandResult onCommand(
         TypedRecord<WorkflowInstanceRecord> command, CommandControl commandControl) {
       final WorkflowInstanceRecord workflowInstanceEvent = command.getValue();
+      // a command always carries its payload
+      workflowInstanceEvent.setPayload(workflowInstanceEvent.getPayload());
 
       final WorkflowInstance workflowInstance =
           workflowInstanceIndex.get(workflowInstanceEvent.getWorkflowInstanceKey());
@@ -1025,6 +1054,29 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessorLifecycle
         });
   }
 
+  /**
+   * @return the position of the record which carries the payload of the given event, i.e. the
+   *     position of the event itself if it doesn't refer to the payload of another record
+   */
+  private static long getPayloadPosition(TypedRecord<WorkflowInstanceRecord> event) {
+    final WorkflowInstanceRecord value = event.getValue();
+    return value.hasPayloadReference() ? value.getPayloadPosition() : event.getPosition();
+  }
+
+  /** Lets the value of the given event refer to its payload, which must not be changed. */
+  private static WorkflowInstanceRecord referToPayloadOf(
+      TypedRecord<WorkflowInstanceRecord> event) {
+    return referToPayload(event.getValue(), getPayloadPosition(event));
+  }
+
+  private static WorkflowInstanceRecord referToPayload(
+      WorkflowInstanceRecord record, long payloadPosition) {
+    if (payloadPosition >= 0 && record.getPayload().capacity() >= MIN_REFERENCED_PAYLOAD_LENGTH) {
+      record.setPayloadReference(payloadPosition);
+    }
+    return record;
+  }
+
   private abstract class FlowElementEventProcessor<T extends FlowElement>
       implements TypedRecordProcessor<WorkflowInstanceRecord> {
     private TypedRecord<WorkflowInstanceRecord> event;
@@ -1033,6 +1085,8 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessorLifecycle
     public void processRecord(
         TypedRecord<WorkflowInstanceRecord> record, EventLifecycleContext ctx) {
       event = record;
+      payloadCache.resolvePayload(event.getValue());
+
       final long workflowKey = event.getValue().getWorkflowKey();
       final DeployedWorkflow deployedWorkflow = workflowCache.getWorkflowByKey(workflowKey);
 
@@ -0,0 +1,111 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.clustering.base.gossip;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.zeebe.broker.clustering.base.topology.NodeInfo;
+import io.zeebe.broker.clustering.base.topology.Topology;
+import io.zeebe.broker.clustering.base.topology.TopologyManagerImpl;
+import io.zeebe.raft.state.RaftState;
+import io.zeebe.transport.SocketAddress;
+import io.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class GossipCustomEventEncodingTest {
+  private static final DirectBuffer TOPIC = BufferUtil.wrapString("test");
+
+  private final NodeInfo localNode =
+      new NodeInfo(
+          new SocketAddress("localhost", 51015),
+          new SocketAddress("localhost", 51016),
+          new SocketAddress("localhost", 51017));
+
+  private final Topology topology = new Topology(localNode);
+  private final TopologyManagerImpl topologyManager = mock(TopologyManagerImpl.class);
+
+  private final ExpandableArrayBuffer writeBuffer = new ExpandableArrayBuffer();
+
+  @Test
+  public void shouldReadPartitionsWithLeaderTerms() {
+    // given
+    topology.updatePartition(1, TOPIC, 3, localNode, RaftState.LEADER, 4);
+    topology.updatePartition(2, TOPIC, 3, localNode, RaftState.FOLLOWER, 5);
+    topology.updatePartition(3, TOPIC, 3, localNode, RaftState.LEADER, 6);
+
+    final int length =
+        GossipCustomEventEncoding.writePartitions(topology, localNode, writeBuffer, 0);
+
+    // when
+    GossipCustomEventEncoding.readPartitions(
+        new UnsafeBuffer(writeBuffer, 0, length), 0, localNode, topologyManager);
+
+    // then
+    verify(topologyManager)
+        .updatePartition(eq(1), any(), eq(3), eq(localNode), eq(RaftState.LEADER), eq(4));
+    verify(topologyManager)
+        .updatePartition(
+            eq(2),
+            any(),
+            eq(3),
+            eq(localNode),
+            eq(RaftState.FOLLOWER),
+            eq(Topology.UNKNOWN_TERM));
+    verify(topologyManager)
+        .updatePartition(eq(3), any(), eq(3), eq(localNode), eq(RaftState.LEADER), eq(6));
+  }
+
+  @Test
+  public void shouldReadPartitionsWithoutLeaderTerms() {
+    // given partitions of a broker which doesn't append the leader terms
+    topology.updatePartition(1, TOPIC, 3, localNode, RaftState.LEADER, 4);
+    topology.updatePartition(2, TOPIC, 3, localNode, RaftState.FOLLOWER, 5);
+
+    final int length =
+        GossipCustomEventEncoding.writePartitions(topology, localNode, writeBuffer, 0)
+            - Integer.BYTES;
+
+    // when
+    GossipCustomEventEncoding.readPartitions(
+        new UnsafeBuffer(writeBuffer, 0, length), 0, localNode, topologyManager);
+
+    // then
+    verify(topologyManager)
+        .updatePartition(
+            eq(1),
+            any(),
+            eq(3),
+            eq(localNode),
+            eq(RaftState.LEADER),
+            eq(Topology.UNKNOWN_TERM));
+    verify(topologyManager)
+        .updatePartition(
+            eq(2),
+            any(),
+            eq(3),
+            eq(localNode),
+            eq(RaftState.FOLLOWER),
+            eq(Topology.UNKNOWN_TERM));
+  }
+}
@@ -40,11 +40,13 @@ import io.zeebe.logstreams.spi.SnapshotStorage;
 import io.zeebe.raft.state.RaftState;
 import io.zeebe.servicecontainer.testing.ServiceContainerRule;
 import io.zeebe.transport.ClientTransport;
+import io.zeebe.transport.ServerTransportBuilder;
 import io.zeebe.transport.SocketAddress;
 import io.zeebe.util.buffer.BufferUtil;
 import io.zeebe.util.sched.testing.ControlledActorSchedulerRule;
 import java.security.MessageDigest;
 import java.time.Duration;
+import org.agrona.DirectBuffer;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -66,9 +68,11 @@ public class SnapshotReplicationServiceTest {
   public RuleChain ruleChain =
       RuleChain.outerRule(tempFolder).around(actorSchedulerRule).around(serviceContainerRule);
 
+  private static final int CHUNK_LENGTH = ServerTransportBuilder.DEFAULT_MAX_MESSAGE_LENGTH;
+
   private final Duration snapshotPollInterval = Duration.ofSeconds(1);
   private final SnapshotReplicationService service =
-      new SnapshotReplicationService(snapshotPollInterval);
+      new SnapshotReplicationService(snapshotPollInterval, 2);
   private final ControlledTopologyManager topologyManager = spy(new ControlledTopologyManager());
   private final BufferingClientOutput output = new BufferingClientOutput(DEFAULT_REQUEST_TIMEOUT);
   private final ClientTransport transport = createTransport();
@@ -276,6 +280,115 @@ public class SnapshotReplicationServiceTest {
         .isEqualTo(ListSnapshotsRequestEncoder.TEMPLATE_ID);
   }
 
+  @Test
+  public void shouldFetchChunksConcurrently() throws Exception {
+    // given
+    final String contents = createContents(CHUNK_LENGTH * 2 + 100);
+    final SnapshotMetadata snapshot = createSnapshot("foo", 3L, contents);
+
+    installService();
+    output.getLastRequest().respondWith(generateListSnapshotsResponse(snapshot));
+    actorSchedulerRule.workUntilDone();
+
+    // then
+    assertThat(output.getSentRequests()).hasSize(3);
+    assertThat(getChunkRequest(1).getChunkOffset()).isEqualTo(0);
+    assertThat(getChunkRequest(2).getChunkOffset()).isEqualTo(CHUNK_LENGTH);
+
+    // when
+    respondWithChunk(2, contents);
+    actorSchedulerRule.workUntilDone();
+
+    // then
+    assertThat(output.getSentRequests()).hasSize(3);
+
+    // when
+    respondWithChunk(1, contents);
+    actorSchedulerRule.workUntilDone();
+
+    // then
+    assertThat(output.getSentRequests()).hasSize(4);
+    assertThat(getChunkRequest(3).getChunkOffset()).isEqualTo(CHUNK_LENGTH * 2);
+
+    // when
+    respondWithChunk(3, contents);
+    actorSchedulerRule.workUntilDone();
+
+    // then
+    assertReplicated(snapshot, contents);
+  }
+
+  @Test
+  public void shouldResumeReplicationFromLastWrittenChunk() throws Exception {
+    // given
+    final String contents = createContents(CHUNK_LENGTH * 2 + 100);
+    final SnapshotMetadata snapshot = createSnapshot("foo", 3L, contents);
+
+    installService();
+    output.getLastRequest().respondWith(generateListSnapshotsResponse(snapshot));
+    actorSchedulerRule.workUntilDone();
+
+    respondWithChunk(1, contents);
+    actorSchedulerRule.workUntilDone();
+
+    // when
+    output.getSentRequests().get(2).respondWith(new RuntimeException("network error"));
+    actorSchedulerRule.workUntilDone();
+    actorSchedulerRule.waitForTimer(errorRetryInterval);
+
+    // then
+    assertThat(output.getSentRequests()).hasSize(6);
+    assertThat(getChunkRequest(4).getChunkOffset()).isEqualTo(CHUNK_LENGTH);
+    assertThat(getChunkRequest(5).getChunkOffset()).isEqualTo(CHUNK_LENGTH * 2);
+
+    // when
+    respondWithChunk(4, contents);
+    respondWithChunk(5, contents);
+    actorSchedulerRule.workUntilDone();
+
+    // then
+    assertReplicated(snapshot, contents);
+  }
+
+  @Test
+  public void shouldIgnoreResponsesOfDiscardedChunkRequests() throws Exception {
+    // given
+    final String contents = createContents(CHUNK_LENGTH * 2 + 100);
+    final SnapshotMetadata snapshot = createSnapshot("foo", 3L, contents);
+
+    installService();
+    output.getLastRequest().respondWith(generateListSnapshotsResponse(snapshot));
+    actorSchedulerRule.workUntilDone();
+
+    output.getSentRequests().get(1).respondWith(new RuntimeException("network error"));
+    actorSchedulerRule.workUntilDone();
+
+    // when
+    respondWithChunk(2, contents);
+    actorSchedulerRule.workUntilDone();
+
+    // then
+    assertThat(output.getSentRequests()).hasSize(3);
+
+    // when
+    actorSchedulerRule.waitForTimer(errorRetryInterval);
+
+    // then
+    assertThat(output.getSentRequests()).hasSize(5);
+    assertThat(getChunkRequest(3).getChunkOffset()).isEqualTo(0);
+    assertThat(getChunkRequest(4).getChunkOffset()).isEqualTo(CHUNK_LENGTH);
+
+    // when
+    respondWithChunk(3, contents);
+    respondWithChunk(4, contents);
+    actorSchedulerRule.workUntilDone();
+    respondWithChunk(5, contents);
+    actorSchedulerRule.workUntilDone();
+
+    // then
+    assertReplicated(snapshot, contents);
+  }
+
   private void installService() {
     serviceContainerRule
         .get()
@@ -311,6 +424,31 @@ public class SnapshotReplicationServiceTest {
     assertThat(request.getLogPosition()).isEqualTo(snapshot.getPosition());
   }
 
+  private FetchSnapshotChunkRequest getChunkRequest(final int index) {
+    final DirectBuffer requestBuffer = output.getSentRequests().get(index).getRequestBuffer();
+    final FetchSnapshotChunkRequest request = new FetchSnapshotChunkRequest();
+    request.wrap(requestBuffer, 0, requestBuffer.capacity());
+
+    return request;
+  }
+
+  private void respondWithChunk(final int index, final String contents) {
+    final FetchSnapshotChunkRequest request = getChunkRequest(index);
+    output
+        .getSentRequests()
+        .get(index)
+        .respondWith(generateFetchSnapshotChunkResponse(contents, request));
+  }
+
+  private String createContents(final int length) {
+    final StringBuilder builder = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      builder.append((char) ('a' + i % 26));
+    }
+
+    return builder.toString();
+  }
+
   @SuppressWarnings("ResultOfMethodCallIgnored")
   private ClientTransport createTransport() {
     final ClientTransport transport = mock(ClientTransport.class);
@@ -322,11 +460,12 @@ public class SnapshotReplicationServiceTest {
   private FetchSnapshotChunkResponse generateFetchSnapshotChunkResponse(
       final String contents, final FetchSnapshotChunkRequest request) {
     final byte[] data = getBytes(contents);
-    final int length = Math.min(request.getChunkLength(), data.length);
+    final int length = Math.min(request.getChunkLength(), data.length - request.getChunkOffset());
     return new FetchSnapshotChunkResponse().setData(data, request.getChunkOffset(), length);
   }
 
-  private ListSnapshotsResponse generateListSnapshotsResponse(final SnapshotMetadata[] snapshots) {
+  private ListSnapshotsResponse generateListSnapshotsResponse(
+      final SnapshotMetadata... snapshots) {
     final ListSnapshotsResponse response = new ListSnapshotsResponse();
     for (final SnapshotMetadata snapshot : snapshots) {
       response.addSnapshot(
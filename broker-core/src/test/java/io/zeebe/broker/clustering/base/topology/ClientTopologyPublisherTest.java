@@ -0,0 +1,213 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.clustering.base.topology;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.zeebe.broker.clustering.base.topology.TopologyDto.BrokerDto;
+import io.zeebe.broker.clustering.base.topology.TopologyDto.PartitionDto;
+import io.zeebe.protocol.clientapi.MessageHeaderDecoder;
+import io.zeebe.protocol.clientapi.TopologyUpdateDecoder;
+import io.zeebe.raft.state.RaftState;
+import io.zeebe.transport.RemoteAddress;
+import io.zeebe.transport.ServerOutput;
+import io.zeebe.transport.ServerResponse;
+import io.zeebe.transport.SocketAddress;
+import io.zeebe.transport.TransportMessage;
+import io.zeebe.transport.impl.RemoteAddressImpl;
+import io.zeebe.util.buffer.BufferUtil;
+import io.zeebe.util.buffer.BufferWriter;
+import io.zeebe.util.sched.future.CompletableActorFuture;
+import io.zeebe.util.sched.testing.ControlledActorSchedulerRule;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ClientTopologyPublisherTest {
+  private static final DirectBuffer TOPIC = BufferUtil.wrapString("test");
+
+  @Rule public ControlledActorSchedulerRule actorSchedulerRule = new ControlledActorSchedulerRule();
+
+  private final NodeInfo localNode =
+      new NodeInfo(
+          new SocketAddress("localhost", 51015),
+          new SocketAddress("localhost", 51016),
+          new SocketAddress("localhost", 51017));
+  private final Topology topology = new Topology(localNode);
+
+  private final RecordingServerOutput output = new RecordingServerOutput();
+
+  private ClientTopologyPublisher publisher;
+
+  @Before
+  public void setUp() {
+    final TopologyManager topologyManager = mock(TopologyManager.class);
+    when(topologyManager.getTopologyDto())
+        .thenAnswer(i -> CompletableActorFuture.completed(topology.asDto()));
+
+    publisher = new ClientTopologyPublisher(topologyManager, output);
+    actorSchedulerRule.submitActor(publisher);
+    actorSchedulerRule.workUntilDone();
+  }
+
+  @Test
+  public void shouldPushTopologyToConnectedClients() {
+    // given
+    publisher.onConnectionEstablished(client(1));
+    publisher.onConnectionEstablished(client(2));
+    actorSchedulerRule.workUntilDone();
+
+    // when
+    updateLeader(1, 3);
+
+    // then
+    assertThat(output.messages).extracting(m -> m.streamId).containsExactlyInAnyOrder(1, 2);
+
+    final PartitionDto partition = output.messages.get(0).getPartitions().get(0);
+    assertThat(partition.getPartitionId()).isEqualTo(1);
+    assertThat(partition.getState()).isEqualTo(RaftState.LEADER);
+    assertThat(partition.getTerm()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldPublishChangesInQuickSuccessionOnce() {
+    // given
+    publisher.onConnectionEstablished(client(1));
+    actorSchedulerRule.workUntilDone();
+
+    // when
+    topology.updatePartition(1, TOPIC, 1, localNode, RaftState.LEADER, 1);
+    publisher.onPartitionUpdated(topology.getPartition(1), localNode);
+    topology.updatePartition(2, TOPIC, 1, localNode, RaftState.LEADER, 1);
+    publisher.onPartitionUpdated(topology.getPartition(2), localNode);
+    actorSchedulerRule.workUntilDone();
+    actorSchedulerRule.waitForTimer(ClientTopologyPublisher.PUBLISH_DELAY);
+
+    // then
+    assertThat(output.messages).hasSize(1);
+    assertThat(output.messages.get(0).getPartitions())
+        .extracting(PartitionDto::getPartitionId)
+        .containsExactlyInAnyOrder(1, 2);
+  }
+
+  @Test
+  public void shouldSendCurrentTopologyToNewClient() {
+    // given
+    updateLeader(1, 3);
+
+    // when
+    publisher.onConnectionEstablished(client(1));
+    actorSchedulerRule.workUntilDone();
+
+    // then
+    assertThat(output.messages).hasSize(1);
+    assertThat(output.messages.get(0).streamId).isEqualTo(1);
+    assertThat(output.messages.get(0).getPartitions()).hasSize(1);
+  }
+
+  @Test
+  public void shouldNotPushTopologyToDisconnectedClient() {
+    // given
+    publisher.onConnectionEstablished(client(1));
+    publisher.onConnectionEstablished(client(2));
+    actorSchedulerRule.workUntilDone();
+
+    // when
+    publisher.onConnectionClosed(client(1));
+    updateLeader(1, 3);
+
+    // then
+    assertThat(output.messages).extracting(m -> m.streamId).containsExactly(2);
+  }
+
+  private void updateLeader(int partitionId, int term) {
+    topology.updatePartition(partitionId, TOPIC, 1, localNode, RaftState.LEADER, term);
+    publisher.onPartitionUpdated(topology.getPartition(partitionId), localNode);
+    actorSchedulerRule.workUntilDone();
+
+    actorSchedulerRule.waitForTimer(ClientTopologyPublisher.PUBLISH_DELAY);
+  }
+
+  private static RemoteAddress client(int streamId) {
+    return new RemoteAddressImpl(streamId, new SocketAddress("localhost", 50000 + streamId));
+  }
+
+  private static class RecordingServerOutput implements ServerOutput {
+    private final List<PushedTopology> messages = new ArrayList<>();
+
+    @Override
+    public boolean sendMessage(TransportMessage transportMessage) {
+      final BufferWriter writer = transportMessage.getWriter();
+      final UnsafeBuffer buffer = new UnsafeBuffer(new byte[writer.getLength()]);
+      writer.write(buffer, 0);
+
+      messages.add(new PushedTopology(transportMessage.getRemoteStreamId(), buffer));
+      return true;
+    }
+
+    @Override
+    public boolean sendResponse(ServerResponse response) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  private static class PushedTopology {
+    private final int streamId;
+    private final TopologyDto topology = new TopologyDto();
+
+    PushedTopology(int streamId, DirectBuffer message) {
+      this.streamId = streamId;
+
+      final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+      final TopologyUpdateDecoder updateDecoder = new TopologyUpdateDecoder();
+
+      headerDecoder.wrap(message, 0);
+      assertThat(headerDecoder.templateId()).isEqualTo(TopologyUpdateDecoder.TEMPLATE_ID);
+
+      updateDecoder.wrap(
+          message,
+          headerDecoder.encodedLength(),
+          headerDecoder.blockLength(),
+          headerDecoder.version());
+
+      final int topologyOffset =
+          updateDecoder.limit() + TopologyUpdateDecoder.topologyHeaderLength();
+      topology.wrap(message, topologyOffset, updateDecoder.topologyLength());
+    }
+
+    List<PartitionDto> getPartitions() {
+      final List<PartitionDto> partitions = new ArrayList<>();
+      for (BrokerDto broker : topology.brokers()) {
+        for (PartitionDto partition : broker.partitionStates()) {
+          final PartitionDto copy = new PartitionDto();
+          copy.setPartitionId(partition.getPartitionId())
+              .setState(partition.getState())
+              .setTerm(partition.getTerm());
+          partitions.add(copy);
+        }
+      }
+      return partitions;
+    }
+  }
+}
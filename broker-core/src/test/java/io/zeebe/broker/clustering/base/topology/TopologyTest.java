@@ -0,0 +1,103 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.clustering.base.topology;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.raft.state.RaftState;
+import io.zeebe.transport.SocketAddress;
+import io.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.junit.Test;
+
+public class TopologyTest {
+  private static final DirectBuffer TOPIC = BufferUtil.wrapString("test");
+  private static final int PARTITION = 1;
+
+  private final NodeInfo localNode = node(51015);
+  private final NodeInfo otherNode = node(52015);
+
+  private final Topology topology = new Topology(localNode);
+
+  @Test
+  public void shouldReplaceLeaderOfNewerTerm() {
+    // given
+    topology.addMember(otherNode);
+    topology.updatePartition(PARTITION, TOPIC, 2, localNode, RaftState.LEADER, 1);
+
+    // when
+    topology.updatePartition(PARTITION, TOPIC, 2, otherNode, RaftState.LEADER, 2);
+
+    // then
+    assertThat(topology.getLeader(PARTITION)).isEqualTo(otherNode);
+    assertThat(topology.getLeaderTerm(PARTITION)).isEqualTo(2);
+    assertThat(localNode.getLeaders()).isEmpty();
+    assertThat(otherNode.getLeaders()).containsExactly(topology.getPartition(PARTITION));
+  }
+
+  @Test
+  public void shouldIgnoreLeaderOfOutdatedTerm() {
+    // given
+    topology.addMember(otherNode);
+    topology.updatePartition(PARTITION, TOPIC, 2, localNode, RaftState.LEADER, 2);
+
+    // when
+    topology.updatePartition(PARTITION, TOPIC, 2, otherNode, RaftState.LEADER, 1);
+
+    // then
+    assertThat(topology.getLeader(PARTITION)).isEqualTo(localNode);
+    assertThat(topology.getLeaderTerm(PARTITION)).isEqualTo(2);
+    assertThat(otherNode.getLeaders()).isEmpty();
+  }
+
+  @Test
+  public void shouldAcceptLeaderOfUnknownTerm() {
+    // given
+    topology.addMember(otherNode);
+    topology.updatePartition(PARTITION, TOPIC, 2, localNode, RaftState.LEADER, 2);
+
+    // when
+    topology.updatePartition(
+        PARTITION, TOPIC, 2, otherNode, RaftState.LEADER, Topology.UNKNOWN_TERM);
+
+    // then
+    assertThat(topology.getLeader(PARTITION)).isEqualTo(otherNode);
+  }
+
+  @Test
+  public void shouldWriteLeaderTermToDto() {
+    // given
+    topology.updatePartition(PARTITION, TOPIC, 2, localNode, RaftState.LEADER, 3);
+
+    // when
+    final TopologyDto dto = topology.asDto();
+
+    // then
+    final TopologyDto.PartitionDto partition =
+        dto.brokers().iterator().next().partitionStates().iterator().next();
+    assertThat(partition.getState()).isEqualTo(RaftState.LEADER);
+    assertThat(partition.getTerm()).isEqualTo(3);
+  }
+
+  private static NodeInfo node(int port) {
+    return new NodeInfo(
+        new SocketAddress("localhost", port),
+        new SocketAddress("localhost", port + 1),
+        new SocketAddress("localhost", port + 2));
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.event.processor;
+
+import static io.zeebe.test.util.TestUtil.doRepeatedly;
+import static io.zeebe.test.util.TestUtil.waitUntil;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.zeebe.broker.logstreams.processor.TypedRecord;
+import io.zeebe.broker.transport.clientapi.CommandResponseWriter;
+import io.zeebe.broker.transport.clientapi.ErrorResponseWriter;
+import io.zeebe.broker.util.StreamProcessorRule;
+import io.zeebe.protocol.intent.SubscriptionIntent;
+import io.zeebe.servicecontainer.ServiceContainer;
+import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.agrona.DirectBuffer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class TopicSubscriptionManagementProcessorTest {
+  private static final DirectBuffer SUBSCRIPTION_NAME = wrapString("foo");
+  private static final int REQUEST_STREAM_ID = 1;
+
+  @Rule public StreamProcessorRule rule = new StreamProcessorRule();
+
+  private TopicSubscriptionManagementProcessor managementProcessor;
+
+  @Before
+  public void setUp() {
+    final ServiceContainer serviceContainer = mock(ServiceContainer.class);
+    when(serviceContainer.removeService(any())).thenReturn(CompletableActorFuture.completed(null));
+
+    managementProcessor =
+        new TopicSubscriptionManagementProcessor(
+            null,
+            null,
+            TopicSubscriptionService.TOPIC_SUBSCRIPTION_EVENT_FILTER,
+            new CommandResponseWriter(rule.getOutput()),
+            new ErrorResponseWriter(rule.getOutput()),
+            null,
+            null,
+            null,
+            serviceContainer);
+
+    rule.runStreamProcessor(env -> managementProcessor);
+  }
+
+  @Test
+  public void shouldWriteLatestAcknowledgementOnFlush() {
+    // given
+    managementProcessor.acknowledgeAsync(SUBSCRIPTION_NAME, 1L, REQUEST_STREAM_ID, 1L);
+    managementProcessor.acknowledgeAsync(SUBSCRIPTION_NAME, 2L, REQUEST_STREAM_ID, 2L);
+    managementProcessor.acknowledgeAsync(SUBSCRIPTION_NAME, 3L, REQUEST_STREAM_ID, 3L);
+
+    waitUntil(() -> rule.getOutput().getSentResponses().size() == 3);
+    assertThat(acknowledgeCommands()).isEmpty();
+
+    // when
+    rule.getClock().addTime(TopicSubscriptionManagementProcessor.ACKNOWLEDGEMENT_FLUSH_INTERVAL);
+
+    // then
+    final TypedRecord<TopicSubscriptionEvent> acknowledgedEvent =
+        doRepeatedly(
+                () ->
+                    rule.events()
+                        .onlySubscriptionRecords()
+                        .withIntent(SubscriptionIntent.ACKNOWLEDGED)
+                        .findFirst())
+            .until(e -> e.isPresent())
+            .get();
+
+    assertThat(acknowledgedEvent.getValue().getName()).isEqualTo(SUBSCRIPTION_NAME);
+    assertThat(acknowledgedEvent.getValue().getAckPosition()).isEqualTo(3L);
+
+    final List<TypedRecord<TopicSubscriptionEvent>> acknowledgeCommands = acknowledgeCommands();
+    assertThat(acknowledgeCommands).hasSize(1);
+    assertThat(acknowledgeCommands.get(0).getValue().getAckPosition()).isEqualTo(3L);
+  }
+
+  @Test
+  public void shouldNotWriteFlushedAcknowledgementAgain() {
+    // given
+    managementProcessor.acknowledgeAsync(SUBSCRIPTION_NAME, 1L, REQUEST_STREAM_ID, 1L);
+    rule.getClock().addTime(TopicSubscriptionManagementProcessor.ACKNOWLEDGEMENT_FLUSH_INTERVAL);
+    waitUntil(() -> acknowledgeCommands().size() == 1);
+
+    // when
+    rule.getClock().addTime(TopicSubscriptionManagementProcessor.ACKNOWLEDGEMENT_FLUSH_INTERVAL);
+    managementProcessor.acknowledgeAsync(SUBSCRIPTION_NAME, 2L, REQUEST_STREAM_ID, 2L);
+    rule.getClock().addTime(TopicSubscriptionManagementProcessor.ACKNOWLEDGEMENT_FLUSH_INTERVAL);
+
+    // then
+    waitUntil(() -> acknowledgeCommands().size() == 2);
+    assertThat(acknowledgeCommands())
+        .extracting(c -> c.getValue().getAckPosition())
+        .containsExactly(1L, 2L);
+  }
+
+  @Test
+  public void shouldWritePendingAcknowledgementWhenSubscriptionIsRemoved() {
+    // given
+    final TopicSubscriptionPushProcessor pushProcessor =
+        new TopicSubscriptionPushProcessor(
+            REQUEST_STREAM_ID, 123L, 0L, SUBSCRIPTION_NAME, 32, e -> true, null, null);
+
+    managementProcessor.acknowledgeAsync(SUBSCRIPTION_NAME, 5L, REQUEST_STREAM_ID, 1L);
+    waitUntil(() -> rule.getOutput().getSentResponses().size() == 1);
+
+    managementProcessor.registerPushProcessor(pushProcessor);
+
+    // when
+    managementProcessor.closePushProcessorAsync(123L).join();
+
+    // then
+    waitUntil(() -> acknowledgeCommands().size() == 1);
+    assertThat(acknowledgeCommands().get(0).getValue().getAckPosition()).isEqualTo(5L);
+    assertThat(managementProcessor.pendingAcknowledgements.isPending(SUBSCRIPTION_NAME)).isFalse();
+  }
+
+  private List<TypedRecord<TopicSubscriptionEvent>> acknowledgeCommands() {
+    return rule.events()
+        .onlySubscriptionRecords()
+        .withIntent(SubscriptionIntent.ACKNOWLEDGE)
+        .collect(Collectors.toList());
+  }
+}
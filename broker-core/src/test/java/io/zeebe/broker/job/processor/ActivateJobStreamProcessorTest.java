@@ -18,7 +18,9 @@
 package io.zeebe.broker.job.processor;
 
 import static io.zeebe.test.util.TestUtil.waitUntil;
+import static org.assertj.core.api.Assertions.assertThat;
 
+import io.zeebe.broker.job.CreditsRequest;
 import io.zeebe.broker.job.data.JobRecord;
 import io.zeebe.broker.topic.StreamProcessorControl;
 import io.zeebe.broker.util.StreamProcessorRule;
@@ -82,6 +84,36 @@ public class ActivateJobStreamProcessorTest {
         () -> rule.events().onlyJobRecords().withIntent(JobIntent.ACTIVATE).count() == numJobs + 1);
   }
 
+  @Test
+  public void shouldNotCountReturnedCreditsAsCompletedJobs() {
+    // given
+    final DirectBuffer jobType = BufferUtil.wrapString("foo");
+    rule.writeEvent(JobIntent.CREATED, jobOfType(jobType));
+
+    final ActivateJobStreamProcessor processor = new ActivateJobStreamProcessor(jobType);
+    rule.runStreamProcessor(processor::createStreamProcessor);
+
+    final JobSubscription subscription = newSubscription(jobType);
+    subscription.setCredits(1);
+    subscription.setSubscriberKey(0);
+    processor.addSubscription(subscription);
+
+    waitUntil(() -> rule.events().onlyJobRecords().withIntent(JobIntent.ACTIVATE).count() == 1);
+    waitUntil(() -> subscription.getCredits() == 0);
+
+    // when the broker returns the credit since the job could not be activated
+    final CreditsRequest creditsRequest = new CreditsRequest();
+    creditsRequest.setSubscriberKey(0);
+    creditsRequest.setCredits(1);
+    creditsRequest.setReturned(true);
+    processor.increaseSubscriptionCreditsAsync(creditsRequest);
+
+    // then
+    waitUntil(() -> subscription.getCredits() == 1);
+    assertThat(subscription.getOutstandingJobs()).isEqualTo(0);
+    assertThat(subscription.hasCompletionRate()).isFalse();
+  }
+
   private JobSubscription newSubscription(final DirectBuffer jobType) {
     return new JobSubscription(0, jobType, 1000L, BufferUtil.wrapString("foo"), 0);
   }
@@ -0,0 +1,226 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.job.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.broker.job.data.JobRecord;
+import io.zeebe.util.buffer.BufferUtil;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Test;
+
+public class JobDistributionStrategyTest {
+
+  private final JobSubscriptions subscriptions = new JobSubscriptions(4);
+  private final JobRecord job = new JobRecord();
+
+  @Test
+  public void shouldDistributeRoundRobin() {
+    // given
+    final JobSubscription subscription1 = addSubscription(1, 10);
+    final JobSubscription subscription2 = addSubscription(2, 10);
+    final RoundRobinJobDistribution strategy = new RoundRobinJobDistribution();
+
+    // then
+    assertThat(strategy.selectSubscription(subscriptions, job)).isSameAs(subscription1);
+    assertThat(strategy.selectSubscription(subscriptions, job)).isSameAs(subscription2);
+    assertThat(strategy.selectSubscription(subscriptions, job)).isSameAs(subscription1);
+  }
+
+  @Test
+  public void shouldNotSelectSubscriptionWithoutCredits() {
+    // given
+    addSubscription(1, 0);
+    final JobSubscription subscription2 = addSubscription(2, 10);
+
+    // then
+    assertThat(new RoundRobinJobDistribution().selectSubscription(subscriptions, job))
+        .isSameAs(subscription2);
+    assertThat(new LeastOutstandingJobDistribution().selectSubscription(subscriptions, job))
+        .isSameAs(subscription2);
+    assertThat(new CompletionRateJobDistribution().selectSubscription(subscriptions, job))
+        .isSameAs(subscription2);
+    assertThat(new WorkflowInstanceAffinityJobDistribution().selectSubscription(subscriptions, job))
+        .isSameAs(subscription2);
+  }
+
+  @Test
+  public void shouldSelectNoSubscriptionIfNoneHasCredits() {
+    // given
+    addSubscription(1, 0);
+
+    // then
+    assertThat(new LeastOutstandingJobDistribution().selectSubscription(subscriptions, job))
+        .isNull();
+    assertThat(new CompletionRateJobDistribution().selectSubscription(subscriptions, job))
+        .isNull();
+  }
+
+  @Test
+  public void shouldSelectSubscriptionWithLeastOutstandingJobs() {
+    // given
+    final JobSubscription subscription1 = addSubscription(1, 10);
+    final JobSubscription subscription2 = addSubscription(2, 10);
+
+    activateJobs(subscription1, 3, 0L);
+    activateJobs(subscription2, 1, 0L);
+
+    // when
+    final JobSubscription selected =
+        new LeastOutstandingJobDistribution().selectSubscription(subscriptions, job);
+
+    // then
+    assertThat(selected).isSameAs(subscription2);
+  }
+
+  @Test
+  public void shouldSelectSubscriptionWithHigherCompletionRate() {
+    // given
+    final JobSubscription slowSubscription = addSubscription(1, 10);
+    final JobSubscription fastSubscription = addSubscription(2, 20);
+
+    // the slow one completes 1 job per second and the fast one 10 jobs per second
+    activateJobs(slowSubscription, 2, 0L);
+    slowSubscription.onJobsCompleted(1, 1_000L);
+
+    activateJobs(fastSubscription, 10, 0L);
+    fastSubscription.onJobsCompleted(5, 500L);
+
+    // when
+    final JobSubscription selected =
+        new CompletionRateJobDistribution().selectSubscription(subscriptions, job);
+
+    // then
+    assertThat(slowSubscription.getCompletionRate()).isEqualTo(1.0);
+    assertThat(fastSubscription.getCompletionRate()).isEqualTo(10.0);
+    assertThat(selected).isSameAs(fastSubscription);
+  }
+
+  @Test
+  public void shouldPreferSubscriptionWithUnknownCompletionRate() {
+    // given
+    final JobSubscription measuredSubscription = addSubscription(1, 10);
+    final JobSubscription newSubscription = addSubscription(2, 10);
+
+    activateJobs(measuredSubscription, 2, 0L);
+    measuredSubscription.onJobsCompleted(1, 1_000L);
+
+    // when
+    final JobSubscription selected =
+        new CompletionRateJobDistribution().selectSubscription(subscriptions, job);
+
+    // then
+    assertThat(newSubscription.hasCompletionRate()).isFalse();
+    assertThat(selected).isSameAs(newSubscription);
+  }
+
+  @Test
+  public void shouldNotCountIdleTimeForCompletionRate() {
+    // given
+    final JobSubscription subscription = addSubscription(1, 10);
+
+    activateJobs(subscription, 1, 0L);
+    subscription.onJobsCompleted(1, 100L);
+
+    // when the subscription gets the next job after a long idle time
+    activateJobs(subscription, 1, 60_000L);
+    subscription.onJobsCompleted(1, 60_100L);
+
+    // then
+    assertThat(subscription.getOutstandingJobs()).isEqualTo(0);
+    assertThat(subscription.getCompletionRate()).isEqualTo(10.0);
+  }
+
+  @Test
+  public void shouldNotCountReturnedJobsForCompletionRate() {
+    // given
+    final JobSubscription subscription = addSubscription(1, 10);
+    activateJobs(subscription, 2, 0L);
+
+    // when the broker returns a credit since a job could not be activated
+    subscription.onJobsReturned(1);
+
+    // then
+    assertThat(subscription.getOutstandingJobs()).isEqualTo(1);
+    assertThat(subscription.hasCompletionRate()).isFalse();
+  }
+
+  @Test
+  public void shouldSelectSameSubscriptionForWorkflowInstance() {
+    // given
+    addSubscription(1, 100);
+    addSubscription(2, 100);
+    addSubscription(3, 100);
+    final WorkflowInstanceAffinityJobDistribution strategy =
+        new WorkflowInstanceAffinityJobDistribution();
+
+    final Set<Long> selectedSubscribers = new HashSet<>();
+
+    for (long workflowInstanceKey = 0; workflowInstanceKey < 30; workflowInstanceKey++) {
+      job.headers().setWorkflowInstanceKey(workflowInstanceKey);
+
+      // when
+      final JobSubscription selected = strategy.selectSubscription(subscriptions, job);
+      activateJobs(selected, 1, 0L);
+
+      // then
+      assertThat(strategy.selectSubscription(subscriptions, job)).isSameAs(selected);
+      selectedSubscribers.add(selected.getSubscriberKey());
+    }
+
+    assertThat(selectedSubscribers).containsExactlyInAnyOrder(1L, 2L, 3L);
+  }
+
+  @Test
+  public void shouldSelectOtherSubscriptionForWorkflowInstanceIfNoCredits() {
+    // given
+    addSubscription(1, 10);
+    addSubscription(2, 10);
+    final WorkflowInstanceAffinityJobDistribution strategy =
+        new WorkflowInstanceAffinityJobDistribution();
+
+    job.headers().setWorkflowInstanceKey(42L);
+    final JobSubscription preferred = strategy.selectSubscription(subscriptions, job);
+
+    // when
+    subscriptions.addCredits(preferred.getSubscriberKey(), -10);
+    final JobSubscription selected = strategy.selectSubscription(subscriptions, job);
+
+    // then
+    assertThat(selected).isNotNull().isNotSameAs(preferred);
+  }
+
+  private JobSubscription addSubscription(long subscriberKey, int credits) {
+    final JobSubscription subscription =
+        new JobSubscription(
+            0, BufferUtil.wrapString("foo"), 1000L, BufferUtil.wrapString("bar"), 0);
+    subscription.setSubscriberKey(subscriberKey);
+    subscription.setCredits(credits);
+
+    subscriptions.addSubscription(subscription);
+    return subscription;
+  }
+
+  private void activateJobs(JobSubscription subscription, int jobs, long now) {
+    for (int i = 0; i < jobs; i++) {
+      subscriptions.addCredits(subscription.getSubscriberKey(), -1);
+      subscription.onJobActivated(now);
+    }
+  }
+}
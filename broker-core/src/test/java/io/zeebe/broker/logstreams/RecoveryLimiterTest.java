@@ -0,0 +1,152 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.sched.future.CompletableActorFuture;
+import io.zeebe.util.sched.testing.ControlledActorSchedulerRule;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class RecoveryLimiterTest {
+  @Rule public ControlledActorSchedulerRule actorSchedulerRule = new ControlledActorSchedulerRule();
+
+  private final List<Recovery> recoveries = new ArrayList<>();
+
+  @Test
+  public void shouldLimitConcurrentRecoveries() {
+    // given
+    final RecoveryLimiter limiter = newLimiter(2);
+
+    // when
+    recover(limiter, 4);
+
+    // then
+    assertThat(startedRecoveries()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldStartNextRecoveryWhenRecovered() {
+    // given
+    final RecoveryLimiter limiter = newLimiter(2);
+    recover(limiter, 4);
+
+    // when
+    recoveries.get(1).started.complete(null);
+    recoveries.get(1).recovered.complete(null);
+    actorSchedulerRule.workUntilDone();
+
+    // then
+    assertThat(startedRecoveries()).isEqualTo(3);
+    assertThat(recoveries.get(2).isStarted).isTrue();
+  }
+
+  @Test
+  public void shouldHoldPermitUntilRecovered() {
+    // given
+    final RecoveryLimiter limiter = newLimiter(1);
+    recover(limiter, 2);
+
+    // when
+    recoveries.get(0).started.complete(null);
+    actorSchedulerRule.workUntilDone();
+
+    // then
+    assertThat(recoveries.get(0).result.isDone()).isTrue();
+    assertThat(startedRecoveries()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldReleasePermitIfRecoveryFailsToStart() {
+    // given
+    final RecoveryLimiter limiter = newLimiter(1);
+    recover(limiter, 2);
+
+    // when
+    recoveries.get(0).started.completeExceptionally(new RuntimeException("expected"));
+    actorSchedulerRule.workUntilDone();
+
+    // then
+    assertThat(recoveries.get(0).result.isCompletedExceptionally()).isTrue();
+    assertThat(startedRecoveries()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldReleasePermitIfRecoveryFails() {
+    // given
+    final RecoveryLimiter limiter = newLimiter(1);
+    recover(limiter, 2);
+
+    // when
+    recoveries.get(0).started.complete(null);
+    recoveries.get(0).recovered.completeExceptionally(new RuntimeException("expected"));
+    actorSchedulerRule.workUntilDone();
+
+    // then
+    assertThat(startedRecoveries()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNotLimitRecoveriesIfConcurrencyIsZero() {
+    // given
+    final RecoveryLimiter limiter = newLimiter(0);
+
+    // when
+    recover(limiter, 4);
+
+    // then
+    assertThat(startedRecoveries()).isEqualTo(4);
+  }
+
+  private RecoveryLimiter newLimiter(int concurrency) {
+    final RecoveryLimiter limiter = new RecoveryLimiter(concurrency);
+    actorSchedulerRule.submitActor(limiter);
+    actorSchedulerRule.workUntilDone();
+    return limiter;
+  }
+
+  private void recover(RecoveryLimiter limiter, int count) {
+    for (int i = 0; i < count; i++) {
+      final Recovery recovery = new Recovery();
+      recovery.result = limiter.recover(recovery::start, v -> recovery.recovered);
+      recoveries.add(recovery);
+    }
+    actorSchedulerRule.workUntilDone();
+  }
+
+  private long startedRecoveries() {
+    return recoveries.stream().filter(r -> r.isStarted).count();
+  }
+
+  private static class Recovery {
+    private final CompletableActorFuture<Void> started = new CompletableActorFuture<>();
+    private final CompletableActorFuture<Void> recovered = new CompletableActorFuture<>();
+
+    private ActorFuture<Void> result;
+    private boolean isStarted;
+
+    ActorFuture<Void> start() {
+      isStarted = true;
+      return started;
+    }
+  }
+}
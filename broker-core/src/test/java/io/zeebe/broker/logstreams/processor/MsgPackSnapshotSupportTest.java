@@ -0,0 +1,160 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.broker.system.workflow.repository.processor.state.WorkflowRepositoryIndex.WorkflowMetadata;
+import io.zeebe.broker.system.workflow.repository.processor.state.WorkflowRepositoryIndex.WorkflowRepositoryIndexData;
+import io.zeebe.broker.system.workflow.repository.processor.state.WorkflowRepositoryIndex.WorkflowsByBpmnProcessId;
+import io.zeebe.broker.system.workflow.repository.processor.state.WorkflowRepositoryIndex.WorkflowsByTopic;
+import io.zeebe.logstreams.spi.ComposableSnapshotSupport;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class MsgPackSnapshotSupportTest {
+  @Rule public ExpectedException thrown = ExpectedException.none();
+
+  private final MsgPackSnapshotSupport<WorkflowRepositoryIndexData> snapshotSupport =
+      new MsgPackSnapshotSupport<>(WorkflowRepositoryIndexData.class);
+
+  @Test
+  public void shouldRecoverFromSnapshot() throws Exception {
+    // given
+    fill(snapshotSupport.getData());
+    final byte[] snapshot = writeSnapshot(snapshotSupport);
+
+    // when
+    final MsgPackSnapshotSupport<WorkflowRepositoryIndexData> recoveredSupport =
+        new MsgPackSnapshotSupport<>(WorkflowRepositoryIndexData.class);
+    recoveredSupport.recoverFromSnapshot(new ByteArrayInputStream(snapshot));
+
+    // then
+    assertRecovered(recoveredSupport.getData());
+  }
+
+  @Test
+  public void shouldWriteSnapshotWithHeader() throws Exception {
+    // when
+    final byte[] snapshot = writeSnapshot(snapshotSupport);
+
+    // then
+    assertThat(snapshot[0] & 0xFF).isEqualTo(MsgPackSnapshotSupport.HEADER_MARKER);
+    assertThat(snapshot[1] & 0xFF).isEqualTo(MsgPackSnapshotSupport.FORMAT_VERSION);
+  }
+
+  @Test
+  public void shouldRecoverFromJsonSnapshot() throws Exception {
+    // given
+    final JsonSnapshotSupport<WorkflowRepositoryIndexData> jsonSnapshotSupport =
+        new JsonSnapshotSupport<>(WorkflowRepositoryIndexData.class);
+    fill(jsonSnapshotSupport.getData());
+    final byte[] snapshot = writeSnapshot(jsonSnapshotSupport);
+
+    // when
+    snapshotSupport.recoverFromSnapshot(new ByteArrayInputStream(snapshot));
+
+    // then
+    assertRecovered(snapshotSupport.getData());
+  }
+
+  @Test
+  public void shouldWriteSmallerSnapshotThanJson() throws Exception {
+    // given
+    final JsonSnapshotSupport<WorkflowRepositoryIndexData> jsonSnapshotSupport =
+        new JsonSnapshotSupport<>(WorkflowRepositoryIndexData.class);
+    fill(jsonSnapshotSupport.getData());
+    fill(snapshotSupport.getData());
+
+    // when
+    final long jsonSnapshotSize = jsonSnapshotSupport.snapshotSize();
+    final long msgPackSnapshotSize = snapshotSupport.snapshotSize();
+
+    // then
+    assertThat(msgPackSnapshotSize).isLessThan(jsonSnapshotSize);
+  }
+
+  @Test
+  public void shouldNotRecoverFromUnknownFormatVersion() throws Exception {
+    // given
+    final byte[] snapshot = writeSnapshot(snapshotSupport);
+    snapshot[1] = (byte) (MsgPackSnapshotSupport.FORMAT_VERSION + 1);
+
+    // then
+    thrown.expect(IllegalStateException.class);
+    thrown.expectMessage("Cannot recover from snapshot with format version 2, expected 1");
+
+    // when
+    snapshotSupport.recoverFromSnapshot(new ByteArrayInputStream(snapshot));
+  }
+
+  private byte[] writeSnapshot(ComposableSnapshotSupport snapshotSupport) throws Exception {
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    snapshotSupport.snapshotSize();
+    snapshotSupport.writeSnapshot(outputStream);
+
+    return outputStream.toByteArray();
+  }
+
+  private void fill(WorkflowRepositoryIndexData data) {
+    final WorkflowsByBpmnProcessId workflowsByProcessId = new WorkflowsByBpmnProcessId();
+    workflowsByProcessId.setLastGeneratedVersion(2);
+    workflowsByProcessId.getVersions().put(1, 3L);
+    workflowsByProcessId.getVersions().put(2, 4L);
+
+    final WorkflowsByTopic workflowsByTopic = new WorkflowsByTopic();
+    workflowsByTopic.getBpmnProcessIds().put("process", workflowsByProcessId);
+    data.getTopics().put("topic", workflowsByTopic);
+
+    data.getWorkflows()
+        .put(
+            4L,
+            new WorkflowMetadata()
+                .setKey(4L)
+                .setVersion(2)
+                .setBpmnProcessId("process")
+                .setTopicName("topic")
+                .setResourceName("process.bpmn")
+                .setEventPosition(123L));
+
+    data.setLastGeneratedKey(4L);
+  }
+
+  private void assertRecovered(WorkflowRepositoryIndexData data) {
+    assertThat(data.getLastGeneratedKey()).isEqualTo(4L);
+    assertThat(data.getTopics()).containsOnlyKeys("topic");
+
+    final WorkflowsByBpmnProcessId workflowsByProcessId =
+        data.getTopics().get("topic").getBpmnProcessIds().get("process");
+    assertThat(workflowsByProcessId.getLastGeneratedVersion()).isEqualTo(2);
+    assertThat(workflowsByProcessId.getVersions()).containsEntry(1, 3L).containsEntry(2, 4L);
+
+    assertThat(data.getWorkflows()).containsOnlyKeys(4L);
+    final WorkflowMetadata workflow = data.getWorkflows().get(4L);
+    assertThat(workflow.getKey()).isEqualTo(4L);
+    assertThat(workflow.getVersion()).isEqualTo(2);
+    assertThat(workflow.getBpmnProcessId()).isEqualTo("process");
+    assertThat(workflow.getTopicName()).isEqualTo("topic");
+    assertThat(workflow.getResourceName()).isEqualTo("process.bpmn");
+    assertThat(workflow.getEventPosition()).isEqualTo(123L);
+  }
+}
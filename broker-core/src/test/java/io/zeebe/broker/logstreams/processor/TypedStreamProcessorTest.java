@@ -19,15 +19,24 @@ package io.zeebe.broker.logstreams.processor;
 
 import static io.zeebe.test.util.TestUtil.doRepeatedly;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import io.zeebe.broker.clustering.orchestration.topic.TopicRecord;
+import io.zeebe.broker.logstreams.processor.StreamProcessorServiceFactory.MetadataEventFilter;
 import io.zeebe.broker.topic.Records;
 import io.zeebe.broker.topic.StreamProcessorControl;
 import io.zeebe.broker.util.TestStreams;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.log.LoggedEvent;
+import io.zeebe.protocol.Protocol;
 import io.zeebe.protocol.clientapi.RecordType;
 import io.zeebe.protocol.clientapi.ValueType;
+import io.zeebe.protocol.impl.RecordMetadata;
 import io.zeebe.protocol.intent.TopicIntent;
 import io.zeebe.servicecontainer.testing.ServiceContainerRule;
 import io.zeebe.test.util.AutoCloseableRule;
@@ -116,6 +125,87 @@ public class TypedStreamProcessorTest {
     assertThat(writtenEvent.getSourceEventPosition()).isEqualTo(firstEventPosition);
   }
 
+  @Test
+  public void shouldDecodeMetadataOncePerPosition() {
+    // given
+    final TypedStreamProcessor streamProcessor = newTopicCreateProcessor();
+    final LoggedEvent event = mockTopicCommand(1L);
+
+    // when
+    final RecordMetadata metadata = streamProcessor.readMetadata(event);
+    streamProcessor.readMetadata(event);
+
+    // then
+    verify(event, times(1)).readMetadata(any());
+    assertThat(streamProcessor.readMetadata(event)).isSameAs(metadata);
+    assertThat(metadata.getValueType()).isEqualTo(ValueType.TOPIC);
+    assertThat(metadata.getIntent()).isEqualTo(TopicIntent.CREATE);
+  }
+
+  @Test
+  public void shouldDecodeMetadataAgainOnNewPosition() {
+    // given
+    final TypedStreamProcessor streamProcessor = newTopicCreateProcessor();
+    final LoggedEvent firstEvent = mockTopicCommand(1L);
+    final LoggedEvent secondEvent = mockTopicCommand(2L);
+
+    streamProcessor.readMetadata(firstEvent);
+
+    // when
+    streamProcessor.readMetadata(secondEvent);
+    streamProcessor.readMetadata(firstEvent);
+
+    // then
+    verify(firstEvent, times(2)).readMetadata(any());
+    verify(secondEvent, times(1)).readMetadata(any());
+  }
+
+  @Test
+  public void shouldShareDecodedMetadataWithEventFilter() {
+    // given
+    final TypedStreamProcessor streamProcessor = newTopicCreateProcessor();
+    final MetadataEventFilter eventFilter =
+        new MetadataEventFilter(streamProcessor.buildTypeFilter(), streamProcessor::readMetadata);
+    final LoggedEvent event = mockTopicCommand(1L);
+
+    // when
+    final boolean applies = eventFilter.applies(event);
+    final RecordMetadata metadata = streamProcessor.readMetadata(event);
+
+    // then
+    assertThat(applies).isTrue();
+    assertThat(metadata.getIntent()).isEqualTo(TopicIntent.CREATE);
+    verify(event, times(1)).readMetadata(any());
+  }
+
+  protected TypedStreamProcessor newTopicCreateProcessor() {
+    final TypedStreamEnvironment env =
+        new TypedStreamEnvironment(streams.getLogStream(STREAM_NAME), output);
+
+    return env.newStreamProcessor()
+        .onCommand(ValueType.TOPIC, TopicIntent.CREATE, new BatchProcessor())
+        .build();
+  }
+
+  protected LoggedEvent mockTopicCommand(long position) {
+    final LoggedEvent event = mock(LoggedEvent.class);
+    when(event.getPosition()).thenReturn(position);
+    doAnswer(
+            i -> {
+              final RecordMetadata metadata = i.getArgument(0);
+              metadata
+                  .recordType(RecordType.COMMAND)
+                  .valueType(ValueType.TOPIC)
+                  .intent(TopicIntent.CREATE)
+                  .protocolVersion(Protocol.PROTOCOL_VERSION);
+              return null;
+            })
+        .when(event)
+        .readMetadata(any());
+
+    return event;
+  }
+
   protected TopicRecord topic(String name, int partitions) {
     final TopicRecord event = new TopicRecord();
     event.setName(BufferUtil.wrapString(name));
@@ -0,0 +1,219 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.zeebe.map.Long2BytesZbMap;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.sched.future.CompletableActorFuture;
+import io.zeebe.util.sched.testing.ControlledActorSchedulerRule;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class StateQueryServiceTest {
+  private static final int PARTITION_ID = 1;
+  private static final int ENTRY_COUNT = 10 * StateScan.ENTRIES_PER_STEP;
+
+  @Rule public ControlledActorSchedulerRule schedulerRule = new ControlledActorSchedulerRule();
+
+  private final StateQueryService queryService = new StateQueryService();
+  private final TestState state = new TestState();
+  private final TestActor processor = new TestActor();
+
+  private ActorFuture<StateQueryResponse> startedScan;
+
+  @Before
+  public void setUp() {
+    LongStream.range(0, ENTRY_COUNT).forEach(state::put);
+
+    schedulerRule.submitActor(processor);
+    schedulerRule.workUntilDone();
+
+    queryService.register(PARTITION_ID, StateType.JOB, processor.getActorControl(), state);
+  }
+
+  @After
+  public void tearDown() {
+    state.close();
+  }
+
+  @Test
+  public void shouldProcessBetweenScanSteps() {
+    // given
+    final CompletableActorFuture<Boolean> processingFuture = new CompletableActorFuture<>();
+
+    // when
+    final ActorFuture<StateQueryResponse> scanFuture =
+        scanAndThen(
+            scan(10),
+            () -> {
+              state.put(ENTRY_COUNT);
+              processingFuture.complete(startedScan.isDone());
+            });
+
+    // then
+    assertThat(processingFuture.join()).isFalse();
+
+    assertThat(scanFuture.join().getNextKey()).isEqualTo(10L);
+    assertThat(state.foundKeys).containsExactlyElementsOf(keys(0, 10));
+  }
+
+  @Test
+  public void shouldScanWhileStateIsModified() {
+    // when removing and adding entries between the scan steps
+    final Runnable processing =
+        new Runnable() {
+          long nextKey = ENTRY_COUNT - 1;
+
+          @Override
+          public void run() {
+            if (!startedScan.isDone()) {
+              for (int i = 0; i < 100; i++) {
+                state.remove(nextKey);
+                state.put(nextKey + ENTRY_COUNT);
+                nextKey -= 1;
+              }
+
+              processor.getActorControl().submit(this);
+            }
+          }
+        };
+    final ActorFuture<StateQueryResponse> scanFuture = scanAndThen(scan(10), processing);
+
+    // then
+    assertThat(scanFuture.join().getNextKey()).isEqualTo(10L);
+    assertThat(state.foundKeys).containsExactlyElementsOf(keys(0, 10));
+  }
+
+  @Test
+  public void shouldScanFromKey() {
+    // when
+    final StateQueryRequest request = scan(10).setFromKey(ENTRY_COUNT - 5);
+    final ActorFuture<StateQueryResponse> scanFuture = queryService.query(PARTITION_ID, request);
+
+    schedulerRule.workUntilDone();
+
+    // then
+    assertThat(scanFuture.join().getNextKey()).isEqualTo(-1L);
+    assertThat(state.foundKeys).containsExactlyElementsOf(keys(ENTRY_COUNT - 5, ENTRY_COUNT));
+  }
+
+  @Test
+  public void shouldFailScanIfStateIsUnregistered() {
+    // when unregistering the state between the scan steps
+    final ActorFuture<StateQueryResponse> scanFuture =
+        scanAndThen(scan(10), () -> queryService.unregister(PARTITION_ID, StateType.JOB, state));
+
+    // then
+    assertThat(scanFuture.isCompletedExceptionally()).isTrue();
+    assertThatThrownBy(scanFuture::join).hasMessageContaining("State is closed");
+    assertThat(state.foundKeys).isEmpty();
+  }
+
+  @Test
+  public void shouldFailScanIfActorIsClosed() {
+    // when closing the actor between the scan steps
+    final ActorFuture<StateQueryResponse> scanFuture =
+        scanAndThen(scan(10), () -> processor.getActorControl().close());
+
+    // then
+    assertThat(scanFuture.isCompletedExceptionally()).isTrue();
+    assertThatThrownBy(scanFuture::join).hasMessageContaining("State is closed");
+    assertThat(state.foundKeys).isEmpty();
+  }
+
+  /**
+   * Starts the scan on the actor and submits the given job afterwards, so that the job runs after
+   * the first step of the scan.
+   */
+  private ActorFuture<StateQueryResponse> scanAndThen(StateQueryRequest request, Runnable job) {
+    processor
+        .getActorControl()
+        .run(
+            () -> {
+              startedScan = queryService.query(PARTITION_ID, request);
+              processor.getActorControl().submit(job);
+            });
+
+    schedulerRule.workUntilDone();
+
+    return startedScan;
+  }
+
+  private static StateQueryRequest scan(int limit) {
+    return new StateQueryRequest().setStateType(StateType.JOB).setLimit(limit);
+  }
+
+  private static List<Long> keys(long from, long to) {
+    return LongStream.range(from, to).boxed().collect(Collectors.toList());
+  }
+
+  private static class TestState implements QueryableState {
+    private final Long2BytesZbMap map = new Long2BytesZbMap(BitUtil.SIZE_OF_LONG);
+    private final UnsafeBuffer value = new UnsafeBuffer(new byte[BitUtil.SIZE_OF_LONG]);
+
+    private final List<Long> foundKeys = new ArrayList<>();
+
+    void put(long key) {
+      value.putLong(0, key);
+      map.put(key, value);
+    }
+
+    void remove(long key) {
+      map.remove(key);
+    }
+
+    void close() {
+      map.close();
+    }
+
+    @Override
+    public Long2BytesZbMap getMap() {
+      return map;
+    }
+
+    @Override
+    public void addQueryEntry(long key, DirectBuffer value, StateQueryResponse response) {
+      foundKeys.add(key);
+    }
+  }
+
+  private class TestActor extends Actor {
+    ActorControl getActorControl() {
+      return actor;
+    }
+
+    @Override
+    protected void onActorClosing() {
+      queryService.unregister(PARTITION_ID, StateType.JOB, state);
+    }
+  }
+}
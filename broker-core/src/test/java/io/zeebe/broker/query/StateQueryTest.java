@@ -0,0 +1,222 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.query;
+
+import static io.zeebe.test.util.TestUtil.waitUntil;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.broker.test.EmbeddedBrokerRule;
+import io.zeebe.model.bpmn.Bpmn;
+import io.zeebe.model.bpmn.instance.WorkflowDefinition;
+import io.zeebe.protocol.clientapi.ControlMessageType;
+import io.zeebe.protocol.clientapi.ErrorCode;
+import io.zeebe.protocol.intent.JobIntent;
+import io.zeebe.test.broker.protocol.clientapi.ClientApiRule;
+import io.zeebe.test.broker.protocol.clientapi.ControlMessageResponse;
+import io.zeebe.test.broker.protocol.clientapi.ErrorResponse;
+import io.zeebe.test.broker.protocol.clientapi.SubscribedRecord;
+import io.zeebe.test.broker.protocol.clientapi.TestTopicClient;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class StateQueryTest {
+
+  private static final WorkflowDefinition WORKFLOW =
+      Bpmn.createExecutableWorkflow("process")
+          .startEvent()
+          .serviceTask("task", t -> t.taskType("test"))
+          .endEvent()
+          .done();
+
+  public EmbeddedBrokerRule brokerRule = new EmbeddedBrokerRule();
+  public ClientApiRule apiRule = new ClientApiRule();
+
+  @Rule public RuleChain ruleChain = RuleChain.outerRule(brokerRule).around(apiRule);
+
+  private TestTopicClient testClient;
+
+  @Before
+  public void setUp() {
+    testClient = apiRule.topic();
+  }
+
+  @Test
+  public void shouldLookupJob() {
+    // given
+    final long jobKey = testClient.createJob("foo").key();
+
+    // when
+    waitUntil(() -> !entries(lookup(StateType.JOB, jobKey), "jobs").isEmpty());
+    final ControlMessageResponse response = lookup(StateType.JOB, jobKey);
+
+    // then
+    final List<Map<String, Object>> jobs = entries(response, "jobs");
+    assertThat(jobs).hasSize(1);
+    assertThat(jobs.get(0)).containsEntry("key", jobKey).containsEntry("state", "CREATED");
+    assertThat(nextKey(response)).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldReturnNoEntryForUnknownKey() {
+    // when
+    final ControlMessageResponse response = lookup(StateType.JOB, 123L);
+
+    // then
+    assertThat(entries(response, "jobs")).isEmpty();
+  }
+
+  @Test
+  public void shouldScanJobsInKeyOrder() {
+    // given
+    final long firstKey = testClient.createJob("foo").key();
+    final long secondKey = testClient.createJob("foo").key();
+    final long thirdKey = testClient.createJob("foo").key();
+
+    waitUntil(() -> entries(scan(StateType.JOB, 0, 10), "jobs").size() == 3);
+
+    // when
+    final ControlMessageResponse firstPage = scan(StateType.JOB, 0, 2);
+
+    // then
+    assertThat(keys(entries(firstPage, "jobs"))).containsExactly(firstKey, secondKey);
+    assertThat(nextKey(firstPage)).isEqualTo(secondKey + 1);
+
+    // when
+    final ControlMessageResponse secondPage = scan(StateType.JOB, secondKey + 1, 2);
+
+    // then
+    assertThat(keys(entries(secondPage, "jobs"))).containsExactly(thirdKey);
+    assertThat(nextKey(secondPage)).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldLookupWorkflowInstanceAndActivityInstance() {
+    // given
+    testClient.deploy(WORKFLOW);
+    final long workflowInstanceKey = testClient.createWorkflowInstance("process");
+
+    final SubscribedRecord jobEvent =
+        testClient.receiveEvents().ofTypeJob().withIntent(JobIntent.CREATED).getFirst();
+    @SuppressWarnings("unchecked")
+    final Map<String, Object> headers = (Map<String, Object>) jobEvent.value().get("headers");
+    final long activityInstanceKey = (long) headers.get("activityInstanceKey");
+
+    // when
+    final ControlMessageResponse workflowInstanceResponse =
+        lookup(StateType.WORKFLOW_INSTANCE, workflowInstanceKey);
+    final ControlMessageResponse activityInstanceResponse =
+        lookup(StateType.ACTIVITY_INSTANCE, activityInstanceKey);
+
+    // then
+    final List<Map<String, Object>> workflowInstances =
+        entries(workflowInstanceResponse, "workflowInstances");
+    assertThat(workflowInstances).hasSize(1);
+    assertThat(workflowInstances.get(0))
+        .containsEntry("key", workflowInstanceKey)
+        .containsEntry("activityInstanceKey", activityInstanceKey);
+
+    final List<Map<String, Object>> activityInstances =
+        entries(activityInstanceResponse, "activityInstances");
+    assertThat(activityInstances).hasSize(1);
+    assertThat(activityInstances.get(0))
+        .containsEntry("key", activityInstanceKey)
+        .containsEntry("activityId", "task")
+        .containsEntry("jobKey", jobEvent.key());
+  }
+
+  @Test
+  public void shouldRejectInvalidLimit() {
+    // when
+    final ErrorResponse error =
+        apiRule
+            .createControlMessageRequest()
+            .messageType(ControlMessageType.QUERY_STATE)
+            .partitionId(apiRule.getDefaultPartitionId())
+            .data()
+            .put("stateType", StateType.JOB.name())
+            .put("limit", StateQueryRequest.MAX_LIMIT + 1)
+            .done()
+            .send()
+            .awaitError();
+
+    // then
+    assertThat(error.getErrorCode()).isEqualTo(ErrorCode.INVALID_MESSAGE);
+    assertThat(error.getErrorData()).contains("Limit must be between 1 and 1000");
+  }
+
+  @Test
+  public void shouldRejectQueryOfUnknownPartition() {
+    // when
+    final ErrorResponse error =
+        apiRule
+            .createControlMessageRequest()
+            .messageType(ControlMessageType.QUERY_STATE)
+            .partitionId(999)
+            .data()
+            .put("stateType", StateType.JOB.name())
+            .done()
+            .sendWithoutRetries()
+            .awaitError();
+
+    // then
+    assertThat(error.getErrorCode()).isEqualTo(ErrorCode.PARTITION_NOT_FOUND);
+  }
+
+  private ControlMessageResponse lookup(StateType stateType, long key) {
+    return apiRule
+        .createControlMessageRequest()
+        .messageType(ControlMessageType.QUERY_STATE)
+        .partitionId(apiRule.getDefaultPartitionId())
+        .data()
+        .put("stateType", stateType.name())
+        .put("key", key)
+        .done()
+        .sendAndAwait();
+  }
+
+  private ControlMessageResponse scan(StateType stateType, long fromKey, int limit) {
+    return apiRule
+        .createControlMessageRequest()
+        .messageType(ControlMessageType.QUERY_STATE)
+        .partitionId(apiRule.getDefaultPartitionId())
+        .data()
+        .put("stateType", stateType.name())
+        .put("fromKey", fromKey)
+        .put("limit", limit)
+        .done()
+        .sendAndAwait();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Map<String, Object>> entries(ControlMessageResponse response, String name) {
+    return (List<Map<String, Object>>) response.getData().get(name);
+  }
+
+  private static long nextKey(ControlMessageResponse response) {
+    return ((Number) response.getData().get("nextKey")).longValue();
+  }
+
+  private static List<Long> keys(List<Map<String, Object>> entries) {
+    return entries.stream().map(e -> (Long) e.get("key")).collect(Collectors.toList());
+  }
+}
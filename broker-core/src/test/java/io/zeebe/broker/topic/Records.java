@@ -66,6 +66,10 @@ public class Records {
     return isRecordOfType(event, ValueType.JOB);
   }
 
+  public static boolean isSubscriptionRecord(LoggedEvent event) {
+    return isRecordOfType(event, ValueType.SUBSCRIPTION);
+  }
+
   public static boolean isIncidentRecord(LoggedEvent event) {
     return isRecordOfType(event, ValueType.INCIDENT);
   }
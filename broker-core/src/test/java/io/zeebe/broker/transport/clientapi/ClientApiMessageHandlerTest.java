@@ -19,6 +19,7 @@ package io.zeebe.broker.transport.clientapi;
 
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.alignedFramedLength;
 import static io.zeebe.util.VarDataUtil.readBytes;
+import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
 import static io.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -28,6 +29,7 @@ import static org.mockito.Mockito.when;
 
 import io.zeebe.broker.clustering.base.partitions.Partition;
 import io.zeebe.broker.clustering.base.topology.PartitionInfo;
+import io.zeebe.broker.event.processor.TopicSubscriptionEvent;
 import io.zeebe.broker.job.data.JobRecord;
 import io.zeebe.broker.transport.controlmessage.ControlMessageRequestHeaderDescriptor;
 import io.zeebe.dispatcher.ClaimedFragment;
@@ -41,20 +43,30 @@ import io.zeebe.protocol.clientapi.ControlMessageRequestDecoder;
 import io.zeebe.protocol.clientapi.ControlMessageRequestEncoder;
 import io.zeebe.protocol.clientapi.ErrorCode;
 import io.zeebe.protocol.clientapi.ErrorResponseDecoder;
+import io.zeebe.protocol.clientapi.ExecuteCommandBatchRequestEncoder;
+import io.zeebe.protocol.clientapi.ExecuteCommandBatchRequestEncoder.CommandsEncoder;
+import io.zeebe.protocol.clientapi.ExecuteCommandBatchResponseDecoder;
+import io.zeebe.protocol.clientapi.ExecuteCommandBatchResponseDecoder.ResponsesDecoder;
 import io.zeebe.protocol.clientapi.ExecuteCommandRequestEncoder;
+import io.zeebe.protocol.clientapi.MessageHeaderDecoder;
 import io.zeebe.protocol.clientapi.MessageHeaderEncoder;
 import io.zeebe.protocol.clientapi.ValueType;
 import io.zeebe.protocol.impl.RecordMetadata;
 import io.zeebe.protocol.intent.DeploymentIntent;
 import io.zeebe.protocol.intent.Intent;
 import io.zeebe.protocol.intent.JobIntent;
+import io.zeebe.protocol.intent.SubscriptionIntent;
 import io.zeebe.raft.state.RaftState;
 import io.zeebe.servicecontainer.testing.ServiceContainerRule;
 import io.zeebe.test.util.TestUtil;
 import io.zeebe.transport.RemoteAddress;
+import io.zeebe.transport.ServerOutput;
+import io.zeebe.transport.ServerResponse;
 import io.zeebe.transport.SocketAddress;
 import io.zeebe.transport.impl.RemoteAddressImpl;
 import io.zeebe.util.sched.testing.ActorSchedulerRule;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import org.agrona.DirectBuffer;
@@ -72,6 +84,7 @@ import org.mockito.stubbing.Answer;
 public class ClientApiMessageHandlerTest {
   private static final int REQUEST_ID = 5;
   private static final int RAFT_TERM = 10;
+  private static final long SOURCE_RECORD_POSITION = 100L;
   protected static final RemoteAddress DEFAULT_ADDRESS =
       new RemoteAddressImpl(21, new SocketAddress("foo", 4242));
 
@@ -95,6 +108,8 @@ public class ClientApiMessageHandlerTest {
   protected final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
   protected final ExecuteCommandRequestEncoder commandRequestEncoder =
       new ExecuteCommandRequestEncoder();
+  protected final ExecuteCommandBatchRequestEncoder commandBatchRequestEncoder =
+      new ExecuteCommandBatchRequestEncoder();
   protected final ControlMessageRequestEncoder controlRequestEncoder =
       new ControlMessageRequestEncoder();
   protected final ControlMessageRequestDecoder controlRequestDecoder =
@@ -106,6 +121,7 @@ public class ClientApiMessageHandlerTest {
 
   private LogStream logStream;
   private ClientApiMessageHandler messageHandler;
+  private CommandBatchResponseCollector batchResponseCollector;
 
   @Mock private Dispatcher mockControlMessageDispatcher;
 
@@ -120,6 +136,7 @@ public class ClientApiMessageHandlerTest {
       RuleChain.outerRule(tempFolder).around(agentRunnerService).around(serviceContainerRule);
 
   protected BufferingServerOutput serverOutput;
+  protected ServerOutput collectingServerOutput;
 
   @Before
   public void setup() {
@@ -127,6 +144,9 @@ public class ClientApiMessageHandlerTest {
 
     serverOutput = new BufferingServerOutput();
 
+    batchResponseCollector = new CommandBatchResponseCollector();
+    collectingServerOutput = batchResponseCollector.decorate(serverOutput);
+
     logStream =
         LogStreams.createFsLogStream(LOG_STREAM_TOPIC_NAME, LOG_STREAM_PARTITION_ID)
             .logRootPath(tempFolder.getRoot().getAbsolutePath())
@@ -137,7 +157,8 @@ public class ClientApiMessageHandlerTest {
 
     logStream.openAppender().join();
 
-    messageHandler = new ClientApiMessageHandler(mockControlMessageDispatcher);
+    messageHandler =
+        new ClientApiMessageHandler(mockControlMessageDispatcher, batchResponseCollector);
 
     final Partition partition =
         new Partition(
@@ -248,6 +269,56 @@ public class ClientApiMessageHandlerTest {
     assertThat(eventMetadata.getIntent()).isEqualTo(JobIntent.CREATE);
   }
 
+  @Test
+  public void shouldPassAcknowledgementToHandlerInsteadOfWritingIt() {
+    // given
+    final List<String> acknowledgements = new ArrayList<>();
+    messageHandler.setSubscriptionAcknowledgementHandler(
+        (partitionId, subscriptionName, ackPosition, requestStreamId, requestId) -> {
+          acknowledgements.add(
+              bufferAsString(subscriptionName) + ":" + ackPosition + ":" + requestId);
+          return true;
+        });
+
+    final TopicSubscriptionEvent acknowledgement =
+        new TopicSubscriptionEvent().setName(wrapString("foo"), 0, 3).setAckPosition(7L);
+    final byte[] acknowledgementBytes = new byte[acknowledgement.getEncodedLength()];
+    acknowledgement.write(new UnsafeBuffer(acknowledgementBytes), 0);
+
+    final int writtenLength =
+        writeCommandRequestToBuffer(
+            buffer,
+            LOG_STREAM_PARTITION_ID,
+            null,
+            ValueType.SUBSCRIPTION,
+            SubscriptionIntent.ACKNOWLEDGE,
+            acknowledgementBytes);
+
+    // when
+    final boolean isHandled =
+        messageHandler.onRequest(
+            serverOutput, DEFAULT_ADDRESS, buffer, 0, writtenLength, REQUEST_ID);
+
+    // then
+    assertThat(isHandled).isTrue();
+    assertThat(acknowledgements).containsExactly("foo:7:" + REQUEST_ID);
+
+    // and the acknowledgement is not written to the log
+    final int jobCommandLength =
+        writeCommandRequestToBuffer(
+            buffer, LOG_STREAM_PARTITION_ID, null, ValueType.JOB, JobIntent.CREATE);
+    messageHandler.onRequest(
+        serverOutput, DEFAULT_ADDRESS, buffer, 0, jobCommandLength, REQUEST_ID + 1);
+
+    final BufferedLogStreamReader logStreamReader = new BufferedLogStreamReader(logStream, true);
+    waitForAvailableEvent(logStreamReader);
+
+    final RecordMetadata eventMetadata = new RecordMetadata();
+    logStreamReader.next().readMetadata(eventMetadata);
+
+    assertThat(eventMetadata.getValueType()).isEqualTo(ValueType.JOB);
+  }
+
   @Test
   public void shouldHandleControlRequest() {
     // given
@@ -423,8 +494,309 @@ public class ClientApiMessageHandlerTest {
         .isEqualTo("Cannot execute command. Invalid event type 'NULL_VAL'.");
   }
 
+  @Test
+  public void shouldWriteBatchedCommandsWithOwnRequestIds() {
+    // given
+    final int writtenLength =
+        writeCommandBatchRequestToBuffer(buffer, LOG_STREAM_PARTITION_ID, ValueType.JOB, 3);
+
+    // when
+    final boolean isHandled =
+        messageHandler.onRequest(
+            collectingServerOutput, DEFAULT_ADDRESS, buffer, 0, writtenLength, REQUEST_ID);
+
+    // then
+    assertThat(isHandled).isTrue();
+
+    final List<RecordMetadata> metadata = readCommandMetadata(3);
+
+    assertThat(metadata)
+        .extracting(RecordMetadata::getRequestStreamId)
+        .containsOnly(DEFAULT_ADDRESS.getStreamId());
+    assertThat(metadata)
+        .extracting(RecordMetadata::getRequestId)
+        .doesNotHaveDuplicates()
+        .allMatch(CommandBatchResponseCollector::isBatchedCommand);
+
+    assertThat(serverOutput.getSentResponses()).isEmpty();
+  }
+
+  @Test
+  public void shouldSendBatchResponseWhenAllCommandsAreAnswered() {
+    // given
+    final int writtenLength =
+        writeCommandBatchRequestToBuffer(buffer, LOG_STREAM_PARTITION_ID, ValueType.JOB, 2);
+
+    messageHandler.onRequest(
+        collectingServerOutput, DEFAULT_ADDRESS, buffer, 0, writtenLength, REQUEST_ID);
+
+    final List<RecordMetadata> metadata = readCommandMetadata(2);
+
+    // when
+    sendResponse(metadata.get(1), "second");
+    assertThat(serverOutput.getSentResponses()).isEmpty();
+
+    sendResponse(metadata.get(0), "first");
+
+    // then
+    assertThat(serverOutput.getSentResponses()).hasSize(1);
+
+    final List<String> responses = readBatchResponses(0);
+    assertThat(responses).containsExactly("first", "second");
+  }
+
+  @Test
+  public void shouldSendErrorResponseForInvalidCommandOfBatch() {
+    // given
+    final int writtenLength =
+        writeCommandBatchRequestToBuffer(
+            buffer, LOG_STREAM_PARTITION_ID, ValueType.JOB, ValueType.SBE_UNKNOWN);
+
+    // when
+    final boolean isHandled =
+        messageHandler.onRequest(
+            collectingServerOutput, DEFAULT_ADDRESS, buffer, 0, writtenLength, REQUEST_ID);
+
+    sendResponse(readCommandMetadata(1).get(0), "first");
+
+    // then
+    assertThat(isHandled).isTrue();
+    assertThat(serverOutput.getSentResponses()).hasSize(1);
+
+    final ExecuteCommandBatchResponseDecoder batchResponse =
+        serverOutput.getAs(0, new ExecuteCommandBatchResponseDecoder());
+    final ResponsesDecoder responses = batchResponse.responses();
+    assertThat(responses.count()).isEqualTo(2);
+
+    responses.next();
+    responses.response();
+    responses.next();
+
+    final UnsafeBuffer errorResponse = new UnsafeBuffer(new byte[responses.responseLength()]);
+    responses.getResponse(errorResponse, 0, errorResponse.capacity());
+
+    final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder().wrap(errorResponse, 0);
+    final ErrorResponseDecoder errorDecoder =
+        new ErrorResponseDecoder()
+            .wrap(
+                errorResponse,
+                headerDecoder.encodedLength(),
+                headerDecoder.blockLength(),
+                headerDecoder.version());
+
+    assertThat(errorDecoder.errorCode()).isEqualTo(ErrorCode.MESSAGE_NOT_SUPPORTED);
+  }
+
+  @Test
+  public void shouldWriteBatchedCommandsWithSourceRecordPosition() {
+    // given
+    final int writtenLength =
+        writeCommandBatchRequestToBuffer(buffer, LOG_STREAM_PARTITION_ID, ValueType.JOB, 2);
+
+    // when
+    messageHandler.onRequest(
+        collectingServerOutput, DEFAULT_ADDRESS, buffer, 0, writtenLength, REQUEST_ID);
+
+    // then
+    final BufferedLogStreamReader logStreamReader = new BufferedLogStreamReader(logStream, true);
+    final List<Long> sourceRecordPositions = new ArrayList<>();
+
+    while (sourceRecordPositions.size() < 2) {
+      waitForAvailableEvent(logStreamReader);
+      sourceRecordPositions.add(logStreamReader.next().getSourceEventPosition());
+    }
+
+    assertThat(sourceRecordPositions)
+        .containsExactly(SOURCE_RECORD_POSITION, SOURCE_RECORD_POSITION + 1);
+  }
+
+  @Test
+  public void shouldSendErrorResponseForCommandOfBatchWhichCanNotBeBatched() {
+    // given
+    final int writtenLength =
+        writeCommandBatchRequestToBuffer(
+            buffer, LOG_STREAM_PARTITION_ID, JobIntent.CREATE, ValueType.JOB);
+
+    // when
+    final boolean isHandled =
+        messageHandler.onRequest(
+            collectingServerOutput, DEFAULT_ADDRESS, buffer, 0, writtenLength, REQUEST_ID);
+
+    // then
+    assertThat(isHandled).isTrue();
+    assertThat(serverOutput.getSentResponses()).hasSize(1);
+
+    final ResponsesDecoder responses =
+        serverOutput.getAs(0, new ExecuteCommandBatchResponseDecoder()).responses();
+    assertThat(responses.count()).isEqualTo(1);
+    responses.next();
+
+    final UnsafeBuffer errorResponse = new UnsafeBuffer(new byte[responses.responseLength()]);
+    responses.getResponse(errorResponse, 0, errorResponse.capacity());
+
+    final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder().wrap(errorResponse, 0);
+    final ErrorResponseDecoder errorDecoder =
+        new ErrorResponseDecoder()
+            .wrap(
+                errorResponse,
+                headerDecoder.encodedLength(),
+                headerDecoder.blockLength(),
+                headerDecoder.version());
+
+    assertThat(errorDecoder.errorCode()).isEqualTo(ErrorCode.MESSAGE_NOT_SUPPORTED);
+    assertThat(errorDecoder.errorData())
+        .isEqualTo("Cannot execute command. Command 'CREATE' of type 'JOB' can not be batched.");
+  }
+
+  @Test
+  public void shouldSendErrorMessageIfPartitionOfBatchNotFound() {
+    // given
+    final int writtenLength = writeCommandBatchRequestToBuffer(buffer, 99, ValueType.JOB);
+
+    // when
+    final boolean isHandled =
+        messageHandler.onRequest(
+            collectingServerOutput, DEFAULT_ADDRESS, buffer, 0, writtenLength, REQUEST_ID);
+
+    // then
+    assertThat(isHandled).isTrue();
+    assertThat(serverOutput.getSentResponses()).hasSize(1);
+
+    final ErrorResponseDecoder errorDecoder = serverOutput.getAsErrorResponse(0);
+    assertThat(errorDecoder.errorCode()).isEqualTo(ErrorCode.PARTITION_NOT_FOUND);
+  }
+
+  @Test
+  public void shouldSendErrorMessageIfBatchExceedsMaxFrameLength() {
+    // given
+    final int maxFrameLength = logStream.getWriteBuffer().getMaxFrameLength();
+    final int commandCount = 100;
+
+    final byte[] type = new byte[maxFrameLength / commandCount];
+    Arrays.fill(type, (byte) 'x');
+
+    final JobRecord jobEvent = new JobRecord().setType(new UnsafeBuffer(type));
+    final byte[] value = new byte[jobEvent.getEncodedLength()];
+    jobEvent.write(new UnsafeBuffer(value), 0);
+
+    final ValueType[] types = new ValueType[commandCount];
+    Arrays.fill(types, ValueType.JOB);
+
+    final int writtenLength =
+        writeCommandBatchRequestToBuffer(
+            buffer, LOG_STREAM_PARTITION_ID, JobIntent.COMPLETE, value, types);
+
+    // when
+    final boolean isHandled =
+        messageHandler.onRequest(
+            collectingServerOutput, DEFAULT_ADDRESS, buffer, 0, writtenLength, REQUEST_ID);
+
+    // then
+    assertThat(isHandled).isTrue();
+    assertThat(serverOutput.getSentResponses()).hasSize(1);
+
+    final ErrorResponseDecoder errorDecoder = serverOutput.getAsErrorResponse(0);
+    assertThat(errorDecoder.errorCode()).isEqualTo(ErrorCode.INVALID_MESSAGE);
+    assertThat(errorDecoder.errorData())
+        .contains("exceeds the maximum of " + maxFrameLength + " bytes");
+
+    assertThat(batchResponseCollector.getPendingBatchCount()).isEqualTo(0);
+  }
+
+  private List<RecordMetadata> readCommandMetadata(int count) {
+    final BufferedLogStreamReader logStreamReader = new BufferedLogStreamReader(logStream, true);
+    final List<RecordMetadata> metadata = new ArrayList<>();
+
+    while (metadata.size() < count) {
+      waitForAvailableEvent(logStreamReader);
+
+      final RecordMetadata eventMetadata = new RecordMetadata();
+      logStreamReader.next().readMetadata(eventMetadata);
+      metadata.add(eventMetadata);
+    }
+
+    return metadata;
+  }
+
+  private void sendResponse(RecordMetadata metadata, String response) {
+    final ServerResponse serverResponse =
+        new ServerResponse()
+            .buffer(wrapString(response))
+            .remoteStreamId(metadata.getRequestStreamId())
+            .requestId(metadata.getRequestId());
+
+    assertThat(collectingServerOutput.sendResponse(serverResponse)).isTrue();
+  }
+
+  private List<String> readBatchResponses(int index) {
+    final ExecuteCommandBatchResponseDecoder batchResponse =
+        serverOutput.getAs(index, new ExecuteCommandBatchResponseDecoder());
+
+    final List<String> responses = new ArrayList<>();
+    for (ResponsesDecoder response : batchResponse.responses()) {
+      responses.add(response.response());
+    }
+    return responses;
+  }
+
+  protected int writeCommandBatchRequestToBuffer(
+      UnsafeBuffer buffer, int partitionId, ValueType type, int commandCount) {
+    final ValueType[] types = new ValueType[commandCount];
+    Arrays.fill(types, type);
+    return writeCommandBatchRequestToBuffer(buffer, partitionId, types);
+  }
+
+  protected int writeCommandBatchRequestToBuffer(
+      UnsafeBuffer buffer, int partitionId, ValueType... types) {
+    return writeCommandBatchRequestToBuffer(buffer, partitionId, JobIntent.COMPLETE, types);
+  }
+
+  protected int writeCommandBatchRequestToBuffer(
+      UnsafeBuffer buffer, int partitionId, Intent intent, ValueType... types) {
+    return writeCommandBatchRequestToBuffer(buffer, partitionId, intent, JOB_EVENT, types);
+  }
+
+  protected int writeCommandBatchRequestToBuffer(
+      UnsafeBuffer buffer, int partitionId, Intent intent, byte[] value, ValueType... types) {
+    headerEncoder
+        .wrap(buffer, 0)
+        .blockLength(commandBatchRequestEncoder.sbeBlockLength())
+        .schemaId(commandBatchRequestEncoder.sbeSchemaId())
+        .templateId(commandBatchRequestEncoder.sbeTemplateId())
+        .version(commandBatchRequestEncoder.sbeSchemaVersion());
+
+    final CommandsEncoder commandsEncoder =
+        commandBatchRequestEncoder
+            .wrap(buffer, headerEncoder.encodedLength())
+            .partitionId(partitionId)
+            .commandsCount(types.length);
+
+    for (int i = 0; i < types.length; i++) {
+      commandsEncoder
+          .next()
+          .key(CommandsEncoder.keyNullValue())
+          .valueType(types[i])
+          .intent(intent.value())
+          .sourceRecordPosition(SOURCE_RECORD_POSITION + i)
+          .putValue(value, 0, value.length);
+    }
+
+    return headerEncoder.encodedLength() + commandBatchRequestEncoder.encodedLength();
+  }
+
   protected int writeCommandRequestToBuffer(
       UnsafeBuffer buffer, int partitionId, Short protocolVersion, ValueType type, Intent intent) {
+    return writeCommandRequestToBuffer(
+        buffer, partitionId, protocolVersion, type, intent, JOB_EVENT);
+  }
+
+  protected int writeCommandRequestToBuffer(
+      UnsafeBuffer buffer,
+      int partitionId,
+      Short protocolVersion,
+      ValueType type,
+      Intent intent,
+      byte[] value) {
     int offset = 0;
 
     final int protocolVersionToWrite =
@@ -446,7 +818,7 @@ public class ClientApiMessageHandlerTest {
         .partitionId(partitionId)
         .valueType(eventTypeToWrite)
         .intent(intent.value())
-        .putValue(JOB_EVENT, 0, JOB_EVENT.length);
+        .putValue(value, 0, value.length);
 
     return headerEncoder.encodedLength() + commandRequestEncoder.encodedLength();
   }
@@ -0,0 +1,218 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.transport.clientapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.protocol.clientapi.MessageHeaderDecoder;
+import io.zeebe.protocol.clientapi.RecordType;
+import io.zeebe.protocol.clientapi.SubscribedRecordBatchDecoder;
+import io.zeebe.protocol.clientapi.SubscribedRecordBatchDecoder.RecordsDecoder;
+import io.zeebe.protocol.clientapi.SubscribedRecordDecoder;
+import io.zeebe.protocol.clientapi.SubscriptionType;
+import io.zeebe.protocol.clientapi.ValueType;
+import io.zeebe.protocol.intent.JobIntent;
+import io.zeebe.transport.ServerOutput;
+import io.zeebe.transport.ServerResponse;
+import io.zeebe.transport.TransportMessage;
+import io.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SubscribedRecordBatchWriterTest {
+
+  protected MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+  protected SubscribedRecordBatchDecoder batchDecoder = new SubscribedRecordBatchDecoder();
+  protected SubscribedRecordDecoder recordDecoder = new SubscribedRecordDecoder();
+
+  private final SubscribedRecordWriter recordWriter = new SubscribedRecordWriter(null);
+  private final MessageCollectingOutput output = new MessageCollectingOutput();
+
+  private SubscribedRecordBatchWriter batchWriter;
+
+  @Before
+  public void setUp() {
+    batchWriter = new SubscribedRecordBatchWriter(output);
+  }
+
+  @Test
+  public void shouldWriteRecordsAsBatch() {
+    // given
+    addRecord(1L);
+    addRecord(2L);
+    addRecord(3L);
+
+    // when
+    final boolean success = batchWriter.tryWriteMessage(5);
+
+    // then
+    assertThat(success).isTrue();
+    assertThat(batchWriter.isEmpty()).isTrue();
+    assertThat(output.messages).hasSize(1);
+
+    final DirectBuffer message = output.messages.get(0);
+    headerDecoder.wrap(message, 0);
+    assertThat(headerDecoder.templateId()).isEqualTo(batchDecoder.sbeTemplateId());
+
+    batchDecoder.wrap(
+        message,
+        headerDecoder.encodedLength(),
+        headerDecoder.blockLength(),
+        headerDecoder.version());
+
+    final RecordsDecoder records = batchDecoder.records();
+    assertThat(records.count()).isEqualTo(3);
+
+    long expectedPosition = 1L;
+    for (final RecordsDecoder record : records) {
+      final int recordOffset = batchDecoder.limit() + RecordsDecoder.recordHeaderLength();
+      final int recordLength = record.recordLength();
+
+      assertRecord(message, recordOffset, expectedPosition);
+
+      batchDecoder.limit(recordOffset + recordLength);
+      expectedPosition += 1;
+    }
+  }
+
+  @Test
+  public void shouldWriteSingleRecordAsSubscribedRecord() {
+    // given
+    addRecord(1L);
+
+    // when
+    batchWriter.tryWriteMessage(5);
+
+    // then
+    assertThat(output.messages).hasSize(1);
+    assertRecord(output.messages.get(0), 0, 1L);
+  }
+
+  @Test
+  public void shouldNotWriteEmptyBatch() {
+    // when
+    final boolean success = batchWriter.tryWriteMessage(5);
+
+    // then
+    assertThat(success).isTrue();
+    assertThat(output.messages).isEmpty();
+  }
+
+  @Test
+  public void shouldKeepRecordsIfMessageCannotBeWritten() {
+    // given
+    addRecord(1L);
+    addRecord(2L);
+    output.accept = false;
+
+    // when
+    final boolean success = batchWriter.tryWriteMessage(5);
+
+    // then
+    assertThat(success).isFalse();
+    assertThat(batchWriter.getRecordCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNotAddRecordIfMaxLengthIsExceeded() {
+    // given
+    wrapRecord(1L);
+    final int maxBatchLength = batchWriter.getLength() + 2 * (2 + recordWriter.getLength());
+    batchWriter = new SubscribedRecordBatchWriter(output, maxBatchLength);
+
+    // when
+    addRecord(1L);
+    addRecord(2L);
+
+    // then
+    wrapRecord(3L);
+    assertThat(batchWriter.canAdd(recordWriter)).isFalse();
+    assertThat(batchWriter.getLength()).isEqualTo(maxBatchLength);
+  }
+
+  @Test
+  public void shouldNotAddMoreThanMaxRecordCount() {
+    // given
+    for (int i = 0; i < SubscribedRecordBatchWriter.MAX_BATCH_RECORD_COUNT; i++) {
+      addRecord(i);
+    }
+
+    // then
+    wrapRecord(1L);
+    assertThat(batchWriter.canAdd(recordWriter)).isFalse();
+  }
+
+  private void addRecord(final long position) {
+    wrapRecord(position);
+    assertThat(batchWriter.canAdd(recordWriter)).isTrue();
+    batchWriter.add(recordWriter);
+  }
+
+  private void wrapRecord(final long position) {
+    recordWriter
+        .recordType(RecordType.EVENT)
+        .valueType(ValueType.JOB)
+        .intent(JobIntent.CREATED)
+        .key(123L)
+        .position(position)
+        .partitionId(1)
+        .subscriberKey(4L)
+        .subscriptionType(SubscriptionType.TOPIC_SUBSCRIPTION)
+        .value(new UnsafeBuffer(new byte[8]), 0, 8);
+  }
+
+  private void assertRecord(DirectBuffer buffer, int offset, long expectedPosition) {
+    headerDecoder.wrap(buffer, offset);
+    assertThat(headerDecoder.templateId()).isEqualTo(recordDecoder.sbeTemplateId());
+
+    recordDecoder.wrap(
+        buffer,
+        offset + headerDecoder.encodedLength(),
+        headerDecoder.blockLength(),
+        headerDecoder.version());
+
+    assertThat(recordDecoder.position()).isEqualTo(expectedPosition);
+    assertThat(recordDecoder.subscriberKey()).isEqualTo(4L);
+    assertThat(recordDecoder.valueLength()).isEqualTo(8);
+  }
+
+  private static class MessageCollectingOutput implements ServerOutput {
+    private final List<DirectBuffer> messages = new ArrayList<>();
+    private boolean accept = true;
+
+    @Override
+    public boolean sendMessage(TransportMessage transportMessage) {
+      if (accept) {
+        final BufferWriter writer = transportMessage.getWriter();
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[writer.getLength()]);
+        writer.write(buffer, 0);
+        messages.add(buffer);
+      }
+      return accept;
+    }
+
+    @Override
+    public boolean sendResponse(ServerResponse response) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
@@ -123,6 +123,10 @@ public class BufferingClientOutput implements ClientOutput {
       return templateId;
     }
 
+    public DirectBuffer getRequestBuffer() {
+      return requestBuffer;
+    }
+
     private ClientResponse generateResponse(final BufferWriter writer) {
       final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer(writer.getLength());
       writer.write(buffer, 0);
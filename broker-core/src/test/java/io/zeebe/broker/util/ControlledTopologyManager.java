@@ -56,7 +56,8 @@ public class ControlledTopologyManager implements TopologyManager {
         partitionInfo.getTopicNameBuffer(),
         partitionInfo.getReplicationFactor(),
         leaderInfo,
-        RaftState.LEADER);
+        RaftState.LEADER,
+        Topology.UNKNOWN_TERM);
   }
 
   @Override
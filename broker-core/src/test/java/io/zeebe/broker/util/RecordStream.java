@@ -18,6 +18,7 @@
 package io.zeebe.broker.util;
 
 import io.zeebe.broker.clustering.orchestration.topic.TopicRecord;
+import io.zeebe.broker.event.processor.TopicSubscriptionEvent;
 import io.zeebe.broker.incident.data.IncidentRecord;
 import io.zeebe.broker.job.data.JobRecord;
 import io.zeebe.broker.system.workflow.repository.data.DeploymentRecord;
@@ -54,4 +55,10 @@ public class RecordStream extends StreamWrapper<LoggedEvent> {
         filter(Records::isTopicRecord)
             .map(e -> CopiedTypedEvent.toTypedEvent(e, TopicRecord.class)));
   }
+
+  public TypedRecordStream<TopicSubscriptionEvent> onlySubscriptionRecords() {
+    return new TypedRecordStream<>(
+        filter(Records::isSubscriptionRecord)
+            .map(e -> CopiedTypedEvent.toTypedEvent(e, TopicSubscriptionEvent.class)));
+  }
 }
@@ -21,6 +21,7 @@ import io.zeebe.broker.logstreams.processor.TypedStreamEnvironment;
 import io.zeebe.broker.topic.StreamProcessorControl;
 import io.zeebe.broker.transport.clientapi.BufferingServerOutput;
 import io.zeebe.broker.util.TestStreams.FluentLogWriter;
+import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.processor.StreamProcessor;
 import io.zeebe.msgpack.UnpackedObject;
 import io.zeebe.protocol.clientapi.RecordType;
@@ -136,6 +137,10 @@ public class StreamProcessorRule implements TestRule {
     return output;
   }
 
+  public LogStream getLogStream() {
+    return streams.getLogStream(STREAM_NAME);
+  }
+
   private class SetupRule extends ExternalResource {
 
     @Override
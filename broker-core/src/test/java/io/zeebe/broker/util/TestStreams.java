@@ -399,6 +399,11 @@ public class TestStreams {
     public void onClose() {
       wrappedProcessor.onClose();
     }
+
+    @Override
+    public void onFailure() {
+      wrappedProcessor.onFailure();
+    }
   }
 
   public static class FluentLogWriter {
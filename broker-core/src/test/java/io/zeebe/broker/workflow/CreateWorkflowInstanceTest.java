@@ -25,6 +25,7 @@ import static io.zeebe.msgpack.spec.MsgPackHelper.NIL;
 import static io.zeebe.protocol.intent.WorkflowInstanceIntent.CREATE;
 import static io.zeebe.protocol.intent.WorkflowInstanceIntent.CREATED;
 import static io.zeebe.test.broker.protocol.clientapi.TestTopicClient.*;
+import static io.zeebe.test.util.MsgPackUtil.asMsgPack;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 
@@ -44,10 +45,12 @@ import io.zeebe.test.broker.protocol.clientapi.ExecuteCommandResponse;
 import io.zeebe.test.broker.protocol.clientapi.SubscribedRecord;
 import io.zeebe.test.broker.protocol.clientapi.TestTopicClient;
 import io.zeebe.util.StreamUtil;
+import io.zeebe.util.buffer.BufferUtil;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -307,6 +310,37 @@ public class CreateWorkflowInstanceTest {
         .containsEntry(PROP_WORKFLOW_PAYLOAD, MSGPACK_PAYLOAD);
   }
 
+  @Test
+  public void shouldCreateWorkflowInstanceWithLargePayload() {
+    // given
+    final byte[] payload =
+        BufferUtil.bufferAsArray(
+            asMsgPack("foo", String.join("", Collections.nCopies(1000, "bar"))));
+
+    testClient.deploy(Bpmn.createExecutableWorkflow("process").startEvent().endEvent().done());
+
+    // when
+    final ExecuteCommandResponse resp =
+        apiRule
+            .createCmdRequest()
+            .type(ValueType.WORKFLOW_INSTANCE, WorkflowInstanceIntent.CREATE)
+            .command()
+            .put(PROP_WORKFLOW_BPMN_PROCESS_ID, "process")
+            .put(PROP_WORKFLOW_PAYLOAD, payload)
+            .done()
+            .sendAndAwait();
+
+    // then
+    final SubscribedRecord createdEvent = testClient.receiveFirstWorkflowInstanceEvent(CREATED);
+
+    assertThat(resp.intent()).isEqualTo(CREATED);
+    assertThat(resp.position()).isEqualTo(createdEvent.position());
+    assertThat(resp.getValue())
+        .containsEntry(PROP_WORKFLOW_BPMN_PROCESS_ID, "process")
+        .containsEntry(PROP_WORKFLOW_INSTANCE_KEY, resp.key())
+        .containsEntry(PROP_WORKFLOW_PAYLOAD, payload);
+  }
+
   @Test
   public void shouldCreateWorkflowInstanceWithNilPayload() {
     // given
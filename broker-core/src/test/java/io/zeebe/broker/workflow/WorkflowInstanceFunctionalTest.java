@@ -25,6 +25,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import io.zeebe.broker.system.workflow.repository.data.ResourceType;
 import io.zeebe.broker.test.EmbeddedBrokerRule;
 import io.zeebe.model.bpmn.Bpmn;
+import io.zeebe.model.bpmn.instance.OutputBehavior;
 import io.zeebe.model.bpmn.instance.WorkflowDefinition;
 import io.zeebe.protocol.Protocol;
 import io.zeebe.protocol.clientapi.ValueType;
@@ -36,6 +37,7 @@ import io.zeebe.test.broker.protocol.clientapi.ExecuteCommandResponse;
 import io.zeebe.test.broker.protocol.clientapi.SubscribedRecord;
 import io.zeebe.test.broker.protocol.clientapi.TestTopicClient;
 import io.zeebe.test.util.MsgPackUtil;
+import io.zeebe.util.buffer.BufferUtil;
 import java.io.File;
 import java.net.URISyntaxException;
 import java.util.Collections;
@@ -43,6 +45,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.agrona.DirectBuffer;
 import org.assertj.core.util.Files;
 import org.junit.Before;
 import org.junit.Rule;
@@ -618,6 +621,80 @@ public class WorkflowInstanceFunctionalTest {
         .containsEntry(PROP_WORKFLOW_ACTIVITY_ID, "");
   }
 
+  @Test
+  public void shouldPushLargePayloadWithAllEvents() {
+    // given
+    final DirectBuffer payload = asMsgPack("foo", String.join("", Collections.nCopies(100, "bar")));
+
+    testClient.deploy(
+        Bpmn.createExecutableWorkflow("process")
+            .startEvent()
+            .serviceTask("task", t -> t.taskType("test").outputBehavior(OutputBehavior.NONE))
+            .endEvent()
+            .done());
+
+    // when
+    testClient.createWorkflowInstance("process", payload);
+    testClient.completeJobOfType("test");
+
+    // then
+    final List<SubscribedRecord> events =
+        testClient
+            .receiveEvents()
+            .ofTypeWorkflowInstance()
+            .limit(r -> r.intent() == WorkflowInstanceIntent.COMPLETED)
+            .filter(r -> r.intent() != WorkflowInstanceIntent.ACTIVITY_COMPLETING)
+            .collect(Collectors.toList());
+
+    assertThat(events)
+        .extracting(r -> r.intent())
+        .containsExactly(
+            WorkflowInstanceIntent.CREATED,
+            WorkflowInstanceIntent.START_EVENT_OCCURRED,
+            WorkflowInstanceIntent.SEQUENCE_FLOW_TAKEN,
+            WorkflowInstanceIntent.ACTIVITY_READY,
+            WorkflowInstanceIntent.ACTIVITY_ACTIVATED,
+            WorkflowInstanceIntent.ACTIVITY_COMPLETED,
+            WorkflowInstanceIntent.SEQUENCE_FLOW_TAKEN,
+            WorkflowInstanceIntent.END_EVENT_OCCURRED,
+            WorkflowInstanceIntent.COMPLETED);
+
+    assertThat(events)
+        .extracting(r -> (byte[]) r.value().get(PROP_WORKFLOW_PAYLOAD))
+        .allSatisfy(p -> assertThat(p).isEqualTo(BufferUtil.bufferAsArray(payload)));
+  }
+
+  @Test
+  public void shouldResolveLargePayloadOnReprocessing() {
+    // given
+    final DirectBuffer payload = asMsgPack("foo", String.join("", Collections.nCopies(100, "bar")));
+
+    testClient.deploy(
+        Bpmn.createExecutableWorkflow("process")
+            .startEvent()
+            .serviceTask("task", t -> t.taskType("test").outputBehavior(OutputBehavior.NONE))
+            .endEvent()
+            .done());
+
+    testClient.createWorkflowInstance("process", payload);
+    testClient.receiveFirstWorkflowInstanceEvent(WorkflowInstanceIntent.ACTIVITY_ACTIVATED);
+
+    brokerRule.stopBroker();
+    brokerRule.purgeSnapshots();
+    brokerRule.startBroker();
+    testClient = apiRule.topic();
+
+    // when
+    testClient.completeJobOfType("test");
+
+    // then
+    final SubscribedRecord completedEvent =
+        testClient.receiveFirstWorkflowInstanceEvent(WorkflowInstanceIntent.COMPLETED);
+
+    assertThat(completedEvent.value())
+        .containsEntry(PROP_WORKFLOW_PAYLOAD, BufferUtil.bufferAsArray(payload));
+  }
+
   /**
    * Scenario: When system partition stream processor is reprocessing after restart, it may not be
    * able to return a workflow that it already returned successfully before restart.
@@ -0,0 +1,158 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.workflow.data;
+
+import static io.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.zeebe.test.util.TestUtil.waitUntil;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.zeebe.broker.logstreams.processor.TypedRecord;
+import io.zeebe.broker.logstreams.processor.TypedStreamEnvironment;
+import io.zeebe.broker.logstreams.processor.TypedStreamReader;
+import io.zeebe.broker.util.StreamProcessorRule;
+import io.zeebe.logstreams.log.LoggedEvent;
+import io.zeebe.protocol.intent.WorkflowInstanceIntent;
+import io.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class WorkflowInstancePayloadResolverTest {
+  private static final DirectBuffer PAYLOAD = asMsgPack("foo", "bar");
+
+  @Rule public StreamProcessorRule rule = new StreamProcessorRule();
+
+  private WorkflowInstancePayloadResolver resolver;
+
+  private long payloadPosition;
+  private long referencePosition;
+
+  @Before
+  public void setUp() {
+    resolver = new WorkflowInstancePayloadResolver(rule.getLogStream());
+
+    final WorkflowInstanceRecord record =
+        new WorkflowInstanceRecord().setWorkflowInstanceKey(1L).setPayload(PAYLOAD);
+    payloadPosition = rule.writeEvent(WorkflowInstanceIntent.ACTIVITY_READY, record);
+
+    record.setActivityId("task").setPayloadReference(payloadPosition);
+    referencePosition = rule.writeEvent(WorkflowInstanceIntent.ACTIVITY_ACTIVATED, record);
+
+    waitUntil(() -> rule.events().anyMatch(e -> e.getPosition() == referencePosition));
+  }
+
+  @After
+  public void tearDown() {
+    resolver.close();
+  }
+
+  @Test
+  public void shouldWriteReferenceInsteadOfPayload() {
+    // when
+    final WorkflowInstanceRecord record = readRecord(referencePosition);
+
+    // then
+    assertThat(record.hasPayloadReference()).isTrue();
+    assertThat(record.getPayloadPosition()).isEqualTo(payloadPosition);
+    assertThat(record.getPayload()).isEqualTo(WorkflowInstanceRecord.EMPTY_PAYLOAD);
+  }
+
+  @Test
+  public void shouldResolvePayload() {
+    // given
+    final WorkflowInstanceRecord record = readRecord(referencePosition);
+
+    // when
+    resolver.resolvePayload(record);
+
+    // then
+    assertThat(record.getPayload()).isEqualTo(PAYLOAD);
+    assertThat(record.getPayloadPosition()).isEqualTo(payloadPosition);
+  }
+
+  @Test
+  public void shouldNotChangeRecordWithPayload() {
+    // given
+    final WorkflowInstanceRecord record = readRecord(payloadPosition);
+
+    // when
+    resolver.resolvePayload(record);
+
+    // then
+    assertThat(record.getPayload()).isEqualTo(PAYLOAD);
+    assertThat(record.hasPayloadReference()).isFalse();
+  }
+
+  @Test
+  public void shouldResolveValue() {
+    // given
+    final LoggedEvent event = findEvent(referencePosition);
+
+    // when
+    final DirectBuffer value = resolver.resolveValue(event);
+
+    // then
+    final WorkflowInstanceRecord record = new WorkflowInstanceRecord();
+    record.wrap(value);
+
+    assertThat(record.getPayload()).isEqualTo(PAYLOAD);
+    assertThat(record.hasPayloadReference()).isFalse();
+    assertThat(record.getActivityId()).isEqualTo(BufferUtil.wrapString("task"));
+  }
+
+  @Test
+  public void shouldResolvePayloadWhenReadingRecord() {
+    // given
+    final TypedStreamReader reader =
+        new TypedStreamEnvironment(rule.getLogStream(), rule.getOutput()).buildStreamReader();
+
+    // when
+    final TypedRecord<WorkflowInstanceRecord> record =
+        reader.readValue(referencePosition, WorkflowInstanceRecord.class);
+
+    // then
+    assertThat(record.getValue().getPayload()).isEqualTo(PAYLOAD);
+    assertThat(record.getValue().getPayloadPosition()).isEqualTo(payloadPosition);
+
+    reader.close();
+  }
+
+  @Test
+  public void shouldFailToResolveMissingRecord() {
+    // given
+    final WorkflowInstanceRecord record = new WorkflowInstanceRecord().setPayloadReference(1234L);
+
+    // then
+    assertThatThrownBy(() -> resolver.resolvePayload(record))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("No record found at position 1234");
+  }
+
+  private LoggedEvent findEvent(long position) {
+    return rule.events().filter(e -> e.getPosition() == position).findFirst().get();
+  }
+
+  private WorkflowInstanceRecord readRecord(long position) {
+    final WorkflowInstanceRecord record = new WorkflowInstanceRecord();
+    findEvent(position).readValue(record);
+    return record;
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.benchmarks.snapshot;
+
+import io.zeebe.logstreams.spi.ComposableSnapshotSupport;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/** Compares writing and recovering the workflow repository state as JSON and as MessagePack. */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class WorkflowRepositorySnapshotBenchmark {
+
+  @Benchmark
+  @Threads(1)
+  public long writeJsonSnapshot(final WorkflowRepositorySnapshotContext ctx) throws Exception {
+    return writeSnapshot(ctx.getJsonSnapshot(), ctx.getOutputStream());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public long writeMsgPackSnapshot(final WorkflowRepositorySnapshotContext ctx)
+      throws Exception {
+    return writeSnapshot(ctx.getMsgPackSnapshot(), ctx.getOutputStream());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Object recoverJsonSnapshot(final WorkflowRepositorySnapshotContext ctx)
+      throws Exception {
+    ctx.getJsonSnapshot().recoverFromSnapshot(new ByteArrayInputStream(ctx.getJsonSnapshotData()));
+    return ctx.getJsonSnapshot().getData();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Object recoverMsgPackSnapshot(final WorkflowRepositorySnapshotContext ctx)
+      throws Exception {
+    ctx.getMsgPackSnapshot()
+        .recoverFromSnapshot(new ByteArrayInputStream(ctx.getMsgPackSnapshotData()));
+    return ctx.getMsgPackSnapshot().getData();
+  }
+
+  private long writeSnapshot(
+      final ComposableSnapshotSupport snapshot, final ByteArrayOutputStream outputStream)
+      throws Exception {
+    outputStream.reset();
+
+    snapshot.snapshotSize();
+    return snapshot.writeSnapshot(outputStream);
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.benchmarks.snapshot;
+
+import io.zeebe.broker.logstreams.processor.JsonSnapshotSupport;
+import io.zeebe.broker.logstreams.processor.MsgPackSnapshotSupport;
+import io.zeebe.broker.system.workflow.repository.processor.state.WorkflowRepositoryIndex.WorkflowMetadata;
+import io.zeebe.broker.system.workflow.repository.processor.state.WorkflowRepositoryIndex.WorkflowRepositoryIndexData;
+import io.zeebe.broker.system.workflow.repository.processor.state.WorkflowRepositoryIndex.WorkflowsByBpmnProcessId;
+import io.zeebe.broker.system.workflow.repository.processor.state.WorkflowRepositoryIndex.WorkflowsByTopic;
+import io.zeebe.logstreams.spi.ComposableSnapshotSupport;
+import java.io.ByteArrayOutputStream;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Thread)
+public class WorkflowRepositorySnapshotContext {
+  private static final int TOPICS = 4;
+  private static final int PROCESSES_PER_TOPIC = 50;
+
+  @Param({"1", "10"})
+  private int versionsPerProcess;
+
+  private final JsonSnapshotSupport<WorkflowRepositoryIndexData> jsonSnapshot =
+      new JsonSnapshotSupport<>(WorkflowRepositoryIndexData.class);
+  private final MsgPackSnapshotSupport<WorkflowRepositoryIndexData> msgPackSnapshot =
+      new MsgPackSnapshotSupport<>(WorkflowRepositoryIndexData.class);
+
+  private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+  private byte[] jsonSnapshotData;
+  private byte[] msgPackSnapshotData;
+
+  @Setup
+  public void setUp() throws Exception {
+    fill(jsonSnapshot.getData());
+    fill(msgPackSnapshot.getData());
+
+    jsonSnapshotData = write(jsonSnapshot);
+    msgPackSnapshotData = write(msgPackSnapshot);
+
+    System.out.format(
+        "%nsnapshot size with %d workflows: json %d bytes, msgpack %d bytes%n",
+        jsonSnapshot.getData().getWorkflows().size(),
+        jsonSnapshotData.length,
+        msgPackSnapshotData.length);
+  }
+
+  private void fill(WorkflowRepositoryIndexData data) {
+    long key = 0;
+
+    for (int t = 0; t < TOPICS; t++) {
+      final String topicName = "topic-" + t;
+      final WorkflowsByTopic workflowsByTopic = new WorkflowsByTopic();
+      data.getTopics().put(topicName, workflowsByTopic);
+
+      for (int p = 0; p < PROCESSES_PER_TOPIC; p++) {
+        final String bpmnProcessId = "process-" + p;
+        final WorkflowsByBpmnProcessId workflowsByProcessId = new WorkflowsByBpmnProcessId();
+        workflowsByTopic.getBpmnProcessIds().put(bpmnProcessId, workflowsByProcessId);
+
+        for (int version = 1; version <= versionsPerProcess; version++) {
+          key += 1;
+
+          final WorkflowMetadata workflow =
+              new WorkflowMetadata()
+                  .setKey(key)
+                  .setVersion(version)
+                  .setBpmnProcessId(bpmnProcessId)
+                  .setTopicName(topicName)
+                  .setResourceName(bpmnProcessId + ".bpmn")
+                  .setEventPosition(key * 1024);
+
+          data.getWorkflows().put(key, workflow);
+          workflowsByProcessId.getVersions().put(version, key);
+          workflowsByProcessId.setLastGeneratedVersion(version);
+        }
+      }
+    }
+
+    data.setLastGeneratedKey(key);
+  }
+
+  private byte[] write(ComposableSnapshotSupport snapshot) throws Exception {
+    outputStream.reset();
+
+    snapshot.snapshotSize();
+    snapshot.writeSnapshot(outputStream);
+
+    return outputStream.toByteArray();
+  }
+
+  public JsonSnapshotSupport<WorkflowRepositoryIndexData> getJsonSnapshot() {
+    return jsonSnapshot;
+  }
+
+  public MsgPackSnapshotSupport<WorkflowRepositoryIndexData> getMsgPackSnapshot() {
+    return msgPackSnapshot;
+  }
+
+  public ByteArrayOutputStream getOutputStream() {
+    return outputStream;
+  }
+
+  public byte[] getJsonSnapshotData() {
+    return jsonSnapshotData;
+  }
+
+  public byte[] getMsgPackSnapshotData() {
+    return msgPackSnapshotData;
+  }
+}
@@ -52,4 +52,13 @@ public class ClientProperties {
 
   /** @see ZeebeClientBuilder#defaultTopic(String) */
   public static final String DEFAULT_TOPIC = "zeebe.client.defaultTopic";
+
+  /** @see ZeebeClientBuilder#commandBatchSize(int) */
+  public static final String COMMAND_BATCH_SIZE = "zeebe.client.command.batchSize";
+
+  /** @see ZeebeClientBuilder#commandBatchLinger(java.time.Duration) */
+  public static final String COMMAND_BATCH_LINGER_MILLIS = "zeebe.client.command.batchLinger";
+
+  /** @see ZeebeClientBuilder#maxInFlightRequests(int) */
+  public static final String MAX_IN_FLIGHT_REQUESTS = "zeebe.client.request.maxInFlight";
 }
@@ -149,6 +149,23 @@ public interface ZeebeClient extends AutoCloseable {
    */
   ManagementSubscriptionBuilderStep1 newManagementSubscription();
 
+  /**
+   * Create a new batch of commands which are sent together. Commands of the same partition are
+   * sent in one request.
+   *
+   * <pre>
+   * CommandBatch batch = zeebeClient.newCommandBatch();
+   *
+   * batch.add(jobClient.newCompleteCommand(job1));
+   * batch.add(jobClient.newCompleteCommand(job2));
+   *
+   * batch.send();
+   * </pre>
+   *
+   * @return the batch where you must call {@code send()}
+   */
+  CommandBatch newCommandBatch();
+
   /** @return the client's configuration */
   ZeebeClientConfiguration getConfiguration();
 
@@ -101,6 +101,29 @@ public interface ZeebeClientBuilder {
    */
   ZeebeClientBuilder defaultTopic(String topic);
 
+  /**
+   * The maximum number of commands which are sent together in one request when they are sent via
+   * {@code send()}. Only commands to complete a job or to create a workflow instance are batched.
+   * Commands are batched per partition. Default is 1 (i.e. no batching). The value is limited by
+   * 254.
+   */
+  ZeebeClientBuilder commandBatchSize(int commandBatchSize);
+
+  /**
+   * The time a batched command waits for further commands before the batch is sent, if the batch
+   * is not full. Only used if the {@link #commandBatchSize(int) batch size} is greater than 1.
+   * Default is 5 milliseconds.
+   */
+  ZeebeClientBuilder commandBatchLinger(Duration commandBatchLinger);
+
+  /**
+   * The maximum number of requests which are sent to the brokers at the same time. Further
+   * requests are queued by the client without blocking the caller and are sent as soon as
+   * responses arrive. A batch of commands counts as one request. Default is 0 (i.e. no limit other
+   * than the {@link #sendBufferSize(int) send buffer}).
+   */
+  ZeebeClientBuilder maxInFlightRequests(int maxInFlightRequests);
+
   /** @return a new {@link ZeebeClient} with the provided configuration options. */
   ZeebeClient build();
 }
@@ -53,4 +53,13 @@ public interface ZeebeClientConfiguration {
 
   /** @see ZeebeClientBuilder#defaultTopic(String) */
   String getDefaultTopic();
+
+  /** @see ZeebeClientBuilder#commandBatchSize(int) */
+  int getCommandBatchSize();
+
+  /** @see ZeebeClientBuilder#commandBatchLinger(Duration) */
+  Duration getCommandBatchLinger();
+
+  /** @see ZeebeClientBuilder#maxInFlightRequests(int) */
+  int getMaxInFlightRequests();
 }
@@ -15,10 +15,20 @@
  */
 package io.zeebe.client.api;
 
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
-public interface ZeebeFuture<T> extends Future<T> {
+/**
+ * The result of a request to the broker. It can either be awaited by {@link #join()} or be used as
+ * a {@link CompletionStage} to handle the result without blocking the calling thread.
+ *
+ * <p>Note that the non-async callbacks of the {@link CompletionStage} (e.g. {@link
+ * #thenAccept(java.util.function.Consumer)}) are invoked on the client's internal threads. They
+ * should not block, for example by waiting for the result of another request. Use the async
+ * variants with a custom executor for blocking work.
+ */
+public interface ZeebeFuture<T> extends Future<T>, CompletionStage<T> {
 
   /** Like {@link #get()} but throws runtime exceptions. */
   T join();
@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.api.commands;
+
+import io.zeebe.client.api.ZeebeFuture;
+
+/**
+ * Multiple commands which are sent together. Commands of the same partition are sent in one
+ * request, so that the broker can append them to the log at once.
+ *
+ * <pre>
+ * CommandBatch batch = zeebeClient.newCommandBatch();
+ *
+ * ZeebeFuture&#60;JobEvent&#62; future1 = batch.add(jobClient.newCompleteCommand(job1));
+ * ZeebeFuture&#60;JobEvent&#62; future2 = batch.add(jobClient.newCompleteCommand(job2));
+ *
+ * batch.send();
+ *
+ * JobEvent event = future1.join();
+ * </pre>
+ */
+public interface CommandBatch {
+
+  /**
+   * Adds the command to the batch. The command must not be sent on its own. Only commands to
+   * complete a job or to create a workflow instance can be batched.
+   *
+   * @param command the command which is completely built, i.e. where {@code send()} could be
+   *     called
+   * @return a future tracking state of success/failure of the command; it is completed after
+   *     {@link #send()} is called and the response of the command is available
+   * @throws IllegalArgumentException if the command can not be batched
+   */
+  <T> ZeebeFuture<T> add(FinalCommandStep<T> command);
+
+  /** Sends all added commands to the Zeebe broker. This operation is asynchronous. */
+  void send();
+}
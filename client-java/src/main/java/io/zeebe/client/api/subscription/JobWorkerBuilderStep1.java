@@ -17,6 +17,7 @@ package io.zeebe.client.api.subscription;
 
 import io.zeebe.client.ZeebeClientConfiguration;
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
 public interface JobWorkerBuilderStep1 {
   /**
@@ -130,6 +131,40 @@ public interface JobWorkerBuilderStep1 {
      */
     JobWorkerBuilderStep3 bufferSize(int numberOfJobs);
 
+    /**
+     * Set an executor on which the job handler is invoked.
+     *
+     * <p>By default, jobs are handled one after another on the client's subscription execution
+     * threads (see {@link ZeebeClientConfiguration#getNumSubscriptionExecutionThreads()}). If an
+     * executor is set then the jobs are handed over to it and can be handled concurrently, for
+     * example when the handler spends most of its time waiting for I/O. Credits for new jobs are
+     * only returned to the broker when a handler completes, so the number of jobs in progress is
+     * still limited by the {@link #bufferSize(int)}. If the executor rejects a job then it is
+     * handled on the subscription execution thread.
+     *
+     * <p>The worker does not shut down the executor when it is closed.
+     *
+     * <p>Example:
+     *
+     * <pre>
+     * ExecutorService executor = Executors.newFixedThreadPool(8);
+     *
+     * JobWorker worker = jobClient
+     *  .newWorker()
+     *  .jobType("payment")
+     *  .handler(paymentHandler)
+     *  .handlerExecutor(executor)
+     *  .open();
+     * </pre>
+     *
+     * On a Java 21+ runtime, {@code Executors.newVirtualThreadPerTaskExecutor()} can be used to
+     * handle each job on its own virtual thread.
+     *
+     * @param executor the executor to invoke the job handler on
+     * @return the builder for this subscription
+     */
+    JobWorkerBuilderStep3 handlerExecutor(Executor executor);
+
     /**
      * Open the subscription and start to work on available tasks.
      *
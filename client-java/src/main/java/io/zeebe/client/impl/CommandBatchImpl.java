@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl;
+
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.commands.CommandBatch;
+import io.zeebe.client.api.commands.FinalCommandStep;
+import io.zeebe.client.impl.data.ZeebeObjectMapperImpl;
+import io.zeebe.transport.ClientResponse;
+import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CommandBatchImpl implements CommandBatch {
+  private final RequestManager client;
+  private final ZeebeObjectMapperImpl objectMapper;
+
+  private final List<CommandRequestHandler> commands = new ArrayList<>();
+  private final List<CompletableActorFuture<ClientResponse>> responseFutures = new ArrayList<>();
+
+  private boolean isSent = false;
+
+  public CommandBatchImpl(RequestManager client, ZeebeObjectMapperImpl objectMapper) {
+    this.client = client;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public <T> ZeebeFuture<T> add(FinalCommandStep<T> command) {
+    if (isSent) {
+      throw new IllegalStateException("Cannot add command. Batch is already sent.");
+    }
+
+    if (!(command instanceof CommandImpl)) {
+      throw new IllegalArgumentException(
+          "Cannot add command. Expected a command but got: " + command.getClass().getName());
+    }
+
+    if (!((CommandImpl<?>) command).isBatchable()) {
+      throw new IllegalArgumentException(
+          "Cannot add command. Only commands to complete a job or to create a workflow instance"
+              + " can be batched, but got: "
+              + command.getClass().getSimpleName());
+    }
+
+    final CommandRequestHandler requestHandler =
+        new CommandRequestHandler(objectMapper, (CommandImpl<?>) command);
+    final CompletableActorFuture<ClientResponse> responseFuture = new CompletableActorFuture<>();
+
+    commands.add(requestHandler);
+    responseFutures.add(responseFuture);
+
+    return client.newResponseFuture(responseFuture, requestHandler);
+  }
+
+  @Override
+  public void send() {
+    if (isSent) {
+      throw new IllegalStateException("Cannot send batch. Batch is already sent.");
+    }
+
+    isSent = true;
+
+    if (!commands.isEmpty()) {
+      client.send(commands, responseFutures);
+    }
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl;
+
+import io.zeebe.client.cmd.ClientException;
+import io.zeebe.protocol.clientapi.ExecuteCommandBatchRequestEncoder;
+import io.zeebe.protocol.clientapi.ExecuteCommandBatchRequestEncoder.CommandsEncoder;
+import io.zeebe.protocol.clientapi.ExecuteCommandBatchResponseDecoder;
+import io.zeebe.protocol.clientapi.ExecuteCommandBatchResponseDecoder.ResponsesDecoder;
+import io.zeebe.protocol.clientapi.MessageHeaderDecoder;
+import io.zeebe.protocol.clientapi.MessageHeaderEncoder;
+import io.zeebe.transport.ClientResponse;
+import io.zeebe.transport.RemoteAddress;
+import io.zeebe.util.buffer.BufferWriter;
+import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Multiple commands of one partition which are sent as one request. The batch response is split
+ * into the responses of the commands, so that each command is completed like a single command.
+ */
+public class CommandBatchRequest implements BufferWriter {
+  /** limited by the size of the group in the request (uint8, where 255 is the null value) */
+  public static final int MAX_COMMAND_COUNT = 254;
+
+  public static final int MAX_LENGTH = 256 * 1024;
+
+  private static final int BATCH_HEADER_LENGTH =
+      MessageHeaderEncoder.ENCODED_LENGTH
+          + ExecuteCommandBatchRequestEncoder.BLOCK_LENGTH
+          + CommandsEncoder.sbeHeaderSize();
+
+  private static final int COMMAND_HEADER_LENGTH =
+      CommandsEncoder.sbeBlockLength() + CommandsEncoder.valueHeaderLength();
+
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final ExecuteCommandBatchRequestEncoder encoder = new ExecuteCommandBatchRequestEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+  private final ExecuteCommandBatchResponseDecoder decoder =
+      new ExecuteCommandBatchResponseDecoder();
+
+  private final int partitionId;
+
+  private final List<CommandRequestHandler> commands = new ArrayList<>();
+  private final List<CompletableActorFuture<ClientResponse>> responseFutures = new ArrayList<>();
+
+  private int length = BATCH_HEADER_LENGTH;
+
+  public CommandBatchRequest(int partitionId) {
+    this.partitionId = partitionId;
+  }
+
+  public int getPartitionId() {
+    return partitionId;
+  }
+
+  public int size() {
+    return commands.size();
+  }
+
+  /** @return true, if the command fits into this batch */
+  public boolean canAdd(CommandRequestHandler command) {
+    return commands.isEmpty()
+        || (commands.size() < MAX_COMMAND_COUNT
+            && length + COMMAND_HEADER_LENGTH + command.getValueLength() <= MAX_LENGTH);
+  }
+
+  /**
+   * @param responseFuture is completed with the response of the command, i.e. an execute command
+   *     response or an error response
+   */
+  public void add(
+      CommandRequestHandler command, CompletableActorFuture<ClientResponse> responseFuture) {
+    commands.add(command);
+    responseFutures.add(responseFuture);
+
+    length += COMMAND_HEADER_LENGTH + command.getValueLength();
+  }
+
+  @Override
+  public int getLength() {
+    return length;
+  }
+
+  @Override
+  public void write(MutableDirectBuffer buffer, int offset) {
+    headerEncoder
+        .wrap(buffer, offset)
+        .blockLength(encoder.sbeBlockLength())
+        .schemaId(encoder.sbeSchemaId())
+        .templateId(encoder.sbeTemplateId())
+        .version(encoder.sbeSchemaVersion());
+
+    final CommandsEncoder commandsEncoder =
+        encoder
+            .wrap(buffer, offset + headerEncoder.encodedLength())
+            .partitionId(partitionId)
+            .commandsCount(commands.size());
+
+    for (CommandRequestHandler command : commands) {
+      command.writeBatchEntry(commandsEncoder.next());
+    }
+  }
+
+  public void onResponse(ClientResponse response) {
+    final DirectBuffer responseBuffer = response.getResponseBuffer();
+    headerDecoder.wrap(responseBuffer, 0);
+
+    if (headerDecoder.schemaId() == ExecuteCommandBatchResponseDecoder.SCHEMA_ID
+        && headerDecoder.templateId() == ExecuteCommandBatchResponseDecoder.TEMPLATE_ID) {
+      decoder.wrap(
+          responseBuffer,
+          headerDecoder.encodedLength(),
+          headerDecoder.blockLength(),
+          headerDecoder.version());
+
+      final ResponsesDecoder responses = decoder.responses();
+
+      for (int i = 0; i < responseFutures.size(); i++) {
+        if (responses.hasNext()) {
+          responses.next();
+
+          final UnsafeBuffer commandResponse =
+              new UnsafeBuffer(new byte[responses.responseLength()]);
+          responses.getResponse(commandResponse, 0, commandResponse.capacity());
+
+          responseFutures
+              .get(i)
+              .complete(
+                  new CommandResponse(
+                      response.getRemoteAddress(), response.getRequestId(), commandResponse));
+        } else {
+          responseFutures
+              .get(i)
+              .completeExceptionally(new ClientException("Missing response in batch response"));
+        }
+      }
+    } else {
+      // e.g. an error response which applies to all commands
+      final UnsafeBuffer commandResponse = new UnsafeBuffer(new byte[responseBuffer.capacity()]);
+      commandResponse.putBytes(0, responseBuffer, 0, responseBuffer.capacity());
+
+      final CommandResponse sharedResponse =
+          new CommandResponse(
+              response.getRemoteAddress(), response.getRequestId(), commandResponse);
+
+      responseFutures.forEach(f -> f.complete(sharedResponse));
+    }
+  }
+
+  public void onFailure(Throwable failure) {
+    responseFutures.forEach(f -> f.completeExceptionally(failure));
+  }
+
+  private static class CommandResponse implements ClientResponse {
+    private final RemoteAddress remoteAddress;
+    private final long requestId;
+    private final DirectBuffer responseBuffer;
+
+    CommandResponse(RemoteAddress remoteAddress, long requestId, DirectBuffer responseBuffer) {
+      this.remoteAddress = remoteAddress;
+      this.requestId = requestId;
+      this.responseBuffer = responseBuffer;
+    }
+
+    @Override
+    public RemoteAddress getRemoteAddress() {
+      return remoteAddress;
+    }
+
+    @Override
+    public long getRequestId() {
+      return requestId;
+    }
+
+    @Override
+    public DirectBuffer getResponseBuffer() {
+      return responseBuffer;
+    }
+  }
+}
@@ -31,5 +31,13 @@ public abstract class CommandImpl<R extends Record> {
     return client.send(this);
   }
 
+  /**
+   * @return true, if the command can be sent together with other commands of the same partition,
+   *     if the client is configured to batch commands
+   */
+  public boolean isBatchable() {
+    return false;
+  }
+
   public abstract RecordImpl getCommand();
 }
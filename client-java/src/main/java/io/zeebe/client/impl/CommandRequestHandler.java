@@ -20,6 +20,7 @@ import io.zeebe.client.cmd.ClientCommandRejectedException;
 import io.zeebe.client.impl.data.ZeebeObjectMapperImpl;
 import io.zeebe.client.impl.record.RecordImpl;
 import io.zeebe.client.impl.record.RecordMetadataImpl;
+import io.zeebe.protocol.clientapi.ExecuteCommandBatchRequestEncoder.CommandsEncoder;
 import io.zeebe.protocol.clientapi.ExecuteCommandRequestEncoder;
 import io.zeebe.protocol.clientapi.ExecuteCommandResponseDecoder;
 import io.zeebe.protocol.clientapi.MessageHeaderDecoder;
@@ -47,6 +48,7 @@ public class CommandRequestHandler implements RequestResponseHandler {
 
   protected ExpandableArrayBuffer serializedCommand = new ExpandableArrayBuffer();
   protected int serializedCommandLength = 0;
+  protected int serializedValueOffset = 0;
 
   @SuppressWarnings("rawtypes")
   public CommandRequestHandler(ZeebeObjectMapperImpl objectMapper, CommandImpl command) {
@@ -100,9 +102,31 @@ public class CommandRequestHandler implements RequestResponseHandler {
     serializedCommand.putShort(
         commandHeaderOffset, commandLength, java.nio.ByteOrder.LITTLE_ENDIAN);
 
+    serializedValueOffset = serializedCommandOffset;
     serializedCommandLength = serializedCommandOffset + out.position();
   }
 
+  public int getValueLength() {
+    return serializedCommandLength - serializedValueOffset;
+  }
+
+  /** Writes the command as entry of a batch request. */
+  public void writeBatchEntry(CommandsEncoder commandsEncoder) {
+    final RecordMetadataImpl metadata = command.getMetadata();
+
+    if (metadata.getKey() < 0) {
+      commandsEncoder.key(CommandsEncoder.keyNullValue());
+    } else {
+      commandsEncoder.key(metadata.getKey());
+    }
+
+    commandsEncoder
+        .sourceRecordPosition(metadata.getPosition())
+        .valueType(metadata.getProtocolValueType())
+        .intent(metadata.getProtocolIntent().value())
+        .putValue(serializedCommand, serializedValueOffset, getValueLength());
+  }
+
   @Override
   public int getLength() {
     return serializedCommandLength;
@@ -0,0 +1,246 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Implements {@link CompletionStage} by delegating to a {@link CompletableFuture} which is
+ * completed by the subclass.
+ */
+public abstract class DelegatingCompletionStage<T> implements CompletionStage<T> {
+  protected final CompletableFuture<T> completionStage = new CompletableFuture<>();
+
+  @Override
+  public <U> CompletionStage<U> thenApply(Function<? super T, ? extends U> fn) {
+    return completionStage.thenApply(fn);
+  }
+
+  @Override
+  public <U> CompletionStage<U> thenApplyAsync(Function<? super T, ? extends U> fn) {
+    return completionStage.thenApplyAsync(fn);
+  }
+
+  @Override
+  public <U> CompletionStage<U> thenApplyAsync(
+      Function<? super T, ? extends U> fn, Executor executor) {
+    return completionStage.thenApplyAsync(fn, executor);
+  }
+
+  @Override
+  public CompletionStage<Void> thenAccept(Consumer<? super T> action) {
+    return completionStage.thenAccept(action);
+  }
+
+  @Override
+  public CompletionStage<Void> thenAcceptAsync(Consumer<? super T> action) {
+    return completionStage.thenAcceptAsync(action);
+  }
+
+  @Override
+  public CompletionStage<Void> thenAcceptAsync(Consumer<? super T> action, Executor executor) {
+    return completionStage.thenAcceptAsync(action, executor);
+  }
+
+  @Override
+  public CompletionStage<Void> thenRun(Runnable action) {
+    return completionStage.thenRun(action);
+  }
+
+  @Override
+  public CompletionStage<Void> thenRunAsync(Runnable action) {
+    return completionStage.thenRunAsync(action);
+  }
+
+  @Override
+  public CompletionStage<Void> thenRunAsync(Runnable action, Executor executor) {
+    return completionStage.thenRunAsync(action, executor);
+  }
+
+  @Override
+  public <U, V> CompletionStage<V> thenCombine(
+      CompletionStage<? extends U> other, BiFunction<? super T, ? super U, ? extends V> fn) {
+    return completionStage.thenCombine(other, fn);
+  }
+
+  @Override
+  public <U, V> CompletionStage<V> thenCombineAsync(
+      CompletionStage<? extends U> other, BiFunction<? super T, ? super U, ? extends V> fn) {
+    return completionStage.thenCombineAsync(other, fn);
+  }
+
+  @Override
+  public <U, V> CompletionStage<V> thenCombineAsync(
+      CompletionStage<? extends U> other,
+      BiFunction<? super T, ? super U, ? extends V> fn,
+      Executor executor) {
+    return completionStage.thenCombineAsync(other, fn, executor);
+  }
+
+  @Override
+  public <U> CompletionStage<Void> thenAcceptBoth(
+      CompletionStage<? extends U> other, BiConsumer<? super T, ? super U> action) {
+    return completionStage.thenAcceptBoth(other, action);
+  }
+
+  @Override
+  public <U> CompletionStage<Void> thenAcceptBothAsync(
+      CompletionStage<? extends U> other, BiConsumer<? super T, ? super U> action) {
+    return completionStage.thenAcceptBothAsync(other, action);
+  }
+
+  @Override
+  public <U> CompletionStage<Void> thenAcceptBothAsync(
+      CompletionStage<? extends U> other,
+      BiConsumer<? super T, ? super U> action,
+      Executor executor) {
+    return completionStage.thenAcceptBothAsync(other, action, executor);
+  }
+
+  @Override
+  public CompletionStage<Void> runAfterBoth(CompletionStage<?> other, Runnable action) {
+    return completionStage.runAfterBoth(other, action);
+  }
+
+  @Override
+  public CompletionStage<Void> runAfterBothAsync(CompletionStage<?> other, Runnable action) {
+    return completionStage.runAfterBothAsync(other, action);
+  }
+
+  @Override
+  public CompletionStage<Void> runAfterBothAsync(
+      CompletionStage<?> other, Runnable action, Executor executor) {
+    return completionStage.runAfterBothAsync(other, action, executor);
+  }
+
+  @Override
+  public <U> CompletionStage<U> applyToEither(
+      CompletionStage<? extends T> other, Function<? super T, U> fn) {
+    return completionStage.applyToEither(other, fn);
+  }
+
+  @Override
+  public <U> CompletionStage<U> applyToEitherAsync(
+      CompletionStage<? extends T> other, Function<? super T, U> fn) {
+    return completionStage.applyToEitherAsync(other, fn);
+  }
+
+  @Override
+  public <U> CompletionStage<U> applyToEitherAsync(
+      CompletionStage<? extends T> other, Function<? super T, U> fn, Executor executor) {
+    return completionStage.applyToEitherAsync(other, fn, executor);
+  }
+
+  @Override
+  public CompletionStage<Void> acceptEither(
+      CompletionStage<? extends T> other, Consumer<? super T> action) {
+    return completionStage.acceptEither(other, action);
+  }
+
+  @Override
+  public CompletionStage<Void> acceptEitherAsync(
+      CompletionStage<? extends T> other, Consumer<? super T> action) {
+    return completionStage.acceptEitherAsync(other, action);
+  }
+
+  @Override
+  public CompletionStage<Void> acceptEitherAsync(
+      CompletionStage<? extends T> other, Consumer<? super T> action, Executor executor) {
+    return completionStage.acceptEitherAsync(other, action, executor);
+  }
+
+  @Override
+  public CompletionStage<Void> runAfterEither(CompletionStage<?> other, Runnable action) {
+    return completionStage.runAfterEither(other, action);
+  }
+
+  @Override
+  public CompletionStage<Void> runAfterEitherAsync(CompletionStage<?> other, Runnable action) {
+    return completionStage.runAfterEitherAsync(other, action);
+  }
+
+  @Override
+  public CompletionStage<Void> runAfterEitherAsync(
+      CompletionStage<?> other, Runnable action, Executor executor) {
+    return completionStage.runAfterEitherAsync(other, action, executor);
+  }
+
+  @Override
+  public <U> CompletionStage<U> thenCompose(Function<? super T, ? extends CompletionStage<U>> fn) {
+    return completionStage.thenCompose(fn);
+  }
+
+  @Override
+  public <U> CompletionStage<U> thenComposeAsync(
+      Function<? super T, ? extends CompletionStage<U>> fn) {
+    return completionStage.thenComposeAsync(fn);
+  }
+
+  @Override
+  public <U> CompletionStage<U> thenComposeAsync(
+      Function<? super T, ? extends CompletionStage<U>> fn, Executor executor) {
+    return completionStage.thenComposeAsync(fn, executor);
+  }
+
+  @Override
+  public CompletionStage<T> whenComplete(BiConsumer<? super T, ? super Throwable> action) {
+    return completionStage.whenComplete(action);
+  }
+
+  @Override
+  public CompletionStage<T> whenCompleteAsync(BiConsumer<? super T, ? super Throwable> action) {
+    return completionStage.whenCompleteAsync(action);
+  }
+
+  @Override
+  public CompletionStage<T> whenCompleteAsync(
+      BiConsumer<? super T, ? super Throwable> action, Executor executor) {
+    return completionStage.whenCompleteAsync(action, executor);
+  }
+
+  @Override
+  public <U> CompletionStage<U> handle(BiFunction<? super T, Throwable, ? extends U> fn) {
+    return completionStage.handle(fn);
+  }
+
+  @Override
+  public <U> CompletionStage<U> handleAsync(BiFunction<? super T, Throwable, ? extends U> fn) {
+    return completionStage.handleAsync(fn);
+  }
+
+  @Override
+  public <U> CompletionStage<U> handleAsync(
+      BiFunction<? super T, Throwable, ? extends U> fn, Executor executor) {
+    return completionStage.handleAsync(fn, executor);
+  }
+
+  @Override
+  public CompletionStage<T> exceptionally(Function<Throwable, ? extends T> fn) {
+    return completionStage.exceptionally(fn);
+  }
+
+  @Override
+  public CompletableFuture<T> toCompletableFuture() {
+    // return a dependent future so that callers cannot complete this stage
+    return completionStage.thenApply(Function.identity());
+  }
+}
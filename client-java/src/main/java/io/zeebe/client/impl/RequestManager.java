@@ -24,16 +24,22 @@ import io.zeebe.protocol.clientapi.ErrorCode;
 import io.zeebe.protocol.clientapi.MessageHeaderDecoder;
 import io.zeebe.transport.*;
 import io.zeebe.util.buffer.BufferUtil;
+import io.zeebe.util.buffer.BufferWriter;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.ActorTask;
 import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
 import java.util.concurrent.*;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.function.Supplier;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
 
 public class RequestManager extends Actor {
   protected final ClientOutput output;
@@ -42,6 +48,21 @@ public class RequestManager extends Actor {
   protected final Duration requestTimeout;
   protected final RequestDispatchStrategy dispatchStrategy;
   protected final long blockTimeMillis;
+  protected final int commandBatchSize;
+  protected final Duration commandBatchLinger;
+  protected final int maxInFlightRequests;
+
+  /** partition id => batch which is not sent yet; only accessed by the actor */
+  private final Int2ObjectHashMap<CommandBatchRequest> pendingBatches = new Int2ObjectHashMap<>();
+
+  /**
+   * requests which wait until the number of in-flight requests drops below the limit; only
+   * accessed by the actor
+   */
+  private final Deque<Runnable> pendingRequests = new ArrayDeque<>();
+
+  /** only accessed by the actor; requests sent directly by the caller are not counted */
+  private int inFlightRequests = 0;
 
   public RequestManager(
       ClientOutput output,
@@ -49,11 +70,34 @@ public class RequestManager extends Actor {
       ZeebeObjectMapperImpl objectMapper,
       Duration requestTimeout,
       long blockTimeMillis) {
+    this(
+        output,
+        topologyManager,
+        objectMapper,
+        requestTimeout,
+        blockTimeMillis,
+        1,
+        Duration.ZERO,
+        0);
+  }
+
+  public RequestManager(
+      ClientOutput output,
+      ClientTopologyManager topologyManager,
+      ZeebeObjectMapperImpl objectMapper,
+      Duration requestTimeout,
+      long blockTimeMillis,
+      int commandBatchSize,
+      Duration commandBatchLinger,
+      int maxInFlightRequests) {
     this.output = output;
     this.topologyManager = topologyManager;
     this.objectMapper = objectMapper;
     this.requestTimeout = requestTimeout;
     this.blockTimeMillis = blockTimeMillis;
+    this.commandBatchSize = Math.min(commandBatchSize, CommandBatchRequest.MAX_COMMAND_COUNT);
+    this.commandBatchLinger = commandBatchLinger;
+    this.maxInFlightRequests = maxInFlightRequests;
     this.dispatchStrategy = new RoundRobinDispatchStrategy(topologyManager);
   }
 
@@ -70,21 +114,123 @@ public class RequestManager extends Actor {
   }
 
   private <R> ResponseFuture<R> executeAsync(final RequestResponseHandler requestHandler) {
-    final Supplier<RemoteAddress> remoteProvider = determineRemoteProvider(requestHandler);
+    if (!requestHandler.addressesSpecificTopic() && !requestHandler.addressesSpecificPartition()) {
+      return sendRequest(
+          requestHandler, new BrokerProvider((topology) -> topology.getRandomBroker()));
+    }
+
+    final int partitionId = tryDeterminePartition(requestHandler);
+    if (partitionId >= 0) {
+      return sendRequest(requestHandler, leaderProvider(partitionId));
+    } else {
+      final CompletableActorFuture<ClientResponse> responseFuture = new CompletableActorFuture<>();
+
+      actor.call(
+          () ->
+              determinePartition(
+                  requestHandler,
+                  responseFuture,
+                  (partition) ->
+                      sendOrQueue(
+                          () ->
+                              sendRequest(
+                                  requestHandler, leaderProvider(partition), responseFuture))));
+
+      return newResponseFuture(responseFuture, requestHandler);
+    }
+  }
+
+  private <R> ResponseFuture<R> sendRequest(
+      RequestResponseHandler requestHandler, Supplier<RemoteAddress> remoteProvider) {
+    if (maxInFlightRequests > 0) {
+      final CompletableActorFuture<ClientResponse> responseFuture = new CompletableActorFuture<>();
+
+      actor.call(
+          () -> sendOrQueue(() -> sendRequest(requestHandler, remoteProvider, responseFuture)));
+
+      return newResponseFuture(responseFuture, requestHandler);
+    } else {
+      // without a limit, the request can be sent directly from the calling thread
+      final ActorFuture<ClientResponse> responseFuture =
+          output.sendRequestWithRetry(
+              remoteProvider, RequestManager::shouldRetryRequest, requestHandler, requestTimeout);
+
+      if (responseFuture != null) {
+        return newResponseFuture(responseFuture, requestHandler);
+      } else {
+        throw new ClientOutOfMemoryException(
+            "Zeebe client is out of buffer memory and cannot make "
+                + "new requests until memory is reclaimed.");
+      }
+    }
+  }
 
-    final ActorFuture<ClientResponse> responseFuture =
+  /** Must be called by the actor. Completes the given future with the response of the request. */
+  private void sendRequest(
+      BufferWriter request,
+      Supplier<RemoteAddress> remoteProvider,
+      CompletableActorFuture<ClientResponse> responseFuture) {
+    final ActorFuture<ClientResponse> transportFuture =
         output.sendRequestWithRetry(
-            remoteProvider, RequestManager::shouldRetryRequest, requestHandler, requestTimeout);
+            remoteProvider, RequestManager::shouldRetryRequest, request, requestTimeout);
+
+    if (transportFuture != null) {
+      inFlightRequests++;
+
+      actor.runOnCompletion(
+          transportFuture,
+          (response, failure) -> {
+            inFlightRequests--;
 
-    if (responseFuture != null) {
-      return new ResponseFuture<>(responseFuture, requestHandler, requestTimeout);
+            if (failure == null) {
+              responseFuture.complete(response);
+            } else {
+              responseFuture.completeExceptionally(failure);
+            }
+
+            sendPendingRequests();
+          });
     } else {
-      throw new ClientOutOfMemoryException(
-          "Zeebe client is out of buffer memory and cannot make "
-              + "new requests until memory is reclaimed.");
+      responseFuture.completeExceptionally(
+          new ClientOutOfMemoryException(
+              "Zeebe client is out of buffer memory and cannot make "
+                  + "new requests until memory is reclaimed."));
     }
   }
 
+  private void sendOrQueue(Runnable request) {
+    if (isInFlightLimitReached()) {
+      pendingRequests.add(request);
+    } else {
+      request.run();
+    }
+  }
+
+  private void sendPendingRequests() {
+    while (!pendingRequests.isEmpty() && !isInFlightLimitReached()) {
+      pendingRequests.poll().run();
+    }
+  }
+
+  private boolean isInFlightLimitReached() {
+    return maxInFlightRequests > 0 && inFlightRequests >= maxInFlightRequests;
+  }
+
+  /**
+   * Creates the future which is returned to the caller. The future's completion stage is completed
+   * by the actor when the response is available, so that the caller does not have to block.
+   */
+  <R> ResponseFuture<R> newResponseFuture(
+      ActorFuture<ClientResponse> responseFuture, RequestResponseHandler requestHandler) {
+    final ResponseFuture<R> future =
+        new ResponseFuture<>(responseFuture, requestHandler, requestTimeout);
+
+    actor.call(
+        () -> actor.runOnCompletion(responseFuture, (response, failure) -> future.resolve()));
+
+    return future;
+  }
+
   private static boolean shouldRetryRequest(DirectBuffer responseContent) {
     final ErrorResponseHandler errorHandler = new ErrorResponseHandler();
     final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
@@ -104,17 +250,6 @@ public class RequestManager extends Actor {
     }
   }
 
-  private ActorFuture<Integer> updateTopologyAndDeterminePartition(String topic) {
-    final CompletableActorFuture<Integer> future = new CompletableActorFuture<>();
-
-    actor.call(
-        () -> {
-          final long timeout = ActorClock.currentTimeMillis() + requestTimeout.toMillis();
-          updateTopologyAndDeterminePartition(topic, future, timeout);
-        });
-    return future;
-  }
-
   private void updateTopologyAndDeterminePartition(
       String topic, CompletableActorFuture<Integer> future, long timeout) {
     final ActorFuture<ClusterState> topologyFuture = topologyManager.requestTopology();
@@ -134,43 +269,53 @@ public class RequestManager extends Actor {
         });
   }
 
-  private Supplier<RemoteAddress> determineRemoteProvider(RequestResponseHandler requestHandler) {
-    if (!requestHandler.addressesSpecificTopic() && !requestHandler.addressesSpecificPartition()) {
-      return new BrokerProvider((topology) -> topology.getRandomBroker());
-    } else {
-      final int targetPartition;
-      if (!requestHandler.addressesSpecificPartition()) {
-        int proposedPartition =
-            dispatchStrategy.determinePartition(requestHandler.getTargetTopic());
-
-        if (proposedPartition >= 0) {
-          targetPartition = proposedPartition;
-        } else {
-          final ActorFuture<Integer> partitionFuture =
-              updateTopologyAndDeterminePartition(requestHandler.getTargetTopic());
-
-          try {
-            proposedPartition =
-                partitionFuture.get(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
-          } catch (InterruptedException | ExecutionException | TimeoutException e) {
-            proposedPartition = -1;
-          }
+  private Supplier<RemoteAddress> leaderProvider(int partitionId) {
+    return new BrokerProvider((topology) -> topology.getLeaderForPartition(partitionId));
+  }
 
-          targetPartition = proposedPartition;
-        }
-        if (targetPartition < 0) {
-          throw new ClientException(
-              "Cannot determine target partition for request. Request was: "
-                  + requestHandler.describeRequest());
-        } else {
-          requestHandler.onSelectedPartition(targetPartition);
-        }
-      } else {
-        targetPartition = requestHandler.getTargetPartition();
-      }
+  /**
+   * Determines the target partition from the current topology without blocking.
+   *
+   * @return the target partition or -1 if it is not known yet
+   */
+  private int tryDeterminePartition(RequestResponseHandler requestHandler) {
+    if (requestHandler.addressesSpecificPartition()) {
+      return requestHandler.getTargetPartition();
+    }
 
-      return new BrokerProvider((topology) -> topology.getLeaderForPartition(targetPartition));
+    final int partitionId = dispatchStrategy.determinePartition(requestHandler.getTargetTopic());
+    if (partitionId >= 0) {
+      requestHandler.onSelectedPartition(partitionId);
     }
+
+    return partitionId;
+  }
+
+  /**
+   * Must be called by the actor. Updates the topology until the target partition of the request is
+   * known, or fails the response future if it cannot be determined within the request timeout.
+   */
+  private void determinePartition(
+      RequestResponseHandler requestHandler,
+      CompletableActorFuture<ClientResponse> responseFuture,
+      IntConsumer onPartitionDetermined) {
+    final CompletableActorFuture<Integer> partitionFuture = new CompletableActorFuture<>();
+    final long timeout = ActorClock.currentTimeMillis() + requestTimeout.toMillis();
+    updateTopologyAndDeterminePartition(requestHandler.getTargetTopic(), partitionFuture, timeout);
+
+    actor.runOnCompletion(
+        partitionFuture,
+        (partitionId, failure) -> {
+          if (failure == null && partitionId >= 0) {
+            requestHandler.onSelectedPartition(partitionId);
+            onPartitionDetermined.accept(partitionId);
+          } else {
+            responseFuture.completeExceptionally(
+                new ClientException(
+                    "Cannot determine target partition for request. Request was: "
+                        + requestHandler.describeRequest()));
+          }
+        });
   }
 
   public <E> ResponseFuture<E> send(final ControlMessageRequest<E> controlMessage) {
@@ -181,7 +326,137 @@ public class RequestManager extends Actor {
 
   public <R extends Record> ResponseFuture<R> send(final CommandImpl<R> command) {
     final CommandRequestHandler requestHandler = new CommandRequestHandler(objectMapper, command);
-    return executeAsync(requestHandler);
+
+    if (commandBatchSize > 1 && command.isBatchable()) {
+      return sendBatched(requestHandler);
+    } else {
+      return executeAsync(requestHandler);
+    }
+  }
+
+  /**
+   * Sends the given commands in as few requests as possible, i.e. one request per partition if the
+   * commands fit into it.
+   */
+  public void send(
+      List<CommandRequestHandler> commands,
+      List<CompletableActorFuture<ClientResponse>> responseFutures) {
+    final int[] partitionIds = new int[commands.size()];
+    for (int i = 0; i < commands.size(); i++) {
+      partitionIds[i] = tryDeterminePartition(commands.get(i));
+    }
+
+    actor.call(
+        () -> {
+          final Int2ObjectHashMap<CommandBatchRequest> batches = new Int2ObjectHashMap<>();
+
+          for (int i = 0; i < commands.size(); i++) {
+            final CommandRequestHandler command = commands.get(i);
+            final CompletableActorFuture<ClientResponse> responseFuture = responseFutures.get(i);
+            final int partitionId = partitionIds[i];
+
+            if (partitionId < 0) {
+              // the partition is not known yet; send the command on its own once it is
+              determinePartition(
+                  command,
+                  responseFuture,
+                  (partition) -> {
+                    final CommandBatchRequest batch = new CommandBatchRequest(partition);
+                    batch.add(command, responseFuture);
+                    sendBatch(batch);
+                  });
+              continue;
+            }
+
+            CommandBatchRequest batch = batches.get(partitionId);
+            if (batch != null && !batch.canAdd(command)) {
+              sendBatch(batch);
+              batch = null;
+            }
+
+            if (batch == null) {
+              batch = new CommandBatchRequest(partitionId);
+              batches.put(partitionId, batch);
+            }
+
+            batch.add(command, responseFuture);
+          }
+
+          batches.values().forEach(this::sendBatch);
+        });
+  }
+
+  private <R> ResponseFuture<R> sendBatched(CommandRequestHandler command) {
+    final int partitionId = tryDeterminePartition(command);
+    final CompletableActorFuture<ClientResponse> responseFuture = new CompletableActorFuture<>();
+
+    if (partitionId >= 0) {
+      actor.call(() -> addToPendingBatch(partitionId, command, responseFuture));
+    } else {
+      actor.call(
+          () ->
+              determinePartition(
+                  command,
+                  responseFuture,
+                  (partition) -> addToPendingBatch(partition, command, responseFuture)));
+    }
+
+    return newResponseFuture(responseFuture, command);
+  }
+
+  private void addToPendingBatch(
+      int partitionId,
+      CommandRequestHandler command,
+      CompletableActorFuture<ClientResponse> responseFuture) {
+    CommandBatchRequest batch = pendingBatches.get(partitionId);
+
+    if (batch != null && !batch.canAdd(command)) {
+      sendPendingBatch(batch);
+      batch = null;
+    }
+
+    if (batch == null) {
+      final CommandBatchRequest newBatch = new CommandBatchRequest(partitionId);
+      pendingBatches.put(partitionId, newBatch);
+
+      actor.runDelayed(
+          commandBatchLinger,
+          () -> {
+            if (pendingBatches.get(partitionId) == newBatch) {
+              sendPendingBatch(newBatch);
+            }
+          });
+
+      batch = newBatch;
+    }
+
+    batch.add(command, responseFuture);
+
+    if (batch.size() >= commandBatchSize) {
+      sendPendingBatch(batch);
+    }
+  }
+
+  private void sendPendingBatch(CommandBatchRequest batch) {
+    pendingBatches.remove(batch.getPartitionId());
+    sendBatch(batch);
+  }
+
+  private void sendBatch(CommandBatchRequest batch) {
+    final CompletableActorFuture<ClientResponse> responseFuture = new CompletableActorFuture<>();
+
+    actor.runOnCompletion(
+        responseFuture,
+        (response, failure) -> {
+          if (failure == null) {
+            batch.onResponse(response);
+          } else {
+            batch.onFailure(failure);
+          }
+        });
+
+    sendOrQueue(
+        () -> sendRequest(batch, leaderProvider(batch.getPartitionId()), responseFuture));
   }
 
   private <E> E waitAndResolve(Future<E> future) {
@@ -221,7 +496,8 @@ public class RequestManager extends Actor {
     }
   }
 
-  public static class ResponseFuture<E> implements ActorFuture<E>, ZeebeFuture<E> {
+  public static class ResponseFuture<E> extends DelegatingCompletionStage<E>
+      implements ActorFuture<E>, ZeebeFuture<E> {
     protected final ActorFuture<ClientResponse> transportFuture;
     protected final RequestResponseHandler responseHandler;
     protected final ErrorResponseHandler errorHandler = new ErrorResponseHandler();
@@ -230,6 +506,7 @@ public class RequestManager extends Actor {
 
     protected E result = null;
     protected ExecutionException failure = null;
+    private boolean isResolved = false;
 
     ResponseFuture(
         ActorFuture<ClientResponse> transportFuture,
@@ -255,37 +532,71 @@ public class RequestManager extends Actor {
       return transportFuture.isDone();
     }
 
-    protected void ensureResponseAvailable(long timeout, TimeUnit unit) {
-      if (result != null || failure != null) {
-        return;
+    /** @return the failure if the response is not available within the timeout, otherwise null */
+    protected ExecutionException ensureResponseAvailable(long timeout, TimeUnit unit) {
+      try {
+        transportFuture.get(timeout, unit);
+      } catch (ExecutionException e) {
+        // handled on resolve
+      } catch (InterruptedException | TimeoutException e) {
+        synchronized (this) {
+          if (!isResolved) {
+            // don't store the failure, the response can still resolve the future
+            return newFailure("Could not complete request", e);
+          }
+        }
       }
 
+      resolve();
+      return null;
+    }
+
+    /**
+     * Decodes the response and completes the completion stage. Must only be called when the
+     * transport future is done.
+     */
+    protected void resolve() {
+      synchronized (this) {
+        if (isResolved) {
+          return;
+        }
+
+        decodeResponse();
+        isResolved = true;
+      }
+
+      if (failure == null) {
+        completionStage.complete(result);
+      } else {
+        completionStage.completeExceptionally(failure.getCause());
+      }
+    }
+
+    private void decodeResponse() {
       try {
-        final ClientResponse response = transportFuture.get(timeout, unit);
+        final ClientResponse response = transportFuture.get();
         final DirectBuffer responsBuffer = response.getResponseBuffer();
 
         headerDecoder.wrap(responsBuffer, 0);
 
         if (responseHandler.handlesResponse(headerDecoder)) {
           handleExpectedResponse(response, responsBuffer);
-          return;
         } else if (errorHandler.handlesResponse(headerDecoder)) {
           handleErrorResponse(responsBuffer);
-          return;
         } else {
           failWith("Unexpected response format");
-          return;
         }
       } catch (ExecutionException e) {
-        if (e.getCause() != null && e.getCause() instanceof RequestTimeoutException) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof RequestTimeoutException) {
           failWith("Request timed out (" + requestTimeout + ")", e);
+        } else if (cause instanceof ClientException) {
+          failWith((ClientException) cause);
         } else {
           failWith("Could not complete request", e);
         }
-        return;
-      } catch (InterruptedException | TimeoutException e) {
+      } catch (InterruptedException e) {
         failWith("Could not complete request", e);
-        return;
       }
     }
 
@@ -345,15 +656,19 @@ public class RequestManager extends Actor {
       this.failure = new ExecutionException(e);
     }
 
+    private ExecutionException newFailure(String message, Throwable cause) {
+      return new ExecutionException(
+          new ClientException(
+              message + ". Request was: " + responseHandler.describeRequest(), cause));
+    }
+
     protected void failWith(String message) {
       failWith(
           new ClientException(message + ". Request was: " + responseHandler.describeRequest()));
     }
 
     protected void failWith(String message, Throwable cause) {
-      failWith(
-          new ClientException(
-              message + ". Request was: " + responseHandler.describeRequest(), cause));
+      this.failure = newFailure(message, cause);
     }
 
     @Override
@@ -368,12 +683,17 @@ public class RequestManager extends Actor {
     @Override
     public E get(long timeout, TimeUnit unit)
         throws InterruptedException, ExecutionException, TimeoutException {
-      ensureResponseAvailable(timeout, unit);
+      final ExecutionException timeoutFailure = ensureResponseAvailable(timeout, unit);
+      if (timeoutFailure != null) {
+        throw timeoutFailure;
+      }
 
-      if (result != null) {
-        return result;
-      } else {
-        throw failure;
+      synchronized (this) {
+        if (failure == null) {
+          return result;
+        } else {
+          throw failure;
+        }
       }
     }
 
@@ -437,14 +757,17 @@ public class RequestManager extends Actor {
     public boolean isCompletedExceptionally() {
       if (transportFuture.isDone()) {
         ensureResponseAvailable(1, TimeUnit.SECONDS);
-        return failure != null;
+
+        synchronized (this) {
+          return failure != null;
+        }
       } else {
         return false;
       }
     }
 
     @Override
-    public Throwable getException() {
+    public synchronized Throwable getException() {
       return failure;
     }
   }
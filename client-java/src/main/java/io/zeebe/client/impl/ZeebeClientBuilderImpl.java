@@ -36,6 +36,9 @@ public class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeClientCo
   private String defaultJobWorkerName = "default";
   private Duration defaultJobTimeout = Duration.ofMinutes(5);
   private String defaultTopic = "default-topic";
+  private int commandBatchSize = 1;
+  private Duration commandBatchLinger = Duration.ofMillis(5);
+  private int maxInFlightRequests = 0;
 
   @Override
   public String getBrokerContactPoint() {
@@ -178,6 +181,39 @@ public class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeClientCo
     return defaultTopic;
   }
 
+  @Override
+  public ZeebeClientBuilder commandBatchSize(int commandBatchSize) {
+    this.commandBatchSize = commandBatchSize;
+    return this;
+  }
+
+  @Override
+  public int getCommandBatchSize() {
+    return commandBatchSize;
+  }
+
+  @Override
+  public ZeebeClientBuilder commandBatchLinger(Duration commandBatchLinger) {
+    this.commandBatchLinger = commandBatchLinger;
+    return this;
+  }
+
+  @Override
+  public Duration getCommandBatchLinger() {
+    return commandBatchLinger;
+  }
+
+  @Override
+  public ZeebeClientBuilder maxInFlightRequests(int maxInFlightRequests) {
+    this.maxInFlightRequests = maxInFlightRequests;
+    return this;
+  }
+
+  @Override
+  public int getMaxInFlightRequests() {
+    return maxInFlightRequests;
+  }
+
   @Override
   public ZeebeClient build() {
     return new ZeebeClientImpl(this, actorClock);
@@ -233,6 +269,16 @@ public class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeClientCo
     if (properties.containsKey(DEFAULT_TOPIC)) {
       defaultTopic(properties.getProperty(DEFAULT_TOPIC));
     }
+    if (properties.containsKey(COMMAND_BATCH_SIZE)) {
+      commandBatchSize(Integer.parseInt(properties.getProperty(COMMAND_BATCH_SIZE)));
+    }
+    if (properties.containsKey(COMMAND_BATCH_LINGER_MILLIS)) {
+      commandBatchLinger(
+          Duration.ofMillis(Long.parseLong(properties.getProperty(COMMAND_BATCH_LINGER_MILLIS))));
+    }
+    if (properties.containsKey(MAX_IN_FLIGHT_REQUESTS)) {
+      maxInFlightRequests(Integer.parseInt(properties.getProperty(MAX_IN_FLIGHT_REQUESTS)));
+    }
 
     return this;
   }
@@ -253,6 +299,9 @@ public class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeClientCo
     appendProperty(sb, "defaultJobWorkerName", defaultJobWorkerName);
     appendProperty(sb, "defaultJobTimeout", defaultJobTimeout);
     appendProperty(sb, "defaultTopic", defaultTopic);
+    appendProperty(sb, "commandBatchSize", commandBatchSize);
+    appendProperty(sb, "commandBatchLinger", commandBatchLinger);
+    appendProperty(sb, "maxInFlightRequests", maxInFlightRequests);
 
     return sb.toString();
   }
@@ -136,7 +136,10 @@ public class ZeebeClientImpl implements ZeebeClient {
             topologyManager,
             objectMapper,
             configuration.getRequestTimeout(),
-            requestBlockTimeMs);
+            requestBlockTimeMs,
+            configuration.getCommandBatchSize(),
+            configuration.getCommandBatchLinger(),
+            configuration.getMaxInFlightRequests());
     this.scheduler.submitActor(apiCommandManager);
 
     this.subscriptionManager = new SubscriptionManager(this);
@@ -244,6 +247,11 @@ public class ZeebeClientImpl implements ZeebeClient {
     return new TopologyRequestImpl(getCommandManager(), topologyManager);
   }
 
+  @Override
+  public CommandBatch newCommandBatch() {
+    return new CommandBatchImpl(getCommandManager(), objectMapper);
+  }
+
   @Override
   public ManagementSubscriptionBuilderStep1 newManagementSubscription() {
     return new ManagementSubscriptionBuilderImpl(subscriptionManager, configuration);
@@ -18,9 +18,11 @@ package io.zeebe.client.impl.clustering;
 import io.zeebe.client.api.commands.Topology;
 import io.zeebe.client.cmd.BrokerErrorException;
 import io.zeebe.client.impl.ControlMessageRequestHandler;
+import io.zeebe.client.impl.Loggers;
 import io.zeebe.client.impl.data.ZeebeObjectMapperImpl;
 import io.zeebe.protocol.clientapi.ErrorResponseDecoder;
 import io.zeebe.protocol.clientapi.MessageHeaderDecoder;
+import io.zeebe.protocol.clientapi.TopologyUpdateDecoder;
 import io.zeebe.transport.*;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.clock.ActorClock;
@@ -31,8 +33,16 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import org.agrona.DirectBuffer;
-
-public class ClientTopologyManager extends Actor {
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.io.DirectBufferInputStream;
+
+/**
+ * Maintains the client's view of the cluster topology. The topology is requested periodically and
+ * whenever a request cannot be routed. In addition, brokers push their topology to the client when
+ * it changes. Each received topology is merged into the current view by the raft terms of the
+ * partition leaders, so that an outdated topology can't roll back the view.
+ */
+public class ClientTopologyManager extends Actor implements TopologyUpdateHandler {
   /** Interval in which the topology is refreshed even if the client is idle */
   public static final Duration MAX_REFRESH_INTERVAL_MILLIS = Duration.ofSeconds(10);
 
@@ -45,6 +55,7 @@ public class ClientTopologyManager extends Actor {
   protected final ClientOutput output;
   protected final ClientTransport transport;
   protected final ClientTransport internalTransport;
+  protected final ZeebeObjectMapperImpl objectMapper;
 
   protected final AtomicReference<ClusterStateImpl> topology;
   protected final List<CompletableActorFuture<ClusterState>> nextTopologyFutures =
@@ -53,6 +64,7 @@ public class ClientTopologyManager extends Actor {
   protected final ControlMessageRequestHandler requestWriter;
   protected final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
   protected final ErrorResponseDecoder errorResponseDecoder = new ErrorResponseDecoder();
+  protected final TopologyUpdateDecoder topologyUpdateDecoder = new TopologyUpdateDecoder();
 
   protected int refreshAttempt = 0;
   protected long lastRefreshTime = -1;
@@ -65,6 +77,7 @@ public class ClientTopologyManager extends Actor {
     this.transport = transport;
     this.internalTransport = internalTransport;
     this.output = transport.getOutput();
+    this.objectMapper = objectMapper;
 
     this.topology = new AtomicReference<>(new ClusterStateImpl(initialContact));
     this.requestWriter =
@@ -158,9 +171,46 @@ public class ClientTopologyManager extends Actor {
     }
   }
 
+  /**
+   * Handles a topology update which is pushed by a broker. The message is received by the
+   * subscription manager together with the subscribed records, so that the receive buffer has no
+   * additional consumer.
+   */
+  @Override
+  public void onTopologyUpdate(DirectBuffer buffer, int offset, int length) {
+    final byte[] message = new byte[length];
+    buffer.getBytes(offset, message);
+
+    actor.run(
+        () -> {
+          try {
+            onNewTopology(decodeTopologyUpdate(new UnsafeBuffer(message)));
+          } catch (Exception e) {
+            Loggers.CLIENT_LOGGER.warn("Could not read topology update", e);
+          }
+        });
+  }
+
+  private TopologyImpl decodeTopologyUpdate(DirectBuffer buffer) {
+    messageHeaderDecoder.wrap(buffer, 0);
+    topologyUpdateDecoder.wrap(
+        buffer,
+        messageHeaderDecoder.encodedLength(),
+        messageHeaderDecoder.blockLength(),
+        messageHeaderDecoder.version());
+
+    final DirectBufferInputStream topology =
+        new DirectBufferInputStream(
+            buffer,
+            topologyUpdateDecoder.limit() + TopologyUpdateDecoder.topologyHeaderLength(),
+            topologyUpdateDecoder.topologyLength());
+
+    return objectMapper.fromMsgpack(topology, TopologyImpl.class);
+  }
+
   private void onNewTopology(Topology response) {
     final ClusterStateImpl newClusterState =
-        new ClusterStateImpl(response, transport::registerRemoteAddress);
+        new ClusterStateImpl(topology.get(), response, transport::registerRemoteAddress);
     this.topology.set(newClusterState);
     completeRefreshFutures(newClusterState);
   }
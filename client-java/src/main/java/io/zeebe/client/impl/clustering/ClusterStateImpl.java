@@ -15,6 +15,7 @@
  */
 package io.zeebe.client.impl.clustering;
 
+import io.zeebe.client.api.commands.PartitionInfo;
 import io.zeebe.client.api.commands.Topology;
 import io.zeebe.transport.RemoteAddress;
 import io.zeebe.transport.SocketAddress;
@@ -28,6 +29,9 @@ import org.agrona.collections.*;
  */
 public class ClusterStateImpl implements ClusterState {
   private final Int2ObjectHashMap<RemoteAddress> topicLeaders = new Int2ObjectHashMap<>();
+  /** partition id => raft term of the leader in {@link #topicLeaders} */
+  private final Int2IntHashMap leaderTerms = new Int2IntHashMap(PartitionInfoImpl.UNKNOWN_TERM);
+
   private final List<RemoteAddress> brokers = new ArrayList<>();
   private final Map<String, IntArrayList> partitionsByTopic = new HashMap<>();
 
@@ -37,10 +41,29 @@ public class ClusterStateImpl implements ClusterState {
     brokers.add(endpoint);
   }
 
+  /**
+   * Merges the topology into the previous state. The topology may be outdated (e.g. if it is
+   * pushed by an old leader which doesn't know the new leader yet). So a partition leader is only
+   * replaced by a leader of the same or a newer raft term, and partitions which are missing in the
+   * topology are kept.
+   */
   public ClusterStateImpl(
-      Topology topologyDto, Function<SocketAddress, RemoteAddress> remoteAddressProvider) {
+      ClusterStateImpl previousState,
+      Topology topologyDto,
+      Function<SocketAddress, RemoteAddress> remoteAddressProvider) {
     final Map<String, IntHashSet> partitions = new HashMap<>();
 
+    previousState.partitionsByTopic.forEach(
+        (t, p) -> {
+          final IntHashSet partitionIds = partitions.computeIfAbsent(t, k -> new IntHashSet());
+          for (int i = 0; i < p.size(); i++) {
+            partitionIds.add(p.getInt(i));
+          }
+        });
+
+    topicLeaders.putAll(previousState.topicLeaders);
+    previousState.leaderTerms.intForEach(leaderTerms::put);
+
     topologyDto
         .getBrokers()
         .stream()
@@ -61,7 +84,7 @@ public class ClusterStateImpl implements ClusterState {
                             .add(partitionId);
 
                         if (p.isLeader()) {
-                          topicLeaders.put(partitionId, remoteAddress);
+                          updateLeader(partitionId, remoteAddress, getTerm(p));
                         }
                       });
             });
@@ -78,6 +101,31 @@ public class ClusterStateImpl implements ClusterState {
         });
   }
 
+  private static int getTerm(PartitionInfo partitionInfo) {
+    if (partitionInfo instanceof PartitionInfoImpl) {
+      return ((PartitionInfoImpl) partitionInfo).getTerm();
+    } else {
+      return PartitionInfoImpl.UNKNOWN_TERM;
+    }
+  }
+
+  private void updateLeader(int partitionId, RemoteAddress leader, int term) {
+    if (term == PartitionInfoImpl.UNKNOWN_TERM || term >= leaderTerms.get(partitionId)) {
+      topicLeaders.put(partitionId, leader);
+
+      if (term != PartitionInfoImpl.UNKNOWN_TERM) {
+        leaderTerms.put(partitionId, term);
+      } else {
+        leaderTerms.remove(partitionId);
+      }
+    }
+  }
+
+  /** @return the raft term of the partition's leader, as announced by the broker */
+  public int getLeaderTerm(int partition) {
+    return leaderTerms.get(partition);
+  }
+
   @Override
   public RemoteAddress getLeaderForPartition(int partition) {
     return topicLeaders.get(partition);
@@ -113,6 +161,8 @@ public class ClusterStateImpl implements ClusterState {
     final StringBuilder builder = new StringBuilder();
     builder.append("ClusterState [topicLeaders=");
     builder.append(topicLeaders);
+    builder.append(", leaderTerms=");
+    builder.append(leaderTerms);
     builder.append(", brokers=");
     builder.append(brokers);
     builder.append("]");
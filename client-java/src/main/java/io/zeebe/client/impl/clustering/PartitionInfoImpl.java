@@ -19,9 +19,13 @@ import io.zeebe.client.api.commands.PartitionBrokerRole;
 import io.zeebe.client.api.commands.PartitionInfo;
 
 public class PartitionInfoImpl implements PartitionInfo {
+  /** the term of a leader which is announced by a broker that doesn't send terms */
+  public static final int UNKNOWN_TERM = -1;
+
   private String topicName;
   private int partitionId;
   private PartitionBrokerRole role;
+  private int term = UNKNOWN_TERM;
 
   public PartitionInfoImpl setTopicName(final String topicName) {
     this.topicName = topicName;
@@ -58,6 +62,16 @@ public class PartitionInfoImpl implements PartitionInfo {
     return role;
   }
 
+  /** @return the raft term in which the leader was elected; only set for leaders */
+  public int getTerm() {
+    return term;
+  }
+
+  public PartitionInfoImpl setTerm(int term) {
+    this.term = term;
+    return this;
+  }
+
   @Override
   public String toString() {
     final StringBuilder builder = new StringBuilder();
@@ -67,6 +81,8 @@ public class PartitionInfoImpl implements PartitionInfo {
     builder.append(partitionId);
     builder.append(", role=");
     builder.append(role);
+    builder.append(", term=");
+    builder.append(term);
     builder.append("]");
     return builder.toString();
   }
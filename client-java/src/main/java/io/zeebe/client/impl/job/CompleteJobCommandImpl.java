@@ -69,6 +69,11 @@ public class CompleteJobCommandImpl extends CommandImpl<JobEvent>
     return this;
   }
 
+  @Override
+  public boolean isBatchable() {
+    return true;
+  }
+
   @Override
   public RecordImpl getCommand() {
     return command;
@@ -17,13 +17,17 @@ package io.zeebe.client.impl.subscription;
 
 import static io.zeebe.util.VarDataUtil.readBytes;
 
+import io.zeebe.client.impl.clustering.TopologyUpdateHandler;
 import io.zeebe.client.impl.data.ZeebeObjectMapperImpl;
 import io.zeebe.client.impl.record.UntypedRecordImpl;
 import io.zeebe.protocol.clientapi.MessageHeaderDecoder;
 import io.zeebe.protocol.clientapi.RecordType;
 import io.zeebe.protocol.clientapi.RejectionType;
+import io.zeebe.protocol.clientapi.SubscribedRecordBatchDecoder;
+import io.zeebe.protocol.clientapi.SubscribedRecordBatchDecoder.RecordsDecoder;
 import io.zeebe.protocol.clientapi.SubscribedRecordDecoder;
 import io.zeebe.protocol.clientapi.SubscriptionType;
+import io.zeebe.protocol.clientapi.TopologyUpdateDecoder;
 import io.zeebe.protocol.clientapi.ValueType;
 import io.zeebe.protocol.intent.Intent;
 import io.zeebe.transport.ClientMessageHandler;
@@ -35,13 +39,25 @@ import org.agrona.DirectBuffer;
 public class SubscribedRecordCollector implements ClientMessageHandler {
   private final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
   private final SubscribedRecordDecoder subscribedRecordDecoder = new SubscribedRecordDecoder();
+  private final SubscribedRecordBatchDecoder subscribedRecordBatchDecoder =
+      new SubscribedRecordBatchDecoder();
+
+  /** the position of the first record of the last postponed batch */
+  private long postponedBatchPosition = -1L;
+
+  private int handledBatchRecords;
 
   private final SubscribedEventHandler eventHandler;
+  /** brokers push topology updates on the same channel as the subscribed records */
+  private final TopologyUpdateHandler topologyUpdateHandler;
   private final ZeebeObjectMapperImpl objectMapper;
 
   public SubscribedRecordCollector(
-      SubscribedEventHandler eventHandler, ZeebeObjectMapperImpl objectMapper) {
+      SubscribedEventHandler eventHandler,
+      TopologyUpdateHandler topologyUpdateHandler,
+      ZeebeObjectMapperImpl objectMapper) {
     this.eventHandler = eventHandler;
+    this.topologyUpdateHandler = topologyUpdateHandler;
     this.objectMapper = objectMapper;
   }
 
@@ -54,61 +70,134 @@ public class SubscribedRecordCollector implements ClientMessageHandler {
       int length) {
     messageHeaderDecoder.wrap(buffer, offset);
 
-    offset += MessageHeaderDecoder.ENCODED_LENGTH;
-
     final int templateId = messageHeaderDecoder.templateId();
 
     final boolean messageHandled;
 
     if (templateId == SubscribedRecordDecoder.TEMPLATE_ID) {
+      messageHandled = handleRecord(buffer, offset);
+    } else if (templateId == SubscribedRecordBatchDecoder.TEMPLATE_ID) {
+      messageHandled = handleRecordBatch(buffer, offset);
+    } else if (templateId == TopologyUpdateDecoder.TEMPLATE_ID) {
+      topologyUpdateHandler.onTopologyUpdate(buffer, offset, length);
+      messageHandled = true;
+    } else {
+      // ignoring
+      messageHandled = true;
+    }
+
+    return messageHandled;
+  }
 
-      subscribedRecordDecoder.wrap(
-          buffer, offset, messageHeaderDecoder.blockLength(), messageHeaderDecoder.version());
-
-      final int partitionId = subscribedRecordDecoder.partitionId();
-      final long position = subscribedRecordDecoder.position();
-      final long sourceRecordPosition = subscribedRecordDecoder.sourceRecordPosition();
-      final long key = subscribedRecordDecoder.key();
-      final long subscriberKey = subscribedRecordDecoder.subscriberKey();
-      final RecordType recordType = subscribedRecordDecoder.recordType();
-      final SubscriptionType subscriptionType = subscribedRecordDecoder.subscriptionType();
-      final ValueType valueType = subscribedRecordDecoder.valueType();
-      final Intent intent = Intent.fromProtocolValue(valueType, subscribedRecordDecoder.intent());
-      final long timestamp = subscribedRecordDecoder.timestamp();
-      final RejectionType rejectionType = subscribedRecordDecoder.rejectionType();
-
-      final byte[] valueBuffer =
-          readBytes(subscribedRecordDecoder::getValue, subscribedRecordDecoder::valueLength);
-
-      final int rejectionReasonLength = subscribedRecordDecoder.rejectionReasonLength();
-      final String rejectionReason;
-      if (rejectionReasonLength > 0) {
-        rejectionReason =
-            new String(
-                readBytes(subscribedRecordDecoder::getRejectionReason, rejectionReasonLength),
-                StandardCharsets.UTF_8);
-      } else {
-        rejectionReason = null;
+  /**
+   * Handles the records of the batch in place. If a record can't be handled, then the batch is
+   * postponed and delivered again. In this case, the already handled records of the batch are
+   * skipped.
+   */
+  private boolean handleRecordBatch(DirectBuffer buffer, int offset) {
+    subscribedRecordBatchDecoder.wrap(
+        buffer,
+        offset + MessageHeaderDecoder.ENCODED_LENGTH,
+        messageHeaderDecoder.blockLength(),
+        messageHeaderDecoder.version());
+
+    final RecordsDecoder records = subscribedRecordBatchDecoder.records();
+
+    int recordIndex = 0;
+    boolean recordHandled = true;
+
+    while (records.hasNext() && recordHandled) {
+      records.next();
+
+      final int recordOffset =
+          subscribedRecordBatchDecoder.limit() + RecordsDecoder.recordHeaderLength();
+      final int recordLength = records.recordLength();
+
+      if (recordIndex == 0) {
+        // the first record identifies a postponed batch
+        final long firstPosition = readPosition(buffer, recordOffset);
+        if (firstPosition != postponedBatchPosition) {
+          postponedBatchPosition = firstPosition;
+          handledBatchRecords = 0;
+        }
       }
 
-      final UntypedRecordImpl event =
-          new UntypedRecordImpl(objectMapper, recordType, valueType, valueBuffer);
+      if (recordIndex >= handledBatchRecords) {
+        recordHandled = handleRecord(buffer, recordOffset);
+        if (recordHandled) {
+          handledBatchRecords += 1;
+        }
+      }
+
+      subscribedRecordBatchDecoder.limit(recordOffset + recordLength);
+      recordIndex += 1;
+    }
 
-      event.setPartitionId(partitionId);
-      event.setPosition(position);
-      event.setKey(key);
-      event.setSourceRecordPosition(sourceRecordPosition);
-      event.setIntent(intent);
-      event.setTimestamp(timestamp);
-      event.setRejectionType(rejectionType);
-      event.setRejectioReason(rejectionReason);
+    if (recordHandled) {
+      postponedBatchPosition = -1L;
+      handledBatchRecords = 0;
+    }
 
-      messageHandled = eventHandler.onEvent(subscriptionType, subscriberKey, event);
+    return recordHandled;
+  }
+
+  private long readPosition(DirectBuffer buffer, int offset) {
+    messageHeaderDecoder.wrap(buffer, offset);
+    subscribedRecordDecoder.wrap(
+        buffer,
+        offset + MessageHeaderDecoder.ENCODED_LENGTH,
+        messageHeaderDecoder.blockLength(),
+        messageHeaderDecoder.version());
+
+    return subscribedRecordDecoder.position();
+  }
+
+  private boolean handleRecord(DirectBuffer buffer, int offset) {
+    messageHeaderDecoder.wrap(buffer, offset);
+
+    offset += MessageHeaderDecoder.ENCODED_LENGTH;
+
+    subscribedRecordDecoder.wrap(
+        buffer, offset, messageHeaderDecoder.blockLength(), messageHeaderDecoder.version());
+
+    final int partitionId = subscribedRecordDecoder.partitionId();
+    final long position = subscribedRecordDecoder.position();
+    final long sourceRecordPosition = subscribedRecordDecoder.sourceRecordPosition();
+    final long key = subscribedRecordDecoder.key();
+    final long subscriberKey = subscribedRecordDecoder.subscriberKey();
+    final RecordType recordType = subscribedRecordDecoder.recordType();
+    final SubscriptionType subscriptionType = subscribedRecordDecoder.subscriptionType();
+    final ValueType valueType = subscribedRecordDecoder.valueType();
+    final Intent intent = Intent.fromProtocolValue(valueType, subscribedRecordDecoder.intent());
+    final long timestamp = subscribedRecordDecoder.timestamp();
+    final RejectionType rejectionType = subscribedRecordDecoder.rejectionType();
+
+    final byte[] valueBuffer =
+        readBytes(subscribedRecordDecoder::getValue, subscribedRecordDecoder::valueLength);
+
+    final int rejectionReasonLength = subscribedRecordDecoder.rejectionReasonLength();
+    final String rejectionReason;
+    if (rejectionReasonLength > 0) {
+      rejectionReason =
+          new String(
+              readBytes(subscribedRecordDecoder::getRejectionReason, rejectionReasonLength),
+              StandardCharsets.UTF_8);
     } else {
-      // ignoring
-      messageHandled = true;
+      rejectionReason = null;
     }
 
-    return messageHandled;
+    final UntypedRecordImpl event =
+        new UntypedRecordImpl(objectMapper, recordType, valueType, valueBuffer);
+
+    event.setPartitionId(partitionId);
+    event.setPosition(position);
+    event.setKey(key);
+    event.setSourceRecordPosition(sourceRecordPosition);
+    event.setIntent(intent);
+    event.setTimestamp(timestamp);
+    event.setRejectionType(rejectionType);
+    event.setRejectioReason(rejectionReason);
+
+    return eventHandler.onEvent(subscriptionType, subscriberKey, event);
   }
 }
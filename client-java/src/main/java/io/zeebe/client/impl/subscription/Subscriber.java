@@ -22,6 +22,8 @@ import io.zeebe.util.CheckedConsumer;
 import io.zeebe.util.sched.ActorCondition;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.agrona.concurrent.ManyToManyConcurrentArrayQueue;
 import org.slf4j.Logger;
@@ -142,6 +144,16 @@ public abstract class Subscriber {
   }
 
   protected int pollEvents(CheckedConsumer<UntypedRecordImpl> pollHandler) {
+    return pollEvents(pollHandler, null);
+  }
+
+  /**
+   * Polls the currently available events. If an executor is given, the handler is invoked on it
+   * and this method returns without waiting for the events to be handled. In either case, an event
+   * only counts towards credit replenishment once its handler has returned, so the number of events
+   * handled concurrently is bounded by the subscriber's capacity.
+   */
+  protected int pollEvents(CheckedConsumer<UntypedRecordImpl> pollHandler, Executor executor) {
     final int currentlyAvailableEvents = size();
     int handledEvents = 0;
 
@@ -156,29 +168,28 @@ public abstract class Subscriber {
       }
 
       eventsInProcessing.incrementAndGet();
-      try {
-        // Must first increment eventsInProcessing and only then check if the subscription
-        // is still open. This avoids a race condition between the event handler executor
-        // and the event acquisition checking if there are events in processing before closing a
-        // subscription
-        if (!isOpen()) {
-          break;
-        }
 
-        handledEvents++;
-        logHandling(event);
+      // Must first increment eventsInProcessing and only then check if the subscription
+      // is still open. This avoids a race condition between the event handler executor
+      // and the event acquisition checking if there are events in processing before closing a
+      // subscription
+      if (!isOpen()) {
+        onEventHandled();
+        break;
+      }
 
-        try {
-          pollHandler.accept(event);
-        } catch (Exception e) {
-          onUnhandledEventHandlingException(event, e);
-        }
-      } finally {
-        eventsInProcessing.decrementAndGet();
-        eventsProcessedSinceLastReplenishment.incrementAndGet();
+      handledEvents++;
 
-        if (shouldReplenishEventSource()) {
-          replenishmentTrigger.signal();
+      if (executor == null) {
+        handleEvent(pollHandler, event);
+      } else {
+        final UntypedRecordImpl submittedEvent = event;
+        try {
+          executor.execute(() -> handleEvent(pollHandler, submittedEvent));
+        } catch (RejectedExecutionException e) {
+          LOGGER.debug(
+              LOG_MESSAGE_PREFIX + "Handler executor rejected event. Handling it in place.", this);
+          handleEvent(pollHandler, submittedEvent);
         }
       }
     }
@@ -186,6 +197,30 @@ public abstract class Subscriber {
     return handledEvents;
   }
 
+  private void handleEvent(
+      CheckedConsumer<UntypedRecordImpl> pollHandler, UntypedRecordImpl event) {
+    try {
+      logHandling(event);
+
+      try {
+        pollHandler.accept(event);
+      } catch (Exception e) {
+        onUnhandledEventHandlingException(event, e);
+      }
+    } finally {
+      onEventHandled();
+    }
+  }
+
+  private void onEventHandled() {
+    eventsInProcessing.decrementAndGet();
+    eventsProcessedSinceLastReplenishment.incrementAndGet();
+
+    if (shouldReplenishEventSource()) {
+      replenishmentTrigger.signal();
+    }
+  }
+
   protected void logHandling(UntypedRecordImpl event) {
     try {
       LOGGER.trace(LOG_MESSAGE_PREFIX + "Handling event {}", this, event);
@@ -59,7 +59,8 @@ public class SubscriptionManager extends Actor
   @Override
   protected void onActorStarting() {
     final SubscribedRecordCollector taskCollector =
-        new SubscribedRecordCollector(this, client.getObjectMapper());
+        new SubscribedRecordCollector(
+            this, client.getTopologyManager(), client.getObjectMapper());
 
     actor.runOnCompletion(
         client.getTransport().openSubscription("event-acquisition", taskCollector),
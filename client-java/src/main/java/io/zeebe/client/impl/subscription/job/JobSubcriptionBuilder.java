@@ -25,6 +25,7 @@ import io.zeebe.client.impl.subscription.SubscriptionManager;
 import io.zeebe.util.EnsureUtil;
 import java.time.Duration;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 
 public class JobSubcriptionBuilder
@@ -37,6 +38,7 @@ public class JobSubcriptionBuilder
   private String worker;
   private JobHandler jobHandler;
   private int bufferSize;
+  private Executor handlerExecutor;
 
   public JobSubcriptionBuilder(TopicClientImpl client) {
     this.topic = client.getTopic();
@@ -79,6 +81,13 @@ public class JobSubcriptionBuilder
     return this;
   }
 
+  @Override
+  public JobWorkerBuilderStep3 handlerExecutor(Executor executor) {
+    EnsureUtil.ensureNotNull("executor", executor);
+    this.handlerExecutor = executor;
+    return this;
+  }
+
   @Override
   public JobWorkerBuilderStep3 handler(JobHandler handler) {
     EnsureUtil.ensureNotNull("handler", handler);
@@ -94,7 +103,8 @@ public class JobSubcriptionBuilder
     EnsureUtil.ensureGreaterThan("jobFetchSize", bufferSize, 0);
 
     final JobSubscriptionSpec subscription =
-        new JobSubscriptionSpec(topic, jobHandler, jobType, timeout, worker, bufferSize);
+        new JobSubscriptionSpec(
+            topic, jobHandler, jobType, timeout, worker, bufferSize, handlerExecutor);
 
     final Future<JobSubscriberGroup> group = subscriptionManager.openJobSubscription(subscription);
 
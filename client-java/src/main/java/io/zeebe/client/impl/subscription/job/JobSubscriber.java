@@ -23,6 +23,7 @@ import io.zeebe.client.impl.event.JobEventImpl;
 import io.zeebe.client.impl.subscription.*;
 import io.zeebe.transport.RemoteAddress;
 import io.zeebe.util.sched.future.ActorFuture;
+import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 
 public class JobSubscriber extends Subscriber {
@@ -46,7 +47,7 @@ public class JobSubscriber extends Subscriber {
     this.subscription = subscription;
   }
 
-  public int pollEvents(JobHandler jobHandler) {
+  public int pollEvents(JobHandler jobHandler, Executor handlerExecutor) {
     final int polledEvents =
         pollEvents(
             (e) -> {
@@ -71,7 +72,8 @@ public class JobSubscriber extends Subscriber {
                       failureException);
                 }
               }
-            });
+            },
+            handlerExecutor);
 
     return polledEvents;
   }
@@ -42,7 +42,7 @@ public class JobSubscriberGroup extends SubscriberGroup<JobSubscriber> implement
   public int poll(JobHandler jobHandler) {
     int workCount = 0;
     for (JobSubscriber subscriber : subscribersList) {
-      workCount += subscriber.pollEvents(jobHandler);
+      workCount += subscriber.pollEvents(jobHandler, subscription.getHandlerExecutor());
     }
 
     return workCount;
@@ -16,6 +16,7 @@
 package io.zeebe.client.impl.subscription.job;
 
 import io.zeebe.client.api.subscription.JobHandler;
+import java.util.concurrent.Executor;
 
 public class JobSubscriptionSpec {
 
@@ -25,6 +26,7 @@ public class JobSubscriptionSpec {
   protected final long timeout;
   protected final String worker;
   protected final int capacity;
+  protected final Executor handlerExecutor;
 
   public JobSubscriptionSpec(
       String topic,
@@ -32,13 +34,15 @@ public class JobSubscriptionSpec {
       String taskType,
       long timeout,
       String worker,
-      int capacity) {
+      int capacity,
+      Executor handlerExecutor) {
     this.topic = topic;
     this.jobHandler = jobHandler;
     this.jobType = taskType;
     this.timeout = timeout;
     this.worker = worker;
     this.capacity = capacity;
+    this.handlerExecutor = handlerExecutor;
   }
 
   public String getTopic() {
@@ -65,6 +69,10 @@ public class JobSubscriptionSpec {
     return capacity;
   }
 
+  public Executor getHandlerExecutor() {
+    return handlerExecutor;
+  }
+
   @Override
   public String toString() {
     final StringBuilder builder = new StringBuilder();
@@ -80,6 +88,8 @@ public class JobSubscriptionSpec {
     builder.append(worker);
     builder.append(", capacity=");
     builder.append(capacity);
+    builder.append(", handlerExecutor=");
+    builder.append(handlerExecutor);
     builder.append("]");
     return builder.toString();
   }
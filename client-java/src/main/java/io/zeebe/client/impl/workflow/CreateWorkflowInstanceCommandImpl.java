@@ -94,6 +94,11 @@ public class CreateWorkflowInstanceCommandImpl extends CommandImpl<WorkflowInsta
     return this;
   }
 
+  @Override
+  public boolean isBatchable() {
+    return true;
+  }
+
   @Override
   public RecordImpl getCommand() {
     return command;
@@ -0,0 +1,156 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.cmd;
+
+import static io.zeebe.test.util.TestUtil.waitUntil;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.events.JobEvent;
+import io.zeebe.client.util.ClientRule;
+import io.zeebe.protocol.clientapi.ErrorCode;
+import io.zeebe.protocol.clientapi.ValueType;
+import io.zeebe.protocol.intent.JobIntent;
+import io.zeebe.test.broker.protocol.brokerapi.ResponseController;
+import io.zeebe.test.broker.protocol.brokerapi.StubBrokerRule;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class AsyncRequestTest {
+  private static final int MAX_IN_FLIGHT_REQUESTS = 2;
+
+  public ClientRule clientRule =
+      new ClientRule(
+          b ->
+              b.maxInFlightRequests(MAX_IN_FLIGHT_REQUESTS).requestTimeout(Duration.ofSeconds(30)));
+  public StubBrokerRule broker = new StubBrokerRule();
+
+  @Rule public RuleChain ruleChain = RuleChain.outerRule(broker).around(clientRule);
+
+  @Test
+  public void shouldCompleteCompletionStage() throws Exception {
+    // given
+    broker.jobs().registerCreateCommand();
+
+    // when
+    final CompletableFuture<String> future =
+        clientRule.jobClient()
+            .newCreateCommand()
+            .jobType("foo")
+            .send()
+            .thenApply(JobEvent::getType)
+            .toCompletableFuture();
+
+    // then
+    assertThat(future.get(10, TimeUnit.SECONDS)).isEqualTo("foo");
+  }
+
+  @Test
+  public void shouldCompleteCompletionStageExceptionally() throws Exception {
+    // given
+    broker
+        .onExecuteCommandRequest(ValueType.JOB, JobIntent.CREATE)
+        .respondWithError()
+        .errorCode(ErrorCode.REQUEST_PROCESSING_FAILURE)
+        .errorData("test")
+        .register();
+
+    // when
+    final CompletableFuture<Throwable> future =
+        clientRule.jobClient()
+            .newCreateCommand()
+            .jobType("foo")
+            .send()
+            .handle((job, failure) -> failure)
+            .toCompletableFuture();
+
+    // then
+    assertThat(future.get(10, TimeUnit.SECONDS))
+        .isInstanceOf(BrokerErrorException.class)
+        .hasMessageContaining("Request exception (REQUEST_PROCESSING_FAILURE): test");
+  }
+
+  @Test
+  public void shouldReturnResponseAfterGetTimedOut() throws Exception {
+    // given
+    final ResponseController responseController =
+        broker
+            .onExecuteCommandRequest(ValueType.JOB, JobIntent.CREATE)
+            .respondWith()
+            .event()
+            .intent(JobIntent.CREATED)
+            .key(r -> r.key())
+            .value()
+            .allOf(r -> r.getCommand())
+            .done()
+            .registerControlled();
+
+    final ZeebeFuture<JobEvent> future =
+        clientRule.jobClient().newCreateCommand().jobType("foo").send();
+
+    assertThatThrownBy(() -> future.get(100, TimeUnit.MILLISECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasMessageContaining("Could not complete request");
+
+    // when
+    responseController.unblockNextResponse();
+
+    // then
+    assertThat(future.get(10, TimeUnit.SECONDS).getType()).isEqualTo("foo");
+    assertThat(future.toCompletableFuture().get(10, TimeUnit.SECONDS).getType()).isEqualTo("foo");
+  }
+
+  @Test
+  public void shouldLimitInFlightRequests() throws Exception {
+    // given
+    broker.onExecuteCommandRequest(ValueType.JOB, JobIntent.CREATE).doNotRespond();
+
+    // when
+    for (int i = 0; i < MAX_IN_FLIGHT_REQUESTS + 3; i++) {
+      clientRule.jobClient().newCreateCommand().jobType("foo").send();
+    }
+
+    // then
+    waitUntil(() -> broker.getReceivedCommandRequests().size() == MAX_IN_FLIGHT_REQUESTS);
+
+    Thread.sleep(500L); // waiting for potentially more requests
+    assertThat(broker.getReceivedCommandRequests()).hasSize(MAX_IN_FLIGHT_REQUESTS);
+  }
+
+  @Test
+  public void shouldSendQueuedRequestsWhenResponsesArrive() {
+    // given
+    broker.jobs().registerCreateCommand();
+
+    // when
+    final List<ZeebeFuture<JobEvent>> futures = new ArrayList<>();
+    for (int i = 0; i < MAX_IN_FLIGHT_REQUESTS * 5; i++) {
+      futures.add(clientRule.jobClient().newCreateCommand().jobType("foo").send());
+    }
+
+    // then
+    futures.forEach(f -> assertThat(f.join().getType()).isEqualTo("foo"));
+    assertThat(broker.getReceivedCommandRequests()).hasSize(MAX_IN_FLIGHT_REQUESTS * 5);
+  }
+}
@@ -27,13 +27,20 @@ import io.zeebe.client.api.ZeebeFuture;
 import io.zeebe.client.api.events.JobEvent;
 import io.zeebe.client.impl.CommandImpl;
 import io.zeebe.client.impl.ZeebeClientImpl;
+import io.zeebe.client.impl.clustering.ClusterState;
+import io.zeebe.client.impl.clustering.ClusterStateImpl;
+import io.zeebe.client.impl.clustering.PartitionInfoImpl;
 import io.zeebe.client.impl.event.JobEventImpl;
 import io.zeebe.client.impl.record.RecordImpl;
 import io.zeebe.client.util.ClientRule;
 import io.zeebe.client.util.Events;
+import io.zeebe.protocol.Protocol;
 import io.zeebe.protocol.clientapi.*;
 import io.zeebe.protocol.intent.JobIntent;
 import io.zeebe.test.broker.protocol.brokerapi.*;
+import io.zeebe.test.broker.protocol.brokerapi.data.Topology;
+import io.zeebe.transport.RemoteAddress;
+import io.zeebe.transport.SocketAddress;
 import java.time.Duration;
 import java.util.List;
 import org.junit.*;
@@ -49,6 +56,10 @@ public class ClientCommandManagerTest {
 
   @Rule public ExpectedException exception = ExpectedException.none();
 
+  private static final int OTHER_PARTITION = 5;
+  private static final String OLD_LEADER_HOST = "localhost";
+  private static final int OLD_LEADER_PORT = 1;
+
   protected ZeebeClient client;
 
   @Before
@@ -117,6 +128,122 @@ public class ClientCommandManagerTest {
     assertTopologyRefreshRequests(2);
   }
 
+  @Test
+  public void shouldUpdateTopologyOnPush() {
+    // given
+    broker.jobs().registerCreateCommand();
+    final RemoteAddress clientAddress = openClientChannel();
+
+    broker.addTopic("other-topic", 1);
+
+    // when
+    broker.pushTopology(clientAddress);
+    waitUntil(() -> getTopology().getPartitionsOfTopic("other-topic") != null);
+
+    final JobEvent jobEvent =
+        client
+            .topicClient("other-topic")
+            .jobClient()
+            .newCreateCommand()
+            .jobType("foo")
+            .send()
+            .join();
+
+    // then the client did not have to request the topology
+    assertThat(jobEvent).isNotNull();
+    assertTopologyRefreshRequests(1);
+  }
+
+  @Test
+  public void shouldNotRollBackLeaderOnOutdatedTopologyPush() {
+    // given
+    broker.jobs().registerCreateCommand();
+    final RemoteAddress clientAddress = openClientChannel();
+
+    broker.setCurrentTopology(topologyWithLeader(broker.getHost(), broker.getPort(), 2));
+    broker.pushTopology(clientAddress);
+    waitUntil(() -> getTopology().getLeaderTerm(OTHER_PARTITION) == 2);
+
+    // when an old leader pushes its outdated view
+    broker.setCurrentTopology(topologyWithLeader(OLD_LEADER_HOST, OLD_LEADER_PORT, 1));
+    broker.pushTopology(clientAddress);
+
+    broker.setCurrentTopology(
+        new Topology()
+            .addLeader(broker, Protocol.SYSTEM_TOPIC, Protocol.SYSTEM_PARTITION)
+            .addLeader(broker, "third-topic", 3));
+    broker.pushTopology(clientAddress);
+
+    // then the pushes are applied in order, but the outdated leader is ignored
+    waitUntil(() -> getTopology().getPartitionsOfTopic("third-topic") != null);
+
+    assertThat(getTopology().getLeaderTerm(OTHER_PARTITION)).isEqualTo(2);
+    assertThat(getTopology().getLeaderForPartition(OTHER_PARTITION).getAddress())
+        .isEqualTo(brokerAddress());
+  }
+
+  @Test
+  public void shouldNotRollBackLeaderOnOutdatedTopologyResponse() {
+    // given
+    broker.jobs().registerCreateCommand();
+    final RemoteAddress clientAddress = openClientChannel();
+
+    broker.setCurrentTopology(topologyWithLeader(broker.getHost(), broker.getPort(), 2));
+    broker.pushTopology(clientAddress);
+    waitUntil(() -> getTopology().getLeaderTerm(OTHER_PARTITION) == 2);
+
+    // when the client requests the topology from a broker with an outdated view
+    broker.setCurrentTopology(topologyWithLeader(OLD_LEADER_HOST, OLD_LEADER_PORT, 1));
+    final ClusterState topology =
+        ((ZeebeClientImpl) client).getTopologyManager().requestTopology().join();
+
+    // then
+    assertThat(topology.getLeaderForPartition(OTHER_PARTITION).getAddress())
+        .isEqualTo(brokerAddress());
+    assertThat(getTopology().getLeaderTerm(OTHER_PARTITION)).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldReplaceLeaderOfNewerTerm() {
+    // given
+    broker.jobs().registerCreateCommand();
+    final RemoteAddress clientAddress = openClientChannel();
+
+    broker.setCurrentTopology(topologyWithLeader(OLD_LEADER_HOST, OLD_LEADER_PORT, 1));
+    broker.pushTopology(clientAddress);
+    waitUntil(() -> getTopology().getLeaderTerm(OTHER_PARTITION) == 1);
+
+    // when
+    broker.setCurrentTopology(topologyWithLeader(broker.getHost(), broker.getPort(), 2));
+    broker.pushTopology(clientAddress);
+
+    // then
+    waitUntil(() -> getTopology().getLeaderTerm(OTHER_PARTITION) == 2);
+    assertThat(getTopology().getLeaderForPartition(OTHER_PARTITION).getAddress())
+        .isEqualTo(brokerAddress());
+  }
+
+  @Test
+  public void shouldReplaceLeaderOfUnknownTerm() {
+    // given
+    broker.jobs().registerCreateCommand();
+    final RemoteAddress clientAddress = openClientChannel();
+
+    broker.setCurrentTopology(topologyWithLeader(broker.getHost(), broker.getPort(), 2));
+    broker.pushTopology(clientAddress);
+    waitUntil(() -> getTopology().getLeaderTerm(OTHER_PARTITION) == 2);
+
+    // when a broker which doesn't know terms announces the leader
+    broker.setCurrentTopology(
+        topologyWithLeader(OLD_LEADER_HOST, OLD_LEADER_PORT, PartitionInfoImpl.UNKNOWN_TERM));
+    broker.pushTopology(clientAddress);
+
+    // then
+    waitUntil(() -> getTopology().getLeaderTerm(OTHER_PARTITION) == PartitionInfoImpl.UNKNOWN_TERM);
+    assertThat(getTopology().getLeaderForPartition(OTHER_PARTITION).getAddress())
+        .isEqualTo(new SocketAddress(OLD_LEADER_HOST, OLD_LEADER_PORT));
+  }
+
   @Test
   public void testRequestFailure() {
     // given
@@ -182,6 +309,28 @@ public class ClientCommandManagerTest {
     client.topicClient().jobClient().newCreateCommand().jobType("foo").send().join();
   }
 
+  /** @return the address of the channel the client sends its commands on */
+  protected RemoteAddress openClientChannel() {
+    client.topicClient().jobClient().newCreateCommand().jobType("foo").send().join();
+
+    return broker.getReceivedCommandRequests().get(0).getSource();
+  }
+
+  /** @return a topology where the given broker leads the partition of "other-topic" */
+  protected Topology topologyWithLeader(String host, int port, int term) {
+    return new Topology()
+        .addLeader(broker, Protocol.SYSTEM_TOPIC, Protocol.SYSTEM_PARTITION)
+        .addLeader(host, port, "other-topic", OTHER_PARTITION, term);
+  }
+
+  protected SocketAddress brokerAddress() {
+    return new SocketAddress(broker.getHost(), broker.getPort());
+  }
+
+  protected ClusterStateImpl getTopology() {
+    return ((ZeebeClientImpl) client).getTopologyManager().getTopology();
+  }
+
   protected void assertTopologyRefreshRequests(final int count) {
     final List<ControlMessageRequest> receivedControlMessageRequests =
         broker.getReceivedControlMessageRequests();
@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.cmd;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.commands.CommandBatch;
+import io.zeebe.client.api.events.JobEvent;
+import io.zeebe.client.api.events.JobState;
+import io.zeebe.client.impl.event.JobEventImpl;
+import io.zeebe.client.util.ClientRule;
+import io.zeebe.client.util.Events;
+import io.zeebe.protocol.clientapi.ValueType;
+import io.zeebe.test.broker.protocol.brokerapi.ExecuteCommandRequest;
+import io.zeebe.test.broker.protocol.brokerapi.StubBrokerRule;
+import io.zeebe.test.util.TestUtil;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.RuleChain;
+
+public class CommandBatchTest {
+  public ClientRule clientRule =
+      new ClientRule(b -> b.commandBatchSize(3).commandBatchLinger(Duration.ofSeconds(10)));
+  public StubBrokerRule brokerRule = new StubBrokerRule();
+
+  @Rule public RuleChain ruleChain = RuleChain.outerRule(brokerRule).around(clientRule);
+
+  @Rule public ExpectedException exception = ExpectedException.none();
+
+  @Before
+  public void init() {
+    brokerRule.jobs().registerCompleteCommand();
+  }
+
+  @Test
+  public void shouldSendCommandsOfBatchInOneRequest() {
+    // given
+    final CommandBatch batch = clientRule.getClient().newCommandBatch();
+
+    final List<ZeebeFuture<JobEvent>> futures = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      futures.add(batch.add(clientRule.jobClient().newCompleteCommand(exampleJob(i))));
+    }
+
+    // when
+    batch.send();
+
+    // then
+    for (int i = 0; i < futures.size(); i++) {
+      final JobEvent jobEvent = futures.get(i).join();
+
+      assertThat(jobEvent.getState()).isEqualTo(JobState.COMPLETED);
+      assertThat(jobEvent.getKey()).isEqualTo(i);
+    }
+
+    final List<List<ExecuteCommandRequest>> batchRequests =
+        brokerRule.getReceivedCommandBatchRequests();
+    assertThat(batchRequests).hasSize(1);
+    assertThat(batchRequests.get(0))
+        .hasSize(5)
+        .extracting(ExecuteCommandRequest::valueType)
+        .containsOnly(ValueType.JOB);
+  }
+
+  @Test
+  public void shouldBatchCommandsUntilBatchSizeIsReached() {
+    // when
+    final List<ZeebeFuture<JobEvent>> futures = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      futures.add(clientRule.jobClient().newCompleteCommand(exampleJob(i)).send());
+    }
+
+    // then
+    futures.forEach(f -> assertThat(f.join().getState()).isEqualTo(JobState.COMPLETED));
+
+    final List<List<ExecuteCommandRequest>> batchRequests =
+        brokerRule.getReceivedCommandBatchRequests();
+    assertThat(batchRequests).hasSize(1);
+    assertThat(batchRequests.get(0)).hasSize(3);
+  }
+
+  @Test
+  public void shouldSendBatchAfterLinger() {
+    // given
+    final ZeebeFuture<JobEvent> future =
+        clientRule.jobClient().newCompleteCommand(exampleJob(1)).send();
+
+    // when
+    TestUtil.doRepeatedly(() -> clientRule.getClock().addTime(Duration.ofSeconds(10)))
+        .until(v -> !brokerRule.getReceivedCommandBatchRequests().isEmpty());
+
+    // then
+    assertThat(future.join().getState()).isEqualTo(JobState.COMPLETED);
+    assertThat(brokerRule.getReceivedCommandBatchRequests().get(0)).hasSize(1);
+  }
+
+  @Test
+  public void shouldRejectCommandOfBatch() {
+    // given
+    brokerRule.jobs().registerCompleteCommand(b -> b.rejection());
+
+    final CommandBatch batch = clientRule.getClient().newCommandBatch();
+    final ZeebeFuture<JobEvent> future =
+        batch.add(clientRule.jobClient().newCompleteCommand(exampleJob(1)));
+
+    // when
+    batch.send();
+
+    // then
+    exception.expect(ClientCommandRejectedException.class);
+    exception.expectMessage("Command (COMPLETE) for event with key 1 was rejected");
+
+    future.join();
+  }
+
+  @Test
+  public void shouldNotAddCommandWhichCanNotBeBatched() {
+    // given
+    final CommandBatch batch = clientRule.getClient().newCommandBatch();
+
+    // then
+    exception.expect(IllegalArgumentException.class);
+    exception.expectMessage("Cannot add command. Only commands to complete a job");
+
+    // when
+    batch.add(clientRule.jobClient().newFailCommand(exampleJob(1)).retries(2));
+  }
+
+  private static JobEventImpl exampleJob(long key) {
+    final JobEventImpl job = Events.exampleJob();
+    job.setKey(key);
+    return job;
+  }
+}
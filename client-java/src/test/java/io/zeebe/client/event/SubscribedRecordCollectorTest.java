@@ -0,0 +1,204 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.client.impl.data.ZeebeObjectMapperImpl;
+import io.zeebe.client.impl.record.UntypedRecordImpl;
+import io.zeebe.client.impl.subscription.SubscribedRecordCollector;
+import io.zeebe.protocol.clientapi.MessageHeaderEncoder;
+import io.zeebe.protocol.clientapi.RecordType;
+import io.zeebe.protocol.clientapi.RejectionType;
+import io.zeebe.protocol.clientapi.SubscribedRecordBatchEncoder;
+import io.zeebe.protocol.clientapi.SubscribedRecordBatchEncoder.RecordsEncoder;
+import io.zeebe.protocol.clientapi.SubscribedRecordEncoder;
+import io.zeebe.protocol.clientapi.SubscriptionType;
+import io.zeebe.protocol.clientapi.TopologyUpdateEncoder;
+import io.zeebe.protocol.clientapi.ValueType;
+import io.zeebe.protocol.intent.JobIntent;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class SubscribedRecordCollectorTest {
+  private static final byte[] VALUE = new byte[] {(byte) 0x80}; // empty msgpack map
+
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final SubscribedRecordEncoder recordEncoder = new SubscribedRecordEncoder();
+  private final SubscribedRecordBatchEncoder batchEncoder = new SubscribedRecordBatchEncoder();
+
+  private final TopologyUpdateEncoder topologyUpdateEncoder = new TopologyUpdateEncoder();
+
+  private final List<Long> handledPositions = new ArrayList<>();
+  private final List<Integer> topologyUpdateLengths = new ArrayList<>();
+  private int acceptedRecords = Integer.MAX_VALUE;
+
+  private final SubscribedRecordCollector collector =
+      new SubscribedRecordCollector(
+          this::onEvent,
+          (buffer, offset, length) -> topologyUpdateLengths.add(length),
+          new ZeebeObjectMapperImpl());
+
+  @Test
+  public void shouldHandleSingleRecord() {
+    // given
+    final UnsafeBuffer message = new UnsafeBuffer(new byte[1024]);
+    final int length = writeRecord(message, 0, 1L);
+
+    // when
+    final boolean handled = collector.onMessage(null, null, message, 0, length);
+
+    // then
+    assertThat(handled).isTrue();
+    assertThat(handledPositions).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldHandleRecordsOfBatch() {
+    // given
+    final UnsafeBuffer message = new UnsafeBuffer(new byte[1024]);
+    final int length = writeBatch(message, 1L, 2L, 3L);
+
+    // when
+    final boolean handled = collector.onMessage(null, null, message, 0, length);
+
+    // then
+    assertThat(handled).isTrue();
+    assertThat(handledPositions).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  public void shouldSkipHandledRecordsOfPostponedBatch() {
+    // given
+    final UnsafeBuffer message = new UnsafeBuffer(new byte[1024]);
+    final int length = writeBatch(message, 1L, 2L, 3L);
+
+    acceptedRecords = 2;
+    assertThat(collector.onMessage(null, null, message, 0, length)).isFalse();
+
+    // when
+    acceptedRecords = Integer.MAX_VALUE;
+    final boolean handled = collector.onMessage(null, null, message, 0, length);
+
+    // then
+    assertThat(handled).isTrue();
+    assertThat(handledPositions).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  public void shouldHandleNextBatchCompletely() {
+    // given
+    final UnsafeBuffer message = new UnsafeBuffer(new byte[1024]);
+    int length = writeBatch(message, 1L, 2L);
+    collector.onMessage(null, null, message, 0, length);
+
+    // when
+    length = writeBatch(message, 3L, 4L);
+    final boolean handled = collector.onMessage(null, null, message, 0, length);
+
+    // then
+    assertThat(handled).isTrue();
+    assertThat(handledPositions).containsExactly(1L, 2L, 3L, 4L);
+  }
+
+  @Test
+  public void shouldPassTopologyUpdateToHandler() {
+    // given
+    final UnsafeBuffer message = new UnsafeBuffer(new byte[1024]);
+    final int length = writeTopologyUpdate(message);
+
+    // when
+    final boolean handled = collector.onMessage(null, null, message, 0, length);
+
+    // then
+    assertThat(handled).isTrue();
+    assertThat(topologyUpdateLengths).containsExactly(length);
+    assertThat(handledPositions).isEmpty();
+  }
+
+  private boolean onEvent(SubscriptionType type, long subscriberKey, UntypedRecordImpl event) {
+    if (handledPositions.size() < acceptedRecords) {
+      handledPositions.add(event.getMetadata().getPosition());
+      return true;
+    } else {
+      return false;
+    }
+  }
+
+  private int writeBatch(UnsafeBuffer buffer, long... positions) {
+    headerEncoder
+        .wrap(buffer, 0)
+        .blockLength(batchEncoder.sbeBlockLength())
+        .templateId(batchEncoder.sbeTemplateId())
+        .schemaId(batchEncoder.sbeSchemaId())
+        .version(batchEncoder.sbeSchemaVersion());
+
+    batchEncoder.wrap(buffer, headerEncoder.encodedLength());
+    final RecordsEncoder recordsEncoder = batchEncoder.recordsCount(positions.length);
+
+    final UnsafeBuffer recordBuffer = new UnsafeBuffer(new byte[256]);
+    for (long position : positions) {
+      final int recordLength = writeRecord(recordBuffer, 0, position);
+      recordsEncoder.next().putRecord(recordBuffer, 0, recordLength);
+    }
+
+    return batchEncoder.limit();
+  }
+
+  private int writeTopologyUpdate(UnsafeBuffer buffer) {
+    headerEncoder
+        .wrap(buffer, 0)
+        .blockLength(topologyUpdateEncoder.sbeBlockLength())
+        .templateId(topologyUpdateEncoder.sbeTemplateId())
+        .schemaId(topologyUpdateEncoder.sbeSchemaId())
+        .version(topologyUpdateEncoder.sbeSchemaVersion());
+
+    topologyUpdateEncoder
+        .wrap(buffer, headerEncoder.encodedLength())
+        .putTopology(VALUE, 0, VALUE.length);
+
+    return topologyUpdateEncoder.limit();
+  }
+
+  private int writeRecord(UnsafeBuffer buffer, int offset, long position) {
+    headerEncoder
+        .wrap(buffer, offset)
+        .blockLength(recordEncoder.sbeBlockLength())
+        .templateId(recordEncoder.sbeTemplateId())
+        .schemaId(recordEncoder.sbeSchemaId())
+        .version(recordEncoder.sbeSchemaVersion());
+
+    recordEncoder
+        .wrap(buffer, offset + headerEncoder.encodedLength())
+        .partitionId(1)
+        .position(position)
+        .sourceRecordPosition(-1L)
+        .key(2L)
+        .subscriberKey(3L)
+        .recordType(RecordType.EVENT)
+        .subscriptionType(SubscriptionType.TOPIC_SUBSCRIPTION)
+        .valueType(ValueType.JOB)
+        .intent(JobIntent.CREATED.value())
+        .timestamp(0L)
+        .rejectionType(RejectionType.NULL_VAL)
+        .putValue(VALUE, 0, VALUE.length)
+        .putRejectionReason(new byte[0], 0, 0);
+
+    return recordEncoder.limit() - offset;
+  }
+}
@@ -46,6 +46,8 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -837,6 +839,49 @@ public class JobWorkerTest {
     assertThat(totalReplenishedCredits).isGreaterThanOrEqualTo(jobsToHandleBeforeReplenishment + 1);
   }
 
+  @Test
+  public void shouldHandleJobsConcurrentlyOnHandlerExecutor() throws InterruptedException {
+    // given
+    final int numJobs = 4;
+    broker.stubJobSubscriptionApi(123L);
+
+    final WaitingJobHandler handler = new WaitingJobHandler();
+    final ExecutorService executor = Executors.newFixedThreadPool(numJobs);
+
+    try {
+      clientRule
+          .jobClient()
+          .newWorker()
+          .jobType("type")
+          .handler(handler)
+          .handlerExecutor(executor)
+          .name("owner")
+          .timeout(10000L)
+          .bufferSize(numJobs)
+          .open();
+
+      final RemoteAddress clientAddress = getSubscribeRequests().findFirst().get().getSource();
+
+      // when
+      for (int i = 0; i < numJobs; i++) {
+        broker.pushActivatedJob(clientAddress, 123L, 4L + i, 5L + i, "foo", "type");
+      }
+
+      // then more jobs are in progress than there are subscription execution threads
+      waitUntil(() -> handler.numWaitingThreads.get() == numJobs);
+      assertThat(getCreditRequests().count()).isEqualTo(0);
+
+      // and credits are replenished once the handlers complete
+      continueJobHandlingThreads();
+      waitUntil(() -> handler.numHandledEvents.get() == numJobs);
+      waitUntil(() -> getCreditRequests().count() >= 1);
+    } finally {
+      continueJobHandlingThreads();
+      executor.shutdownNow();
+      executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+  }
+
   @Test
   public void shouldApplyDefaultsToWorkerNameAndTimeout() {
     // given
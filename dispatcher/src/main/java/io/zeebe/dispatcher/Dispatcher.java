@@ -254,7 +254,7 @@ public class Dispatcher extends Actor implements AutoCloseable {
 
       newPosition = updatePublisherPosition(activePartitionId, newOffset);
       publisherPosition.proposeMaxOrdered(newPosition);
-      signalSubsciptions();
+      signalSubscriptionsIfPadded(newOffset);
     }
     return newPosition;
   }
@@ -295,13 +295,25 @@ public class Dispatcher extends Actor implements AutoCloseable {
         newPosition = updatePublisherPosition(activePartitionId, newOffset);
 
         publisherPosition.proposeMaxOrdered(newPosition);
-        signalSubsciptions();
+        signalSubscriptionsIfPadded(newOffset);
       }
     }
 
     return newPosition;
   }
 
+  /**
+   * A claimed fragment can't be read before it is committed, and the subscriptions are signaled
+   * on commit. Signaling them on claim too would only wake up the consumers for nothing, and let
+   * all producers contend on the consumers' conditions twice per fragment. Only the padding at the
+   * end of a partition is readable right away.
+   */
+  private void signalSubscriptionsIfPadded(int newOffset) {
+    if (newOffset == RESULT_PADDING_AT_END_OF_PARTITION) {
+      signalSubsciptions();
+    }
+  }
+
   protected long updatePublisherPosition(final int activePartitionId, int newOffset) {
     long newPosition = -1;
 
@@ -37,6 +37,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 public class DispatcherTest {
@@ -232,6 +233,39 @@ public class DispatcherTest {
     verify(logBufferPartition0).getTailCounterVolatile();
   }
 
+  @Test
+  public void shouldSignalSubscriptionsWhenClaimedFragmentIsCompleted() {
+    // given
+    final ActorCondition consumer = mock(ActorCondition.class);
+    dispatcher.doOpenSubscription("test", mock(ActorCondition.class)).registerConsumer(consumer);
+
+    when(logBuffer.getActivePartitionIdVolatile()).thenReturn(0);
+    when(logBufferPartition0.getTailCounterVolatile()).thenReturn(0);
+    when(publisherLimit.get()).thenReturn(position(0, A_FRAGMENT_LENGTH));
+
+    final ArgumentCaptor<Runnable> onCompleteCaptor = ArgumentCaptor.forClass(Runnable.class);
+    when(logAppender.claim(
+            eq(logBufferPartition0),
+            eq(0),
+            eq(claimedFragment),
+            eq(A_MSG_PAYLOAD_LENGTH),
+            eq(A_STREAM_ID),
+            onCompleteCaptor.capture()))
+        .thenReturn(A_FRAGMENT_LENGTH);
+
+    // when
+    dispatcher.claim(claimedFragment, A_MSG_PAYLOAD_LENGTH, A_STREAM_ID);
+
+    // then
+    verify(consumer, never()).signal();
+
+    // when
+    onCompleteCaptor.getValue().run();
+
+    // then
+    verify(consumer).signal();
+  }
+
   @Test
   public void shouldRollPartitionOnPartitionFilled() {
     // given
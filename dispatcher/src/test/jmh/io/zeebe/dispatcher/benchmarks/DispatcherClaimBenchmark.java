@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.dispatcher.benchmarks;
+
+import static io.zeebe.dispatcher.benchmarks.Benchmarks.BATCH_FRAGMENT_COUNT;
+import static io.zeebe.dispatcher.benchmarks.Benchmarks.FRAGMENT_LENGTH;
+
+import io.zeebe.dispatcher.ClaimedFragment;
+import io.zeebe.dispatcher.ClaimedFragmentBatch;
+import io.zeebe.dispatcher.Dispatcher;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the claim throughput of multiple producers which write to different streams of the same
+ * dispatcher. A consumer actor drains the buffer concurrently and is signaled by the producers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class DispatcherClaimBenchmark {
+  @Benchmark
+  @Threads(4)
+  public long claimOnSingleDispatcher(SingleDispatcherSupplier supplier, ProducerState producer) {
+    final Dispatcher dispatcher = supplier.dispatcher;
+    final ClaimedFragment claimedFragment = producer.claimedFragment;
+
+    long position;
+    do {
+      position = dispatcher.claim(claimedFragment, FRAGMENT_LENGTH, producer.streamId);
+    } while (position < 0);
+
+    claimedFragment.getBuffer().putInt(claimedFragment.getOffset(), producer.streamId);
+    claimedFragment.commit();
+
+    return position;
+  }
+
+  @Benchmark
+  @Threads(4)
+  public long claimBatchOnSingleDispatcher(
+      SingleDispatcherSupplier supplier, ProducerState producer) {
+    final Dispatcher dispatcher = supplier.dispatcher;
+    final ClaimedFragmentBatch claimedBatch = producer.claimedBatch;
+
+    long position;
+    do {
+      position =
+          dispatcher.claim(
+              claimedBatch, BATCH_FRAGMENT_COUNT, BATCH_FRAGMENT_COUNT * FRAGMENT_LENGTH);
+    } while (position < 0);
+
+    for (int i = 0; i < BATCH_FRAGMENT_COUNT; i++) {
+      claimedBatch.nextFragment(FRAGMENT_LENGTH, producer.streamId);
+      claimedBatch.getBuffer().putInt(claimedBatch.getFragmentOffset(), producer.streamId);
+    }
+    claimedBatch.commit();
+
+    return position;
+  }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.dispatcher.benchmarks;
+
+import io.zeebe.dispatcher.ClaimedFragment;
+import io.zeebe.dispatcher.ClaimedFragmentBatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/** Each producer thread writes to its own stream. */
+@State(Scope.Thread)
+public class ProducerState {
+  private static final AtomicInteger STREAM_IDS = new AtomicInteger();
+
+  final ClaimedFragment claimedFragment = new ClaimedFragment();
+  final ClaimedFragmentBatch claimedBatch = new ClaimedFragmentBatch();
+  final int streamId = STREAM_IDS.getAndIncrement();
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.dispatcher.benchmarks;
+
+import io.zeebe.dispatcher.Dispatcher;
+import io.zeebe.dispatcher.Dispatchers;
+import io.zeebe.dispatcher.FragmentHandler;
+import io.zeebe.dispatcher.Subscription;
+import io.zeebe.util.ByteValue;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorScheduler;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+public class SingleDispatcherSupplier {
+  static final FragmentHandler CONSUME =
+      (buffer, offset, length, streamId, isMarkedFailed) -> FragmentHandler.CONSUME_FRAGMENT_RESULT;
+
+  ActorScheduler actorScheduler;
+  Dispatcher dispatcher;
+
+  @Setup
+  public void setUp() {
+    actorScheduler = ActorScheduler.newActorScheduler().setCpuBoundActorThreadCount(1).build();
+    actorScheduler.start();
+
+    dispatcher =
+        Dispatchers.create("single")
+            .actorScheduler(actorScheduler)
+            .bufferSize(ByteValue.ofMegabytes(16))
+            .build();
+
+    final Subscription subscription = dispatcher.openSubscription("consumer");
+    actorScheduler.submitActor(new Consumer(subscription)).join();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    dispatcher.close();
+    actorScheduler.stop().get();
+  }
+
+  /** Consumes the subscription like the log storage appender, when it is signaled. */
+  private static class Consumer extends Actor {
+    private final Subscription subscription;
+
+    Consumer(Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    protected void onActorStarted() {
+      actor.consume(subscription, this::consume);
+    }
+
+    private void consume() {
+      if (subscription.poll(CONSUME, Integer.MAX_VALUE) == 0) {
+        actor.yield();
+      }
+    }
+  }
+}
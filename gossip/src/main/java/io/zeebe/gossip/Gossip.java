@@ -67,8 +67,11 @@ public class Gossip extends Actor implements GossipController, GossipEventPublis
     disseminationComponent = new DisseminationComponent(configuration, membershipList);
 
     customEventListenerConsumer = new CustomEventListenerConsumer();
+
+    final SyncDigest receivedSyncDigest = new SyncDigest();
+    final SyncDigest syncResponseDigest = new SyncDigest();
     final CustomEventSyncResponseSupplier customEventSyncRequestSupplier =
-        new CustomEventSyncResponseSupplier();
+        new CustomEventSyncResponseSupplier(syncResponseDigest);
 
     final GossipEventFactory gossipEventFactory =
         new GossipEventFactory(
@@ -76,7 +79,9 @@ public class Gossip extends Actor implements GossipController, GossipEventPublis
             membershipList,
             disseminationComponent,
             customEventSyncRequestSupplier,
-            customEventListenerConsumer);
+            customEventListenerConsumer,
+            receivedSyncDigest,
+            syncResponseDigest);
     final GossipEventSender gossipEventSender =
         new GossipEventSender(clientTransport, serverTransport, membershipList, gossipEventFactory);
 
@@ -91,7 +96,8 @@ public class Gossip extends Actor implements GossipController, GossipEventPublis
     joinController = new JoinController(context, actor);
     pingController = new PingController(context, actor);
     syncRequestHandler =
-        new SyncRequestEventHandler(context, customEventSyncRequestSupplier, actor);
+        new SyncRequestEventHandler(
+            context, customEventSyncRequestSupplier, receivedSyncDigest, syncResponseDigest, actor);
 
     requestHandler = new GossipRequestHandler(gossipEventFactory);
     requestHandler.registerGossipEventConsumer(GossipEventType.PING, new PingEventHandler(context));
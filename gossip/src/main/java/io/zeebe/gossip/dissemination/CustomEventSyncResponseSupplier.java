@@ -19,54 +19,100 @@ import io.zeebe.gossip.protocol.CustomEvent;
 import io.zeebe.gossip.protocol.CustomEventSupplier;
 import io.zeebe.util.collection.ReusableObjectList;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
+/**
+ * Supplies the custom events of a sync response. The events are collected once and are sent to all
+ * pending sync requests. Events which are already known by the receiver (according to the digest of
+ * its request) are skipped.
+ */
 public class CustomEventSyncResponseSupplier implements CustomEventSupplier {
-  private final ReusableObjectList<BufferedEvent<CustomEvent>> customEvents =
-      new ReusableObjectList<>(() -> new BufferedEvent<>(new CustomEvent()));
+  private final ReusableObjectList<CustomEvent> customEvents =
+      new ReusableObjectList<>(() -> new CustomEvent());
 
-  private final BufferedEventIterator<CustomEvent> viewIterator =
-      new BufferedEventIterator<>(false);
-  private final BufferedEventIterator<CustomEvent> drainIterator =
-      new BufferedEventIterator<>(true);
+  private final MissingEventIterator iterator = new MissingEventIterator();
 
-  private int spreadLimit = 1;
+  private final SyncDigest digest;
 
-  public CustomEventSyncResponseSupplier() {
-    reset();
+  public CustomEventSyncResponseSupplier(SyncDigest digest) {
+    this.digest = digest;
   }
 
   public CustomEvent add() {
-    return customEvents.add().getEvent();
-  }
-
-  public void increaseSpreadLimit() {
-    spreadLimit += 1;
-
-    drainIterator.setSpreadLimit(spreadLimit);
+    return customEvents.add();
   }
 
-  public void reset() {
-    spreadLimit = 1;
-
-    drainIterator.setSpreadLimit(1);
+  public void clear() {
+    customEvents.clear();
   }
 
   @Override
   public int customEventSize() {
-    return customEvents.size();
+    int size = 0;
+
+    for (CustomEvent event : customEvents) {
+      if (!isKnown(event)) {
+        size += 1;
+      }
+    }
+    return size;
   }
 
   @Override
   public Iterator<CustomEvent> customEventViewIterator(int max) {
-    viewIterator.wrap(customEvents.iterator(), max);
+    iterator.wrap(customEvents.iterator(), max);
 
-    return viewIterator;
+    return iterator;
   }
 
   @Override
   public Iterator<CustomEvent> customEventDrainIterator(int max) {
-    drainIterator.wrap(customEvents.iterator(), max);
+    // the events are cleared when the responses for all pending requests are sent
+    return customEventViewIterator(max);
+  }
+
+  private boolean isKnown(CustomEvent event) {
+    return digest.containsCustomEvent(
+        event.getSenderAddress(), event.getType(), event.getSenderGossipTerm());
+  }
+
+  private class MissingEventIterator implements Iterator<CustomEvent> {
+    private Iterator<CustomEvent> iterator;
+    private CustomEvent next;
+
+    private int count = 0;
+    private int limit = 0;
+
+    public void wrap(Iterator<CustomEvent> iterator, int limit) {
+      this.iterator = iterator;
+      this.limit = limit;
+      this.count = 0;
+      this.next = null;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (next == null && count < limit && iterator.hasNext()) {
+        final CustomEvent event = iterator.next();
+
+        if (!isKnown(event)) {
+          next = event;
+        }
+      }
+      return next != null;
+    }
+
+    @Override
+    public CustomEvent next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      final CustomEvent event = next;
+      next = null;
+      count += 1;
 
-    return drainIterator;
+      return event;
+    }
   }
 }
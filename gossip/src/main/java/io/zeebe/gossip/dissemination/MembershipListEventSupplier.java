@@ -20,24 +20,46 @@ import io.zeebe.gossip.membership.*;
 import io.zeebe.gossip.protocol.*;
 import io.zeebe.transport.SocketAddress;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
+/**
+ * Supplies the members of the membership list (including self) as events. If a digest is given
+ * then the members which are already known by the receiver are skipped.
+ */
 public class MembershipListEventSupplier implements MembershipEventSupplier {
   private final MembershipList membershipList;
+  private final SyncDigest digest;
   private final MembershipEventIterator iterator;
 
   public MembershipListEventSupplier(MembershipList membershipList) {
+    this(membershipList, new SyncDigest());
+  }
+
+  public MembershipListEventSupplier(MembershipList membershipList, SyncDigest digest) {
     this.membershipList = membershipList;
+    this.digest = digest;
     this.iterator = new MembershipEventIterator(membershipList);
   }
 
   @Override
   public int membershipEventSize() {
-    return 1 + membershipList.size();
+    if (digest.isEmpty()) {
+      return 1 + membershipList.size();
+    } else {
+      int size = isKnown(membershipList.self()) ? 0 : 1;
+
+      for (Member member : membershipList) {
+        if (!isKnown(member)) {
+          size += 1;
+        }
+      }
+      return size;
+    }
   }
 
   @Override
   public Iterator<MembershipEvent> membershipEventViewIterator(int max) {
-    iterator.reset();
+    iterator.reset(max);
 
     return iterator;
   }
@@ -47,37 +69,54 @@ public class MembershipListEventSupplier implements MembershipEventSupplier {
     return membershipEventViewIterator(max);
   }
 
+  private boolean isKnown(Member member) {
+    return digest.containsMember(member.getAddress(), member.getTerm(), member.getStatus());
+  }
+
   private class MembershipEventIterator implements Iterator<MembershipEvent> {
     private final MembershipEvent membershipEvent = new MembershipEvent();
 
     private final Member self;
 
     private Iterator<Member> iterator;
-    private int index = 0;
+    private Member next;
+
+    private int count = 0;
+    private int limit = 0;
 
     MembershipEventIterator(MembershipList membershipList) {
       this.self = membershipList.self();
     }
 
-    public void reset() {
-      iterator = membershipList.iterator();
-      index = 0;
+    public void reset(int limit) {
+      this.iterator = membershipList.iterator();
+      this.next = isKnown(self) ? null : self;
+      this.count = 0;
+      this.limit = limit;
     }
 
     @Override
     public boolean hasNext() {
-      return index == 0 || iterator.hasNext();
+      while (next == null && iterator.hasNext()) {
+        final Member member = iterator.next();
+
+        if (!isKnown(member)) {
+          next = member;
+        }
+      }
+      return next != null && count < limit;
     }
 
     @Override
     public MembershipEvent next() {
-      Member member = null;
-      if (index == 0) {
-        member = self;
-      } else {
-        member = iterator.next();
+      if (!hasNext()) {
+        throw new NoSuchElementException();
       }
 
+      final Member member = next;
+      next = null;
+      count += 1;
+
       final MembershipEventType eventType = resolveType(member.getStatus());
       if (eventType != null) {
         membershipEvent.type(eventType);
@@ -89,8 +128,6 @@ public class MembershipListEventSupplier implements MembershipEventSupplier {
         membershipEvent.getAddress().wrap(address);
       }
 
-      index += 1;
-
       return membershipEvent;
     }
 
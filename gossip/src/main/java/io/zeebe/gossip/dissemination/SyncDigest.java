@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.gossip.dissemination;
+
+import io.zeebe.clustering.gossip.MembershipEventType;
+import io.zeebe.clustering.gossip.MessageHeaderDecoder;
+import io.zeebe.clustering.gossip.SyncDigestDecoder;
+import io.zeebe.clustering.gossip.SyncDigestDecoder.CustomEventsDecoder;
+import io.zeebe.clustering.gossip.SyncDigestDecoder.MembersDecoder;
+import io.zeebe.gossip.membership.GossipTerm;
+import io.zeebe.gossip.membership.MembershipStatus;
+import io.zeebe.transport.SocketAddress;
+import io.zeebe.util.buffer.BufferReader;
+import io.zeebe.util.buffer.BufferUtil;
+import io.zeebe.util.collection.Reusable;
+import io.zeebe.util.collection.Tuple;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * The status and terms of the members and the terms of the custom events which are known by the
+ * sender of a sync request (see {@link SyncDigestWriter}). The digest is sent instead of the data,
+ * so the sync response only needs to contain the members and custom events which are missing or
+ * outdated on the sender's side.
+ */
+public class SyncDigest implements BufferReader, Reusable {
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+  private final SyncDigestDecoder bodyDecoder = new SyncDigestDecoder();
+
+  private final SocketAddress address = new SocketAddress();
+  private final GossipTerm term = new GossipTerm();
+  private final MutableDirectBuffer typeBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer typeView = new UnsafeBuffer(0, 0);
+
+  private final Map<SocketAddress, Tuple<MembershipStatus, GossipTerm>> members = new HashMap<>();
+  private final Map<SocketAddress, List<Tuple<DirectBuffer, GossipTerm>>> customEventTerms =
+      new HashMap<>();
+
+  @Override
+  public void wrap(DirectBuffer buffer, int offset, int length) {
+    reset();
+
+    if (length == 0) {
+      // no digest, e.g. sent by an older version
+      return;
+    }
+
+    headerDecoder.wrap(buffer, offset);
+    offset += headerDecoder.encodedLength();
+
+    bodyDecoder.wrap(buffer, offset, headerDecoder.blockLength(), headerDecoder.version());
+
+    for (MembersDecoder membersDecoder : bodyDecoder.members()) {
+      final MembershipStatus status =
+          membersDecoder.status() == MembershipEventType.SUSPECT
+              ? MembershipStatus.SUSPECT
+              : MembershipStatus.ALIVE;
+
+      term.epoch(membersDecoder.gossipEpoch()).heartbeat(membersDecoder.gossipHeartbeat());
+
+      address.port(membersDecoder.port()).hostLength(membersDecoder.hostLength());
+      membersDecoder.getHost(address.getHostBuffer(), 0, address.hostLength());
+
+      putMember(address, status, term);
+    }
+
+    for (CustomEventsDecoder customEventsDecoder : bodyDecoder.customEvents()) {
+      term.epoch(customEventsDecoder.senderGossipEpoch())
+          .heartbeat(customEventsDecoder.senderGossipHeartbeat());
+
+      address
+          .port(customEventsDecoder.senderPort())
+          .hostLength(customEventsDecoder.senderHostLength());
+      customEventsDecoder.getSenderHost(address.getHostBuffer(), 0, address.hostLength());
+
+      final int typeLength = customEventsDecoder.eventTypeLength();
+      customEventsDecoder.getEventType(typeBuffer, 0, typeLength);
+      typeView.wrap(typeBuffer, 0, typeLength);
+
+      putCustomEventTerm(address, typeView, term);
+    }
+  }
+
+  /**
+   * @return true, if the member is known with a newer term, or with the given term and the same
+   *     status
+   */
+  public boolean containsMember(SocketAddress address, GossipTerm term, MembershipStatus status) {
+    final Tuple<MembershipStatus, GossipTerm> knownMember = members.get(address);
+
+    if (knownMember == null) {
+      return false;
+    } else {
+      final GossipTerm knownTerm = knownMember.getRight();
+
+      return knownTerm.isGreaterThan(term)
+          || (knownTerm.isEqual(term) && knownMember.getLeft() == status);
+    }
+  }
+
+  /** @return true, if the custom event of the sender is known with the given or a newer term */
+  public boolean containsCustomEvent(SocketAddress sender, DirectBuffer type, GossipTerm term) {
+    final GossipTerm knownTerm = getCustomEventTerm(sender, type);
+
+    return knownTerm != null && !term.isGreaterThan(knownTerm);
+  }
+
+  public boolean isEmpty() {
+    return members.isEmpty() && customEventTerms.isEmpty();
+  }
+
+  public void wrap(SyncDigest other) {
+    reset();
+
+    other.members.forEach(
+        (address, member) -> putMember(address, member.getLeft(), member.getRight()));
+    other.customEventTerms.forEach(
+        (sender, terms) ->
+            terms.forEach(tuple -> putCustomEventTerm(sender, tuple.getLeft(), tuple.getRight())));
+  }
+
+  @Override
+  public void reset() {
+    members.clear();
+    customEventTerms.clear();
+  }
+
+  private void putMember(SocketAddress address, MembershipStatus status, GossipTerm term) {
+    final Tuple<MembershipStatus, GossipTerm> knownMember = members.get(address);
+
+    if (knownMember == null) {
+      members.put(new SocketAddress(address), new Tuple<>(status, new GossipTerm().wrap(term)));
+    } else if (term.isGreaterThan(knownMember.getRight())) {
+      knownMember.setLeft(status);
+      knownMember.getRight().wrap(term);
+    }
+  }
+  private void putCustomEventTerm(SocketAddress sender, DirectBuffer type, GossipTerm term) {
+    final GossipTerm knownTerm = getCustomEventTerm(sender, type);
+
+    if (knownTerm == null) {
+      customEventTerms
+          .computeIfAbsent(new SocketAddress(sender), s -> new ArrayList<>())
+          .add(new Tuple<>(BufferUtil.cloneBuffer(type), new GossipTerm().wrap(term)));
+    } else if (term.isGreaterThan(knownTerm)) {
+      knownTerm.wrap(term);
+    }
+  }
+
+  private GossipTerm getCustomEventTerm(SocketAddress sender, DirectBuffer type) {
+    final List<Tuple<DirectBuffer, GossipTerm>> terms = customEventTerms.get(sender);
+
+    if (terms != null) {
+      for (Tuple<DirectBuffer, GossipTerm> tuple : terms) {
+        if (BufferUtil.equals(type, tuple.getLeft())) {
+          return tuple.getRight();
+        }
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.gossip.dissemination;
+
+import io.zeebe.clustering.gossip.MembershipEventType;
+import io.zeebe.clustering.gossip.MessageHeaderEncoder;
+import io.zeebe.clustering.gossip.SyncDigestEncoder;
+import io.zeebe.clustering.gossip.SyncDigestEncoder.CustomEventsEncoder;
+import io.zeebe.clustering.gossip.SyncDigestEncoder.MembersEncoder;
+import io.zeebe.gossip.membership.GossipTerm;
+import io.zeebe.gossip.membership.Member;
+import io.zeebe.gossip.membership.MembershipList;
+import io.zeebe.transport.SocketAddress;
+import io.zeebe.util.buffer.BufferWriter;
+import io.zeebe.util.collection.Tuple;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Writes the digest of a sync request, i.e. the status and term of the known members (including
+ * self) and the term of each known custom event type per member, without payload.
+ *
+ * <p>The digest is limited by the max size of a message group and of a data field. Entries which
+ * don't fit are left out, so the sync response contains them again.
+ */
+public class SyncDigestWriter implements BufferWriter {
+  /** the max number of entries of a message group */
+  private static final int MAX_GROUP_ENTRIES = 254;
+  /** the max length of a data field */
+  private static final int MAX_LENGTH = 0xFFFF;
+
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final SyncDigestEncoder bodyEncoder = new SyncDigestEncoder();
+
+  private final MembershipList membershipList;
+
+  private int memberCount;
+  private int customEventCount;
+  private boolean isFull;
+
+  public SyncDigestWriter(MembershipList membershipList) {
+    this.membershipList = membershipList;
+  }
+
+  @Override
+  public int getLength() {
+    memberCount = 0;
+    customEventCount = 0;
+    isFull = false;
+
+    int length =
+        headerEncoder.encodedLength()
+            + bodyEncoder.sbeBlockLength()
+            + MembersEncoder.sbeHeaderSize()
+            + CustomEventsEncoder.sbeHeaderSize();
+
+    length = addMember(membershipList.self(), length);
+    for (Member member : membershipList) {
+      length = addMember(member, length);
+    }
+
+    length = addCustomEvents(membershipList.self(), length);
+    for (Member member : membershipList) {
+      length = addCustomEvents(member, length);
+    }
+
+    return length;
+  }
+
+  private int addMember(Member member, int length) {
+    final int entryLength =
+        MembersEncoder.sbeBlockLength()
+            + MembersEncoder.hostHeaderLength()
+            + member.getAddress().hostLength();
+
+    if (resolveStatus(member) == null) {
+      return length;
+    } else if (isFull || memberCount >= MAX_GROUP_ENTRIES || length + entryLength > MAX_LENGTH) {
+      isFull = true;
+      return length;
+    } else {
+      memberCount += 1;
+      return length + entryLength;
+    }
+  }
+
+  private int addCustomEvents(Member member, int length) {
+    for (Tuple<DirectBuffer, GossipTerm> tuple : member.getTermsByEventType()) {
+      final int entryLength =
+          CustomEventsEncoder.sbeBlockLength()
+              + CustomEventsEncoder.senderHostHeaderLength()
+              + CustomEventsEncoder.eventTypeHeaderLength()
+              + member.getAddress().hostLength()
+              + tuple.getLeft().capacity();
+
+      if (isFull
+          || customEventCount >= MAX_GROUP_ENTRIES
+          || length + entryLength > MAX_LENGTH) {
+        isFull = true;
+        return length;
+      } else {
+        customEventCount += 1;
+        length += entryLength;
+      }
+    }
+    return length;
+  }
+
+  @Override
+  public void write(MutableDirectBuffer buffer, int offset) {
+    // must be called after getLength() which limits the entries
+    headerEncoder
+        .wrap(buffer, offset)
+        .blockLength(bodyEncoder.sbeBlockLength())
+        .templateId(bodyEncoder.sbeTemplateId())
+        .schemaId(bodyEncoder.sbeSchemaId())
+        .version(bodyEncoder.sbeSchemaVersion());
+
+    bodyEncoder.wrap(buffer, offset + headerEncoder.encodedLength());
+
+    final MembersEncoder membersEncoder = bodyEncoder.membersCount(memberCount);
+
+    int remaining = writeMember(membersEncoder, membershipList.self(), memberCount);
+    for (Member member : membershipList) {
+      remaining = writeMember(membersEncoder, member, remaining);
+    }
+
+    final CustomEventsEncoder customEventsEncoder =
+        bodyEncoder.customEventsCount(customEventCount);
+
+    remaining = writeCustomEvents(customEventsEncoder, membershipList.self(), customEventCount);
+    for (Member member : membershipList) {
+      remaining = writeCustomEvents(customEventsEncoder, member, remaining);
+    }
+  }
+
+  private int writeMember(MembersEncoder encoder, Member member, int remaining) {
+    final MembershipEventType status = resolveStatus(member);
+
+    if (remaining > 0 && status != null) {
+      final GossipTerm term = member.getTerm();
+      final SocketAddress address = member.getAddress();
+
+      encoder
+          .next()
+          .status(status)
+          .gossipEpoch(term.getEpoch())
+          .gossipHeartbeat(term.getHeartbeat())
+          .port(address.port())
+          .putHost(address.getHostBuffer(), 0, address.hostLength());
+
+      return remaining - 1;
+    } else {
+      return remaining;
+    }
+  }
+
+  private int writeCustomEvents(CustomEventsEncoder encoder, Member member, int remaining) {
+    final SocketAddress address = member.getAddress();
+
+    for (Tuple<DirectBuffer, GossipTerm> tuple : member.getTermsByEventType()) {
+      if (remaining == 0) {
+        break;
+      }
+
+      final DirectBuffer type = tuple.getLeft();
+      final GossipTerm term = tuple.getRight();
+
+      encoder
+          .next()
+          .senderGossipEpoch(term.getEpoch())
+          .senderGossipHeartbeat(term.getHeartbeat())
+          .senderPort(address.port())
+          .putSenderHost(address.getHostBuffer(), 0, address.hostLength())
+          .putEventType(type, 0, type.capacity());
+
+      remaining -= 1;
+    }
+    return remaining;
+  }
+
+  private static MembershipEventType resolveStatus(Member member) {
+    switch (member.getStatus()) {
+      case SUSPECT:
+        return MembershipEventType.SUSPECT;
+      case ALIVE:
+        return MembershipEventType.ALIVE;
+      default:
+        return null;
+    }
+  }
+}
@@ -44,6 +44,8 @@ public class SyncRequestEventHandler implements GossipEventConsumer {
   private final ActorControl actor;
   private final MembershipList membershipList;
   private final CustomEventSyncResponseSupplier customEventSyncRequestSupplier;
+  private final SyncDigest receivedSyncDigest;
+  private final SyncDigest syncResponseDigest;
   private final GossipEventSender gossipEventSender;
 
   private final List<Tuple<DirectBuffer, GossipSyncRequestHandler>> handlers = new ArrayList<>();
@@ -56,17 +58,25 @@ public class SyncRequestEventHandler implements GossipEventConsumer {
   public SyncRequestEventHandler(
       GossipContext context,
       CustomEventSyncResponseSupplier customEventSyncRequestSupplier,
+      SyncDigest receivedSyncDigest,
+      SyncDigest syncResponseDigest,
       ActorControl actor) {
     this.membershipList = context.getMembershipList();
     this.customEventSyncRequestSupplier = customEventSyncRequestSupplier;
+    this.receivedSyncDigest = receivedSyncDigest;
+    this.syncResponseDigest = syncResponseDigest;
     this.actor = actor;
     this.gossipEventSender = context.getGossipEventSender();
   }
 
   @Override
   public void accept(GossipEvent event, long requestId, int streamId) {
-    receivedRequests.add().wrap(requestId, streamId);
+    // the digest is filled when the request is decoded
+    receivedRequests.add().wrap(requestId, streamId, receivedSyncDigest);
+    receivedSyncDigest.reset();
 
+    // don't request the data again if already requested
+    // - instead, response the data from the ongoing request
     if (receivedRequests.size() == 1) {
       if (!handlers.isEmpty()) {
         final List<ActorFuture<Void>> syncHandlerFutures = new ArrayList<>();
@@ -95,10 +105,6 @@ public class SyncRequestEventHandler implements GossipEventConsumer {
       } else {
         actor.submit(this::sendSyncResponse);
       }
-    } else {
-      // don't request the data again if already requested
-      // - instead, response the data from the ongoing request
-      customEventSyncRequestSupplier.increaseSpreadLimit();
     }
   }
 
@@ -136,13 +142,17 @@ public class SyncRequestEventHandler implements GossipEventConsumer {
       final long requestId = request.getRequestId();
       final int streamId = request.getStreamId();
 
+      // send only the members and custom events which are not known by the sender of the request
+      syncResponseDigest.wrap(request.getDigest());
+
       LOG.trace("Send SYNC response");
       gossipEventSender.responseSync(requestId, streamId);
     }
 
     syncRequests.clear();
     receivedRequests.clear();
-    customEventSyncRequestSupplier.reset();
+    syncResponseDigest.reset();
+    customEventSyncRequestSupplier.clear();
   }
 
   public void registerSyncRequestHandler(DirectBuffer eventType, GossipSyncRequestHandler handler) {
@@ -152,12 +162,15 @@ public class SyncRequestEventHandler implements GossipEventConsumer {
   }
 
   private class ReceivedRequest implements Reusable {
+    private final SyncDigest digest = new SyncDigest();
+
     private long requestId;
     private int streamId;
 
-    public void wrap(long requestId, int streamId) {
+    public void wrap(long requestId, int streamId, SyncDigest digest) {
       this.requestId = requestId;
       this.streamId = streamId;
+      this.digest.wrap(digest);
     }
 
     public long getRequestId() {
@@ -168,10 +181,15 @@ public class SyncRequestEventHandler implements GossipEventConsumer {
       return streamId;
     }
 
+    public SyncDigest getDigest() {
+      return digest;
+    }
+
     @Override
     public void reset() {
       requestId = -1L;
       streamId = -1;
+      digest.reset();
     }
   }
 }
@@ -74,6 +74,10 @@ public class Member {
     return null;
   }
 
+  public List<Tuple<DirectBuffer, GossipTerm>> getTermsByEventType() {
+    return gossipTermByEventType;
+  }
+
   public void addTermForEventType(DirectBuffer type, GossipTerm gossipTerm) {
     final GossipTerm term = new GossipTerm().wrap(gossipTerm);
     final Tuple<DirectBuffer, GossipTerm> tuple = new Tuple<>(BufferUtil.cloneBuffer(type), term);
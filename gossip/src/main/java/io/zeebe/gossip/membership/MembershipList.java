@@ -19,8 +19,10 @@ import io.zeebe.gossip.GossipMembershipListener;
 import io.zeebe.transport.SocketAddress;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.function.Consumer;
 
@@ -29,6 +31,7 @@ public class MembershipList implements Iterable<Member> {
 
   private final List<Member> members = new ArrayList<>();
   private final List<Member> membersView = Collections.unmodifiableList(members);
+  private final Map<SocketAddress, Member> membersByAddress = new HashMap<>();
 
   private final AliveMembershipIterator iterator = new AliveMembershipIterator();
 
@@ -51,12 +54,7 @@ public class MembershipList implements Iterable<Member> {
   }
 
   public Member get(SocketAddress address) {
-    for (Member member : members) {
-      if (member.getAddress().equals(address)) {
-        return member;
-      }
-    }
-    return null;
+    return membersByAddress.get(address);
   }
 
   public Member getMemberOrSelf(SocketAddress address) {
@@ -72,6 +70,7 @@ public class MembershipList implements Iterable<Member> {
     member.getTerm().wrap(term);
 
     members.add(member);
+    membersByAddress.put(member.getAddress(), member);
     aliveMemberSize += 1;
 
     for (GossipMembershipListener listener : listeners) {
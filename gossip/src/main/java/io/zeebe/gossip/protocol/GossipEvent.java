@@ -24,6 +24,7 @@ import io.zeebe.gossip.membership.GossipTerm;
 import io.zeebe.transport.SocketAddress;
 import io.zeebe.util.buffer.BufferReader;
 import io.zeebe.util.buffer.BufferWriter;
+import java.nio.ByteOrder;
 import java.util.Iterator;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
@@ -43,6 +44,9 @@ public class GossipEvent implements BufferReader, BufferWriter {
   private final CustomEventConsumer customEventConsumer;
   private final int maxCustomEventsPerMessage;
 
+  private final BufferWriter syncDigestWriter;
+  private final BufferReader syncDigestReader;
+
   private final MembershipEvent membershipEvent = new MembershipEvent();
   private final CustomEvent customEvent = new CustomEvent();
 
@@ -58,6 +62,31 @@ public class GossipEvent implements BufferReader, BufferWriter {
       CustomEventConsumer customEventConsumer,
       int maxMembershipEventsPerMessage,
       int maxCustomEventsPerMessage) {
+    this(
+        membershipEventSupplier,
+        membershipEventConsumer,
+        customEventSupplier,
+        customEventConsumer,
+        maxMembershipEventsPerMessage,
+        maxCustomEventsPerMessage,
+        null,
+        null);
+  }
+
+  /**
+   * @param syncDigestWriter writes the sync digest, or null if the event has no digest
+   * @param syncDigestReader reads the sync digest, or null to ignore it. It is invoked with length
+   *     0 if the received event has no digest.
+   */
+  public GossipEvent(
+      MembershipEventSupplier membershipEventSupplier,
+      MembershipEventConsumer membershipEventConsumer,
+      CustomEventSupplier customEventSupplier,
+      CustomEventConsumer customEventConsumer,
+      int maxMembershipEventsPerMessage,
+      int maxCustomEventsPerMessage,
+      BufferWriter syncDigestWriter,
+      BufferReader syncDigestReader) {
     this.membershipEventSupplier = membershipEventSupplier;
     this.membershipEventConsumer = membershipEventConsumer;
     this.maxMembershipEventsPerMessage = maxMembershipEventsPerMessage;
@@ -65,6 +94,9 @@ public class GossipEvent implements BufferReader, BufferWriter {
     this.customEventSupplier = customEventSupplier;
     this.customEventConsumer = customEventConsumer;
     this.maxCustomEventsPerMessage = maxCustomEventsPerMessage;
+
+    this.syncDigestWriter = syncDigestWriter;
+    this.syncDigestReader = syncDigestReader;
   }
 
   public GossipEventType getEventType() {
@@ -109,12 +141,17 @@ public class GossipEvent implements BufferReader, BufferWriter {
             + bodyEncoder.sbeBlockLength()
             + GossipEventEncoder.senderHostHeaderLength()
             + GossipEventEncoder.probeMemberHostHeaderLength()
+            + GossipEventEncoder.syncDigestHeaderLength()
             + MembershipEventsEncoder.sbeHeaderSize()
             + CustomEventsEncoder.sbeHeaderSize();
 
     length += senderAddress.hostLength();
     length += probeMemberAddress.hostLength();
 
+    if (syncDigestWriter != null) {
+      length += syncDigestWriter.getLength();
+    }
+
     final Iterator<MembershipEvent> membershipEvents =
         membershipEventSupplier.membershipEventViewIterator(maxMembershipEventsPerMessage);
     while (membershipEvents.hasNext()) {
@@ -212,6 +249,17 @@ public class GossipEvent implements BufferReader, BufferWriter {
     bodyEncoder
         .putSenderHost(senderAddress.getHostBuffer(), 0, senderAddress.hostLength())
         .putProbeMemberHost(probeMemberAddress.getHostBuffer(), 0, probeMemberAddress.hostLength());
+
+    // the digest is written in place, at the end of the message - older versions ignore it
+    final int syncDigestLength = syncDigestWriter != null ? syncDigestWriter.getLength() : 0;
+    final int limit = bodyEncoder.limit();
+    final int syncDigestOffset = limit + GossipEventEncoder.syncDigestHeaderLength();
+
+    buffer.putShort(limit, (short) syncDigestLength, ByteOrder.LITTLE_ENDIAN);
+    if (syncDigestWriter != null) {
+      syncDigestWriter.write(buffer, syncDigestOffset);
+    }
+    bodyEncoder.limit(syncDigestOffset + syncDigestLength);
   }
 
   @Override
@@ -287,5 +335,14 @@ public class GossipEvent implements BufferReader, BufferWriter {
     final int probeMemberHostLength = bodyDecoder.probeMemberHostLength();
     probeMemberAddress.hostLength(probeMemberHostLength);
     bodyDecoder.getProbeMemberHost(probeMemberAddress.getHostBuffer(), 0, probeMemberHostLength);
+
+    if (syncDigestReader != null) {
+      // the length is 0 if the event is sent by an older version
+      final int syncDigestLength = bodyDecoder.syncDigestLength();
+      final int syncDigestOffset =
+          bodyDecoder.limit() + GossipEventDecoder.syncDigestHeaderLength();
+
+      syncDigestReader.wrap(buffer, syncDigestOffset, syncDigestLength);
+    }
   }
 }
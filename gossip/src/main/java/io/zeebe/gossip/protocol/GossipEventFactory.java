@@ -23,6 +23,8 @@ import io.zeebe.gossip.dissemination.DisseminationComponent;
 import io.zeebe.gossip.dissemination.MembershipCustomEventUpdater;
 import io.zeebe.gossip.dissemination.MembershipEventUpdater;
 import io.zeebe.gossip.dissemination.MembershipListEventSupplier;
+import io.zeebe.gossip.dissemination.SyncDigest;
+import io.zeebe.gossip.dissemination.SyncDigestWriter;
 import io.zeebe.gossip.membership.MembershipList;
 import java.util.Iterator;
 import org.slf4j.Logger;
@@ -33,6 +35,8 @@ public class GossipEventFactory {
   private final DisseminationComponent disseminationComponent;
   private final CustomEventSupplier customEventSyncResponseSupplier;
   private final CustomEventConsumer customEventListenerConsumer;
+  private final SyncDigest receivedSyncDigest;
+  private final SyncDigest syncResponseDigest;
 
   private final MembershipEventUpdater membershipEventUpdater;
   private final MembershipCustomEventUpdater membershipCustomEventUpdater;
@@ -46,12 +50,16 @@ public class GossipEventFactory {
       MembershipList membershipList,
       DisseminationComponent disseminationComponent,
       CustomEventSupplier customEventSyncResponseSupplier,
-      CustomEventConsumer customEventListenerConsumer) {
+      CustomEventConsumer customEventListenerConsumer,
+      SyncDigest receivedSyncDigest,
+      SyncDigest syncResponseDigest) {
     this.configuration = configuration;
     this.membershipList = membershipList;
     this.disseminationComponent = disseminationComponent;
     this.customEventSyncResponseSupplier = customEventSyncResponseSupplier;
     this.customEventListenerConsumer = customEventListenerConsumer;
+    this.receivedSyncDigest = receivedSyncDigest;
+    this.syncResponseDigest = syncResponseDigest;
 
     this.membershipEventUpdater =
         new MembershipEventUpdater(membershipList, disseminationComponent);
@@ -86,20 +94,26 @@ public class GossipEventFactory {
   }
 
   public GossipEvent createSyncRequestEvent() {
-    // sync request should not contain any data
+    // sync request contains no membership or custom events but a digest of the known members and
+    // custom events (i.e. their terms), so the sync response can skip everything which is already
+    // known
+    // - the digest is an extra field which is ignored by older versions, so they answer with the
+    // full state
     return new GossipEvent(
         new EmptyMembershipEventSupplier(),
         event -> false,
         new EmptyCustomEventSupplier(),
         event -> false,
         0,
-        0);
+        0,
+        new SyncDigestWriter(membershipList),
+        receivedSyncDigest);
   }
 
   public GossipEvent createSyncResponseEvent() {
-    // add all members from list as events
+    // add all members from list as events which are not known by the receiver
     final MembershipEventSupplier membershipEventSupplier =
-        new MembershipListEventSupplier(membershipList);
+        new MembershipListEventSupplier(membershipList, syncResponseDigest);
 
     // get custom events from registered sync handlers
     final CustomEventSupplier customEventSupplier = customEventSyncResponseSupplier;
@@ -27,14 +27,17 @@ public class GossipRequestHandler implements ServerRequestHandler {
   private static final Logger LOG = Loggers.GOSSIP_LOGGER;
 
   private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+  private final GossipEventDecoder bodyDecoder = new GossipEventDecoder();
 
   private final GossipEvent gossipEvent;
+  private final GossipEvent syncRequestEvent;
 
   private final Map<GossipEventType, GossipEventConsumer> consumers =
       new EnumMap<>(GossipEventType.class);
 
   public GossipRequestHandler(GossipEventFactory eventFactory) {
     this.gossipEvent = eventFactory.createFailureDetectionEvent();
+    this.syncRequestEvent = eventFactory.createSyncRequestEvent();
   }
 
   public void registerGossipEventConsumer(GossipEventType eventType, GossipEventConsumer consumer) {
@@ -55,11 +58,20 @@ public class GossipRequestHandler implements ServerRequestHandler {
     final int templateId = headerDecoder.templateId();
 
     if (GossipEventDecoder.SCHEMA_ID == schemaId && GossipEventDecoder.TEMPLATE_ID == templateId) {
+      bodyDecoder.wrap(
+          buffer,
+          offset + headerDecoder.encodedLength(),
+          headerDecoder.blockLength(),
+          headerDecoder.version());
+
+      final GossipEventType eventType = bodyDecoder.eventType();
+
       // process the received event (i.e. consumer membership and custom events)
+      // - a sync request contains only a digest of the sender's state which must not be applied
+      final GossipEvent gossipEvent =
+          eventType == GossipEventType.SYNC_REQUEST ? syncRequestEvent : this.gossipEvent;
       gossipEvent.wrap(buffer, offset, length);
 
-      final GossipEventType eventType = gossipEvent.getEventType();
-
       final GossipEventConsumer consumer = consumers.get(eventType);
       if (consumer != null) {
         LOG.trace("Received gossip event {} from '{}'", eventType, gossipEvent.getSender());
@@ -0,0 +1,319 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.gossip.dissemination;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.clustering.gossip.GossipEventType;
+import io.zeebe.gossip.membership.GossipTerm;
+import io.zeebe.gossip.membership.MembershipList;
+import io.zeebe.gossip.membership.MembershipStatus;
+import io.zeebe.gossip.protocol.CustomEvent;
+import io.zeebe.gossip.protocol.GossipEvent;
+import io.zeebe.transport.SocketAddress;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.testing.ActorSchedulerRule;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class SyncDigestTest {
+  private static final DirectBuffer TYPE_1 = wrapString("CUST_1");
+  private static final DirectBuffer TYPE_2 = wrapString("CUST_2");
+
+  private final SocketAddress self = new SocketAddress("localhost", 8180);
+  private final SocketAddress member1 = new SocketAddress("localhost", 8181);
+  private final SocketAddress member2 = new SocketAddress("localhost", 8182);
+  private final SocketAddress requester = new SocketAddress("localhost", 8183);
+
+  @Rule public ActorSchedulerRule actorSchedulerRule = new ActorSchedulerRule();
+
+  private final SyncDigest digest = new SyncDigest();
+
+  private MembershipList membershipList;
+  private MembershipList requesterMembershipList;
+
+  @Before
+  public void setUp() {
+    // Needs to be done inside an actor, because we need access to the ActorClock in GossipTerm
+    actorSchedulerRule
+        .submitActor(
+            new Actor() {
+              @Override
+              protected void onActorStarting() {
+                membershipList = new MembershipList(self, (member) -> {});
+                requesterMembershipList = new MembershipList(requester, (member) -> {});
+              }
+            })
+        .join();
+  }
+
+  @Test
+  public void shouldSkipKnownCustomEvents() {
+    // given
+    requesterMembershipList
+        .newMember(member1, term(1, 0))
+        .addTermForEventType(TYPE_1, term(1, 2));
+    requesterMembershipList
+        .newMember(member2, term(1, 0))
+        .addTermForEventType(TYPE_1, term(1, 0));
+
+    readDigest(requesterMembershipList);
+
+    final CustomEventSyncResponseSupplier supplier = new CustomEventSyncResponseSupplier(digest);
+    supplier.add().senderAddress(member1).type(TYPE_1).senderGossipTerm(term(1, 2));
+    supplier.add().senderAddress(member1).type(TYPE_2).senderGossipTerm(term(1, 0));
+    supplier.add().senderAddress(member2).type(TYPE_1).senderGossipTerm(term(1, 3));
+    supplier.add().senderAddress(self).type(TYPE_1).senderGossipTerm(term(1, 0));
+
+    // when
+    final int size = supplier.customEventSize();
+    final List<String> events = new ArrayList<>();
+    supplier
+        .customEventDrainIterator(size)
+        .forEachRemaining(e -> events.add(e.getSenderAddress() + "/" + e.getSenderGossipTerm()));
+
+    // then
+    assertThat(size).isEqualTo(3);
+    assertThat(events)
+        .containsExactly(
+            member1 + "/" + term(1, 0), member2 + "/" + term(1, 3), self + "/" + term(1, 0));
+  }
+
+  @Test
+  public void shouldLimitCustomEvents() {
+    // given
+    final CustomEventSyncResponseSupplier supplier = new CustomEventSyncResponseSupplier(digest);
+    supplier.add().senderAddress(member1).type(TYPE_1).senderGossipTerm(term(1, 0));
+    supplier.add().senderAddress(member2).type(TYPE_1).senderGossipTerm(term(1, 0));
+
+    // when
+    final Iterator<CustomEvent> iterator = supplier.customEventViewIterator(1);
+
+    // then
+    assertThat(iterator.next().getSenderAddress()).isEqualTo(member1);
+    assertThat(iterator.hasNext()).isFalse();
+  }
+
+  @Test
+  public void shouldSkipKnownMembers() {
+    // given
+    membershipList.newMember(member1, term(1, 2));
+    membershipList.newMember(member2, term(1, 1));
+
+    requesterMembershipList.newMember(member1, term(1, 3));
+    requesterMembershipList.newMember(member2, term(1, 0));
+
+    readDigest(requesterMembershipList);
+
+    final MembershipListEventSupplier supplier =
+        new MembershipListEventSupplier(membershipList, digest);
+
+    // when
+    final List<SocketAddress> members = drainMembers(supplier);
+
+    // then
+    assertThat(members).containsExactly(self, member2);
+  }
+
+  @Test
+  public void shouldNotSkipMemberWithOtherStatusOfSameTerm() {
+    // given
+    membershipList.newMember(member1, term(1, 2));
+    membershipList.suspectMember(member1, term(1, 2));
+    membershipList.newMember(member2, term(1, 2));
+    membershipList.suspectMember(member2, term(1, 2));
+
+    requesterMembershipList.newMember(member1, term(1, 2));
+    requesterMembershipList.newMember(member2, term(1, 2));
+    requesterMembershipList.suspectMember(member2, term(1, 2));
+
+    readDigest(requesterMembershipList);
+
+    final MembershipListEventSupplier supplier =
+        new MembershipListEventSupplier(membershipList, digest);
+
+    // when
+    final List<SocketAddress> members = drainMembers(supplier);
+
+    // then
+    assertThat(members).containsExactly(self, member1);
+  }
+
+  @Test
+  public void shouldSkipMemberWithOtherStatusOfNewerTerm() {
+    // given
+    membershipList.newMember(member1, term(1, 2));
+    membershipList.suspectMember(member1, term(1, 2));
+
+    requesterMembershipList.newMember(member1, term(1, 3));
+
+    readDigest(requesterMembershipList);
+
+    final MembershipListEventSupplier supplier =
+        new MembershipListEventSupplier(membershipList, digest);
+
+    // when
+    final List<SocketAddress> members = drainMembers(supplier);
+
+    // then
+    assertThat(members).containsExactly(self);
+  }
+
+  @Test
+  public void shouldSupplyAllMembersWithoutDigest() {
+    // given
+    membershipList.newMember(member1, term(1, 2));
+    membershipList.newMember(member2, term(1, 1));
+
+    final MembershipListEventSupplier supplier = new MembershipListEventSupplier(membershipList);
+
+    // when
+    final int size = supplier.membershipEventSize();
+    final List<SocketAddress> members = new ArrayList<>();
+    supplier
+        .membershipEventDrainIterator(2)
+        .forEachRemaining(e -> members.add(new SocketAddress(e.getAddress())));
+
+    // then
+    assertThat(size).isEqualTo(3);
+    assertThat(members).containsExactly(self, member1);
+  }
+
+  @Test
+  public void shouldCopyDigest() {
+    // given
+    requesterMembershipList
+        .newMember(member1, term(1, 3))
+        .addTermForEventType(TYPE_1, term(2, 0));
+
+    readDigest(requesterMembershipList);
+
+    // when
+    final SyncDigest copy = new SyncDigest();
+    copy.wrap(digest);
+    digest.reset();
+
+    // then
+    assertThat(digest.isEmpty()).isTrue();
+    assertThat(copy.containsMember(member1, term(1, 3), MembershipStatus.ALIVE)).isTrue();
+    assertThat(copy.containsMember(member1, term(1, 3), MembershipStatus.SUSPECT)).isFalse();
+    assertThat(copy.containsMember(member1, term(1, 4), MembershipStatus.ALIVE)).isFalse();
+    assertThat(copy.containsCustomEvent(member1, TYPE_1, term(1, 5))).isTrue();
+    assertThat(copy.containsCustomEvent(member1, TYPE_2, term(1, 5))).isFalse();
+  }
+
+  @Test
+  public void shouldSendDigestInFieldWhichIsIgnoredByOlderVersions() {
+    // given
+    requesterMembershipList
+        .newMember(member1, term(1, 3))
+        .addTermForEventType(TYPE_1, term(2, 0));
+
+    final GossipEvent syncRequest =
+        newSyncRequest(new SyncDigestWriter(requesterMembershipList), null)
+            .eventType(GossipEventType.SYNC_REQUEST)
+            .sender(requester);
+
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[syncRequest.getLength()]);
+    syncRequest.write(buffer, 0);
+
+    // when
+    final List<SocketAddress> membershipEvents = new ArrayList<>();
+    final List<SocketAddress> customEvents = new ArrayList<>();
+    final GossipEvent olderVersionEvent =
+        new GossipEvent(
+            new MembershipListEventSupplier(membershipList),
+            e -> membershipEvents.add(new SocketAddress(e.getAddress())),
+            new CustomEventSyncResponseSupplier(new SyncDigest()),
+            e -> customEvents.add(new SocketAddress(e.getSenderAddress())),
+            0,
+            0);
+    olderVersionEvent.wrap(buffer, 0, buffer.capacity());
+
+    newSyncRequest(null, digest).wrap(buffer, 0, buffer.capacity());
+
+    // then
+    assertThat(membershipEvents).isEmpty();
+    assertThat(customEvents).isEmpty();
+
+    final GossipTerm requesterTerm = requesterMembershipList.self().getTerm();
+    assertThat(digest.containsMember(requester, requesterTerm, MembershipStatus.ALIVE)).isTrue();
+    assertThat(digest.containsMember(member1, term(1, 3), MembershipStatus.ALIVE)).isTrue();
+    assertThat(digest.containsCustomEvent(member1, TYPE_1, term(2, 0))).isTrue();
+  }
+
+  @Test
+  public void shouldReadEmptyDigestIfNotSent() {
+    // given
+    requesterMembershipList.newMember(member1, term(1, 3));
+    readDigest(requesterMembershipList);
+
+    final GossipEvent event =
+        newSyncRequest(null, null).eventType(GossipEventType.SYNC_REQUEST).sender(requester);
+
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[event.getLength()]);
+    event.write(buffer, 0);
+
+    // when
+    newSyncRequest(null, digest).wrap(buffer, 0, buffer.capacity());
+
+    // then
+    assertThat(digest.isEmpty()).isTrue();
+  }
+
+  private void readDigest(MembershipList membershipList) {
+    final SyncDigestWriter writer = new SyncDigestWriter(membershipList);
+
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[writer.getLength()]);
+    writer.write(buffer, 0);
+
+    digest.wrap(buffer, 0, buffer.capacity());
+  }
+
+  private GossipEvent newSyncRequest(SyncDigestWriter writer, SyncDigest reader) {
+    return new GossipEvent(
+        new MembershipListEventSupplier(membershipList, new SyncDigest()),
+        event -> false,
+        new CustomEventSyncResponseSupplier(new SyncDigest()),
+        event -> false,
+        0,
+        0,
+        writer,
+        reader);
+  }
+
+  private static List<SocketAddress> drainMembers(MembershipListEventSupplier supplier) {
+    final int size = supplier.membershipEventSize();
+    final List<SocketAddress> members = new ArrayList<>();
+    supplier
+        .membershipEventDrainIterator(Integer.MAX_VALUE)
+        .forEachRemaining(e -> members.add(new SocketAddress(e.getAddress())));
+
+    assertThat(members).hasSize(size);
+    return members;
+  }
+
+  private static GossipTerm term(long epoch, long heartbeat) {
+    return new GossipTerm().epoch(epoch).heartbeat(heartbeat);
+  }
+}
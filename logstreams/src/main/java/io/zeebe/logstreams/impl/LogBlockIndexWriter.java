@@ -21,6 +21,7 @@ import static io.zeebe.logstreams.spi.LogStorage.OP_RESULT_INSUFFICIENT_BUFFER_C
 import static io.zeebe.logstreams.spi.LogStorage.OP_RESULT_INVALID_ADDR;
 
 import io.zeebe.logstreams.impl.log.index.LogBlockIndex;
+import io.zeebe.logstreams.log.LogBlockSummarizer;
 import io.zeebe.logstreams.spi.*;
 import io.zeebe.util.allocation.AllocatedBuffer;
 import io.zeebe.util.allocation.BufferAllocators;
@@ -57,6 +58,7 @@ public class LogBlockIndexWriter extends Actor {
   private final LogStorage logStorage;
   private final LogBlockIndex blockIndex;
   private final MetricsManager metricsManager;
+  private final LogBlockSummarizer blockSummarizer;
 
   /** Defines the block size for which an index will be created. */
   private final int indexBlockSize;
@@ -76,11 +78,13 @@ public class LogBlockIndexWriter extends Actor {
   private int currentBlockSize = 0;
   private long currentBlockAddress = INVALID_ADDRESS;
   private long currentBlockEventPosition = 0;
+  private long currentBlockSummary = 0;
 
   private long lastBlockAddress = 0;
   private long lastBlockEventPosition = 0;
 
   private final UnsafeBuffer buffer = new UnsafeBuffer(0, 0);
+  private final LoggedEventImpl event = new LoggedEventImpl();
   private int bufferSize;
   private ByteBuffer ioBuffer;
   private AllocatedBuffer allocatedBuffer;
@@ -108,6 +112,7 @@ public class LogBlockIndexWriter extends Actor {
     this.commitPosition = builder.getCommitPosition();
     this.snapshotStorage = builder.getSnapshotStorage();
     this.onCommitPositionUpdatedConditions = builder.getOnCommitPositionUpdatedConditions();
+    this.blockSummarizer = builder.getBlockSummarizer();
 
     this.deviation = builder.getDeviation();
     this.indexBlockSize = (int) (builder.getIndexBlockSize() * (1f - deviation));
@@ -223,6 +228,7 @@ public class LogBlockIndexWriter extends Actor {
     }
 
     currentBlockSize += readBytes;
+    currentBlockSummary |= summarizeEvents(readBytes);
 
     if (currentBlockSize >= indexBlockSize) {
       addCurrentBlockToIndex();
@@ -241,10 +247,13 @@ public class LogBlockIndexWriter extends Actor {
             currentBlockEventPosition,
             currentBlockAddress);
 
-        blockIndex.addBlock(currentBlockEventPosition, currentBlockAddress);
+        blockIndex.addBlock(currentBlockEventPosition, currentBlockAddress, currentBlockSummary);
 
         lastBlockAddress = currentBlockAddress;
         lastBlockEventPosition = currentBlockEventPosition;
+      } else if (currentBlockAddress == lastBlockAddress) {
+        // the last block is read again (e.g. after recovery) - it may end after the indexed part
+        blockIndex.mergeLastBlockSummary(currentBlockSummary);
       }
 
       resetCurrentBlock();
@@ -258,6 +267,20 @@ public class LogBlockIndexWriter extends Actor {
     runCurrentWork();
   }
 
+  private long summarizeEvents(int readBytes) {
+    long summary = 0;
+
+    int offset = 0;
+    while (offset < readBytes) {
+      event.wrap(buffer, offset);
+      summary |= blockSummarizer.summarize(event);
+
+      offset += event.getFragmentLength();
+    }
+
+    return summary;
+  }
+
   private boolean isCurrentBlockCommitted() {
     return commitPosition.getVolatile() >= completeEventsProcessor.getLastReadEventPosition();
   }
@@ -266,6 +289,7 @@ public class LogBlockIndexWriter extends Actor {
     currentBlockAddress = INVALID_ADDRESS;
     currentBlockEventPosition = 0;
     currentBlockSize = 0;
+    currentBlockSummary = 0;
   }
 
   private void increaseBufferSize() {
@@ -17,19 +17,31 @@ package io.zeebe.logstreams.impl;
 
 import io.zeebe.dispatcher.BlockPeek;
 import io.zeebe.dispatcher.Subscription;
+import io.zeebe.logstreams.log.LogFlushPolicy;
 import io.zeebe.logstreams.spi.LogStorage;
 import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ScheduledTimer;
 import io.zeebe.util.sched.channel.ActorConditions;
 import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.sched.metrics.IoDeviceMetrics;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.agrona.MutableDirectBuffer;
 import org.slf4j.Logger;
 
-/** Consume the write buffer and append the blocks on the log storage. */
+/**
+ * Consume the write buffer and append the blocks on the log storage. The appended blocks are
+ * flushed according to the {@link LogFlushPolicy}. Consumers are signaled when a block is appended
+ * and again when it is flushed, the position up to which the blocks are flushed is available as
+ * {@link #getFlushedPosition()}.
+ */
 public class LogStorageAppender extends Actor {
   public static final Logger LOG = Loggers.LOGSTREAMS_LOGGER;
 
+  /** the delay before a failed flush is retried, if the policy has no flush interval */
+  public static final Duration FLUSH_RETRY_DELAY = Duration.ofMillis(100);
+
   private final AtomicBoolean isFailed = new AtomicBoolean(false);
 
   private final BlockPeek blockPeek = new BlockPeek();
@@ -38,21 +50,35 @@ public class LogStorageAppender extends Actor {
   private final LogStorage logStorage;
   private final Subscription writeBufferSubscription;
   private final ActorConditions logStorageAppendConditions;
+  private final IoDeviceMetrics ioDeviceMetrics;
+  private final short ioDeviceId;
+  private final LogFlushPolicy flushPolicy;
 
   private Runnable peekedBlockHandler = this::appendBlock;
   private int maxAppendBlockSize;
 
+  private long appendedPosition;
+  private volatile long flushedPosition;
+  private long unflushedBytes;
+  private ScheduledTimer flushTimer;
+
   public LogStorageAppender(
       String name,
       LogStorage logStorage,
       Subscription writeBufferSubscription,
       int maxBlockSize,
-      ActorConditions logStorageAppendConditions) {
+      ActorConditions logStorageAppendConditions,
+      IoDeviceMetrics ioDeviceMetrics,
+      short ioDeviceId,
+      LogFlushPolicy flushPolicy) {
     this.name = name;
     this.logStorage = logStorage;
     this.writeBufferSubscription = writeBufferSubscription;
     this.maxAppendBlockSize = maxBlockSize;
     this.logStorageAppendConditions = logStorageAppendConditions;
+    this.ioDeviceMetrics = ioDeviceMetrics;
+    this.ioDeviceId = ioDeviceId;
+    this.flushPolicy = flushPolicy;
   }
 
   @Override
@@ -62,9 +88,19 @@ public class LogStorageAppender extends Actor {
 
   @Override
   protected void onActorStarting() {
+    appendedPosition = writeBufferSubscription.getPosition();
+    flushedPosition = appendedPosition;
+
     actor.consume(writeBufferSubscription, this::peekBlock);
   }
 
+  @Override
+  protected void onActorClosing() {
+    if (unflushedBytes > 0) {
+      flush();
+    }
+  }
+
   private void peekBlock() {
     if (writeBufferSubscription.peekBlock(blockPeek, maxAppendBlockSize, true) > 0) {
       peekedBlockHandler.run();
@@ -77,9 +113,18 @@ public class LogStorageAppender extends Actor {
     final ByteBuffer rawBuffer = blockPeek.getRawBuffer();
     final MutableDirectBuffer buffer = blockPeek.getBuffer();
 
+    final int blockLength = rawBuffer.remaining();
+
     final long address = logStorage.append(rawBuffer);
     if (address >= 0) {
+      ioDeviceMetrics.recordWrittenBytes(ioDeviceId, blockLength);
+
       blockPeek.markCompleted();
+      appendedPosition = writeBufferSubscription.getPosition();
+      unflushedBytes += blockLength;
+
+      onBlockAppended();
+
       logStorageAppendConditions.signalConsumers();
     } else {
       isFailed.set(true);
@@ -96,6 +141,72 @@ public class LogStorageAppender extends Actor {
     }
   }
 
+  private void onBlockAppended() {
+    switch (flushPolicy.getMode()) {
+      case EVERY_BLOCK:
+        flush();
+        break;
+
+      case INTERVAL:
+        if (unflushedBytes >= flushPolicy.getMaxBytes()) {
+          flush();
+        } else if (flushTimer == null) {
+          flushTimer = actor.runDelayed(flushPolicy.getMaxDelay(), this::onFlushTimer);
+        }
+        break;
+
+      case OS_MANAGED:
+      default:
+        unflushedBytes = 0;
+        flushedPosition = appendedPosition;
+        break;
+    }
+  }
+
+  private void onFlushTimer() {
+    flushTimer = null;
+
+    if (flush()) {
+      logStorageAppendConditions.signalConsumers();
+    }
+  }
+
+  /**
+   * Flushes all appended blocks at once, so that the cost of the flush is shared by all blocks
+   * which were appended since the last flush.
+   *
+   * @return true if the blocks are flushed
+   */
+  private boolean flush() {
+    if (flushTimer != null) {
+      flushTimer.cancel();
+      flushTimer = null;
+    }
+
+    try {
+      logStorage.flush();
+
+      unflushedBytes = 0;
+      flushedPosition = appendedPosition;
+
+      return true;
+    } catch (Exception e) {
+      LOG.error("Failed to flush log storage of '{}'. Retry later.", name, e);
+
+      // retry even if no further block is appended, otherwise the flushed position would stall
+      if (!actor.isClosing()) {
+        final Duration retryDelay =
+            flushPolicy.getMode() == LogFlushPolicy.Mode.INTERVAL
+                ? flushPolicy.getMaxDelay()
+                : FLUSH_RETRY_DELAY;
+
+        flushTimer = actor.runDelayed(retryDelay, this::onFlushTimer);
+      }
+
+      return false;
+    }
+  }
+
   private void discardBlock() {
     blockPeek.markFailed();
     // continue with next block
@@ -113,4 +224,12 @@ public class LogStorageAppender extends Actor {
   public long getCurrentAppenderPosition() {
     return writeBufferSubscription.getPosition();
   }
+
+  /**
+   * @return the position up to which the appended blocks are flushed according to the flush
+   *     policy. Like {@link #getCurrentAppenderPosition()}, this is the position of the next block.
+   */
+  public long getFlushedPosition() {
+    return flushedPosition;
+  }
 }
@@ -24,6 +24,8 @@ import io.zeebe.logstreams.impl.log.fs.FsLogStorage;
 import io.zeebe.logstreams.impl.log.fs.FsLogStorageConfiguration;
 import io.zeebe.logstreams.impl.log.index.LogBlockIndex;
 import io.zeebe.logstreams.impl.service.*;
+import io.zeebe.logstreams.log.LogBlockSummarizer;
+import io.zeebe.logstreams.log.LogFlushPolicy;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.spi.LogStorage;
 import io.zeebe.logstreams.spi.SnapshotStorage;
@@ -58,6 +60,9 @@ public class LogStreamBuilder {
   protected int indexBlockSize = 1024 * 1024 * 4;
   protected float deviation = LogBlockIndexWriter.DEFAULT_DEVIATION;
   protected int readBlockSize = 1024;
+  protected short ioDeviceId = 0;
+  protected LogFlushPolicy flushPolicy = LogFlushPolicy.osManaged();
+  protected LogBlockSummarizer blockSummarizer = LogBlockSummarizer.NONE;
 
   protected Duration snapshotPeriod = Duration.ofMinutes(1);
   protected SnapshotStorage snapshotStorage;
@@ -142,6 +147,29 @@ public class LogStreamBuilder {
     return this;
   }
 
+  /**
+   * @param ioDeviceId the I/O device of the log directory. The appender, the block index writer and
+   *     snapshot writes of the log stream are scheduled as io-bound actors on this device.
+   */
+  public LogStreamBuilder ioDeviceId(short ioDeviceId) {
+    this.ioDeviceId = ioDeviceId;
+    return this;
+  }
+
+  public LogStreamBuilder flushPolicy(LogFlushPolicy flushPolicy) {
+    this.flushPolicy = flushPolicy;
+    return this;
+  }
+
+  /**
+   * @param blockSummarizer summarizes the events of the log, the block index stores the summary of
+   *     each block so that readers can skip irrelevant blocks
+   */
+  public LogStreamBuilder blockSummarizer(LogBlockSummarizer blockSummarizer) {
+    this.blockSummarizer = blockSummarizer;
+    return this;
+  }
+
   public LogStreamBuilder logStorageStubber(
       Function<FsLogStorage, FsLogStorage> logStorageStubber) {
     this.logStorageStubber = logStorageStubber;
@@ -179,6 +207,18 @@ public class LogStreamBuilder {
     return readBlockSize;
   }
 
+  public short getIoDeviceId() {
+    return ioDeviceId;
+  }
+
+  public LogFlushPolicy getFlushPolicy() {
+    return flushPolicy;
+  }
+
+  public LogBlockSummarizer getBlockSummarizer() {
+    return blockSummarizer;
+  }
+
   public Duration getSnapshotPeriod() {
     return snapshotPeriod;
   }
@@ -269,6 +309,7 @@ public class LogStreamBuilder {
     Objects.requireNonNull(getTopicName(), "topicName");
     ensureGreaterThanOrEqual("partitionId", partitionId, 0);
     ensureFalse("deviation", deviation <= 0f || deviation > 1f);
+    Objects.requireNonNull(blockSummarizer, "blockSummarizer");
 
     if (topicName.capacity() > LogStream.MAX_TOPIC_NAME_LENGTH) {
       throw new RuntimeException(
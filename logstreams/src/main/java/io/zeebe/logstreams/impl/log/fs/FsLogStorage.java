@@ -26,6 +26,7 @@ import io.zeebe.logstreams.impl.Loggers;
 import io.zeebe.logstreams.spi.LogStorage;
 import io.zeebe.logstreams.spi.ReadResultProcessor;
 import io.zeebe.util.FileUtil;
+import io.zeebe.util.metrics.Histogram;
 import io.zeebe.util.metrics.Metric;
 import io.zeebe.util.metrics.MetricsManager;
 import java.io.File;
@@ -36,6 +37,7 @@ import java.nio.channels.FileChannel;
 import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.agrona.IoUtil;
 import org.agrona.LangUtil;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -48,6 +50,11 @@ public class FsLogStorage implements LogStorage {
   protected static final int STATE_OPENED = 1;
   protected static final int STATE_CLOSED = 2;
 
+  /** upper bounds of the flush latency buckets in microseconds */
+  private static final long[] FLUSH_LATENCY_BUCKETS = {
+    100, 500, 1_000, 5_000, 10_000, 50_000, 100_000, 500_000, 1_000_000
+  };
+
   protected final FsLogStorageConfiguration config;
   private final MetricsManager metricsManager;
   protected final ReadResultProcessor defaultReadResultProcessor =
@@ -58,12 +65,17 @@ public class FsLogStorage implements LogStorage {
 
   protected FsLogSegment currentSegment;
 
-  protected int dirtySegmentId = -1;
+  /**
+   * The first segment which contains data that is not flushed yet, or -1. The appender and the
+   * block index writer may flush concurrently.
+   */
+  protected final AtomicInteger dirtySegmentId = new AtomicInteger(-1);
 
   protected volatile int state = STATE_CREATED;
 
   private Metric totalBytesMetric;
   private Metric segmentCountMetric;
+  private Histogram flushLatencyMetric;
 
   private String topicName;
   private int partitionId;
@@ -263,6 +275,13 @@ public class FsLogStorage implements LogStorage {
             .label("partition", String.valueOf(partitionId))
             .create();
 
+    final Map<String, String> labels = new HashMap<>();
+    labels.put("topic", topicName);
+    labels.put("partition", String.valueOf(partitionId));
+    flushLatencyMetric =
+        new Histogram(
+            metricsManager, "storage_fs_flush_latency_micros", labels, FLUSH_LATENCY_BUCKETS);
+
     final String path = config.getPath();
     final File logDir = new File(path);
     logDir.mkdirs();
@@ -412,6 +431,7 @@ public class FsLogStorage implements LogStorage {
   public void close() {
     segmentCountMetric.close();
     totalBytesMetric.close();
+    flushLatencyMetric.close();
 
     ensureOpenedStorage();
 
@@ -426,7 +446,7 @@ public class FsLogStorage implements LogStorage {
       }
     }
 
-    dirtySegmentId = -1;
+    dirtySegmentId.set(-1);
 
     state = STATE_CLOSED;
   }
@@ -435,18 +455,30 @@ public class FsLogStorage implements LogStorage {
   public void flush() throws Exception {
     ensureOpenedStorage();
 
-    if (dirtySegmentId >= 0) {
-      for (int id = dirtySegmentId; id <= currentSegment.getSegmentId(); id++) {
-        logSegments.getSegment(id).flush();
+    // reset before flushing, so that concurrent appends mark their segment as dirty again
+    final int firstDirtySegmentId = dirtySegmentId.getAndSet(-1);
+
+    if (firstDirtySegmentId >= 0) {
+      final long start = System.nanoTime();
+
+      try {
+        for (int id = firstDirtySegmentId; id <= currentSegment.getSegmentId(); id++) {
+          logSegments.getSegment(id).flush();
+        }
+      } catch (Exception e) {
+        // keep the segments dirty to flush them again on the next attempt
+        dirtySegmentId.accumulateAndGet(
+            firstDirtySegmentId, (current, first) -> current < 0 ? first : Math.min(current, first));
+        throw e;
       }
 
-      dirtySegmentId = -1;
+      flushLatencyMetric.record((System.nanoTime() - start) / 1000);
     }
   }
 
   protected void markSegmentAsDirty(FsLogSegment segment) {
-    if (dirtySegmentId < 0) {
-      dirtySegmentId = segment.getSegmentId();
+    if (dirtySegmentId.get() < 0) {
+      dirtySegmentId.compareAndSet(-1, segment.getSegmentId());
     }
   }
 
@@ -17,6 +17,7 @@ package io.zeebe.logstreams.impl.log.index;
 
 import static io.zeebe.logstreams.impl.log.index.LogBlockIndexDescriptor.*;
 
+import io.zeebe.logstreams.log.LogBlockSummarizer;
 import io.zeebe.logstreams.spi.SnapshotSupport;
 import io.zeebe.util.StreamUtil;
 import java.io.InputStream;
@@ -35,6 +36,9 @@ import org.agrona.concurrent.AtomicBuffer;
  * <p>In order to read an event, the position must be translated into the "physical address" of the
  * block in which it resides in storage. Then, the block can be scanned for the event position
  * requested.
+ *
+ * <p>Additionally, each block has a summary of the events which reside in it (see {@link
+ * LogBlockSummarizer}). It allows readers to skip the blocks without relevant events.
  */
 public class LogBlockIndex implements SnapshotSupport {
   protected final AtomicBuffer indexBuffer;
@@ -78,6 +82,34 @@ public class LogBlockIndex implements SnapshotSupport {
     return offset >= 0 ? indexBuffer.getLong(entryLogPositionOffset(offset)) : offset;
   }
 
+  /**
+   * Returns the physical address of the first block after the block in which the log entry
+   * identified by the provided position resides, which may contain an event matching the given
+   * filter. The blocks in between don't contain any matching event and can be skipped. The last
+   * block of the index is never skipped since it can still grow.
+   *
+   * @param position a virtual log position
+   * @param summaryFilter the bits to match against the block summaries
+   * @return the physical address of the next block to read, or a negative value if no block can be
+   *     skipped
+   */
+  public long lookupNextMatchingBlockAddress(long position, long summaryFilter) {
+    final int idx = lookupIndex(position);
+    if (idx < 0) {
+      return idx;
+    }
+
+    final int lastEntryIdx = size() - 1;
+
+    int nextIdx = idx;
+    while (nextIdx < lastEntryIdx
+        && (indexBuffer.getLong(entrySummaryOffset(entryOffset(nextIdx))) & summaryFilter) == 0) {
+      nextIdx += 1;
+    }
+
+    return nextIdx > idx ? indexBuffer.getLong(entryAddressOffset(entryOffset(nextIdx))) : -1;
+  }
+
   /**
    * Returns the offset of the block in which the log entry identified by the provided position
    * resides.
@@ -153,6 +185,19 @@ public class LogBlockIndex implements SnapshotSupport {
    * @return the new size of the index.
    */
   public int addBlock(long logPosition, long storageAddr) {
+    return addBlock(logPosition, storageAddr, LogBlockSummarizer.ALL);
+  }
+
+  /**
+   * Invoked by the log Appender thread after it has first written one or more entries to a block.
+   *
+   * @param logPosition the virtual position of the block (equal or smaller to the v position of the
+   *     first entry in the block)
+   * @param storageAddr the physical address of the block in the underlying storage
+   * @param summary the summary of the entries in the block
+   * @return the new size of the index.
+   */
+  public int addBlock(long logPosition, long storageAddr, long summary) {
     final int currentIndexSize =
         indexBuffer.getInt(indexSizeOffset()); // volatile get not necessary
     final int entryOffset = entryOffset(currentIndexSize);
@@ -177,6 +222,7 @@ public class LogBlockIndex implements SnapshotSupport {
     // write next entry
     indexBuffer.putLong(entryLogPositionOffset(entryOffset), logPosition);
     indexBuffer.putLong(entryAddressOffset(entryOffset), storageAddr);
+    indexBuffer.putLong(entrySummaryOffset(entryOffset), summary);
 
     // increment size
     indexBuffer.putIntOrdered(indexSizeOffset(), newIndexSize);
@@ -184,6 +230,21 @@ public class LogBlockIndex implements SnapshotSupport {
     return newIndexSize;
   }
 
+  /**
+   * Adds the given summary to the summary of the last block. Invoked by the log Appender thread
+   * when it has read the last block again.
+   *
+   * @param summary the summary of the entries in the last block
+   */
+  public void mergeLastBlockSummary(long summary) {
+    final int currentIndexSize = size();
+
+    if (currentIndexSize > 0) {
+      final int summaryOffset = entrySummaryOffset(entryOffset(currentIndexSize - 1));
+      indexBuffer.putLongVolatile(summaryOffset, indexBuffer.getLong(summaryOffset) | summary);
+    }
+  }
+
   /** @return the current size of the index */
   public int size() {
     return indexBuffer.getIntVolatile(indexSizeOffset());
@@ -210,6 +271,14 @@ public class LogBlockIndex implements SnapshotSupport {
     return indexBuffer.getLong(entryAddressOffset(entryOffset));
   }
 
+  public long getSummary(int idx) {
+    boundsCheck(idx, size());
+
+    final int entryOffset = entryOffset(idx);
+
+    return indexBuffer.getLong(entrySummaryOffset(entryOffset));
+  }
+
   private static void boundsCheck(int idx, int size) {
     if (idx < 0 || idx >= size) {
       throw new IllegalArgumentException(
@@ -228,6 +297,11 @@ public class LogBlockIndex implements SnapshotSupport {
     final byte[] byteArray = StreamUtil.read(inputStream);
 
     indexBuffer.putBytes(0, byteArray);
+
+    if (indexBuffer.getInt(formatVersionOffset()) != FORMAT_VERSION) {
+      // the snapshot has a different layout - the index is rebuilt from the log
+      reset();
+    }
   }
 
   @Override
@@ -235,6 +309,8 @@ public class LogBlockIndex implements SnapshotSupport {
     // verify alignment to ensure atomicity of updates to the index metadata
     indexBuffer.verifyAlignment();
 
+    indexBuffer.putInt(formatVersionOffset(), FORMAT_VERSION);
+
     // set initial size
     indexBuffer.putIntVolatile(indexSizeOffset(), 0);
 
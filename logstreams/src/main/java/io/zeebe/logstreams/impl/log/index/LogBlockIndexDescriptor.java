@@ -18,16 +18,23 @@ package io.zeebe.logstreams.impl.log.index;
 import static org.agrona.BitUtil.*;
 
 public class LogBlockIndexDescriptor {
+  /** Version of the index layout, version 2 added the block summary to the entries. */
+  public static final int FORMAT_VERSION = 2;
+
   public static final int ENTRY_VIRTUAL_POSITION_OFFSET;
 
   public static final int ENTRY_PHYSICAL_POSITION_OFFSET;
 
+  public static final int ENTRY_SUMMARY_OFFSET;
+
   public static final int ENTRY_LENGTH;
 
   public static final int DATA_OFFSET;
 
   public static final int METADATA_OFFSET;
 
+  public static final int FORMAT_VERSION_OFFSET;
+
   public static final int INDEX_SIZE_OFFSET;
 
   static {
@@ -39,11 +46,15 @@ public class LogBlockIndexDescriptor {
     ENTRY_PHYSICAL_POSITION_OFFSET = offset;
     offset += SIZE_OF_LONG;
 
+    ENTRY_SUMMARY_OFFSET = offset;
+    offset += SIZE_OF_LONG;
+
     ENTRY_LENGTH = offset;
 
     offset = 2 * CACHE_LINE_LENGTH;
 
     METADATA_OFFSET = offset;
+    FORMAT_VERSION_OFFSET = offset;
 
     offset += 2 * CACHE_LINE_LENGTH;
     INDEX_SIZE_OFFSET = offset;
@@ -64,6 +75,14 @@ public class LogBlockIndexDescriptor {
     return offset + ENTRY_PHYSICAL_POSITION_OFFSET;
   }
 
+  public static int entrySummaryOffset(int offset) {
+    return offset + ENTRY_SUMMARY_OFFSET;
+  }
+
+  public static int formatVersionOffset() {
+    return FORMAT_VERSION_OFFSET;
+  }
+
   public static int indexSizeOffset() {
     return INDEX_SIZE_OFFSET;
   }
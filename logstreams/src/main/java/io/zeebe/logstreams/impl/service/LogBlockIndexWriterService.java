@@ -49,7 +49,8 @@ public class LogBlockIndexWriterService implements Service<LogBlockIndexWriter>
             scheduler.getMetricsManager());
 
     startContext.async(
-        scheduler.submitActor(logBlockIndexWriter, true, SchedulingHints.ioBound((short) 0)));
+        scheduler.submitActor(
+            logBlockIndexWriter, true, SchedulingHints.ioBound(logStreamBuilder.getIoDeviceId())));
   }
 
   @Override
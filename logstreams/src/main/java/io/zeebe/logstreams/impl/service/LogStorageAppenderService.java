@@ -17,8 +17,10 @@ package io.zeebe.logstreams.impl.service;
 
 import io.zeebe.dispatcher.Subscription;
 import io.zeebe.logstreams.impl.LogStorageAppender;
+import io.zeebe.logstreams.log.LogFlushPolicy;
 import io.zeebe.logstreams.spi.LogStorage;
 import io.zeebe.servicecontainer.*;
+import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.SchedulingHints;
 import io.zeebe.util.sched.channel.ActorConditions;
 
@@ -27,20 +29,28 @@ public class LogStorageAppenderService implements Service<LogStorageAppender> {
   private final Injector<Subscription> appenderSubscriptionInjector = new Injector<>();
 
   private final int maxAppendBlockSize;
+  private final short ioDeviceId;
+  private final LogFlushPolicy flushPolicy;
 
   private LogStorageAppender service;
   private ActorConditions onLogStorageAppendedConditions;
 
   public LogStorageAppenderService(
-      ActorConditions onLogStorageAppendedConditions, int maxAppendBlockSize) {
+      ActorConditions onLogStorageAppendedConditions,
+      int maxAppendBlockSize,
+      short ioDeviceId,
+      LogFlushPolicy flushPolicy) {
     this.onLogStorageAppendedConditions = onLogStorageAppendedConditions;
     this.maxAppendBlockSize = maxAppendBlockSize;
+    this.ioDeviceId = ioDeviceId;
+    this.flushPolicy = flushPolicy;
   }
 
   @Override
   public void start(ServiceStartContext startContext) {
     final LogStorage logStorage = logStorageInjector.getValue();
     final Subscription subscription = appenderSubscriptionInjector.getValue();
+    final ActorScheduler scheduler = startContext.getScheduler();
 
     service =
         new LogStorageAppender(
@@ -48,10 +58,13 @@ public class LogStorageAppenderService implements Service<LogStorageAppender> {
             logStorage,
             subscription,
             maxAppendBlockSize,
-            onLogStorageAppendedConditions);
+            onLogStorageAppendedConditions,
+            scheduler.getIoDeviceMetrics(),
+            ioDeviceId,
+            flushPolicy);
 
     startContext.async(
-        startContext.getScheduler().submitActor(service, true, SchedulingHints.ioBound((short) 0)));
+        scheduler.submitActor(service, true, SchedulingHints.ioBound(ioDeviceId)));
   }
 
   @Override
@@ -22,6 +22,7 @@ import static io.zeebe.logstreams.log.LogStreamUtil.getAddressForPosition;
 import io.zeebe.dispatcher.*;
 import io.zeebe.logstreams.impl.*;
 import io.zeebe.logstreams.impl.log.index.LogBlockIndex;
+import io.zeebe.logstreams.log.LogFlushPolicy;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.spi.LogStorage;
 import io.zeebe.servicecontainer.*;
@@ -50,6 +51,8 @@ public class LogStreamService implements LogStream, Service<LogStream> {
 
   private final ByteValue writeBufferSize;
   private final int maxAppendBlockSize;
+  private final short ioDeviceId;
+  private final LogFlushPolicy flushPolicy;
 
   private final Position commitPosition;
   private volatile int term = 0;
@@ -74,6 +77,8 @@ public class LogStreamService implements LogStream, Service<LogStream> {
     this.commitPosition = builder.getCommitPosition();
     this.writeBufferSize = ByteValue.ofBytes(builder.getWriteBufferSize());
     this.maxAppendBlockSize = builder.getMaxAppendBlockSize();
+    this.ioDeviceId = builder.getIoDeviceId();
+    this.flushPolicy = builder.getFlushPolicy();
   }
 
   @Override
@@ -121,7 +126,8 @@ public class LogStreamService implements LogStream, Service<LogStream> {
         .install();
 
     final LogStorageAppenderService appenderService =
-        new LogStorageAppenderService(onLogStorageAppendedConditions, maxAppendBlockSize);
+        new LogStorageAppenderService(
+            onLogStorageAppendedConditions, maxAppendBlockSize, ioDeviceId, flushPolicy);
     appenderFuture =
         installOperation
             .createService(logStorageAppenderServiceName, appenderService)
@@ -170,6 +176,16 @@ public class LogStreamService implements LogStream, Service<LogStream> {
     return logName;
   }
 
+  @Override
+  public short getIoDeviceId() {
+    return ioDeviceId;
+  }
+
+  @Override
+  public LogFlushPolicy getFlushPolicy() {
+    return flushPolicy;
+  }
+
   @Override
   public void close() {
     closeAsync().join();
@@ -41,6 +41,7 @@ public class BufferedLogStreamReader implements LogStreamReader {
   private final boolean readUncommittedEntries;
   private final ReadResultProcessor completeEventsInBlockProcessor =
       new CompleteEventsInBlockProcessor();
+  private long blockFilter = LogBlockSummarizer.ALL;
 
   // wrapped logstream
   private LogStream logStream;
@@ -49,6 +50,7 @@ public class BufferedLogStreamReader implements LogStreamReader {
 
   // state
   private IteratorState state;
+  private boolean isSeeking;
   private long nextLogStorageReadAddress;
   private LoggedEventImpl nextEvent = new LoggedEventImpl();
   // event returned to caller (important: has to be preserved even after compact/buffer resize)
@@ -123,12 +125,23 @@ public class BufferedLogStreamReader implements LogStreamReader {
       state = IteratorState.EMPTY_LOG_STREAM;
       return false;
     } else {
-      readBlockIntoBuffer(blockAddress);
-      readNextEvent();
-      return searchPositionInBuffer(position);
+      // don't skip blocks while seeking since the block filter can't tell where the position is
+      isSeeking = true;
+      try {
+        readBlockIntoBuffer(blockAddress);
+        readNextEvent();
+        return searchPositionInBuffer(position);
+      } finally {
+        isSeeking = false;
+      }
     }
   }
 
+  @Override
+  public void setBlockFilter(final long blockFilter) {
+    this.blockFilter = blockFilter;
+  }
+
   @Override
   public void seekToFirstEvent() {
     seek(FIRST_POSITION);
@@ -342,6 +355,8 @@ public class BufferedLogStreamReader implements LogStreamReader {
   }
 
   private boolean readNextAddress() {
+    skipIrrelevantBlocks();
+
     final boolean blockFound = readBlockIntoBuffer(nextLogStorageReadAddress);
 
     if (blockFound) {
@@ -351,6 +366,18 @@ public class BufferedLogStreamReader implements LogStreamReader {
     return blockFound;
   }
 
+  private void skipIrrelevantBlocks() {
+    if (blockFilter != LogBlockSummarizer.ALL && !isSeeking && isNextEventInitialized()) {
+      // the next event is the last one in the buffer
+      final long blockAddress =
+          logBlockIndex.lookupNextMatchingBlockAddress(nextEvent.getPosition(), blockFilter);
+
+      if (blockAddress > nextLogStorageReadAddress) {
+        nextLogStorageReadAddress = blockAddress;
+      }
+    }
+  }
+
   private void readNextEvent() {
     // initially we assume there is not enough data
     state = IteratorState.NOT_ENOUGH_DATA;
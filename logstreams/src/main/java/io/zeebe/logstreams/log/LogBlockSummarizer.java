@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.logstreams.log;
+
+/**
+ * Summarizes the events of the log in a compact bit set. The log block index stores the bitwise OR
+ * of the summaries of all events in a block, so that a reader can skip the blocks which don't
+ * contain any relevant event (see {@link LogStreamReader#setBlockFilter(long)}).
+ *
+ * <p>A summary may contain more bits than necessary (e.g. by hashing the event properties into a
+ * bit) but it must not miss any bit which a filter could ask for.
+ */
+@FunctionalInterface
+public interface LogBlockSummarizer {
+  /** A summary which matches every filter. */
+  long ALL = -1L;
+
+  /** Summarizes every event as {@link #ALL}, i.e. no block can be skipped. */
+  LogBlockSummarizer NONE = event -> ALL;
+
+  /**
+   * @param event the event to summarize
+   * @return the bits which describe the event
+   */
+  long summarize(LoggedEvent event);
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.logstreams.log;
+
+import java.time.Duration;
+
+/**
+ * Defines when the blocks appended to the log storage are flushed to disk. The commit position of
+ * the log stream only advances over blocks which are flushed according to the policy.
+ *
+ * <ul>
+ *   <li>{@link #osManaged()} never flushes explicitly and leaves it to the operating system to
+ *       write the pages back. Lowest latency, but committed events may be lost if the machine
+ *       crashes.
+ *   <li>{@link #everyBlock()} flushes after every appended block.
+ *   <li>{@link #interval(Duration, long)} groups the appended blocks and flushes them together,
+ *       at the latest after the given delay or when the given number of bytes is not flushed yet.
+ * </ul>
+ */
+public final class LogFlushPolicy {
+  public enum Mode {
+    OS_MANAGED,
+    EVERY_BLOCK,
+    INTERVAL
+  }
+
+  private static final LogFlushPolicy OS_MANAGED =
+      new LogFlushPolicy(Mode.OS_MANAGED, Duration.ZERO, 0);
+  private static final LogFlushPolicy EVERY_BLOCK =
+      new LogFlushPolicy(Mode.EVERY_BLOCK, Duration.ZERO, 0);
+
+  private final Mode mode;
+  private final Duration maxDelay;
+  private final long maxBytes;
+
+  private LogFlushPolicy(Mode mode, Duration maxDelay, long maxBytes) {
+    this.mode = mode;
+    this.maxDelay = maxDelay;
+    this.maxBytes = maxBytes;
+  }
+
+  public static LogFlushPolicy osManaged() {
+    return OS_MANAGED;
+  }
+
+  public static LogFlushPolicy everyBlock() {
+    return EVERY_BLOCK;
+  }
+
+  public static LogFlushPolicy interval(Duration maxDelay, long maxBytes) {
+    if (maxDelay.isNegative() || maxDelay.isZero()) {
+      throw new IllegalArgumentException("Expected positive flush delay, got " + maxDelay);
+    }
+
+    if (maxBytes <= 0) {
+      throw new IllegalArgumentException("Expected positive flush bytes, got " + maxBytes);
+    }
+
+    return new LogFlushPolicy(Mode.INTERVAL, maxDelay, maxBytes);
+  }
+
+  public Mode getMode() {
+    return mode;
+  }
+
+  public boolean isOsManaged() {
+    return mode == Mode.OS_MANAGED;
+  }
+
+  /** @return the max time a block is not flushed, only used in {@link Mode#INTERVAL} */
+  public Duration getMaxDelay() {
+    return maxDelay;
+  }
+
+  /** @return the max number of bytes which are not flushed, only used in {@link Mode#INTERVAL} */
+  public long getMaxBytes() {
+    return maxBytes;
+  }
+
+  @Override
+  public String toString() {
+    return "LogFlushPolicy{"
+        + "mode="
+        + mode
+        + ", maxDelay="
+        + maxDelay
+        + ", maxBytes="
+        + maxBytes
+        + '}';
+  }
+}
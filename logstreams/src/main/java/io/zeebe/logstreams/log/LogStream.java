@@ -58,6 +58,21 @@ public interface LogStream extends AutoCloseable {
    */
   String getLogName();
 
+  /**
+   * Returns the I/O device of the log directory. I/O bound work on the log stream (appending,
+   * indexing, writing snapshots) should be scheduled on this device.
+   *
+   * @return the I/O device id
+   */
+  short getIoDeviceId();
+
+  /**
+   * Returns the policy which defines when appended blocks are flushed to disk.
+   *
+   * @return the flush policy
+   */
+  LogFlushPolicy getFlushPolicy();
+
   /** Closes the log stream synchronously. This blocks until the log stream is closed. */
   @Override
   void close();
@@ -33,6 +33,9 @@ public interface LogStreamBatchWriter {
     /** Set the log entry key. */
     LogEntryBuilder key(long key);
 
+    /** Set the source event of the log entry, instead of the source event of the batch. */
+    LogEntryBuilder entrySourceRecordPosition(long position);
+
     /** Set the log entry metadata. */
     LogEntryBuilder metadata(DirectBuffer buffer, int offset, int length);
 
@@ -59,6 +59,7 @@ public class LogStreamBatchWriterImpl implements LogStreamBatchWriter, LogEntryB
   private int producerId;
 
   private long sourceEventPosition;
+  private long entrySourceEventPosition;
 
   private BufferWriter metadataWriter;
   private BufferWriter valueWriter;
@@ -110,6 +111,12 @@ public class LogStreamBatchWriterImpl implements LogStreamBatchWriter, LogEntryB
     return this;
   }
 
+  @Override
+  public LogEntryBuilder entrySourceRecordPosition(long position) {
+    this.entrySourceEventPosition = position;
+    return this;
+  }
+
   @Override
   public LogEntryBuilder metadata(DirectBuffer buffer, int offset, int length) {
     metadataWriterInstance.wrap(buffer, offset, length);
@@ -159,6 +166,9 @@ public class LogStreamBatchWriterImpl implements LogStreamBatchWriter, LogEntryB
     eventBuffer.putLong(eventBufferOffset, positionAsKey ? POSITION_AS_KEY : key);
     eventBufferOffset += SIZE_OF_LONG;
 
+    eventBuffer.putLong(eventBufferOffset, entrySourceEventPosition);
+    eventBufferOffset += SIZE_OF_LONG;
+
     eventBuffer.putInt(eventBufferOffset, metadataLength);
     eventBufferOffset += SIZE_OF_INT;
 
@@ -219,6 +229,9 @@ public class LogStreamBatchWriterImpl implements LogStreamBatchWriter, LogEntryB
       final long key = eventBuffer.getLong(eventBufferOffset);
       eventBufferOffset += SIZE_OF_LONG;
 
+      final long entrySourceEventPosition = eventBuffer.getLong(eventBufferOffset);
+      eventBufferOffset += SIZE_OF_LONG;
+
       final int metadataLength = eventBuffer.getInt(eventBufferOffset);
       eventBufferOffset += SIZE_OF_INT;
 
@@ -238,7 +251,10 @@ public class LogStreamBatchWriterImpl implements LogStreamBatchWriter, LogEntryB
       setPosition(writeBuffer, bufferOffset, position);
       setRaftTerm(writeBuffer, bufferOffset, logStream.getTerm());
       setProducerId(writeBuffer, bufferOffset, producerId);
-      setSourceEventPosition(writeBuffer, bufferOffset, sourceEventPosition);
+      setSourceEventPosition(
+          writeBuffer,
+          bufferOffset,
+          entrySourceEventPosition >= 0 ? entrySourceEventPosition : sourceEventPosition);
       setKey(writeBuffer, bufferOffset, keyToWrite);
       setTimestamp(writeBuffer, bufferOffset, ActorClock.currentTimeMillis());
       setMetadataLength(writeBuffer, bufferOffset, (short) metadataLength);
@@ -272,6 +288,7 @@ public class LogStreamBatchWriterImpl implements LogStreamBatchWriter, LogEntryB
   private void resetEvent() {
     positionAsKey = false;
     key = -1L;
+    entrySourceEventPosition = -1L;
 
     metadataWriter = metadataWriterInstance;
     valueWriter = null;
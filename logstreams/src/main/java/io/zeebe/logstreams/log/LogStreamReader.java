@@ -60,6 +60,16 @@ public interface LogStreamReader extends Iterator<LoggedEvent>, CloseableSilentl
    */
   boolean seek(long position);
 
+  /**
+   * Skip the indexed blocks which don't contain any event whose summary matches the given filter
+   * while iterating. The events of the remaining blocks are returned unfiltered. Seeking is not
+   * affected by the filter.
+   *
+   * @param blockFilter the bits to match against the block summaries (see {@link
+   *     LogBlockSummarizer}), or {@link LogBlockSummarizer#ALL} to read all blocks
+   */
+  void setBlockFilter(long blockFilter);
+
   /** Seek to the log position of the first event. */
   void seekToFirstEvent();
 
@@ -58,4 +58,13 @@ public interface StreamProcessor {
   default void onClose() {
     // no nothing
   }
+
+  /**
+   * Callback which is invoked by the controller when it closes because the processing failed,
+   * instead of {@link #onClose()}. An implementation should only release resources here, since its
+   * state may be inconsistent.
+   */
+  default void onFailure() {
+    // do nothing
+  }
 }
@@ -42,6 +42,7 @@ public class StreamProcessorBuilder {
   protected LogStreamWriter logStreamWriter;
 
   protected EventFilter eventFilter;
+  protected long blockFilter = LogBlockSummarizer.ALL;
 
   protected boolean readOnly;
 
@@ -86,6 +87,16 @@ public class StreamProcessorBuilder {
     return this;
   }
 
+  /**
+   * @param blockFilter the summary bits of the events which can be handled by the stream
+   *     processor, the blocks of the log which don't contain such an event are skipped (see {@link
+   *     LogBlockSummarizer})
+   */
+  public StreamProcessorBuilder blockFilter(long blockFilter) {
+    this.blockFilter = blockFilter;
+    return this;
+  }
+
   public StreamProcessorBuilder readOnly(boolean readOnly) {
     this.readOnly = readOnly;
     return this;
@@ -144,6 +155,7 @@ public class StreamProcessorBuilder {
     ctx.setSnapshotStorage(snapshotStorage);
 
     ctx.setEventFilter(eventFilter);
+    ctx.setBlockFilter(blockFilter);
     ctx.setReadOnly(readOnly);
 
     if (snapshotPeriod == null) {
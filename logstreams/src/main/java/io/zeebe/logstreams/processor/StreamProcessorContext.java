@@ -40,6 +40,7 @@ public class StreamProcessorContext {
   private ActorControl actorControl;
 
   protected EventFilter eventFilter;
+  protected long blockFilter = LogBlockSummarizer.ALL;
 
   private Runnable suspendRunnable;
   private Runnable resumeRunnable;
@@ -124,6 +125,14 @@ public class StreamProcessorContext {
     return eventFilter;
   }
 
+  public void setBlockFilter(long blockFilter) {
+    this.blockFilter = blockFilter;
+  }
+
+  public long getBlockFilter() {
+    return blockFilter;
+  }
+
   public void setReadOnly(boolean readOnly) {
     this.isReadOnlyProcessor = readOnly;
   }
@@ -16,6 +16,7 @@
 package io.zeebe.logstreams.processor;
 
 import io.zeebe.logstreams.impl.Loggers;
+import io.zeebe.logstreams.log.LogBlockSummarizer;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.log.LogStreamReader;
 import io.zeebe.logstreams.log.LogStreamWriter;
@@ -45,6 +46,9 @@ public class StreamProcessorController extends Actor {
   private static final String ERROR_MESSAGE_PROCESSING_FAILED =
       "Stream processor '{}' failed to process event. It stop processing further events.";
 
+  /** max number of events which are reprocessed in one actor job */
+  private static final int REPROCESSING_BATCH_SIZE = 100;
+
   private final StreamProcessor streamProcessor;
   private final StreamProcessorContext streamProcessorContext;
 
@@ -58,6 +62,8 @@ public class StreamProcessorController extends Actor {
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
   private Phase phase = Phase.REPROCESSING;
 
+  private volatile CompletableActorFuture<Void> recoveredFuture = new CompletableActorFuture<>();
+
   private final EventFilter eventFilter;
   private final boolean isReadOnlyProcessor;
 
@@ -103,6 +109,9 @@ public class StreamProcessorController extends Actor {
 
   public ActorFuture<Void> openAsync() {
     if (isOpened.compareAndSet(false, true)) {
+      if (recoveredFuture.isDone()) {
+        recoveredFuture = new CompletableActorFuture<>();
+      }
       return actorScheduler.submitActor(this, true);
     } else {
       return CompletableActorFuture.completed(null);
@@ -125,11 +134,16 @@ public class StreamProcessorController extends Actor {
 
     logStreamReader.wrap(logStream);
     logStreamWriter.wrap(logStream);
+    // read all blocks to find the events which are written by this processor
+    logStreamReader.setBlockFilter(LogBlockSummarizer.ALL);
 
     try {
       snapshotPosition = recoverFromSnapshot();
       lastSourceEventPosition = seekToLastSourceEvent();
 
+      // skip the blocks without relevant events on reprocessing and processing
+      logStreamReader.setBlockFilter(streamProcessorContext.getBlockFilter());
+
       streamProcessor.onOpen(streamProcessorContext);
     } catch (Exception e) {
       onFailure();
@@ -201,27 +215,45 @@ public class StreamProcessorController extends Actor {
 
   private void reprocessNextEvent() {
     try {
-      if (logStreamReader.hasNext()) {
-        currentEvent = logStreamReader.next();
-        if (currentEvent.getPosition() > lastSourceEventPosition) {
+      // reprocess a batch of events in one job to avoid scheduling a job per event
+      for (int i = 0; i < REPROCESSING_BATCH_SIZE; i++) {
+        if (logStreamReader.hasNext()) {
+          currentEvent = logStreamReader.next();
+          if (currentEvent.getPosition() > lastSourceEventPosition) {
+            throw new IllegalStateException(
+                String.format(
+                    ERROR_MESSAGE_REPROCESSING_NO_SOURCE_EVENT,
+                    getName(),
+                    lastSourceEventPosition));
+          }
+
+          final boolean isReprocessed = reprocessEvent(currentEvent);
+          if (!isReprocessed) {
+            // continue when the event is reprocessed asynchronously
+            return;
+          } else if (currentEvent.getPosition() == lastSourceEventPosition) {
+            onRecovered();
+            return;
+          }
+        } else {
           throw new IllegalStateException(
               String.format(
                   ERROR_MESSAGE_REPROCESSING_NO_SOURCE_EVENT, getName(), lastSourceEventPosition));
         }
-
-        reprocessEvent(currentEvent);
-      } else {
-        throw new IllegalStateException(
-            String.format(
-                ERROR_MESSAGE_REPROCESSING_NO_SOURCE_EVENT, getName(), lastSourceEventPosition));
       }
+
+      actor.submit(this::reprocessNextEvent);
     } catch (RuntimeException e) {
       onFailure();
       throw e;
     }
   }
 
-  private void reprocessEvent(LoggedEvent currentEvent) {
+  /**
+   * @return <code>true</code> if the event is reprocessed, or <code>false</code> if the event
+   *     processor completes asynchronously and the reprocessing is continued when it is done
+   */
+  private boolean reprocessEvent(LoggedEvent currentEvent) {
     if (eventFilter == null || eventFilter.applies(currentEvent)) {
       try {
         final EventProcessor eventProcessor = streamProcessor.onEvent(currentEvent);
@@ -243,20 +275,17 @@ public class StreamProcessorController extends Actor {
                     onFailure();
                   }
                 });
+            return false;
           } else {
             eventProcessor.updateState();
-            onRecordReprocessed(currentEvent);
           }
-        } else {
-          onRecordReprocessed(currentEvent);
         }
       } catch (Exception e) {
         throw new RuntimeException(
             String.format(ERROR_MESSAGE_REPROCESSING_FAILED, getName(), currentEvent), e);
       }
-    } else {
-      onRecordReprocessed(currentEvent);
     }
+    return true;
   }
 
   private void onRecordReprocessed(LoggedEvent currentEvent) {
@@ -280,6 +309,8 @@ public class StreamProcessorController extends Actor {
     // start reading
     streamProcessor.onRecovered();
     actor.submit(readNextEvent);
+
+    recoveredFuture.complete(null);
   }
 
   private void readNextEvent() {
@@ -405,7 +436,8 @@ public class StreamProcessorController extends Actor {
   private void createSnapshot() {
     if (actor.getLifecyclePhase() == ActorLifecyclePhase.STARTED) {
       // run as io-bound actor while writing snapshot
-      actor.setSchedulingHints(SchedulingHints.ioBound((short) 0));
+      actor.setSchedulingHints(
+          SchedulingHints.ioBound(streamProcessorContext.getLogStream().getIoDeviceId()));
       actor.submit(this::doCreateSnapshot);
     } else {
       doCreateSnapshot();
@@ -474,6 +506,8 @@ public class StreamProcessorController extends Actor {
     if (!isFailed()) {
       createSnapshot();
       streamProcessor.onClose();
+    } else {
+      streamProcessor.onFailure();
     }
 
     streamProcessorContext.getLogStreamReader().close();
@@ -483,6 +517,15 @@ public class StreamProcessorController extends Actor {
     onCommitPositionUpdatedCondition = null;
   }
 
+  @Override
+  protected void onActorClosed() {
+    if (!recoveredFuture.isDone()) {
+      recoveredFuture.completeExceptionally(
+          new IllegalStateException(
+              String.format("Stream processor '%s' closed before it was recovered", getName())));
+    }
+  }
+
   private void onFailure() {
     phase = Phase.FAILED;
 
@@ -495,6 +538,14 @@ public class StreamProcessorController extends Actor {
     return isOpened.get();
   }
 
+  /**
+   * @return a future which is completed when the stream processor is recovered from the snapshot
+   *     and has reprocessed its events, or completed exceptionally if it is closed before
+   */
+  public ActorFuture<Void> getRecoveredFuture() {
+    return recoveredFuture;
+  }
+
   public boolean isFailed() {
     return phase == Phase.FAILED;
   }
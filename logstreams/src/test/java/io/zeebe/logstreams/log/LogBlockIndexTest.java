@@ -18,6 +18,7 @@ package io.zeebe.logstreams.log;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.zeebe.logstreams.impl.log.index.LogBlockIndex;
+import io.zeebe.logstreams.impl.log.index.LogBlockIndexDescriptor;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
@@ -251,4 +252,85 @@ public class LogBlockIndexTest {
       assertThat(newBlockIndex.getAddress(i)).isEqualTo(physPos);
     }
   }
+
+  @Test
+  public void shouldLookupNextMatchingBlockAddress() {
+    // given
+    blockIndex.addBlock(1, 10, 0b01);
+    blockIndex.addBlock(5, 20, 0b10);
+    blockIndex.addBlock(10, 30, 0b10);
+    blockIndex.addBlock(15, 40, 0b01);
+    blockIndex.addBlock(20, 50, 0b10);
+
+    // then
+    assertThat(blockIndex.lookupNextMatchingBlockAddress(1, 0b01)).isEqualTo(-1);
+    assertThat(blockIndex.lookupNextMatchingBlockAddress(5, 0b01)).isEqualTo(40);
+    assertThat(blockIndex.lookupNextMatchingBlockAddress(12, 0b01)).isEqualTo(40);
+    assertThat(blockIndex.lookupNextMatchingBlockAddress(12, 0b11)).isEqualTo(-1);
+    assertThat(blockIndex.lookupNextMatchingBlockAddress(3, 0b10)).isEqualTo(20);
+  }
+
+  @Test
+  public void shouldNotSkipLastBlock() {
+    // given
+    blockIndex.addBlock(1, 10, 0b01);
+    blockIndex.addBlock(5, 20, 0b01);
+
+    // then
+    assertThat(blockIndex.lookupNextMatchingBlockAddress(1, 0b10)).isEqualTo(20);
+    assertThat(blockIndex.lookupNextMatchingBlockAddress(5, 0b10)).isEqualTo(-1);
+    assertThat(blockIndex.lookupNextMatchingBlockAddress(0, 0b10)).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldMergeSummaryOfLastBlock() {
+    // given
+    blockIndex.addBlock(1, 10, 0b01);
+    blockIndex.addBlock(5, 20, 0b01);
+
+    // when
+    blockIndex.mergeLastBlockSummary(0b10);
+
+    // then
+    assertThat(blockIndex.getSummary(0)).isEqualTo(0b01);
+    assertThat(blockIndex.getSummary(1)).isEqualTo(0b11);
+  }
+
+  @Test
+  public void shouldRecoverSummariesFromSnapshot() throws Exception {
+    // given
+    blockIndex.addBlock(1, 10, 0b01);
+    blockIndex.addBlock(5, 20, 0b10);
+
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    blockIndex.writeSnapshot(outputStream);
+
+    // when
+    final LogBlockIndex newBlockIndex = createNewBlockIndex(CAPACITY);
+    newBlockIndex.recoverFromSnapshot(new ByteArrayInputStream(outputStream.toByteArray()));
+
+    // then
+    assertThat(newBlockIndex.getSummary(0)).isEqualTo(0b01);
+    assertThat(newBlockIndex.getSummary(1)).isEqualTo(0b10);
+  }
+
+  @Test
+  public void shouldResetIndexOnSnapshotWithDifferentFormat() throws Exception {
+    // given
+    blockIndex.addBlock(1, 10);
+
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    blockIndex.writeSnapshot(outputStream);
+
+    final byte[] snapshot = outputStream.toByteArray();
+    new UnsafeBuffer(snapshot).putInt(LogBlockIndexDescriptor.formatVersionOffset(), 1);
+
+    // when
+    final LogBlockIndex newBlockIndex = createNewBlockIndex(CAPACITY);
+    newBlockIndex.recoverFromSnapshot(new ByteArrayInputStream(snapshot));
+
+    // then
+    assertThat(newBlockIndex.size()).isEqualTo(0);
+    assertThat(newBlockIndex.lookupBlockAddress(1)).isEqualTo(-1);
+  }
 }
@@ -55,7 +55,8 @@ public class LogBlockIndexWriterTest {
           b ->
               b.indexBlockSize(INDEX_BLOCK_SIZE)
                   .readBlockSize(FRAGMENT_SIZE)
-                  .snapshotPeriod(SNAPSHOT_INTERVAL));
+                  .snapshotPeriod(SNAPSHOT_INTERVAL)
+                  .blockSummarizer(LogBlockIndexWriterTest::summarize));
 
   private LogStreamWriterRule writer = new LogStreamWriterRule(logStreamRule);
 
@@ -125,6 +126,20 @@ public class LogBlockIndexWriterTest {
     assertThat(readEventAtAddress(indexAddress)).isEqualTo(EVENT_2);
   }
 
+  @Test
+  public void shouldAppendBlockWithSummaryOfEvents() {
+    writer.writeEvents(2, EVENT_1, true);
+    writer.writeEvent(EVENT_1, true);
+    writer.writeEvent(EVENT_2, true);
+    writer.writeEvents(2, EVENT_2, true);
+
+    waitUntil(() -> blockIndex.size() == 3);
+
+    assertThat(blockIndex.getSummary(0)).isEqualTo(0b01);
+    assertThat(blockIndex.getSummary(1)).isEqualTo(0b11);
+    assertThat(blockIndex.getSummary(2)).isEqualTo(0b10);
+  }
+
   @Test
   public void shouldWriteSnapshot() {
     writer.writeEvents(2, EVENT_1, true);
@@ -284,4 +299,11 @@ public class LogBlockIndexWriterTest {
       return null;
     }
   }
+
+  private static long summarize(LoggedEvent event) {
+    final DirectBuffer value = event.getValueBuffer();
+    final int offset = event.getValueOffset();
+
+    return value.getByte(offset) == EVENT_1.getByte(0) ? 0b01 : 0b10;
+  }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.logstreams.log;
+
+import static io.zeebe.test.util.TestUtil.waitUntil;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.zeebe.logstreams.impl.LogStorageAppender;
+import io.zeebe.logstreams.spi.LogStorage;
+import io.zeebe.logstreams.util.*;
+import java.io.IOException;
+import org.agrona.DirectBuffer;
+import org.junit.*;
+import org.junit.rules.RuleChain;
+import org.junit.rules.TemporaryFolder;
+
+public class LogStorageAppenderEveryBlockFlushTest {
+  private static final DirectBuffer EVENT = wrapString("FOO");
+
+  private TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private LogStreamRule logStreamRule =
+      new LogStreamRule(
+          temporaryFolder,
+          b -> {
+            b.logStorageStubber(logStorage -> spy(logStorage));
+            b.flushPolicy(LogFlushPolicy.everyBlock());
+          });
+
+  private LogStreamWriterRule writer = new LogStreamWriterRule(logStreamRule);
+
+  @Rule
+  public RuleChain ruleChain =
+      RuleChain.outerRule(temporaryFolder).around(logStreamRule).around(writer);
+
+  private LogStorage logStorageSpy;
+  private LogStorageAppender appender;
+
+  @Before
+  public void setup() {
+    final LogStream logStream = logStreamRule.getLogStream();
+    logStorageSpy = logStream.getLogStorage();
+    appender = logStream.getLogStorageAppender();
+  }
+
+  @Test
+  public void shouldFlushAppendedBlock() throws Exception {
+    // when
+    final long position = writer.writeEvent(EVENT);
+
+    // then
+    waitUntil(() -> appender.getFlushedPosition() > position);
+
+    verify(logStorageSpy, timeout(5_000)).flush();
+  }
+
+  @Test
+  public void shouldRetryFailedFlush() throws Exception {
+    // given
+    doThrow(new IOException("expected"))
+        .doCallRealMethod()
+        .when(logStorageSpy)
+        .flush();
+
+    final long positionBefore = appender.getFlushedPosition();
+    writer.writeEvent(EVENT);
+
+    verify(logStorageSpy, timeout(5_000)).flush();
+    assertThat(appender.getFlushedPosition()).isEqualTo(positionBefore);
+
+    // when
+    logStreamRule.getClock().addTime(LogStorageAppender.FLUSH_RETRY_DELAY);
+
+    // then
+    waitUntil(() -> appender.getFlushedPosition() == appender.getCurrentAppenderPosition());
+
+    verify(logStorageSpy, timeout(5_000).times(2)).flush();
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.logstreams.log;
+
+import static io.zeebe.test.util.TestUtil.waitUntil;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.zeebe.logstreams.impl.LogStorageAppender;
+import io.zeebe.logstreams.spi.LogStorage;
+import io.zeebe.logstreams.util.*;
+import java.time.Duration;
+import org.agrona.DirectBuffer;
+import org.junit.*;
+import org.junit.rules.RuleChain;
+import org.junit.rules.TemporaryFolder;
+
+public class LogStorageAppenderFlushTest {
+  private static final DirectBuffer EVENT = wrapString("FOO");
+
+  private static final Duration FLUSH_INTERVAL = Duration.ofSeconds(1);
+  private static final int FLUSH_BYTES = 1024;
+
+  private TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private LogStreamRule logStreamRule =
+      new LogStreamRule(
+          temporaryFolder,
+          b -> {
+            b.logStorageStubber(logStorage -> spy(logStorage));
+            b.flushPolicy(LogFlushPolicy.interval(FLUSH_INTERVAL, FLUSH_BYTES));
+          });
+
+  private LogStreamWriterRule writer = new LogStreamWriterRule(logStreamRule);
+
+  @Rule
+  public RuleChain ruleChain =
+      RuleChain.outerRule(temporaryFolder).around(logStreamRule).around(writer);
+
+  private LogStorage logStorageSpy;
+  private LogStorageAppender appender;
+
+  @Before
+  public void setup() {
+    final LogStream logStream = logStreamRule.getLogStream();
+    logStorageSpy = logStream.getLogStorage();
+    appender = logStream.getLogStorageAppender();
+  }
+
+  @Test
+  public void shouldNotFlushBeforeInterval() throws Exception {
+    // given
+    final long positionBefore = appender.getFlushedPosition();
+
+    // when
+    writer.writeEvent(EVENT);
+
+    // then
+    assertThat(appender.getCurrentAppenderPosition()).isGreaterThan(positionBefore);
+    assertThat(appender.getFlushedPosition()).isEqualTo(positionBefore);
+
+    verify(logStorageSpy, never()).flush();
+  }
+
+  @Test
+  public void shouldFlushAfterInterval() throws Exception {
+    // given
+    writer.writeEvent(EVENT);
+
+    // when
+    logStreamRule.getClock().addTime(FLUSH_INTERVAL);
+
+    // then
+    waitUntil(() -> appender.getFlushedPosition() == appender.getCurrentAppenderPosition());
+
+    verify(logStorageSpy, timeout(5_000)).flush();
+  }
+
+  @Test
+  public void shouldFlushWhenMaxBytesAreAppended() throws Exception {
+    // when
+    final long position = writer.writeEvents(FLUSH_BYTES / EVENT.capacity(), EVENT);
+
+    // then
+    waitUntil(() -> appender.getFlushedPosition() > position);
+
+    verify(logStorageSpy, timeout(5_000).atLeastOnce()).flush();
+  }
+
+  @Test
+  public void shouldFlushAppendedBlocksTogether() throws Exception {
+    // given
+    writer.writeEvent(EVENT);
+    writer.writeEvent(EVENT);
+    writer.writeEvent(EVENT);
+
+    // when
+    logStreamRule.getClock().addTime(FLUSH_INTERVAL);
+
+    // then
+    waitUntil(() -> appender.getFlushedPosition() == appender.getCurrentAppenderPosition());
+
+    verify(logStorageSpy, timeout(5_000).times(1)).flush();
+  }
+}
@@ -20,7 +20,9 @@ import static io.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 import io.zeebe.dispatcher.FragmentHandler;
 import io.zeebe.dispatcher.Subscription;
@@ -81,6 +83,16 @@ public class LogStorageAppenderTest {
     waitUntil(() -> storageAppender.getCurrentAppenderPosition() > positionBefore);
   }
 
+  @Test
+  public void shouldNotFlushIfOsManaged() throws Exception {
+    final LogStorageAppender storageAppender = logStream.getLogStorageAppender();
+
+    final long position = writer.writeEvent(EVENT);
+
+    waitUntil(() -> storageAppender.getFlushedPosition() > position);
+    verify(logStorageSpy, never()).flush();
+  }
+
   @Test
   public void shouldInvokeOnAppendConditions() {
     final AtomicInteger counter = new AtomicInteger();
@@ -0,0 +1,139 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.logstreams.log;
+
+import static io.zeebe.test.util.TestUtil.waitUntil;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.logstreams.util.LogStreamRule;
+import io.zeebe.logstreams.util.LogStreamWriterRule;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+import org.junit.rules.TemporaryFolder;
+
+public class LogStreamReaderBlockFilterTest {
+  private static final int EVENT_SIZE = 8 * 1024;
+  private static final int INDEX_BLOCK_SIZE = 8 * EVENT_SIZE;
+
+  private static final byte IRRELEVANT = 1;
+  private static final byte RELEVANT = 2;
+
+  private static final UnsafeBuffer IRRELEVANT_EVENT = newEvent(IRRELEVANT);
+  private static final UnsafeBuffer RELEVANT_EVENT = newEvent(RELEVANT);
+
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+  public LogStreamRule logStreamRule =
+      new LogStreamRule(
+          temporaryFolder,
+          b ->
+              b.indexBlockSize(INDEX_BLOCK_SIZE)
+                  .blockSummarizer(LogStreamReaderBlockFilterTest::summarize));
+  public LogStreamWriterRule writer = new LogStreamWriterRule(logStreamRule);
+
+  @Rule
+  public RuleChain ruleChain =
+      RuleChain.outerRule(temporaryFolder).around(logStreamRule).around(writer);
+
+  private final BufferedLogStreamReader reader = new BufferedLogStreamReader();
+
+  private long relevantEventPosition;
+  private long lastEventPosition;
+
+  @Before
+  public void setUp() {
+    writer.writeEvents(32, IRRELEVANT_EVENT, true);
+    relevantEventPosition = writer.writeEvent(RELEVANT_EVENT, true);
+    writer.writeEvents(32, IRRELEVANT_EVENT, true);
+    lastEventPosition = writer.writeEvent(RELEVANT_EVENT, true);
+
+    final LogStream logStream = logStreamRule.getLogStream();
+    waitUntil(() -> logStream.getLogBlockIndex().size() >= 7);
+
+    reader.wrap(logStream);
+  }
+
+  @After
+  public void tearDown() {
+    reader.close();
+  }
+
+  @Test
+  public void shouldSkipBlocksWithoutMatchingEvents() {
+    // given
+    reader.setBlockFilter(RELEVANT);
+    reader.seekToFirstEvent();
+
+    // when
+    final List<Long> positions = readAllPositions();
+
+    // then
+    assertThat(positions).contains(relevantEventPosition, lastEventPosition);
+    assertThat(positions.size()).isLessThan(66);
+    assertThat(positions).isSorted();
+  }
+
+  @Test
+  public void shouldReadAllBlocksWithoutFilter() {
+    // given
+    reader.setBlockFilter(LogBlockSummarizer.ALL);
+    reader.seekToFirstEvent();
+
+    // when
+    final List<Long> positions = readAllPositions();
+
+    // then
+    assertThat(positions).hasSize(66);
+  }
+
+  @Test
+  public void shouldNotSkipBlocksOnSeek() {
+    // given
+    final long position = readAllPositions().get(20);
+    reader.setBlockFilter(RELEVANT);
+
+    // when
+    final boolean found = reader.seek(position);
+
+    // then
+    assertThat(found).isTrue();
+    assertThat(reader.hasNext()).isTrue();
+    assertThat(reader.next().getPosition()).isEqualTo(position);
+  }
+
+  private List<Long> readAllPositions() {
+    final List<Long> positions = new ArrayList<>();
+    while (reader.hasNext()) {
+      positions.add(reader.next().getPosition());
+    }
+    return positions;
+  }
+
+  private static UnsafeBuffer newEvent(byte type) {
+    final UnsafeBuffer event = new UnsafeBuffer(new byte[EVENT_SIZE]);
+    event.setMemory(0, EVENT_SIZE, type);
+    return event;
+  }
+
+  private static long summarize(LoggedEvent event) {
+    return event.getValueBuffer().getByte(event.getValueOffset());
+  }
+}
@@ -566,6 +566,21 @@ public class StreamProcessorControllerTest {
     inOrder.verifyNoMoreInteractions();
   }
 
+  @Test
+  public void shouldCallOnFailureInsteadOfOnCloseIfFailed() {
+    // given
+    doThrow(new RuntimeException("expected")).when(eventProcessor).processEvent(any());
+
+    // when
+    writer.writeEvents(2, EVENT_1, true);
+
+    // then
+    waitUntil(() -> controller.isFailed());
+
+    verify(streamProcessor, timeout(5_000)).onFailure();
+    verify(streamProcessor, never()).onClose();
+  }
+
   @Test
   public void shouldFailToWriteEventIfReadOnly() {
     controller.closeAsync().join();
@@ -171,6 +171,45 @@ public class StreamProcessorReprocessingTest {
     verify(eventProcessor, times(2)).updateState();
   }
 
+  @Test
+  public void shouldCompleteRecoveredFutureWhenReprocessed() throws Exception {
+    final ActorFuture<Void> whenProcessEventInvoked = new CompletableActorFuture<>();
+    final ActorFuture<Void> whenProcessEventCompleted = new CompletableActorFuture<>();
+
+    doAnswer(
+            (invocation) -> {
+              final EventLifecycleContext ctx = invocation.getArgument(0);
+
+              if (!whenProcessEventCompleted.isDone()) {
+                ctx.async(whenProcessEventCompleted);
+                whenProcessEventInvoked.complete(null);
+              }
+
+              return null;
+            })
+        .when(eventProcessor)
+        .processEvent(any());
+
+    // given [1|S:-] --> [2|S:1]
+    final long eventPosition1 = writeEvent();
+    writeEventWith(w -> w.producerId(PROCESSOR_ID).sourceRecordPosition(eventPosition1));
+
+    // when
+    final StreamProcessorService service = openStreamProcessorController();
+    whenProcessEventInvoked.get(5, TimeUnit.SECONDS);
+
+    // then
+    final ActorFuture<Void> recoveredFuture = service.getController().getRecoveredFuture();
+    assertThat(recoveredFuture.isDone()).isFalse();
+
+    // and when
+    whenProcessEventCompleted.complete(null);
+
+    // then
+    recoveredFuture.get(5, TimeUnit.SECONDS);
+    verify(streamProcessor, times(1)).onRecovered();
+  }
+
   @Test
   public void shouldNotReprocessEventFromOtherProcessor() {
     // given [1|S:-] --> [2|S:1]
@@ -219,6 +258,34 @@ public class StreamProcessorReprocessingTest {
     verify(eventProcessor, times(3)).updateState();
   }
 
+  @Test
+  public void shouldReprocessMoreEventsThanBatchSize() {
+    // given [1|S:-] --> [2|S:1] --> ... --> [250|S:249]
+    final int eventCount = 250;
+    long lastEventPosition = writeEvent();
+    for (int i = 1; i < eventCount; i++) {
+      final long sourceEventPosition = lastEventPosition;
+      lastEventPosition =
+          writeEventWith(w -> w.producerId(PROCESSOR_ID).sourceRecordPosition(sourceEventPosition));
+    }
+
+    // when
+    openStreamProcessorController();
+
+    waitUntil(() -> streamProcessor.getProcessedEventCount() == eventCount);
+
+    // then
+    assertThat(streamProcessor.getEvents())
+        .extracting(LoggedEvent::getPosition)
+        .last()
+        .isEqualTo(lastEventPosition);
+
+    verify(eventProcessor, times(eventCount)).processEvent(any());
+    verify(eventProcessor, times(1)).executeSideEffects();
+    verify(eventProcessor, times(1)).writeEvent(any());
+    verify(eventProcessor, times(eventCount)).updateState();
+  }
+
   @Test
   public void shouldReprocessAllEventsUntilSourceEvent() {
     // given [1|S:-] --> [2|S:-] --> [3|S:2]
@@ -311,6 +378,10 @@ public class StreamProcessorReprocessingTest {
 
     // then
     verify(streamProcessor, times(0)).onRecovered();
+
+    final ActorFuture<Void> recoveredFuture = future.join().getController().getRecoveredFuture();
+    waitUntil(() -> recoveredFuture.isDone());
+    assertThat(recoveredFuture.isCompletedExceptionally()).isTrue();
     assertThat(streamProcessor.getEvents())
         .extracting(LoggedEvent::getPosition)
         .containsExactly(eventPosition1);
@@ -340,6 +411,10 @@ public class StreamProcessorReprocessingTest {
     // then
     verify(streamProcessor, times(0)).onRecovered();
 
+    final ActorFuture<Void> recoveredFuture = future.join().getController().getRecoveredFuture();
+    waitUntil(() -> recoveredFuture.isDone());
+    assertThat(recoveredFuture.isCompletedExceptionally()).isTrue();
+
     assertThat(streamProcessor.getEvents())
         .extracting(LoggedEvent::getPosition)
         .containsExactly(eventPosition1);
@@ -191,6 +191,10 @@ public class StubBrokerRule extends ExternalResource {
     return channelHandler.getReceivedCommandRequests();
   }
 
+  public List<List<ExecuteCommandRequest>> getReceivedCommandBatchRequests() {
+    return channelHandler.getReceivedCommandBatchRequests();
+  }
+
   public List<Object> getAllReceivedRequests() {
     return channelHandler.getAllReceivedRequests();
   }
@@ -234,6 +238,16 @@ public class StubBrokerRule extends ExternalResource {
         .register();
   }
 
+  /** Pushes the current topology to the given client, like a broker does on topology changes. */
+  public void pushTopology(RemoteAddress remote) {
+    final Map<String, Object> topology = new HashMap<>();
+    topology.put("brokers", currentTopology.get().getBrokers());
+
+    new TopologyUpdateBuilder(transport)
+        .topology(msgPackHelper.encodeAsMsgPack(topology))
+        .push(remote);
+  }
+
   public ControlMessageResponseTypeBuilder onTopologyRequest() {
     return onControlMessageRequest(r -> r.messageType() == ControlMessageType.REQUEST_TOPOLOGY);
   }
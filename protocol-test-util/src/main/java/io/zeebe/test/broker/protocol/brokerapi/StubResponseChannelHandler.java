@@ -16,8 +16,15 @@
 package io.zeebe.test.broker.protocol.brokerapi;
 
 import io.zeebe.protocol.clientapi.ControlMessageRequestDecoder;
+import io.zeebe.protocol.clientapi.ExecuteCommandBatchRequestDecoder;
+import io.zeebe.protocol.clientapi.ExecuteCommandBatchRequestDecoder.CommandsDecoder;
+import io.zeebe.protocol.clientapi.ExecuteCommandBatchResponseEncoder;
+import io.zeebe.protocol.clientapi.ExecuteCommandBatchResponseEncoder.ResponsesEncoder;
 import io.zeebe.protocol.clientapi.ExecuteCommandRequestDecoder;
+import io.zeebe.protocol.clientapi.ExecuteCommandRequestEncoder;
 import io.zeebe.protocol.clientapi.MessageHeaderDecoder;
+import io.zeebe.protocol.clientapi.MessageHeaderEncoder;
+import io.zeebe.protocol.clientapi.ValueType;
 import io.zeebe.test.broker.protocol.MsgPackHelper;
 import io.zeebe.transport.RemoteAddress;
 import io.zeebe.transport.ServerOutput;
@@ -41,6 +48,8 @@ public class StubResponseChannelHandler implements ServerRequestHandler {
   protected final List<Object> allRequests = new CopyOnWriteArrayList<>();
   protected final List<ControlMessageRequest> controlMessageRequests = new CopyOnWriteArrayList<>();
   protected final List<ExecuteCommandRequest> commandRequests = new CopyOnWriteArrayList<>();
+  protected final List<List<ExecuteCommandRequest>> commandBatchRequests =
+      new CopyOnWriteArrayList<>();
 
   protected ServerResponse response = new ServerResponse();
 
@@ -65,6 +74,11 @@ public class StubResponseChannelHandler implements ServerRequestHandler {
     return commandRequests;
   }
 
+  /** @return the commands per received batch; they are also contained in the command requests */
+  public List<List<ExecuteCommandRequest>> getReceivedCommandBatchRequests() {
+    return commandBatchRequests;
+  }
+
   public List<Object> getAllReceivedRequests() {
     return allRequests;
   }
@@ -92,6 +106,9 @@ public class StubResponseChannelHandler implements ServerRequestHandler {
 
       requestHandled = handleRequest(output, request, cmdRequestStubs, remoteAddress, requestId);
 
+    } else if (ExecuteCommandBatchRequestDecoder.TEMPLATE_ID == headerDecoder.templateId()) {
+      requestHandled = handleBatchRequest(output, copy, remoteAddress, requestId);
+
     } else if (ControlMessageRequestDecoder.TEMPLATE_ID == headerDecoder.templateId()) {
       final ControlMessageRequest request = new ControlMessageRequest(remoteAddress, msgPackHelper);
 
@@ -113,6 +130,131 @@ public class StubResponseChannelHandler implements ServerRequestHandler {
     }
   }
 
+  /**
+   * Splits the batch into single command requests, applies the command stubs and responds with the
+   * collected responses.
+   */
+  protected boolean handleBatchRequest(
+      ServerOutput output, DirectBuffer buffer, RemoteAddress remoteAddress, long requestId) {
+    final ExecuteCommandBatchRequestDecoder batchDecoder = new ExecuteCommandBatchRequestDecoder();
+    batchDecoder.wrap(
+        buffer,
+        headerDecoder.encodedLength(),
+        headerDecoder.blockLength(),
+        headerDecoder.version());
+
+    final int partitionId = batchDecoder.partitionId();
+    final List<ExecuteCommandRequest> requests = new ArrayList<>();
+    final List<DirectBuffer> responses = new ArrayList<>();
+
+    commandBatchRequests.add(requests);
+
+    for (CommandsDecoder command : batchDecoder.commands()) {
+      final UnsafeBuffer commandValue = new UnsafeBuffer(new byte[command.valueLength()]);
+      command.getValue(commandValue, 0, commandValue.capacity());
+
+      final DirectBuffer requestBuffer =
+          writeCommandRequest(
+              partitionId, command.key(), command.valueType(), command.intent(), commandValue);
+
+      final ExecuteCommandRequest request = new ExecuteCommandRequest(remoteAddress, msgPackHelper);
+      request.wrap(requestBuffer, 0, requestBuffer.capacity());
+      requests.add(request);
+      commandRequests.add(request);
+      allRequests.add(request);
+
+      final ResponseStub<ExecuteCommandRequest> stub = findStub(request, cmdRequestStubs);
+      if (stub == null) {
+        return false;
+      } else if (!stub.shouldRespond()) {
+        // the batch is answered when all commands are answered
+        return true;
+      }
+
+      final MessageBuilder<ExecuteCommandRequest> responseWriter = stub.getResponseWriter();
+      responseWriter.initializeFrom(request);
+      responseWriter.beforeResponse();
+
+      final UnsafeBuffer responseBuffer = new UnsafeBuffer(new byte[responseWriter.getLength()]);
+      responseWriter.write(responseBuffer, 0);
+      responses.add(responseBuffer);
+    }
+
+    final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+    final ExecuteCommandBatchResponseEncoder responseEncoder =
+        new ExecuteCommandBatchResponseEncoder();
+
+    int batchResponseLength =
+        headerEncoder.encodedLength()
+            + responseEncoder.sbeBlockLength()
+            + ResponsesEncoder.sbeHeaderSize();
+    for (DirectBuffer commandResponse : responses) {
+      batchResponseLength += ResponsesEncoder.responseHeaderLength() + commandResponse.capacity();
+    }
+
+    final UnsafeBuffer batchResponse = new UnsafeBuffer(new byte[batchResponseLength]);
+    headerEncoder
+        .wrap(batchResponse, 0)
+        .blockLength(responseEncoder.sbeBlockLength())
+        .schemaId(responseEncoder.sbeSchemaId())
+        .templateId(responseEncoder.sbeTemplateId())
+        .version(responseEncoder.sbeSchemaVersion());
+
+    final ResponsesEncoder responsesEncoder =
+        responseEncoder
+            .wrap(batchResponse, headerEncoder.encodedLength())
+            .responsesCount(responses.size());
+    for (DirectBuffer commandResponse : responses) {
+      responsesEncoder.next().putResponse(commandResponse, 0, commandResponse.capacity());
+    }
+
+    response.reset().remoteAddress(remoteAddress).requestId(requestId).buffer(batchResponse);
+
+    return output.sendResponse(response);
+  }
+
+  private DirectBuffer writeCommandRequest(
+      int partitionId, long key, ValueType valueType, short intent, DirectBuffer value) {
+    final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+    final ExecuteCommandRequestEncoder requestEncoder = new ExecuteCommandRequestEncoder();
+
+    final UnsafeBuffer buffer =
+        new UnsafeBuffer(
+            new byte
+                [headerEncoder.encodedLength()
+                    + requestEncoder.sbeBlockLength()
+                    + ExecuteCommandRequestEncoder.valueHeaderLength()
+                    + value.capacity()]);
+
+    headerEncoder
+        .wrap(buffer, 0)
+        .blockLength(requestEncoder.sbeBlockLength())
+        .schemaId(requestEncoder.sbeSchemaId())
+        .templateId(requestEncoder.sbeTemplateId())
+        .version(requestEncoder.sbeSchemaVersion());
+
+    requestEncoder
+        .wrap(buffer, headerEncoder.encodedLength())
+        .partitionId(partitionId)
+        .position(ExecuteCommandRequestEncoder.positionNullValue())
+        .sourceRecordPosition(ExecuteCommandRequestEncoder.sourceRecordPositionNullValue())
+        .key(key)
+        .valueType(valueType)
+        .intent(intent)
+        .putValue(value, 0, value.capacity());
+
+    return buffer;
+  }
+
+  private <T> ResponseStub<T> findStub(T request, List<? extends ResponseStub<T>> responseStubs) {
+    for (ResponseStub<T> stub : responseStubs) {
+      if (stub.applies(request)) {
+        return stub;
+      }
+    }
+    return null;
+  }
+
   protected <T> boolean handleRequest(
       ServerOutput output,
       T request,
@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.test.broker.protocol.brokerapi;
+
+import io.zeebe.protocol.clientapi.MessageHeaderEncoder;
+import io.zeebe.protocol.clientapi.TopologyUpdateEncoder;
+import io.zeebe.transport.RemoteAddress;
+import io.zeebe.transport.ServerTransport;
+import io.zeebe.transport.TransportMessage;
+import io.zeebe.util.buffer.BufferWriter;
+import org.agrona.MutableDirectBuffer;
+
+public class TopologyUpdateBuilder implements BufferWriter {
+  protected final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  protected final TopologyUpdateEncoder bodyEncoder = new TopologyUpdateEncoder();
+  protected final TransportMessage message = new TransportMessage();
+
+  protected final ServerTransport transport;
+
+  protected byte[] topology;
+
+  public TopologyUpdateBuilder(ServerTransport transport) {
+    this.transport = transport;
+  }
+
+  public TopologyUpdateBuilder topology(byte[] topology) {
+    this.topology = topology;
+    return this;
+  }
+
+  public void push(RemoteAddress target) {
+    message.reset().remoteAddress(target).writer(this);
+
+    final boolean success = transport.getOutput().sendMessage(message);
+
+    if (!success) {
+      throw new RuntimeException("Could not schedule message on send buffer");
+    }
+  }
+
+  @Override
+  public int getLength() {
+    return MessageHeaderEncoder.ENCODED_LENGTH
+        + TopologyUpdateEncoder.BLOCK_LENGTH
+        + TopologyUpdateEncoder.topologyHeaderLength()
+        + topology.length;
+  }
+
+  @Override
+  public void write(MutableDirectBuffer buffer, int offset) {
+    headerEncoder
+        .wrap(buffer, offset)
+        .blockLength(bodyEncoder.sbeBlockLength())
+        .schemaId(bodyEncoder.sbeSchemaId())
+        .templateId(bodyEncoder.sbeTemplateId())
+        .version(bodyEncoder.sbeSchemaVersion());
+
+    bodyEncoder
+        .wrap(buffer, offset + headerEncoder.encodedLength())
+        .putTopology(topology, 0, topology.length);
+  }
+}
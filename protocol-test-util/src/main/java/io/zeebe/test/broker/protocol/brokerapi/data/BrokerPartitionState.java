@@ -22,11 +22,18 @@ public class BrokerPartitionState {
   private final String state;
   private final String topicName;
   private final int partitionId;
+  private final int term;
 
   public BrokerPartitionState(final String state, final String topicName, final int partitionId) {
+    this(state, topicName, partitionId, 0);
+  }
+
+  public BrokerPartitionState(
+      final String state, final String topicName, final int partitionId, final int term) {
     this.state = state;
     this.topicName = topicName;
     this.partitionId = partitionId;
+    this.term = term;
   }
 
   public String getState() {
@@ -41,6 +48,10 @@ public class BrokerPartitionState {
     return partitionId;
   }
 
+  public int getTerm() {
+    return term;
+  }
+
   @Override
   public String toString() {
     return "BrokerPartitionState{"
@@ -52,6 +63,8 @@ public class BrokerPartitionState {
         + '\''
         + ", partitionId="
         + partitionId
+        + ", term="
+        + term
         + '}';
   }
 }
@@ -48,6 +48,13 @@ public class Topology {
     return this;
   }
 
+  public Topology addLeader(String host, int port, String topic, int partition, int term) {
+    getBroker(host, port)
+        .addPartition(new BrokerPartitionState(LEADER_STATE, topic, partition, term));
+
+    return this;
+  }
+
   public Topology addFollower(String host, int port, String topic, int partition) {
     getBroker(host, port).addPartition(new BrokerPartitionState(FOLLOWER_STATE, topic, partition));
 
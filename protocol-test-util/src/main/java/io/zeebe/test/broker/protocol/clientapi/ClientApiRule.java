@@ -20,6 +20,7 @@ import static io.zeebe.test.util.TestUtil.waitUntil;
 
 import io.zeebe.protocol.Protocol;
 import io.zeebe.protocol.clientapi.*;
+import io.zeebe.protocol.clientapi.SubscribedRecordBatchDecoder.RecordsDecoder;
 import io.zeebe.protocol.intent.SubscriberIntent;
 import io.zeebe.protocol.intent.TopicIntent;
 import io.zeebe.test.broker.protocol.MsgPackHelper;
@@ -126,7 +127,11 @@ public class ClientApiRule extends ExternalResource {
   }
 
   public int numSubscribedEventsAvailable() {
-    return (int) incomingMessageCollector.getNumMessagesFulfilling(this::isSubscribedEvent);
+    return (int)
+        incomingMessageCollector
+            .getMessagesFulfilling(this::isSubscribedEvent)
+            .flatMap(this::unpackSubscribedEvents)
+            .count();
   }
 
   public TestTopicClient topic() {
@@ -206,7 +211,10 @@ public class ClientApiRule extends ExternalResource {
    *     operations to reduce it to a finite stream
    */
   public Stream<SubscribedRecord> subscribedEvents() {
-    return incomingMessages().filter(this::isSubscribedEvent).map(this::asSubscribedEvent);
+    return incomingMessages()
+        .filter(this::isSubscribedEvent)
+        .flatMap(this::unpackSubscribedEvents)
+        .map(this::asSubscribedEvent);
   }
 
   public Stream<RawMessage> commandResponses() {
@@ -234,7 +242,39 @@ public class ClientApiRule extends ExternalResource {
 
   protected boolean isSubscribedEvent(RawMessage message) {
     return message.isMessage()
-        && isMessageOfType(message.getMessage(), SubscribedRecordDecoder.TEMPLATE_ID);
+        && (isMessageOfType(message.getMessage(), SubscribedRecordDecoder.TEMPLATE_ID)
+            || isMessageOfType(message.getMessage(), SubscribedRecordBatchDecoder.TEMPLATE_ID));
+  }
+
+  protected Stream<RawMessage> unpackSubscribedEvents(RawMessage message) {
+    final DirectBuffer buffer = message.getMessage();
+
+    if (isMessageOfType(buffer, SubscribedRecordBatchDecoder.TEMPLATE_ID)) {
+      final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+      headerDecoder.wrap(buffer, 0);
+
+      final SubscribedRecordBatchDecoder batchDecoder = new SubscribedRecordBatchDecoder();
+      batchDecoder.wrap(
+          buffer,
+          headerDecoder.encodedLength(),
+          headerDecoder.blockLength(),
+          headerDecoder.version());
+
+      final List<RawMessage> records = new ArrayList<>();
+      for (RecordsDecoder recordsDecoder : batchDecoder.records()) {
+        final int recordOffset = batchDecoder.limit() + RecordsDecoder.recordHeaderLength();
+        final int recordLength = recordsDecoder.recordLength();
+
+        records.add(
+            new RawMessage(
+                false, message.getSequenceNumber(), buffer, recordOffset, recordLength));
+
+        batchDecoder.limit(recordOffset + recordLength);
+      }
+      return records.stream();
+    } else {
+      return Stream.of(message);
+    }
   }
 
   protected boolean isMessageOfType(DirectBuffer message, int type) {
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 import org.agrona.DirectBuffer;
 
 public class RawMessageCollector implements ClientInputListener, Supplier<RawMessage> {
@@ -73,7 +74,11 @@ public class RawMessageCollector implements ClientInputListener, Supplier<RawMes
   }
 
   public long getNumMessagesFulfilling(Predicate<RawMessage> predicate) {
-    return messages.stream().skip(eventToReturn).filter(predicate).count();
+    return getMessagesFulfilling(predicate).count();
+  }
+
+  public Stream<RawMessage> getMessagesFulfilling(Predicate<RawMessage> predicate) {
+    return messages.stream().skip(eventToReturn).filter(predicate);
   }
 
   @Override
@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.benchmarks;
+
+import static io.zeebe.test.util.TestUtil.doRepeatedly;
+
+import io.zeebe.broker.Broker;
+import io.zeebe.broker.system.configuration.BrokerCfg;
+import io.zeebe.client.ZeebeClient;
+import io.zeebe.client.api.commands.BrokerInfo;
+import io.zeebe.client.api.commands.PartitionInfo;
+import io.zeebe.model.bpmn.Bpmn;
+import io.zeebe.model.bpmn.instance.WorkflowDefinition;
+import io.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Starts an in-process broker and a client connected to it, creates the benchmark topic and
+ * deploys a workflow with a single service task. The number of benchmark (producer) threads is
+ * controlled by JMH itself, e.g. with {@code -t 4}.
+ */
+@State(Scope.Benchmark)
+public class EmbeddedBrokerSupplier {
+  public static final String TOPIC = "benchmark";
+  public static final String PROCESS_ID = "process";
+  public static final String JOB_TYPE = "task";
+
+  private static final WorkflowDefinition WORKFLOW =
+      Bpmn.createExecutableWorkflow(PROCESS_ID)
+          .startEvent()
+          .serviceTask("task", t -> t.taskType(JOB_TYPE))
+          .endEvent()
+          .done();
+
+  @Param({"1", "4"})
+  public int partitions;
+
+  @Param({"128", "4096"})
+  public int payloadSize;
+
+  @Param({"2"})
+  public int brokerCpuThreads;
+
+  @Param({"2"})
+  public int brokerIoThreads;
+
+  @Param({"1"})
+  public int clientThreads;
+
+  Broker broker;
+  ZeebeClient client;
+  String payload;
+
+  private Path brokerBase;
+
+  @Setup(Level.Trial)
+  public void startBroker() throws IOException {
+    brokerBase = Files.createTempDirectory("broker-benchmark");
+
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.setBootstrap(1);
+    brokerCfg.getThreads().setCpuThreadCount(brokerCpuThreads);
+    brokerCfg.getThreads().setIoThreadCount(brokerIoThreads);
+
+    broker = new Broker(brokerCfg, brokerBase.toString(), null);
+
+    client =
+        ZeebeClient.newClientBuilder()
+            .numManagementThreads(clientThreads)
+            .numSubscriptionExecutionThreads(clientThreads)
+            .defaultTopic(TOPIC)
+            .build();
+
+    client
+        .newCreateTopicCommand()
+        .name(TOPIC)
+        .partitions(partitions)
+        .replicationFactor(1)
+        .send()
+        .join();
+
+    doRepeatedly(this::countLeadingPartitions).until(count -> count == partitions);
+
+    client
+        .topicClient()
+        .workflowClient()
+        .newDeployCommand()
+        .addWorkflowModel(WORKFLOW, "workflow.bpmn")
+        .send()
+        .join();
+
+    payload = createPayload(payloadSize);
+  }
+
+  @TearDown(Level.Trial)
+  public void stopBroker() throws IOException {
+    client.close();
+    broker.close();
+
+    FileUtil.deleteFolder(brokerBase.toString());
+  }
+
+  private long countLeadingPartitions() {
+    return client
+        .newTopologyRequest()
+        .send()
+        .join()
+        .getBrokers()
+        .stream()
+        .map(BrokerInfo::getPartitions)
+        .flatMap(p -> p.stream())
+        .filter(p -> TOPIC.equals(p.getTopicName()))
+        .filter(PartitionInfo::isLeader)
+        .count();
+  }
+
+  private static String createPayload(int size) {
+    final String prefix = "{\"data\":\"";
+    final String suffix = "\"}";
+
+    final char[] data = new char[Math.max(size - prefix.length() - suffix.length(), 0)];
+    Arrays.fill(data, 'x');
+
+    return prefix + new String(data) + suffix;
+  }
+}
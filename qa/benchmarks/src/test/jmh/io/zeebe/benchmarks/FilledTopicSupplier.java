@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.benchmarks;
+
+import static io.zeebe.benchmarks.Benchmarks.DATA_SET_SIZE;
+import static io.zeebe.benchmarks.EmbeddedBrokerSupplier.JOB_TYPE;
+
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.clients.JobClient;
+import io.zeebe.client.api.events.JobEvent;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.*;
+
+/** Writes {@link Benchmarks#DATA_SET_SIZE} jobs to the benchmark topic. */
+@State(Scope.Benchmark)
+public class FilledTopicSupplier {
+  private static final int MAX_IN_FLIGHT = 128;
+
+  EmbeddedBrokerSupplier brokerSupplier;
+
+  @Setup(Level.Trial)
+  public void fillTopic(EmbeddedBrokerSupplier brokerSupplier) {
+    this.brokerSupplier = brokerSupplier;
+
+    final JobClient jobClient = brokerSupplier.client.topicClient().jobClient();
+    final List<ZeebeFuture<JobEvent>> inFlight = new ArrayList<>(MAX_IN_FLIGHT);
+
+    for (int i = 0; i < DATA_SET_SIZE; i++) {
+      inFlight.add(
+          jobClient.newCreateCommand().jobType(JOB_TYPE).payload(brokerSupplier.payload).send());
+
+      if (inFlight.size() == MAX_IN_FLIGHT || i == DATA_SET_SIZE - 1) {
+        inFlight.forEach(ZeebeFuture::join);
+        inFlight.clear();
+      }
+    }
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.benchmarks;
+
+import static io.zeebe.benchmarks.EmbeddedBrokerSupplier.JOB_TYPE;
+
+import io.zeebe.client.api.events.JobEvent;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JobBenchmark {
+  /** Creates a job and waits until it is activated, pushed to the worker and completed. */
+  @Benchmark
+  public JobEvent createActivateAndCompleteJob(JobWorkerSupplier workerSupplier) {
+    final EmbeddedBrokerSupplier brokerSupplier = workerSupplier.brokerSupplier;
+
+    final JobEvent job =
+        brokerSupplier
+            .client
+            .topicClient()
+            .jobClient()
+            .newCreateCommand()
+            .jobType(JOB_TYPE)
+            .payload(brokerSupplier.payload)
+            .send()
+            .join();
+
+    return workerSupplier.awaitCompletion(job.getKey());
+  }
+}
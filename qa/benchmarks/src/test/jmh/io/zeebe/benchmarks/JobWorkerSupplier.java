@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.benchmarks;
+
+import static io.zeebe.benchmarks.EmbeddedBrokerSupplier.JOB_TYPE;
+
+import io.zeebe.client.api.events.JobEvent;
+import io.zeebe.client.api.subscription.JobWorker;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Opens a job worker which completes every activated job and signals the completion to the
+ * benchmark thread which created the job.
+ */
+@State(Scope.Benchmark)
+public class JobWorkerSupplier {
+  private final ConcurrentMap<Long, CompletableFuture<JobEvent>> completions =
+      new ConcurrentHashMap<>();
+
+  EmbeddedBrokerSupplier brokerSupplier;
+
+  private JobWorker worker;
+
+  @Setup(Level.Trial)
+  public void openWorker(EmbeddedBrokerSupplier brokerSupplier) {
+    this.brokerSupplier = brokerSupplier;
+
+    worker =
+        brokerSupplier
+            .client
+            .topicClient()
+            .jobClient()
+            .newWorker()
+            .jobType(JOB_TYPE)
+            .handler(
+                (client, job) -> {
+                  final JobEvent completedJob =
+                      client.newCompleteCommand(job).withoutPayload().send().join();
+
+                  completionOf(job.getKey()).complete(completedJob);
+                })
+            .name("benchmark")
+            .open();
+  }
+
+  @TearDown(Level.Trial)
+  public void closeWorker() {
+    worker.close();
+    completions.clear();
+  }
+
+  public JobEvent awaitCompletion(long jobKey) {
+    try {
+      return completionOf(jobKey).join();
+    } finally {
+      completions.remove(jobKey);
+    }
+  }
+
+  private CompletableFuture<JobEvent> completionOf(long jobKey) {
+    // the worker can complete the job before the creating thread starts waiting for it
+    return completions.computeIfAbsent(jobKey, key -> new CompletableFuture<>());
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.benchmarks;
+
+import static io.zeebe.benchmarks.Benchmarks.DATA_SET_SIZE;
+
+import io.zeebe.client.api.events.JobState;
+import io.zeebe.client.api.subscription.TopicSubscription;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.Throughput)
+public class TopicSubscriptionBenchmark {
+  private static final AtomicInteger SUBSCRIPTION_COUNT = new AtomicInteger();
+
+  /** Opens a new subscription and consumes the topic from the head until all jobs are seen. */
+  @Benchmark
+  @Threads(1)
+  @OperationsPerInvocation(DATA_SET_SIZE)
+  public long consumeTopicFromHead(FilledTopicSupplier filledTopic) throws InterruptedException {
+    final CountDownLatch createdJobs = new CountDownLatch(DATA_SET_SIZE);
+
+    final TopicSubscription subscription =
+        filledTopic
+            .brokerSupplier
+            .client
+            .topicClient()
+            .newSubscription()
+            .name("benchmark-" + SUBSCRIPTION_COUNT.incrementAndGet())
+            .jobEventHandler(
+                job -> {
+                  if (job.getState() == JobState.CREATED) {
+                    createdJobs.countDown();
+                  }
+                })
+            .startAtHeadOfTopic()
+            .open();
+
+    try {
+      createdJobs.await();
+    } finally {
+      subscription.close();
+    }
+
+    return createdJobs.getCount();
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.benchmarks;
+
+import static io.zeebe.benchmarks.EmbeddedBrokerSupplier.PROCESS_ID;
+
+import io.zeebe.client.api.events.WorkflowInstanceEvent;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WorkflowInstanceBenchmark {
+  @Benchmark
+  public WorkflowInstanceEvent createWorkflowInstance(EmbeddedBrokerSupplier brokerSupplier) {
+    return brokerSupplier
+        .client
+        .topicClient()
+        .workflowClient()
+        .newCreateInstanceCommand()
+        .bpmnProcessId(PROCESS_ID)
+        .latestVersion()
+        .payload(brokerSupplier.payload)
+        .send()
+        .join();
+  }
+}
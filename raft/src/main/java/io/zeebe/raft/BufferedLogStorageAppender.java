@@ -283,13 +283,32 @@ public class BufferedLogStorageAppender {
         lastWrittenTerm = lastBufferedTerm;
 
         discardBufferedEvents();
-        return true;
+        return flushLogStorage();
       } else {
         byteBuffer.clear();
         return false;
       }
     }
 
+    // retry if a previous flush failed
+    return flushLogStorage();
+  }
+
+  /**
+   * The leader only counts acknowledged events towards the commit position, so they must be
+   * flushed according to the flush policy before the ack is sent. All events which were buffered
+   * since the last ack are flushed at once.
+   */
+  private boolean flushLogStorage() {
+    if (!logStream.getFlushPolicy().isOsManaged()) {
+      try {
+        logStream.getLogStorage().flush();
+      } catch (Exception e) {
+        LOG.error("Failed to flush log storage", e);
+        return false;
+      }
+    }
+
     return true;
   }
 
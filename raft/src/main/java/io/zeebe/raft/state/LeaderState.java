@@ -180,7 +180,8 @@ public class LeaderState extends AbstractRaftState {
     // position is the next position which is written. This means in a single node cluster the log
     // already committed an event which will be written in the future. `- 1` is a hotfix for this.
     // see https://github.com/zeebe-io/zeebe/issues/501
-    positions[memberSize] = logStream.getLogStorageAppender().getCurrentAppenderPosition() - 1;
+    // only flushed events count towards the commit position, see LogFlushPolicy
+    positions[memberSize] = logStream.getLogStorageAppender().getFlushedPosition() - 1;
 
     Arrays.sort(positions);
 
@@ -196,7 +197,7 @@ public class LeaderState extends AbstractRaftState {
   }
 
   private void commitPositionOnSingleNode() {
-    final long commitPosition = logStream.getLogStorageAppender().getCurrentAppenderPosition() - 1;
+    final long commitPosition = logStream.getLogStorageAppender().getFlushedPosition() - 1;
 
     if (initialEventPosition >= 0
         && commitPosition >= initialEventPosition
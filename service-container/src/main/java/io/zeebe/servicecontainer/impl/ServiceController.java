@@ -19,6 +19,7 @@ import io.zeebe.servicecontainer.*;
 import io.zeebe.servicecontainer.impl.ServiceEvent.ServiceEventType;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.channel.ConcurrentQueueChannel;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
@@ -33,6 +34,9 @@ public class ServiceController extends Actor {
   public static final Logger LOG = Loggers.SERVICE_CONTAINER_LOGGER;
   public static final boolean IS_TRACE_ENABLED = LOG.isTraceEnabled();
 
+  /** services which take longer to start are reported on info level */
+  public static final long SLOW_START_THRESHOLD_MS = 1_000;
+
   private final AwaitDependenciesStartedState awaitDependenciesStartedState =
       new AwaitDependenciesStartedState();
   private final AwaitStartState awaitStartState = new AwaitStartState();
@@ -64,6 +68,9 @@ public class ServiceController extends Actor {
 
   private Consumer<ServiceEvent> state = awaitDependenciesStartedState;
 
+  private long installTime = -1;
+  private long startTime = -1;
+
   public ServiceController(
       ServiceBuilder<?> builder,
       ServiceContainerImpl serviceContainer,
@@ -85,6 +92,8 @@ public class ServiceController extends Actor {
 
   @Override
   protected void onActorStarted() {
+    installTime = ActorClock.currentTimeMillis();
+
     actor.consume(channel, this::onServiceEvent);
 
     container.getChannel().add(new ServiceEvent(ServiceEventType.SERVICE_INSTALLED, this));
@@ -161,6 +170,7 @@ public class ServiceController extends Actor {
 
       // invoke start
       state = awaitStartState;
+      startTime = ActorClock.currentTimeMillis();
 
       startContext = new StartContextImpl();
       try {
@@ -219,10 +229,24 @@ public class ServiceController extends Actor {
         invokeStop(false);
       } else {
         state = startedState;
+        logStartupTime();
         startFuture.complete(getService().get());
       }
     }
 
+    private void logStartupTime() {
+      final long startDuration = ActorClock.currentTimeMillis() - startTime;
+
+      if (startDuration >= SLOW_START_THRESHOLD_MS) {
+        final long awaitDependenciesDuration = startTime - installTime;
+        LOG.info(
+            "Service {} started in {} ms (awaited dependencies for {} ms)",
+            name,
+            startDuration,
+            awaitDependenciesDuration);
+      }
+    }
+
     public void onStartFailed(Throwable t) {
       startFuture.completeExceptionally(t);
       state = awaitStopState;
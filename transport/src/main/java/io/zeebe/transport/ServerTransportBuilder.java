@@ -26,6 +26,7 @@ import io.zeebe.util.ByteValue;
 import io.zeebe.util.sched.ActorScheduler;
 import java.net.InetSocketAddress;
 import java.util.Objects;
+import java.util.function.UnaryOperator;
 
 public class ServerTransportBuilder {
   public static final int DEFAULT_MAX_MESSAGE_LENGTH = 1024 * 512;
@@ -38,6 +39,7 @@ public class ServerTransportBuilder {
   protected FragmentHandler receiveHandler;
   protected RemoteAddressListImpl remoteAddressList;
   protected ServerControlMessageListener controlMessageListener;
+  private UnaryOperator<ServerOutput> outputDecorator = UnaryOperator.identity();
 
   private TransportMemoryPool messageMemoryPool =
       new NonBlockingMemoryPool(ByteValue.ofMegabytes(4));
@@ -78,6 +80,15 @@ public class ServerTransportBuilder {
     return this;
   }
 
+  /**
+   * Decorates the output of the transport, e.g. to intercept responses. The decorated output is
+   * passed to the handlers and returned by {@link ServerTransport#getOutput()}.
+   */
+  public ServerTransportBuilder outputDecorator(UnaryOperator<ServerOutput> outputDecorator) {
+    this.outputDecorator = outputDecorator;
+    return this;
+  }
+
   public ServerTransport build(
       ServerMessageHandler messageHandler, ServerRequestHandler requestHandler) {
     remoteAddressList = new RemoteAddressListImpl();
@@ -86,7 +97,7 @@ public class ServerTransportBuilder {
 
     final Sender sender = new Sender(actorContext, messageMemoryPool, null, null);
 
-    output = new ServerOutputImpl(sender);
+    output = outputDecorator.apply(new ServerOutputImpl(sender));
 
     receiveHandler(
         new ServerReceiveHandler(
@@ -113,7 +124,7 @@ public class ServerTransportBuilder {
 
     final Sender sender = new Sender(actorContext, messageMemoryPool, null, null);
 
-    output = new ServerOutputImpl(sender);
+    output = outputDecorator.apply(new ServerOutputImpl(sender));
 
     final TransportContext context = buildTransportContext();
 
@@ -29,6 +29,7 @@ import org.agrona.concurrent.UnsafeBuffer;
 public class ClientOutputImpl implements ClientOutput {
   protected final Sender requestManager;
   protected final Duration defaultRequestRetryTimeout;
+  protected final OutgoingMessagePool messagePool = new OutgoingMessagePool();
 
   public ClientOutputImpl(Sender requestManager, Duration defaultRequestRetryTimeout) {
     this.requestManager = requestManager;
@@ -46,12 +47,12 @@ public class ClientOutputImpl implements ClientOutput {
     if (allocatedBuffer != null) {
       try {
         final int remoteStreamId = transportMessage.getRemoteStreamId();
-        final UnsafeBuffer bufferView = new UnsafeBuffer(allocatedBuffer);
-        final TransportHeaderWriter headerWriter = new TransportHeaderWriter();
+        final OutgoingMessage outgoingMessage =
+            messagePool.claim(remoteStreamId, allocatedBuffer, framedMessageLength);
 
-        headerWriter.wrapMessage(bufferView, writer, remoteStreamId);
-
-        final OutgoingMessage outgoingMessage = new OutgoingMessage(remoteStreamId, bufferView);
+        outgoingMessage
+            .getHeaderWriter()
+            .wrapMessage(outgoingMessage.getBuffer(), writer, remoteStreamId);
 
         requestManager.submitMessage(outgoingMessage);
 
@@ -89,7 +90,7 @@ public class ClientOutputImpl implements ClientOutput {
 
     if (allocatedBuffer != null) {
       try {
-        final UnsafeBuffer bufferView = new UnsafeBuffer(allocatedBuffer);
+        final UnsafeBuffer bufferView = new UnsafeBuffer(allocatedBuffer, 0, framedLength);
         final OutgoingRequest request =
             new OutgoingRequest(remoteAddressSupplier, responseInspector, bufferView, timeout);
 
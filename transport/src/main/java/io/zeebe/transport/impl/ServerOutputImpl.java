@@ -19,10 +19,10 @@ import io.zeebe.transport.*;
 import io.zeebe.transport.impl.sender.*;
 import io.zeebe.util.buffer.BufferWriter;
 import java.nio.ByteBuffer;
-import org.agrona.concurrent.UnsafeBuffer;
 
 public class ServerOutputImpl implements ServerOutput {
   private Sender sender;
+  private final OutgoingMessagePool messagePool = new OutgoingMessagePool();
 
   public ServerOutputImpl(Sender sender) {
     this.sender = sender;
@@ -39,12 +39,12 @@ public class ServerOutputImpl implements ServerOutput {
     if (allocatedBuffer != null) {
       try {
         final int remoteStreamId = transportMessage.getRemoteStreamId();
-        final UnsafeBuffer bufferView = new UnsafeBuffer(allocatedBuffer);
-        final TransportHeaderWriter headerWriter = new TransportHeaderWriter();
+        final OutgoingMessage outgoingMessage =
+            messagePool.claim(remoteStreamId, allocatedBuffer, framedMessageLength);
 
-        headerWriter.wrapMessage(bufferView, writer, remoteStreamId);
-
-        final OutgoingMessage outgoingMessage = new OutgoingMessage(remoteStreamId, bufferView);
+        outgoingMessage
+            .getHeaderWriter()
+            .wrapMessage(outgoingMessage.getBuffer(), writer, remoteStreamId);
 
         sender.submitMessage(outgoingMessage);
 
@@ -70,15 +70,14 @@ public class ServerOutputImpl implements ServerOutput {
         final int remoteStreamId = response.getRemoteStreamId();
         final long requestId = response.getRequestId();
 
-        final UnsafeBuffer bufferView = new UnsafeBuffer(allocatedBuffer);
-        final TransportHeaderWriter headerWriter = new TransportHeaderWriter();
+        final OutgoingMessage outgoingMessage =
+            messagePool.claim(remoteStreamId, allocatedBuffer, framedLength);
+        final TransportHeaderWriter headerWriter = outgoingMessage.getHeaderWriter();
 
-        headerWriter.wrapRequest(bufferView, writer);
+        headerWriter.wrapRequest(outgoingMessage.getBuffer(), writer);
 
         headerWriter.setStreamId(remoteStreamId).setRequestId(requestId);
 
-        final OutgoingMessage outgoingMessage = new OutgoingMessage(remoteStreamId, bufferView);
-
         sender.submitMessage(outgoingMessage);
 
         return true;
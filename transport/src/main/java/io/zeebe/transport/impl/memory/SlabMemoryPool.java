@@ -0,0 +1,350 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.transport.impl.memory;
+
+import io.zeebe.transport.Loggers;
+import io.zeebe.util.ByteValue;
+import io.zeebe.util.metrics.Metric;
+import io.zeebe.util.metrics.MetricsManager;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import org.agrona.BitUtil;
+import org.agrona.BufferUtil;
+import org.agrona.concurrent.ManyToManyConcurrentArrayQueue;
+import org.slf4j.Logger;
+
+/**
+ * Manages a fixed capacity of pre-allocated off-heap memory.
+ *
+ * <p>The memory is divided into slabs of equal size. A slab is assigned to a power-of-two size
+ * class when it is first needed and is then carved into chunks of that size. Reclaimed chunks are
+ * put back on the free list of their size class and are handed out again on the next allocation,
+ * so that under steady load no buffers are allocated and nothing is left to GC.
+ *
+ * <p>When a size class runs out of chunks and all slabs are assigned, slabs of other size classes
+ * whose chunks are all free are released and can be assigned to the requested size class.
+ *
+ * <p>The buffer returned by {@link #allocate(int)} is a chunk whose limit is set to the requested
+ * capacity. Callers must wrap it using the requested length instead of its capacity.
+ *
+ * <p>Like the {@link NonBlockingMemoryPool}, allocation never blocks and returns <code>null</code>
+ * if no chunk of the required size class is available.
+ */
+public class SlabMemoryPool implements TransportMemoryPool {
+  private static final Logger LOG = Loggers.TRANSPORT_MEMORY_LOGGER;
+
+  public static final int DEFAULT_SLAB_SIZE = (int) ByteValue.ofKilobytes(512).toBytes();
+  public static final int DEFAULT_MIN_CHUNK_SIZE = 128;
+
+  private final ByteBuffer memory;
+  private final long memoryAddress;
+  private final int slabSize;
+  private final int slabCount;
+  private final int minChunkSizeShift;
+
+  private final Integer[] slabIds;
+  private final ManyToManyConcurrentArrayQueue<Integer> unassignedSlabs;
+  private final ManyToManyConcurrentArrayQueue<ByteBuffer>[] freeChunks;
+
+  private final ReentrantLock releaseLock = new ReentrantLock();
+  private final List<ByteBuffer> releaseCandidates = new ArrayList<>();
+  private final int[] freeChunksPerSlab;
+
+  private final SlabMemoryPoolMetrics metrics;
+
+  public SlabMemoryPool(ByteValue capacity, MetricsManager metricsManager, String poolName) {
+    this(
+        (int) capacity.toBytes(),
+        Math.min(DEFAULT_SLAB_SIZE, (int) capacity.toBytes()),
+        DEFAULT_MIN_CHUNK_SIZE,
+        metricsManager,
+        poolName);
+  }
+
+  @SuppressWarnings("unchecked")
+  public SlabMemoryPool(
+      int capacity,
+      int slabSize,
+      int minChunkSize,
+      MetricsManager metricsManager,
+      String poolName) {
+    if (!BitUtil.isPowerOfTwo(slabSize) || !BitUtil.isPowerOfTwo(minChunkSize)) {
+      throw new IllegalArgumentException("Slab size and min chunk size must be powers of two");
+    }
+
+    if (minChunkSize > slabSize || slabSize > capacity) {
+      throw new IllegalArgumentException(
+          "Expected min chunk size <= slab size <= capacity, got "
+              + minChunkSize
+              + ", "
+              + slabSize
+              + ", "
+              + capacity);
+    }
+
+    this.slabSize = slabSize;
+    this.slabCount = capacity / slabSize;
+    this.minChunkSizeShift = Integer.numberOfTrailingZeros(minChunkSize);
+    this.memory = ByteBuffer.allocateDirect(slabCount * slabSize);
+    this.memoryAddress = BufferUtil.address(memory);
+    this.freeChunksPerSlab = new int[slabCount];
+
+    this.slabIds = new Integer[slabCount];
+    this.unassignedSlabs = new ManyToManyConcurrentArrayQueue<>(Math.max(2, slabCount));
+    for (int i = 0; i < slabCount; i++) {
+      slabIds[i] = i;
+      unassignedSlabs.offer(slabIds[i]);
+    }
+
+    final int sizeClasses =
+        Integer.numberOfTrailingZeros(slabSize) - Integer.numberOfTrailingZeros(minChunkSize) + 1;
+    this.freeChunks = new ManyToManyConcurrentArrayQueue[sizeClasses];
+
+    for (int i = 0; i < sizeClasses; i++) {
+      final int chunksPerSlab = slabSize / chunkSize(i);
+      freeChunks[i] = new ManyToManyConcurrentArrayQueue<>(Math.max(2, slabCount * chunksPerSlab));
+    }
+
+    this.metrics = new SlabMemoryPoolMetrics(metricsManager, poolName, slabCount * slabSize);
+  }
+
+  @Override
+  public ByteBuffer allocate(int requestedCapacity) {
+    LOG.trace("Attempting to allocate {} bytes", requestedCapacity);
+
+    ByteBuffer chunk = null;
+
+    if (requestedCapacity <= slabSize) {
+      final int sizeClass = sizeClass(requestedCapacity);
+
+      chunk = freeChunks[sizeClass].poll();
+
+      if (chunk == null) {
+        chunk = carveSlab(sizeClass);
+      }
+
+      if (chunk == null && releaseFreeSlabs(sizeClass)) {
+        chunk = carveSlab(sizeClass);
+      }
+    }
+
+    if (chunk != null) {
+      chunk.limit(requestedCapacity);
+
+      metrics.usedBytes.getAndAdd(chunk.capacity());
+      metrics.fragmentedBytes.getAndAdd(chunk.capacity() - requestedCapacity);
+
+      LOG.trace("Attocated {} bytes", requestedCapacity);
+      return chunk;
+    } else {
+      metrics.allocationFailures.increment();
+
+      LOG.trace("Failed to allocate {} bytes", requestedCapacity);
+      return null;
+    }
+  }
+
+  @Override
+  public void reclaim(ByteBuffer buffer) {
+    final int chunkSize = buffer.capacity();
+    final int requestedCapacity = buffer.limit();
+
+    LOG.trace("Reclaiming {} bytes", chunkSize);
+
+    buffer.clear();
+
+    metrics.usedBytes.getAndAdd(-chunkSize);
+    metrics.fragmentedBytes.getAndAdd(requestedCapacity - chunkSize);
+
+    freeChunks[sizeClass(chunkSize)].offer(buffer);
+  }
+
+  /**
+   * Assigns an unassigned slab to the given size class. All but one of its chunks are added to the
+   * free list, the remaining one is returned to the caller.
+   */
+  private ByteBuffer carveSlab(int sizeClass) {
+    final Integer slab = unassignedSlabs.poll();
+
+    if (slab == null) {
+      return null;
+    }
+
+    final int chunkSize = chunkSize(sizeClass);
+    final int slabOffset = slab * slabSize;
+
+    final ManyToManyConcurrentArrayQueue<ByteBuffer> freeList = freeChunks[sizeClass];
+
+    for (int offset = chunkSize; offset < slabSize; offset += chunkSize) {
+      freeList.offer(sliceChunk(slabOffset + offset, chunkSize));
+    }
+
+    metrics.assignedBytes.getAndAdd(slabSize);
+
+    return sliceChunk(slabOffset, chunkSize);
+  }
+
+  /**
+   * Drains the free lists of all other size classes and releases the slabs whose chunks are all
+   * free. Chunks of slabs which are still in use are put back on their free list. Only one thread
+   * releases slabs at a time, concurrent allocations of other threads fail instead of waiting.
+   *
+   * @return true if at least one slab was released
+   */
+  private boolean releaseFreeSlabs(int requestedSizeClass) {
+    if (!releaseLock.tryLock()) {
+      return false;
+    }
+
+    try {
+      boolean released = false;
+
+      for (int sizeClass = 0; sizeClass < freeChunks.length; sizeClass++) {
+        if (sizeClass == requestedSizeClass) {
+          continue;
+        }
+
+        final ManyToManyConcurrentArrayQueue<ByteBuffer> freeList = freeChunks[sizeClass];
+        final int chunksPerSlab = slabSize / chunkSize(sizeClass);
+
+        freeList.drainTo(releaseCandidates, Integer.MAX_VALUE);
+
+        for (int i = 0; i < releaseCandidates.size(); i++) {
+          freeChunksPerSlab[slabOf(releaseCandidates.get(i))]++;
+        }
+
+        for (int i = 0; i < releaseCandidates.size(); i++) {
+          final ByteBuffer chunk = releaseCandidates.get(i);
+          final int slab = slabOf(chunk);
+
+          if (freeChunksPerSlab[slab] == chunksPerSlab) {
+            // the first chunk of the slab releases it, the others are dropped
+            freeChunksPerSlab[slab] = -1;
+            unassignedSlabs.offer(slabIds[slab]);
+            metrics.assignedBytes.getAndAdd(-slabSize);
+            released = true;
+          } else if (freeChunksPerSlab[slab] > 0) {
+            freeList.offer(chunk);
+          }
+        }
+
+        for (int i = 0; i < releaseCandidates.size(); i++) {
+          freeChunksPerSlab[slabOf(releaseCandidates.get(i))] = 0;
+        }
+
+        releaseCandidates.clear();
+      }
+
+      return released;
+    } finally {
+      releaseLock.unlock();
+    }
+  }
+
+  private int slabOf(ByteBuffer chunk) {
+    return (int) ((BufferUtil.address(chunk) - memoryAddress) / slabSize);
+  }
+
+  private ByteBuffer sliceChunk(int offset, int chunkSize) {
+    final ByteBuffer view = memory.duplicate();
+    view.position(offset);
+    view.limit(offset + chunkSize);
+
+    return view.slice();
+  }
+
+  private int sizeClass(int capacity) {
+    final int chunkSizeShift = 32 - Integer.numberOfLeadingZeros(Math.max(1, capacity) - 1);
+    return Math.max(0, chunkSizeShift - minChunkSizeShift);
+  }
+
+  private int chunkSize(int sizeClass) {
+    return 1 << (minChunkSizeShift + sizeClass);
+  }
+
+  public long getUsedBytes() {
+    return metrics.usedBytes.get();
+  }
+
+  public long getFragmentedBytes() {
+    return metrics.fragmentedBytes.get();
+  }
+
+  public long getAssignedBytes() {
+    return metrics.assignedBytes.get();
+  }
+
+  public long getAllocationFailures() {
+    return metrics.allocationFailures.get();
+  }
+
+  public void close() {
+    metrics.close();
+  }
+
+  public static class SlabMemoryPoolMetrics {
+    final Metric capacityBytes;
+    final Metric assignedBytes;
+    final Metric usedBytes;
+    final Metric fragmentedBytes;
+    final Metric allocationFailures;
+
+    public SlabMemoryPoolMetrics(MetricsManager metricsManager, String poolName, long capacity) {
+      capacityBytes =
+          metricsManager
+              .newMetric("transport_memory_pool_capacity_bytes")
+              .type("gauge")
+              .label("pool", poolName)
+              .create();
+      assignedBytes =
+          metricsManager
+              .newMetric("transport_memory_pool_assigned_bytes")
+              .type("gauge")
+              .label("pool", poolName)
+              .create();
+      usedBytes =
+          metricsManager
+              .newMetric("transport_memory_pool_used_bytes")
+              .type("gauge")
+              .label("pool", poolName)
+              .create();
+      fragmentedBytes =
+          metricsManager
+              .newMetric("transport_memory_pool_fragmented_bytes")
+              .type("gauge")
+              .label("pool", poolName)
+              .create();
+      allocationFailures =
+          metricsManager
+              .newMetric("transport_memory_pool_allocation_failures")
+              .type("counter")
+              .label("pool", poolName)
+              .create();
+
+      capacityBytes.setOrdered(capacity);
+    }
+
+    public void close() {
+      capacityBytes.close();
+      assignedBytes.close();
+      usedBytes.close();
+      fragmentedBytes.close();
+      allocationFailures.close();
+    }
+  }
+}
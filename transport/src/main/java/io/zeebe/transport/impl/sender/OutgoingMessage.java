@@ -17,17 +17,25 @@ package io.zeebe.transport.impl.sender;
 
 import java.nio.ByteBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public class OutgoingMessage {
   private final TransportHeaderWriter headerWriter = new TransportHeaderWriter();
 
-  private final int remoteStreamId;
+  private final UnsafeBuffer buffer = new UnsafeBuffer(0, 0);
 
-  private final MutableDirectBuffer buffer;
+  private final OutgoingMessagePool pool;
 
-  public OutgoingMessage(int remoteStreamId, MutableDirectBuffer buffer) {
+  private int remoteStreamId;
+
+  OutgoingMessage(OutgoingMessagePool pool) {
+    this.pool = pool;
+  }
+
+  public OutgoingMessage wrap(int remoteStreamId, ByteBuffer allocatedBuffer, int length) {
     this.remoteStreamId = remoteStreamId;
-    this.buffer = buffer;
+    this.buffer.wrap(allocatedBuffer, 0, length);
+    return this;
   }
 
   public int getRemoteStreamId() {
@@ -45,4 +53,11 @@ public class OutgoingMessage {
   public ByteBuffer getAllocatedBuffer() {
     return buffer.byteBuffer();
   }
+
+  /** Returns the message to its pool. It must not be used afterwards. */
+  public void recycle() {
+    remoteStreamId = -1;
+    buffer.wrap(0, 0);
+    pool.recycle(this);
+  }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.transport.impl.sender;
+
+import java.nio.ByteBuffer;
+import org.agrona.concurrent.ManyToManyConcurrentArrayQueue;
+
+/**
+ * Reuses {@link OutgoingMessage} instances, so that sending a message does not allocate. A message
+ * is claimed by the sending thread and recycled by the {@link Sender} once it is copied into a
+ * batch. If the pool is empty, a new message is created; if it is full, a recycled message is
+ * dropped.
+ */
+public class OutgoingMessagePool {
+  public static final int DEFAULT_CAPACITY = 128;
+
+  private final ManyToManyConcurrentArrayQueue<OutgoingMessage> messages;
+
+  public OutgoingMessagePool() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public OutgoingMessagePool(int capacity) {
+    this.messages = new ManyToManyConcurrentArrayQueue<>(capacity);
+  }
+
+  public OutgoingMessage claim(int remoteStreamId, ByteBuffer allocatedBuffer, int length) {
+    OutgoingMessage message = messages.poll();
+
+    if (message == null) {
+      message = new OutgoingMessage(this);
+    }
+
+    return message.wrap(remoteStreamId, allocatedBuffer, length);
+  }
+
+  void recycle(OutgoingMessage message) {
+    messages.offer(message);
+  }
+
+  public int size() {
+    return messages.size();
+  }
+}
@@ -213,6 +213,7 @@ public class Sender extends Actor implements TimerHandler {
       }
     } finally {
       reclaimMessageBuffer(message.getAllocatedBuffer());
+      message.recycle();
     }
   }
 
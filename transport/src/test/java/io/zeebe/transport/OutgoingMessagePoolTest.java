@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.transport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.transport.impl.sender.OutgoingMessage;
+import io.zeebe.transport.impl.sender.OutgoingMessagePool;
+import java.nio.ByteBuffer;
+import org.junit.Test;
+
+public class OutgoingMessagePoolTest {
+  private final OutgoingMessagePool pool = new OutgoingMessagePool(2);
+
+  @Test
+  public void shouldWrapAllocatedBuffer() {
+    // given
+    final ByteBuffer allocatedBuffer = ByteBuffer.allocateDirect(128);
+
+    // when
+    final OutgoingMessage message = pool.claim(3, allocatedBuffer, 64);
+
+    // then
+    assertThat(message.getRemoteStreamId()).isEqualTo(3);
+    assertThat(message.getBuffer().capacity()).isEqualTo(64);
+    assertThat(message.getAllocatedBuffer()).isSameAs(allocatedBuffer);
+  }
+
+  @Test
+  public void shouldReuseRecycledMessage() {
+    // given
+    final OutgoingMessage message = pool.claim(1, ByteBuffer.allocateDirect(64), 64);
+    message.recycle();
+
+    // when
+    final OutgoingMessage reusedMessage = pool.claim(2, ByteBuffer.allocateDirect(32), 32);
+
+    // then
+    assertThat(reusedMessage).isSameAs(message);
+    assertThat(reusedMessage.getRemoteStreamId()).isEqualTo(2);
+    assertThat(reusedMessage.getBuffer().capacity()).isEqualTo(32);
+    assertThat(pool.size()).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldCreateMessageIfPoolIsEmpty() {
+    // given
+    final OutgoingMessage message = pool.claim(1, ByteBuffer.allocateDirect(64), 64);
+
+    // when
+    final OutgoingMessage otherMessage = pool.claim(2, ByteBuffer.allocateDirect(64), 64);
+
+    // then
+    assertThat(otherMessage).isNotSameAs(message);
+  }
+
+  @Test
+  public void shouldDropRecycledMessageIfPoolIsFull() {
+    // given
+    final OutgoingMessage message1 = pool.claim(1, ByteBuffer.allocateDirect(64), 64);
+    final OutgoingMessage message2 = pool.claim(2, ByteBuffer.allocateDirect(64), 64);
+    final OutgoingMessage message3 = pool.claim(3, ByteBuffer.allocateDirect(64), 64);
+
+    // when
+    message1.recycle();
+    message2.recycle();
+    message3.recycle();
+
+    // then
+    assertThat(pool.size()).isEqualTo(2);
+  }
+}
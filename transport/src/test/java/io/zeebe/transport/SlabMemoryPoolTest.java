@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.transport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.transport.impl.memory.SlabMemoryPool;
+import io.zeebe.util.metrics.MetricsManager;
+import java.nio.ByteBuffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SlabMemoryPoolTest {
+  private static final int CAPACITY = 4 * 1024;
+  private static final int SLAB_SIZE = 1024;
+  private static final int MIN_CHUNK_SIZE = 64;
+
+  private SlabMemoryPool pool;
+
+  @Before
+  public void setUp() {
+    pool = new SlabMemoryPool(CAPACITY, SLAB_SIZE, MIN_CHUNK_SIZE, new MetricsManager(), "test");
+  }
+
+  @After
+  public void tearDown() {
+    pool.close();
+  }
+
+  @Test
+  public void shouldAllocateChunkOfNextSizeClass() {
+    // when
+    final ByteBuffer buffer = pool.allocate(100);
+
+    // then
+    assertThat(buffer.isDirect()).isTrue();
+    assertThat(buffer.capacity()).isEqualTo(128);
+    assertThat(buffer.limit()).isEqualTo(100);
+    assertThat(pool.getUsedBytes()).isEqualTo(128);
+    assertThat(pool.getFragmentedBytes()).isEqualTo(28);
+    assertThat(pool.getAssignedBytes()).isEqualTo(SLAB_SIZE);
+  }
+
+  @Test
+  public void shouldReuseReclaimedChunk() {
+    // given
+    final ByteBuffer[] buffers = new ByteBuffer[SLAB_SIZE / 128];
+    for (int i = 0; i < buffers.length; i++) {
+      buffers[i] = pool.allocate(100);
+    }
+
+    // when
+    pool.reclaim(buffers[3]);
+    final ByteBuffer reused = pool.allocate(120);
+
+    // then
+    assertThat(reused).isSameAs(buffers[3]);
+    assertThat(reused.limit()).isEqualTo(120);
+    assertThat(pool.getAssignedBytes()).isEqualTo(SLAB_SIZE);
+  }
+
+  @Test
+  public void shouldResetMetricsOnReclaim() {
+    // given
+    final ByteBuffer buffer = pool.allocate(100);
+
+    // when
+    pool.reclaim(buffer);
+
+    // then
+    assertThat(pool.getUsedBytes()).isEqualTo(0);
+    assertThat(pool.getFragmentedBytes()).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldNotHandOutSameChunkTwice() {
+    // when
+    final ByteBuffer first = pool.allocate(64);
+    final ByteBuffer second = pool.allocate(64);
+
+    // then
+    assertThat(first).isNotSameAs(second);
+
+    first.putLong(0, 1L);
+    second.putLong(0, 2L);
+    assertThat(first.getLong(0)).isEqualTo(1L);
+  }
+
+  @Test
+  public void shouldRejectAllocationLargerThanSlab() {
+    // when
+    final ByteBuffer buffer = pool.allocate(SLAB_SIZE + 1);
+
+    // then
+    assertThat(buffer).isNull();
+    assertThat(pool.getAllocationFailures()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldRejectAllocationWhenExhausted() {
+    // given
+    for (int i = 0; i < CAPACITY / SLAB_SIZE; i++) {
+      assertThat(pool.allocate(SLAB_SIZE)).isNotNull();
+    }
+
+    // when
+    final ByteBuffer buffer = pool.allocate(MIN_CHUNK_SIZE);
+
+    // then
+    assertThat(buffer).isNull();
+    assertThat(pool.getAllocationFailures()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldReleaseFreeSlabsToOtherSizeClass() {
+    // given
+    final ByteBuffer[] buffers = new ByteBuffer[CAPACITY / MIN_CHUNK_SIZE];
+    for (int i = 0; i < buffers.length; i++) {
+      buffers[i] = pool.allocate(MIN_CHUNK_SIZE);
+    }
+
+    assertThat(pool.allocate(SLAB_SIZE)).isNull();
+
+    for (ByteBuffer buffer : buffers) {
+      pool.reclaim(buffer);
+    }
+
+    // when
+    final ByteBuffer buffer = pool.allocate(SLAB_SIZE);
+
+    // then
+    assertThat(buffer).isNotNull();
+    assertThat(buffer.capacity()).isEqualTo(SLAB_SIZE);
+    assertThat(pool.getAssignedBytes()).isEqualTo(SLAB_SIZE);
+  }
+
+  @Test
+  public void shouldNotReleaseSlabWithChunksInUse() {
+    // given
+    final ByteBuffer[] buffers = new ByteBuffer[CAPACITY / MIN_CHUNK_SIZE];
+    for (int i = 0; i < buffers.length; i++) {
+      buffers[i] = pool.allocate(MIN_CHUNK_SIZE);
+    }
+
+    // one chunk per slab stays in use
+    for (int i = 0; i < buffers.length; i++) {
+      if (i % (SLAB_SIZE / MIN_CHUNK_SIZE) != 0) {
+        pool.reclaim(buffers[i]);
+      }
+    }
+
+    // when
+    final ByteBuffer buffer = pool.allocate(SLAB_SIZE);
+
+    // then
+    assertThat(buffer).isNull();
+    assertThat(pool.allocate(MIN_CHUNK_SIZE)).isNotNull();
+  }
+}
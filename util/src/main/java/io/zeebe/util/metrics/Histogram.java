@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.util.metrics;
+
+import java.util.Map;
+
+/**
+ * A histogram in the prometheus format: one cumulative counter per bucket labeled with its upper
+ * bound (<code>le</code>) plus the sum and the count of all observed values. The buckets are fixed
+ * on creation.
+ */
+public class Histogram {
+  private final long[] upperBounds;
+  private final Metric[] buckets;
+  private final Metric sum;
+  private final Metric count;
+
+  public Histogram(
+      MetricsManager metricsManager,
+      String name,
+      Map<String, String> labels,
+      long... upperBounds) {
+    this.upperBounds = upperBounds;
+    this.buckets = new Metric[upperBounds.length + 1];
+
+    for (int i = 0; i <= upperBounds.length; i++) {
+      final String bound = i < upperBounds.length ? Long.toString(upperBounds[i]) : "+Inf";
+      buckets[i] = newMetric(metricsManager, name + "_bucket", labels).label("le", bound).create();
+    }
+
+    sum = newMetric(metricsManager, name + "_sum", labels).create();
+    count = newMetric(metricsManager, name + "_count", labels).create();
+  }
+
+  private static MetricsManager.MetricBuilder newMetric(
+      MetricsManager metricsManager, String name, Map<String, String> labels) {
+    final MetricsManager.MetricBuilder builder =
+        metricsManager.newMetric(name).type("histogram");
+    labels.forEach(builder::label);
+    return builder;
+  }
+
+  /** Records the given value. Can be called concurrently. */
+  public void record(long value) {
+    for (int i = upperBounds.length; i >= 0; i--) {
+      if (i < upperBounds.length && value > upperBounds[i]) {
+        break;
+      }
+      buckets[i].increment();
+    }
+
+    sum.getAndAdd(value);
+    count.increment();
+  }
+
+  /** @return the number of recorded values which are less than or equal to the given bound */
+  public long getCount(long upperBound) {
+    for (int i = 0; i < upperBounds.length; i++) {
+      if (upperBounds[i] == upperBound) {
+        return buckets[i].get();
+      }
+    }
+
+    throw new IllegalArgumentException("No bucket with upper bound " + upperBound);
+  }
+
+  public long getCount() {
+    return count.get();
+  }
+
+  public long getSum() {
+    return sum.get();
+  }
+
+  public void close() {
+    for (Metric bucket : buckets) {
+      bucket.close();
+    }
+    sum.close();
+    count.close();
+  }
+}
@@ -81,6 +81,10 @@ public class Metric {
     return value.incrementOrdered();
   }
 
+  public long increment() {
+    return value.increment();
+  }
+
   public void setOrdered(long value) {
     this.value.setOrdered(value);
   }
@@ -101,6 +105,10 @@ public class Metric {
     return value.getAndAddOrdered(increment);
   }
 
+  public long getAndAdd(long increment) {
+    return value.getAndAdd(increment);
+  }
+
   public String getName() {
     return new String(name, StandardCharsets.UTF_8);
   }
@@ -19,6 +19,7 @@ import io.zeebe.util.metrics.MetricsManager;
 import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.metrics.ActorThreadMetrics;
+import io.zeebe.util.sched.metrics.IoDeviceMetrics;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.time.Duration;
@@ -31,11 +32,13 @@ public class ActorScheduler {
   private final AtomicReference<SchedulerState> state = new AtomicReference<>();
   private final ActorExecutor actorTaskExecutor;
   private final MetricsManager metricsManager;
+  private final IoDeviceMetrics ioDeviceMetrics;
 
   public ActorScheduler(ActorSchedulerBuilder builder) {
     state.set(SchedulerState.NEW);
     actorTaskExecutor = builder.getActorExecutor();
     metricsManager = builder.getMetricsManager();
+    ioDeviceMetrics = builder.getIoDeviceMetrics();
   }
 
   /**
@@ -148,6 +151,7 @@ public class ActorScheduler {
     private String schedulerName = "";
     private ActorClock actorClock;
     private MetricsManager metricsManager;
+    private IoDeviceMetrics ioDeviceMetrics;
 
     private int cpuBoundThreadsCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 2);
     private ActorThreadGroup cpuBoundActorGroup;
@@ -272,6 +276,10 @@ public class ActorScheduler {
       return ioDeviceConcurrency;
     }
 
+    public IoDeviceMetrics getIoDeviceMetrics() {
+      return ioDeviceMetrics;
+    }
+
     public ActorThreadGroup getCpuBoundActorThreads() {
       return cpuBoundActorGroup;
     }
@@ -286,6 +294,12 @@ public class ActorScheduler {
       }
     }
 
+    private void initIoDeviceMetrics() {
+      if (ioDeviceMetrics == null) {
+        ioDeviceMetrics = new IoDeviceMetrics(metricsManager, ioDeviceConcurrency.length);
+      }
+    }
+
     private void initActorThreadFactory() {
       if (actorThreadFactory == null) {
         actorThreadFactory = new DefaultActorThreadFactory();
@@ -325,6 +339,7 @@ public class ActorScheduler {
 
     public ActorScheduler build() {
       initMetricsManager();
+      initIoDeviceMetrics();
       initActorThreadFactory();
       initBlockingTaskRunner();
       initCpuBoundActorThreadGroup();
@@ -380,4 +395,8 @@ public class ActorScheduler {
   public MetricsManager getMetricsManager() {
     return metricsManager;
   }
+
+  public IoDeviceMetrics getIoDeviceMetrics() {
+    return ioDeviceMetrics;
+  }
 }
@@ -16,10 +16,15 @@
 package io.zeebe.util.sched;
 
 import io.zeebe.util.sched.ActorScheduler.ActorSchedulerBuilder;
+import io.zeebe.util.sched.metrics.IoDeviceMetrics;
 
-/** Thread group for tasks that are blocking-I/O bound. */
+/**
+ * Thread group for tasks that are blocking-I/O bound. Tasks are queued per I/O device, see {@link
+ * IoScheduler}.
+ */
 public class IoBoundThreadGroup extends ActorThreadGroup {
   private IoScheduler ioScheduler;
+  private final IoDeviceMetrics deviceMetrics;
 
   public IoBoundThreadGroup(ActorSchedulerBuilder builder) {
     super(
@@ -27,17 +32,30 @@ public class IoBoundThreadGroup extends ActorThreadGroup {
         builder.getIoBoundActorThreadCount(),
         builder.getIoDeviceConcurrency().length,
         builder);
+
+    this.deviceMetrics = builder.getIoDeviceMetrics();
   }
 
   @Override
   protected TaskScheduler createTaskScheduler(
       MultiLevelWorkstealingGroup tasks, ActorSchedulerBuilder builder) {
     if (ioScheduler == null) {
-      ioScheduler = new IoScheduler(tasks::getNextTask, builder.getIoDeviceConcurrency());
+      ioScheduler =
+          new IoScheduler(
+              tasks::getNextTask, builder.getIoDeviceConcurrency(), builder.getIoDeviceMetrics());
     }
     return ioScheduler;
   }
 
+  @Override
+  public void submit(ActorTask actorTask) {
+    if (deviceMetrics != null) {
+      deviceMetrics.onTaskQueued(getLevel(actorTask));
+    }
+
+    super.submit(actorTask);
+  }
+
   @Override
   protected int getLevel(ActorTask actorTask) {
     return actorTask.getDeviceId();
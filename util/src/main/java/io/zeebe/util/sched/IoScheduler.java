@@ -16,6 +16,7 @@
 package io.zeebe.util.sched;
 
 import io.zeebe.util.sched.clock.ActorClock;
+import io.zeebe.util.sched.metrics.IoDeviceMetrics;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.IntFunction;
 
@@ -35,6 +36,7 @@ public class IoScheduler implements TaskScheduler {
   private final int numOfDevices;
   private final int[] deviceMaxConcurrency;
   private final int[] pendingOperatsByDevice;
+  private final IoDeviceMetrics deviceMetrics;
 
   private int currentDevice = 0;
 
@@ -43,10 +45,23 @@ public class IoScheduler implements TaskScheduler {
    * @param deviceMaxConcurrency for each device, the max level of concurrency to allow for.
    */
   public IoScheduler(IntFunction<ActorTask> getTaskFn, int[] deviceMaxConcurrency) {
+    this(getTaskFn, deviceMaxConcurrency, null);
+  }
+
+  /**
+   * @param getTaskFn the function which allows to retrieve the next task by I/O device.
+   * @param deviceMaxConcurrency for each device, the max level of concurrency to allow for.
+   * @param deviceMetrics updated when a queued task is taken for a device, may be null
+   */
+  public IoScheduler(
+      IntFunction<ActorTask> getTaskFn,
+      int[] deviceMaxConcurrency,
+      IoDeviceMetrics deviceMetrics) {
     this.getTaskFn = getTaskFn;
     this.numOfDevices = deviceMaxConcurrency.length;
     this.deviceMaxConcurrency = deviceMaxConcurrency;
     this.pendingOperatsByDevice = new int[numOfDevices];
+    this.deviceMetrics = deviceMetrics;
   }
 
   @Override
@@ -71,6 +86,10 @@ public class IoScheduler implements TaskScheduler {
         if (nextTask != null) {
           currentDevice = device;
           ++pendingOperatsByDevice[device];
+
+          if (deviceMetrics != null) {
+            deviceMetrics.onTaskDequeued(device);
+          }
           break;
         }
       }
@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.util.sched.metrics;
+
+import io.zeebe.util.metrics.Metric;
+import io.zeebe.util.metrics.MetricsManager;
+
+/**
+ * Metrics per I/O device of the io-bound thread group: the number of tasks waiting to be run on a
+ * device and the number of bytes written to it. Updated concurrently by all threads.
+ */
+public class IoDeviceMetrics implements AutoCloseable {
+  private final Metric[] queueDepth;
+  private final Metric[] writtenBytes;
+
+  public IoDeviceMetrics(MetricsManager metricsManager, int numOfDevices) {
+    queueDepth = new Metric[numOfDevices];
+    writtenBytes = new Metric[numOfDevices];
+
+    for (int device = 0; device < numOfDevices; device++) {
+      final String deviceLabel = Integer.toString(device);
+
+      queueDepth[device] =
+          metricsManager
+              .newMetric("scheduler_io_device_queue_depth")
+              .type("gauge")
+              .label("device", deviceLabel)
+              .create();
+
+      writtenBytes[device] =
+          metricsManager
+              .newMetric("scheduler_io_device_written_bytes")
+              .type("counter")
+              .label("device", deviceLabel)
+              .create();
+    }
+  }
+
+  public int getNumOfDevices() {
+    return queueDepth.length;
+  }
+
+  public void onTaskQueued(int device) {
+    queueDepth[device].increment();
+  }
+
+  public void onTaskDequeued(int device) {
+    queueDepth[device].getAndAdd(-1);
+  }
+
+  public void recordWrittenBytes(int device, long bytes) {
+    writtenBytes[device].getAndAdd(bytes);
+  }
+
+  public long getQueueDepth(int device) {
+    return queueDepth[device].get();
+  }
+
+  public long getWrittenBytes(int device) {
+    return writtenBytes[device].get();
+  }
+
+  @Override
+  public void close() {
+    for (int device = 0; device < queueDepth.length; device++) {
+      queueDepth[device].close();
+      writtenBytes[device].close();
+    }
+  }
+}
@@ -133,6 +133,26 @@ public class MetricsTests {
     assertThat(dump).isEqualTo("bz_metric1{broker=\"node1\",label1=\"value1\"} 0 100\n");
   }
 
+  @Test
+  public void shouldRecordHistogram() {
+    final MetricsManager metricsManager = new MetricsManager();
+
+    final Histogram histogram = new Histogram(metricsManager, "latency", new HashMap<>(), 10, 100);
+
+    histogram.record(5);
+    histogram.record(50);
+    histogram.record(500);
+
+    final String dump = dumpAsString(metricsManager, 100);
+    assertThat(dump)
+        .isEqualTo(
+            "zb_latency_bucket{le=\"10\"} 1 100\n"
+                + "zb_latency_bucket{le=\"100\"} 2 100\n"
+                + "zb_latency_bucket{le=\"+Inf\"} 3 100\n"
+                + "zb_latency_sum{} 555 100\n"
+                + "zb_latency_count{} 3 100\n");
+  }
+
   private static String dumpAsString(MetricsManager metricsManager, long now) {
     final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
     final int length = metricsManager.dump(buffer, 0, now);
@@ -20,7 +20,9 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 import io.zeebe.util.sched.ActorTask;
+import io.zeebe.util.metrics.MetricsManager;
 import io.zeebe.util.sched.IoScheduler;
+import io.zeebe.util.sched.metrics.IoDeviceMetrics;
 import java.util.function.IntFunction;
 import org.junit.Test;
 import org.mockito.InOrder;
@@ -76,4 +78,28 @@ public class IoSchedulerTest {
     assertThat(ioScheduler.getNextTask(null)).isNotNull();
     assertThat(ioScheduler.getNextTask(null)).isNull();
   }
+
+  @Test
+  public void shouldTrackQueueDepthPerDevice() {
+    // given
+    final ActorTask task = mock(ActorTask.class);
+    final IntFunction<ActorTask> getTaskFn = mock(IntFunction.class);
+
+    when(getTaskFn.apply(anyInt())).thenReturn(task);
+
+    final IoDeviceMetrics metrics = new IoDeviceMetrics(new MetricsManager(), 2);
+    metrics.onTaskQueued(0);
+    metrics.onTaskQueued(1);
+    metrics.onTaskQueued(1);
+
+    final IoScheduler ioScheduler = new IoScheduler(getTaskFn, new int[] {1, 1}, metrics);
+
+    // when
+    ioScheduler.getNextTask(null);
+    ioScheduler.getNextTask(null);
+
+    // then
+    assertThat(metrics.getQueueDepth(0)).isEqualTo(0);
+    assertThat(metrics.getQueueDepth(1)).isEqualTo(1);
+  }
 }
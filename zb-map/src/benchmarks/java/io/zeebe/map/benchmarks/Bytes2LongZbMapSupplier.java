@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.map.benchmarks;
+
+import java.util.Random;
+
+import io.zeebe.map.Bytes2LongZbMap;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Byte array keys which share a common prefix and differ only in the last bytes, so that each full
+ * key comparison has to read the whole key.
+ */
+@State(Scope.Benchmark)
+public class Bytes2LongZbMapSupplier
+{
+    public static final int DATA_SET_SIZE = 1_000_000;
+
+    @Param({"32", "128"})
+    int keyLength;
+
+    byte[][] keys;
+
+    Bytes2LongZbMap map;
+
+    @Setup
+    public void generateKeys()
+    {
+        final Random random = new Random();
+
+        keys = new byte[DATA_SET_SIZE][];
+
+        for (int k = 0; k < keys.length; k++)
+        {
+            final byte[] key = new byte[keyLength];
+            final long suffix = random.nextLong();
+
+            for (int i = 0; i < Long.BYTES; i++)
+            {
+                key[keyLength - 1 - i] = (byte) (suffix >>> (i * 8));
+            }
+
+            keys[k] = key;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void createmap()
+    {
+        map = new Bytes2LongZbMap(keyLength);
+    }
+
+    @TearDown(Level.Iteration)
+    public void closemap()
+    {
+        map.close();
+    }
+
+}
@@ -17,6 +17,7 @@ package io.zeebe.map.benchmarks;
 
 import java.util.HashMap;
 
+import io.zeebe.map.Bytes2LongZbMap;
 import io.zeebe.map.Long2LongZbMap;
 import it.unimi.dsi.fastutil.longs.Long2LongMap;
 import net.openhft.chronicle.map.ChronicleMap;
@@ -294,4 +295,72 @@ public class Long2LongZbMapBenchmark
         return result;
     }
 
-}
\ No newline at end of file
+    @Benchmark
+    @Threads(1)
+    public long randomByteKeys(Bytes2LongZbMapSupplier hashMapSupplier)
+    {
+        final Bytes2LongZbMap map = hashMapSupplier.map;
+        final byte[][] keys = hashMapSupplier.keys;
+
+        for (int i = 0; i < keys.length; i++)
+        {
+            map.put(keys[i], i);
+        }
+
+        long result = 0;
+
+        for (int i = 0; i < keys.length; i++)
+        {
+            result += map.get(keys[i], -1);
+        }
+
+        return result;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long missingByteKeys(Bytes2LongZbMapSupplier hashMapSupplier)
+    {
+        final Bytes2LongZbMap map = hashMapSupplier.map;
+        final byte[][] keys = hashMapSupplier.keys;
+        final int half = keys.length / 2;
+
+        for (int i = 0; i < half; i++)
+        {
+            map.put(keys[i], i);
+        }
+
+        long result = 0;
+
+        // the keys are not in the map but are compared with the keys in their buckets
+        for (int i = half; i < keys.length; i++)
+        {
+            result += map.get(keys[i], -1);
+        }
+
+        return result;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long removeRandomByteKeys(Bytes2LongZbMapSupplier hashMapSupplier)
+    {
+        final Bytes2LongZbMap map = hashMapSupplier.map;
+        final byte[][] keys = hashMapSupplier.keys;
+
+        for (int i = 0; i < keys.length; i++)
+        {
+            map.put(keys[i], i);
+        }
+
+        long result = 0;
+
+        for (int i = 0; i < keys.length; i++)
+        {
+            result += map.remove(keys[i], -1);
+        }
+
+        return result;
+    }
+
+}
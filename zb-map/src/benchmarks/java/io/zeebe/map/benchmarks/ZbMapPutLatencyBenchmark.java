@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.map.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import io.zeebe.map.Long2LongZbMap;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Samples the latency of single puts into a growing map. The map grows over the whole iteration,
+ * so that the hash table is resized many times. Compare the high percentiles (e.g. p0.999) of the
+ * result, which reveal the latency spikes of resizing.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ZbMapPutLatencyBenchmark
+{
+    Long2LongZbMap map;
+
+    long nextKey;
+
+    @Setup(Level.Iteration)
+    public void createmap()
+    {
+        map = new Long2LongZbMap();
+        nextKey = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void closemap()
+    {
+        map.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean put()
+    {
+        final long key = nextKey++;
+        return map.put(key, key);
+    }
+
+}
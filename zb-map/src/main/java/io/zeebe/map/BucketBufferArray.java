@@ -23,6 +23,7 @@ import static org.agrona.BufferUtil.ARRAY_BASE_OFFSET;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Arrays;
 import org.agrona.UnsafeAccess;
 import sun.misc.Unsafe;
 
@@ -32,6 +33,13 @@ public class BucketBufferArray implements AutoCloseable {
   public static final int OVERFLOW_BUCKET = -1;
   public static final int ABANDONED_BUCKET = -73;
   private static final long INVALID_ADDRESS = 0;
+  private static final int FINGERPRINT_HASH_MULTIPLIER = 0x9E3779B9;
+
+  /**
+   * The minimum number of resident bucket buffers, so that the bucket buffers which are accessed by
+   * a single map operation, e.g. the source and destination of a bucket split, stay resident.
+   */
+  public static final int MIN_RESIDENT_BUCKET_BUFFER_COUNT = 4;
 
   private static final Unsafe UNSAFE = UnsafeAccess.UNSAFE;
   private static final String FAIL_MSG_TO_READ_BUCKET_BUFFER =
@@ -39,21 +47,56 @@ public class BucketBufferArray implements AutoCloseable {
 
   private final int maxBucketLength;
   private final int maxBucketBlockCount;
+  private final int bucketFingerprintsOffset;
   private final int maxKeyLength;
   private final int maxValueLength;
   private final int maxBucketBufferLength;
 
+  private final BucketBufferStorage storage;
+  private final int maxResidentBucketBufferCount;
+  // the accesses are only tracked if bucket buffers can be paged out
+  private final boolean isPagingEnabled;
+
   protected long realAddresses[];
+
+  /**
+   * The access stamp of each resident bucket buffer, which is used to find the cold bucket buffers
+   * to page out. A stamp of zero marks a bucket buffer which is not resident.
+   */
+  private long accessStamps[];
+  // reused to sort the access stamps on page out
+  private long sortedAccessStamps[] = new long[0];
+
+  private long accessClock;
+  private int residentBucketBufferCount;
+
+  /**
+   * Counts the changes which can move blocks to a bucket that comes before their previous bucket in
+   * iteration order, see {@link ZbMapIterator#resume()}.
+   */
+  private int relocationCount;
   private long bucketBufferHeaderAddress;
   protected int nextNotFullBucketBuffer;
 
   public BucketBufferArray(int maxBucketBlockCount, int maxKeyLength, int maxValueLength) {
-    this.maxBucketLength =
+    this(maxBucketBlockCount, maxKeyLength, maxValueLength, new OffHeapBucketBufferStorage());
+  }
+
+  public BucketBufferArray(
+      int maxBucketBlockCount,
+      int maxKeyLength,
+      int maxValueLength,
+      BucketBufferStorage storage) {
+    this.bucketFingerprintsOffset =
         addExact(
             BUCKET_DATA_OFFSET,
             multiplyExact(
                 maxBucketBlockCount,
                 BucketBufferArrayDescriptor.getBlockLength(maxKeyLength, maxValueLength)));
+    this.maxBucketLength =
+        addExact(
+            bucketFingerprintsOffset,
+            multiplyExact(maxBucketBlockCount, BucketBufferArrayDescriptor.FINGERPRINT_LENGTH));
     try {
       this.maxBucketBufferLength =
           addExact(BUCKET_BUFFER_HEADER_LENGTH, multiplyExact(ALLOCATION_FACTOR, maxBucketLength));
@@ -66,16 +109,28 @@ public class BucketBufferArray implements AutoCloseable {
     this.maxKeyLength = maxKeyLength;
     this.maxValueLength = maxValueLength;
 
+    this.storage = storage;
+    this.maxResidentBucketBufferCount =
+        (int)
+            Math.max(
+                MIN_RESIDENT_BUCKET_BUFFER_COUNT,
+                Math.min(
+                    Integer.MAX_VALUE, storage.getMaxResidentLength() / maxBucketBufferLength));
+    this.isPagingEnabled = storage.getMaxResidentLength() != Long.MAX_VALUE;
+
     init();
   }
 
   public void clear() {
     close();
     init();
+    relocationCount += 1;
   }
 
   private void init() {
     this.realAddresses = new long[ALLOCATION_FACTOR];
+    this.accessStamps = new long[ALLOCATION_FACTOR];
+    residentBucketBufferCount = 0;
     bucketBufferHeaderAddress = UNSAFE.allocateMemory(MAIN_BUCKET_BUFFER_HEADER_LEN);
 
     setBucketBufferCount(0);
@@ -116,6 +171,13 @@ public class BucketBufferArray implements AutoCloseable {
       throw new IllegalArgumentException("Bucket buffer was already released!");
     }
 
+    if (isPagingEnabled) {
+      if (accessStamps[bucketBufferId] == 0) {
+        residentBucketBufferCount++;
+      }
+      accessStamps[bucketBufferId] = ++accessClock;
+    }
+
     return realAddresses[bucketBufferId] + offset;
   }
 
@@ -154,9 +216,10 @@ public class BucketBufferArray implements AutoCloseable {
   @Override
   public void close() {
     UNSAFE.freeMemory(bucketBufferHeaderAddress);
-    for (long realAddress : realAddresses) {
-      if (realAddress != INVALID_ADDRESS) {
-        UNSAFE.freeMemory(realAddress);
+    for (int i = 0; i < realAddresses.length; i++) {
+      if (realAddresses[i] != INVALID_ADDRESS) {
+        storage.free(i, realAddresses[i], maxBucketBufferLength);
+        realAddresses[i] = INVALID_ADDRESS;
       }
     }
   }
@@ -195,6 +258,22 @@ public class BucketBufferArray implements AutoCloseable {
     return maxBucketLength;
   }
 
+  int getMaxBucketBlockCount() {
+    return maxBucketBlockCount;
+  }
+
+  int getMaxKeyLength() {
+    return maxKeyLength;
+  }
+
+  int getMaxValueLength() {
+    return maxValueLength;
+  }
+
+  int getRelocationCount() {
+    return relocationCount;
+  }
+
   // BUCKET BUFFER ///////////////////////////////////////////////////////////////
 
   public int getBucketCount(int bucketBufferId) {
@@ -258,6 +337,52 @@ public class BucketBufferArray implements AutoCloseable {
     return BucketBufferArrayDescriptor.getBlockLength(maxKeyLength, maxValueLength);
   }
 
+  /**
+   * Searches the block with the key of the given key handler in the bucket. Only the keys of the
+   * blocks with a matching fingerprint are compared, see {@link #fingerprint(int)}.
+   *
+   * @return the offset of the block with the key, or -1 if the bucket doesn't contain the key
+   */
+  public int findBlockOffset(KeyHandler keyHandler, long bucketAddress, byte fingerprint) {
+    final long bucketRealAddress = getRealAddress(bucketAddress);
+    final long fingerprintsAddress = bucketRealAddress + bucketFingerprintsOffset;
+    final int bucketFillCount = UNSAFE.getInt(bucketRealAddress + BUCKET_FILL_COUNT_OFFSET);
+    final int blockLength = getBlockLength();
+
+    for (int blockIdx = 0; blockIdx < bucketFillCount; blockIdx++) {
+      if (UNSAFE.getByte(fingerprintsAddress + blockIdx) == fingerprint) {
+        final int blockOffset = BUCKET_DATA_OFFSET + blockIdx * blockLength;
+
+        if (keyHandler.keyEquals(bucketRealAddress + blockOffset + BLOCK_KEY_OFFSET)) {
+          return blockOffset;
+        }
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Calculates the fingerprint of a key, which is stored for each block of a bucket. The lower bits
+   * of the hash code are equal for the keys of a bucket, so the fingerprint is taken from the upper
+   * bits of the mixed hash code.
+   */
+  public static byte fingerprint(int keyHashCode) {
+    return (byte) ((keyHashCode * FINGERPRINT_HASH_MULTIPLIER) >>> 24);
+  }
+
+  public byte getBlockFingerprint(long bucketAddress, int blockOffset) {
+    return UNSAFE.getByte(getFingerprintAddress(bucketAddress, getBlockIndex(blockOffset)));
+  }
+
+  private long getFingerprintAddress(long bucketAddress, int blockIdx) {
+    return getRealAddress(bucketAddress) + bucketFingerprintsOffset + blockIdx;
+  }
+
+  private int getBlockIndex(int blockOffset) {
+    return (blockOffset - BUCKET_DATA_OFFSET) / getBlockLength();
+  }
+
   public boolean keyEquals(KeyHandler keyHandler, long bucketAddress, int blockOffset) {
     return keyHandler.keyEquals(getRealAddress(bucketAddress) + blockOffset + BLOCK_KEY_OFFSET);
   }
@@ -320,6 +445,9 @@ public class BucketBufferArray implements AutoCloseable {
 
     keyHandler.writeKey(blockAddress + BLOCK_KEY_OFFSET);
     valueHandler.writeValue(getBlockValueOffset(blockAddress, maxKeyLength));
+    UNSAFE.putByte(
+        getFingerprintAddress(bucketAddress, bucketFillCount),
+        fingerprint(keyHandler.keyHashCode()));
 
     setBucketFillCount(bucketAddress, bucketFillCount + 1);
     setBlockCount(getBlockCount() + 1);
@@ -336,6 +464,7 @@ public class BucketBufferArray implements AutoCloseable {
     final int nextBlockOffset = blockOffset + blockLength;
 
     moveRemainingMemory(bucketAddress, nextBlockOffset, -blockLength);
+    moveRemainingFingerprints(bucketAddress, getBlockIndex(nextBlockOffset), -1);
 
     final int newBucketFillCount = getBucketFillCount(bucketAddress) - 1;
     setBucketFillCount(bucketAddress, newBucketFillCount);
@@ -460,8 +589,12 @@ public class BucketBufferArray implements AutoCloseable {
     if (bucketBufferId != 0 && bucketBufferId == bucketBufferCount - 1) {
       boolean isEmpty;
       do {
-        UNSAFE.freeMemory(realAddresses[bucketBufferId]);
+        storage.free(bucketBufferId, realAddresses[bucketBufferId], maxBucketBufferLength);
         realAddresses[bucketBufferId] = INVALID_ADDRESS;
+        if (accessStamps[bucketBufferId] != 0) {
+          accessStamps[bucketBufferId] = 0;
+          residentBucketBufferCount--;
+        }
         bucketBufferCount--;
         bucketBufferId--;
         isEmpty = getBucketCount(bucketBufferId) == 0;
@@ -477,10 +610,62 @@ public class BucketBufferArray implements AutoCloseable {
         final long newAddressTable[] = new long[halfAddressBufferSize];
         System.arraycopy(realAddresses, 0, newAddressTable, 0, bucketBufferCount);
         realAddresses = newAddressTable;
+        accessStamps = Arrays.copyOf(accessStamps, halfAddressBufferSize);
       }
     }
   }
 
+  // PAGING ////////////////////////////////////////////////////////////////////////////////////////
+
+  /**
+   * Pages out the least recently accessed bucket buffers, if more bucket buffers are resident than
+   * the storage allows. Pages out a quarter of the allowed bucket buffers more than necessary, so
+   * that this does not happen on every access of a cold bucket buffer.
+   *
+   * <p><b>Note</b>: the real addresses of the paged out bucket buffers change, which means that
+   * this must not be called while a view on the bucket buffers is in use.
+   */
+  public void pageOutColdBucketBuffers() {
+    if (isPagingEnabled && residentBucketBufferCount > maxResidentBucketBufferCount) {
+      final int bucketBufferCount = getBucketBufferCount();
+
+      if (sortedAccessStamps.length < residentBucketBufferCount) {
+        sortedAccessStamps = new long[Math.max(residentBucketBufferCount, realAddresses.length)];
+      }
+
+      int residentIdx = 0;
+      for (int i = 0; i < bucketBufferCount; i++) {
+        if (accessStamps[i] != 0) {
+          sortedAccessStamps[residentIdx++] = accessStamps[i];
+        }
+      }
+      Arrays.sort(sortedAccessStamps, 0, residentIdx);
+
+      final int pageOutCount =
+          residentBucketBufferCount
+              - maxResidentBucketBufferCount
+              + maxResidentBucketBufferCount / 4;
+      final long lastPageOutStamp = sortedAccessStamps[pageOutCount - 1];
+
+      for (int i = 0; i < bucketBufferCount; i++) {
+        final long accessStamp = accessStamps[i];
+        if (accessStamp != 0 && accessStamp <= lastPageOutStamp) {
+          realAddresses[i] = storage.pageOut(i, realAddresses[i], maxBucketBufferLength);
+          accessStamps[i] = 0;
+          residentBucketBufferCount--;
+        }
+      }
+    }
+  }
+
+  public int getResidentBucketBufferCount() {
+    return isPagingEnabled ? residentBucketBufferCount : getBucketBufferCount();
+  }
+
+  public int getMaxResidentBucketBufferCount() {
+    return maxResidentBucketBufferCount;
+  }
+
   private void setBucketId(int bucketBufferId, int bucketOffset, int newBlockId) {
     UNSAFE.putInt(getRealAddress(bucketBufferId, bucketOffset) + BUCKET_ID_OFFSET, newBlockId);
   }
@@ -577,6 +762,11 @@ public class BucketBufferArray implements AutoCloseable {
     setBucketCount(bucketBufferId, bucketCountInBucketBuffer + 1);
     setBucketCount(getBucketCount() + 1);
 
+    if (bucketBufferId < getBucketBufferCount() - 1) {
+      // reuses the space of a removed bucket in front of the last bucket buffer
+      relocationCount += 1;
+    }
+
     if (bucketCountInBucketBuffer + 1 == ALLOCATION_FACTOR) {
       nextNotFullBucketBuffer = findNextNotFullBucketBuffer(bucketBufferId);
     }
@@ -602,10 +792,16 @@ public class BucketBufferArray implements AutoCloseable {
 
       // copy blocks to new bucket
       UNSAFE.copyMemory(srcFirstBlockAddress, destBlockAddress, copyLength);
+      UNSAFE.copyMemory(
+          getFingerprintAddress(bucketAddress, 0),
+          getFingerprintAddress(newBucketAddress, destBucketFillCount),
+          srcBucketFillCount);
 
       // set new bucket fill counts
       setBucketFillCount(newBucketAddress, destBucketFillCount + srcBucketFillCount);
       setBucketFillCount(bucketAddress, 0);
+
+      relocationCount += 1;
     }
   }
 
@@ -625,6 +821,9 @@ public class BucketBufferArray implements AutoCloseable {
 
       // copy to new block
       UNSAFE.copyMemory(srcBlockAddress, destBlockAddress, blockLength);
+      UNSAFE.putByte(
+          getFingerprintAddress(newBucketAddress, destBucketFillCount),
+          getBlockFingerprint(bucketAddress, blockOffset));
       setBucketFillCount(newBucketAddress, destBucketFillCount + 1);
 
       // remove from this block (compacts this block)
@@ -727,13 +926,23 @@ public class BucketBufferArray implements AutoCloseable {
     }
   }
 
+  private void moveRemainingFingerprints(long bucketAddress, int srcIdx, int moveCount) {
+    final int bucketFillCount = getBucketFillCount(bucketAddress);
+
+    if (srcIdx < bucketFillCount) {
+      final long srcAddress = getFingerprintAddress(bucketAddress, srcIdx);
+      UNSAFE.copyMemory(srcAddress, srcAddress + moveCount, bucketFillCount - srcIdx);
+    }
+  }
+
   private void allocateNewBucketBuffer(int newBucketBufferId) {
     if (newBucketBufferId >= realAddresses.length) {
       final long newAddressTable[] = new long[realAddresses.length * 2];
       System.arraycopy(realAddresses, 0, newAddressTable, 0, realAddresses.length);
       realAddresses = newAddressTable;
+      accessStamps = Arrays.copyOf(accessStamps, newAddressTable.length);
     }
-    realAddresses[newBucketBufferId] = UNSAFE.allocateMemory(maxBucketBufferLength);
+    realAddresses[newBucketBufferId] = storage.allocate(newBucketBufferId, maxBucketBufferLength);
     setBucketCount(newBucketBufferId, 0);
     setBucketBufferCount(getBucketBufferCount() + 1);
   }
@@ -16,6 +16,7 @@
 package io.zeebe.map;
 
 import static java.lang.Math.addExact;
+import static org.agrona.BitUtil.SIZE_OF_BYTE;
 import static org.agrona.BitUtil.SIZE_OF_INT;
 import static org.agrona.BitUtil.SIZE_OF_LONG;
 
@@ -79,9 +80,15 @@ import static org.agrona.BitUtil.SIZE_OF_LONG;
  *  |                       BLOCK DATA                           ...
  * ...                                                            |
  *  +-------------------------------------------------------------+
+ *  |                       BLOCK FINGERPRINTS                   ...
+ * ...                                                            |
+ *  +-------------------------------------------------------------+
  * </pre>
  *
- * The block data contains the blocks
+ * The block data contains the blocks. The block fingerprints contain one byte per block, which is
+ * derived from the hash code of the block's key. They are stored contiguously after the space for
+ * the maximum count of blocks, so that a lookup compares the key only with the blocks whose
+ * fingerprint matches.
  *
  * <p>Each block has the following layout
  *
@@ -118,6 +125,8 @@ public class BucketBufferArrayDescriptor {
 
   public static final int BLOCK_KEY_OFFSET;
 
+  public static final int FINGERPRINT_LENGTH = SIZE_OF_BYTE;
+
   static {
     int offset = 0;
     // MAIN BUCKET BUFFER ARRAY HEADER ////////////////
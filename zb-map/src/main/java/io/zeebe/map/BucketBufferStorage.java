@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.map;
+
+/**
+ * Provides the memory of the bucket buffers of a {@link BucketBufferArray}.
+ *
+ * <p>A storage can limit the number of bytes which should be resident in memory. The bucket buffer
+ * array tracks which bucket buffers were accessed recently and pages out the cold ones if the
+ * resident bucket buffers exceed this limit, see {@link
+ * BucketBufferArray#pageOutColdBucketBuffers()}.
+ */
+public interface BucketBufferStorage {
+  /**
+   * Allocates the memory of a new bucket buffer.
+   *
+   * @param bucketBufferId the id of the bucket buffer
+   * @param length the length of the bucket buffer in bytes
+   * @return the address of the allocated memory
+   */
+  long allocate(int bucketBufferId, int length);
+
+  /**
+   * Releases the memory of a bucket buffer. The address must not be accessed afterwards.
+   *
+   * @param bucketBufferId the id of the bucket buffer
+   * @param address the current address of the bucket buffer
+   * @param length the length of the bucket buffer in bytes
+   */
+  void free(int bucketBufferId, long address, int length);
+
+  /**
+   * Releases the resident memory of a bucket buffer without losing its content. The content is
+   * paged in again on the next access of the returned address.
+   *
+   * @param bucketBufferId the id of the bucket buffer
+   * @param address the current address of the bucket buffer
+   * @param length the length of the bucket buffer in bytes
+   * @return the new address of the bucket buffer
+   */
+  long pageOut(int bucketBufferId, long address, int length);
+
+  /**
+   * @return the maximum number of bytes of the bucket buffers which should be resident in memory
+   */
+  long getMaxResidentLength();
+}
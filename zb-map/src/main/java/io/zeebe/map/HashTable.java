@@ -23,32 +23,76 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Arrays;
 import org.agrona.BitUtil;
 import org.agrona.UnsafeAccess;
 import org.agrona.concurrent.UnsafeBuffer;
 import sun.misc.Unsafe;
 
+/**
+ * The hash table of the map, which maps the bucket ids to the bucket addresses.
+ *
+ * <p>The table is stored in segments of {@link #SEGMENT_CAPACITY} entries. A table which is
+ * smaller than a segment is stored in a single segment, which is reallocated on resize.
+ *
+ * <p>If a larger table grows, then the new entries are equal to the existing entries, i.e. the
+ * entry {@code i} of the new table is the entry {@code i % previousCapacity}. Instead of copying
+ * all entries at once, the new segments are pending and resolve their entries from the existing
+ * segments. A pending segment is filled on the first write to it, or by {@link
+ * #fillPendingSegment()}, which is called on every map modification. This spreads the copying
+ * over the subsequent operations and avoids latency spikes on growing a large table.
+ */
 @SuppressWarnings("restriction")
 public class HashTable implements Closeable {
   private static final Unsafe UNSAFE = UnsafeAccess.UNSAFE;
 
+  public static final int SEGMENT_SHIFT = 13;
+  public static final int SEGMENT_CAPACITY = 1 << SEGMENT_SHIFT;
+  private static final int SEGMENT_MASK = SEGMENT_CAPACITY - 1;
+  private static final int SEGMENT_LENGTH = SEGMENT_CAPACITY * SIZE_OF_LONG;
+
+  private static final long PENDING_SEGMENT = 0;
+
   private final UnsafeBuffer ioBuffer = new UnsafeBuffer(0, 0);
   private int length;
-  private long realAddress;
+
+  private long[] segmentAddresses;
+
+  /** The capacity of the table before it grew, if segments are pending; zero otherwise. */
+  private int pendingSourceCapacity;
+
+  private int nextPendingSegment;
 
   public HashTable(int tableSize) {
     length = Math.multiplyExact(tableSize, SIZE_OF_LONG);
-    realAddress = UNSAFE.allocateMemory(length);
+    segmentAddresses = new long[getSegmentCount(tableSize)];
+
+    if (tableSize <= SEGMENT_CAPACITY) {
+      segmentAddresses[0] = UNSAFE.allocateMemory(length);
+    } else {
+      for (int i = 0; i < segmentAddresses.length; i++) {
+        segmentAddresses[i] = UNSAFE.allocateMemory(SEGMENT_LENGTH);
+      }
+    }
     clear();
   }
 
   @Override
   public void close() throws IOException {
-    UNSAFE.freeMemory(realAddress);
+    for (int i = 0; i < segmentAddresses.length; i++) {
+      if (segmentAddresses[i] != PENDING_SEGMENT) {
+        UNSAFE.freeMemory(segmentAddresses[i]);
+      }
+    }
   }
 
   public void clear() {
-    UNSAFE.setMemory(realAddress, length, (byte) 0);
+    fillPendingSegments();
+
+    final int segmentLength = Math.min(length, SEGMENT_LENGTH);
+    for (int i = 0; i < segmentAddresses.length; i++) {
+      UNSAFE.setMemory(segmentAddresses[i], segmentLength, (byte) 0);
+    }
   }
 
   public int serializationSize() {
@@ -66,17 +110,115 @@ public class HashTable implements Closeable {
   public void resize(int tableSize) {
     tableSize = BitUtil.findNextPositivePowerOfTwo(tableSize);
     final int newLength = Math.multiplyExact(tableSize, SIZE_OF_LONG);
-    if (newLength > length) {
-      final int oldLength = length;
-      length = newLength;
-      realAddress = UNSAFE.reallocateMemory(realAddress, length);
+
+    if (newLength != length) {
+      fillPendingSegments();
+
+      if (newLength > length) {
+        grow(tableSize);
+      } else {
+        shrink(tableSize);
+      }
+    }
+  }
+
+  private void grow(int tableSize) {
+    final int oldCapacity = getCapacity();
+
+    if (oldCapacity < SEGMENT_CAPACITY) {
+      final int segmentCapacity = Math.min(tableSize, SEGMENT_CAPACITY);
+      final int segmentLength = segmentCapacity * SIZE_OF_LONG;
+      final long segmentAddress = UNSAFE.reallocateMemory(segmentAddresses[0], segmentLength);
+
       // hash table was duplicated the new indices should point to the
       // same corresponding buckets like there counter-part
-      UNSAFE.copyMemory(realAddress, realAddress + oldLength, length - oldLength);
-    } else if (newLength < length) {
-      length = newLength;
-      realAddress = UNSAFE.reallocateMemory(realAddress, length);
+      for (int copiedLength = length; copiedLength < segmentLength; copiedLength <<= 1) {
+        UNSAFE.copyMemory(segmentAddress, segmentAddress + copiedLength, copiedLength);
+      }
+
+      segmentAddresses[0] = segmentAddress;
+      length = segmentLength;
+    }
+
+    if (tableSize > SEGMENT_CAPACITY) {
+      final int sourceCapacity = getCapacity();
+      final int sourceSegmentCount = getSegmentCount(sourceCapacity);
+
+      // the new segments are pending until they are filled
+      segmentAddresses = Arrays.copyOf(segmentAddresses, getSegmentCount(tableSize));
+      pendingSourceCapacity = sourceCapacity;
+      nextPendingSegment = sourceSegmentCount;
+
+      length = tableSize * SIZE_OF_LONG;
+    }
+  }
+
+  private void shrink(int tableSize) {
+    final int segmentCount = getSegmentCount(tableSize);
+
+    for (int i = segmentCount; i < segmentAddresses.length; i++) {
+      UNSAFE.freeMemory(segmentAddresses[i]);
+    }
+    segmentAddresses = Arrays.copyOf(segmentAddresses, segmentCount);
+
+    if (tableSize < SEGMENT_CAPACITY) {
+      segmentAddresses[0] =
+          UNSAFE.reallocateMemory(segmentAddresses[0], tableSize * SIZE_OF_LONG);
     }
+
+    length = tableSize * SIZE_OF_LONG;
+  }
+
+  /**
+   * Fills the next pending segment, if the table has pending segments after it grew.
+   *
+   * @return <code>true</code>, if a segment was filled
+   */
+  public boolean fillPendingSegment() {
+    boolean isFilled = false;
+
+    while (pendingSourceCapacity > 0 && !isFilled) {
+      final int segmentIdx = nextPendingSegment++;
+
+      // segments are also filled on write
+      if (segmentAddresses[segmentIdx] == PENDING_SEGMENT) {
+        fillSegment(segmentIdx);
+        isFilled = true;
+      }
+
+      if (nextPendingSegment == segmentAddresses.length) {
+        pendingSourceCapacity = 0;
+      }
+    }
+
+    return isFilled;
+  }
+
+  private void fillPendingSegments() {
+    while (fillPendingSegment()) {
+      // fill until no segment is pending
+    }
+  }
+
+  public boolean hasPendingSegments() {
+    return pendingSourceCapacity > 0;
+  }
+
+  private void fillSegment(int segmentIdx) {
+    final int sourceSegmentIdx = getSourceSegmentIdx(segmentIdx);
+
+    final long segmentAddress = UNSAFE.allocateMemory(SEGMENT_LENGTH);
+    UNSAFE.copyMemory(segmentAddresses[sourceSegmentIdx], segmentAddress, SEGMENT_LENGTH);
+
+    segmentAddresses[segmentIdx] = segmentAddress;
+  }
+
+  private int getSourceSegmentIdx(int segmentIdx) {
+    return segmentIdx & (getSegmentCount(pendingSourceCapacity) - 1);
+  }
+
+  private static int getSegmentCount(int tableSize) {
+    return Math.max(1, tableSize >>> SEGMENT_SHIFT);
   }
 
   public void updateTable(int stepPower, int startIdx, long newBucketAddress) {
@@ -97,11 +239,22 @@ public class HashTable implements Closeable {
           "Bucket id " + bucketId + " is larger then capacity of " + capacity);
     }
 
-    return UNSAFE.getLong(realAddress + (bucketId * SIZE_OF_LONG));
+    long segmentAddress = segmentAddresses[bucketId >>> SEGMENT_SHIFT];
+    if (segmentAddress == PENDING_SEGMENT) {
+      segmentAddress = segmentAddresses[getSourceSegmentIdx(bucketId >>> SEGMENT_SHIFT)];
+    }
+
+    return UNSAFE.getLong(segmentAddress + ((bucketId & SEGMENT_MASK) * SIZE_OF_LONG));
   }
 
   public void setBucketAddress(int bucketId, long address) {
-    UNSAFE.putLong(realAddress + (bucketId * SIZE_OF_LONG), address);
+    final int segmentIdx = bucketId >>> SEGMENT_SHIFT;
+    if (segmentAddresses[segmentIdx] == PENDING_SEGMENT) {
+      fillSegment(segmentIdx);
+    }
+
+    UNSAFE.putLong(
+        segmentAddresses[segmentIdx] + ((bucketId & SEGMENT_MASK) * SIZE_OF_LONG), address);
   }
 
   // de-/serialize
@@ -111,10 +264,18 @@ public class HashTable implements Closeable {
     ioBuffer.putInt(0, getCapacity());
     outputStream.write(buffer, 0, SIZE_OF_INT);
 
-    for (int offset = 0; offset < length; offset += buffer.length) {
-      final int copyLength = Math.min(buffer.length, length - offset);
-      UNSAFE.copyMemory(null, realAddress + offset, buffer, ARRAY_BASE_OFFSET, copyLength);
-      outputStream.write(buffer, 0, copyLength);
+    final int segmentLength = Math.min(length, SEGMENT_LENGTH);
+    for (int segmentIdx = 0; segmentIdx < segmentAddresses.length; segmentIdx++) {
+      long segmentAddress = segmentAddresses[segmentIdx];
+      if (segmentAddress == PENDING_SEGMENT) {
+        segmentAddress = segmentAddresses[getSourceSegmentIdx(segmentIdx)];
+      }
+
+      for (int offset = 0; offset < segmentLength; offset += buffer.length) {
+        final int copyLength = Math.min(buffer.length, segmentLength - offset);
+        UNSAFE.copyMemory(null, segmentAddress + offset, buffer, ARRAY_BASE_OFFSET, copyLength);
+        outputStream.write(buffer, 0, copyLength);
+      }
     }
   }
 
@@ -123,14 +284,19 @@ public class HashTable implements Closeable {
     inputStream.read(buffer, 0, SIZE_OF_INT);
     final int newTableSize = ioBuffer.getInt(0);
     resize(newTableSize);
+    fillPendingSegments();
 
+    final int segmentLength = Math.min(length, SEGMENT_LENGTH);
     int bytesRead = 0;
     for (int offset = 0; offset < length; offset += bytesRead) {
-      final int readLength = Math.min(buffer.length, length - offset);
+      final int segmentOffset = offset % segmentLength;
+      final int readLength = Math.min(buffer.length, segmentLength - segmentOffset);
       bytesRead = inputStream.read(buffer, 0, readLength);
 
       if (bytesRead > 0) {
-        UNSAFE.copyMemory(buffer, ARRAY_BASE_OFFSET, null, realAddress + offset, bytesRead);
+        final long segmentAddress = segmentAddresses[offset / segmentLength];
+        UNSAFE.copyMemory(
+            buffer, ARRAY_BASE_OFFSET, null, segmentAddress + segmentOffset, bytesRead);
       } else {
         throw new IOException(
             "Unable to read full map buffer from input stream. "
@@ -39,6 +39,11 @@ public class Long2BytesZbMap extends ZbMap<LongKeyHandler, ByteArrayValueHandler
     super(tableSize, blocksPerBucket, SIZE_OF_LONG, valueMaxLength);
   }
 
+  public Long2BytesZbMap(
+      int tableSize, int blocksPerBucket, int valueMaxLength, BucketBufferStorage storage) {
+    super(tableSize, blocksPerBucket, SIZE_OF_LONG, valueMaxLength, storage);
+  }
+
   /**
    * Returns a view on the map value, i.e. direct modification should be avoided. This view may
    * become invalid with the very next interaction with the map. For values shorter than
@@ -34,6 +34,10 @@ public class Long2LongZbMap extends ZbMap<LongKeyHandler, LongValueHandler>
     super(tableSize, blocksPerBucket, SIZE_OF_LONG, SIZE_OF_LONG);
   }
 
+  public Long2LongZbMap(int tableSize, int blocksPerBucket, BucketBufferStorage storage) {
+    super(tableSize, blocksPerBucket, SIZE_OF_LONG, SIZE_OF_LONG, storage);
+  }
+
   public long get(long key, long missingValue) {
     keyHandler.theKey = key;
     valueHandler.theValue = missingValue;
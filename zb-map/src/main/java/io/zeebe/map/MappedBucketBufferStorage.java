@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.map;
+
+import java.io.File;
+import java.nio.MappedByteBuffer;
+import java.util.Arrays;
+import org.agrona.BufferUtil;
+import org.agrona.IoUtil;
+
+/**
+ * Stores each bucket buffer in a memory-mapped file, so that the map can hold more entries than
+ * fit into the physical memory. The content of the files is only valid while the map is open, i.e.
+ * the files are deleted when the bucket buffers are released. Use snapshots to persist the map.
+ *
+ * <p>A bucket buffer is paged out by unmapping and mapping its file again, which releases the
+ * resident pages of the mapping. The operating system writes the modified pages back to the file
+ * and reads them again on the next access.
+ *
+ * <p>The directory must not be used by another map.
+ */
+public class MappedBucketBufferStorage implements BucketBufferStorage {
+  private static final String FILE_NAME_FORMAT = "bucket-buffer-%d.data";
+
+  private final File directory;
+  private final long maxResidentLength;
+
+  private MappedByteBuffer[] mappedBuffers =
+      new MappedByteBuffer[BucketBufferArray.ALLOCATION_FACTOR];
+
+  /**
+   * @param directory the directory of the bucket buffer files
+   * @param maxResidentLength the maximum number of bytes of the bucket buffers which should be
+   *     resident in memory
+   */
+  public MappedBucketBufferStorage(File directory, long maxResidentLength) {
+    if (maxResidentLength <= 0) {
+      throw new IllegalArgumentException("Maximum resident length must be greater than 0.");
+    }
+
+    IoUtil.ensureDirectoryExists(directory, "bucket buffer directory");
+
+    this.directory = directory;
+    this.maxResidentLength = maxResidentLength;
+  }
+
+  @Override
+  public long allocate(int bucketBufferId, int length) {
+    if (bucketBufferId >= mappedBuffers.length) {
+      mappedBuffers =
+          Arrays.copyOf(mappedBuffers, Math.max(mappedBuffers.length * 2, bucketBufferId + 1));
+    }
+
+    final File file = getFile(bucketBufferId);
+    IoUtil.deleteIfExists(file);
+
+    final MappedByteBuffer mappedBuffer = IoUtil.mapNewFile(file, length, false);
+    mappedBuffers[bucketBufferId] = mappedBuffer;
+
+    return BufferUtil.address(mappedBuffer);
+  }
+
+  @Override
+  public void free(int bucketBufferId, long address, int length) {
+    IoUtil.unmap(mappedBuffers[bucketBufferId]);
+    mappedBuffers[bucketBufferId] = null;
+
+    IoUtil.deleteIfExists(getFile(bucketBufferId));
+  }
+
+  @Override
+  public long pageOut(int bucketBufferId, long address, int length) {
+    IoUtil.unmap(mappedBuffers[bucketBufferId]);
+
+    final MappedByteBuffer mappedBuffer =
+        IoUtil.mapExistingFile(getFile(bucketBufferId), "bucket buffer");
+    mappedBuffers[bucketBufferId] = mappedBuffer;
+
+    return BufferUtil.address(mappedBuffer);
+  }
+
+  @Override
+  public long getMaxResidentLength() {
+    return maxResidentLength;
+  }
+
+  public File getDirectory() {
+    return directory;
+  }
+
+  private File getFile(int bucketBufferId) {
+    return new File(directory, String.format(FILE_NAME_FORMAT, bucketBufferId));
+  }
+}
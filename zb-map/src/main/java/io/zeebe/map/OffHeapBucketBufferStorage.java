@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.map;
+
+import org.agrona.UnsafeAccess;
+import sun.misc.Unsafe;
+
+/** Allocates the bucket buffers off the heap. The bucket buffers are never paged out. */
+@SuppressWarnings("restriction")
+public class OffHeapBucketBufferStorage implements BucketBufferStorage {
+  private static final Unsafe UNSAFE = UnsafeAccess.UNSAFE;
+
+  @Override
+  public long allocate(int bucketBufferId, int length) {
+    return UNSAFE.allocateMemory(length);
+  }
+
+  @Override
+  public void free(int bucketBufferId, long address, int length) {
+    UNSAFE.freeMemory(address);
+  }
+
+  @Override
+  public long pageOut(int bucketBufferId, long address, int length) {
+    return address;
+  }
+
+  @Override
+  public long getMaxResidentLength() {
+    return Long.MAX_VALUE;
+  }
+}
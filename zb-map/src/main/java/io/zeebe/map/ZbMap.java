@@ -132,6 +132,31 @@ public abstract class ZbMap<K extends KeyHandler, V extends ValueHandler> {
    * @param maxValueLength the max length of a value
    */
   public ZbMap(int initialTableSize, int minBlockCount, int maxKeyLength, int maxValueLength) {
+    this(
+        initialTableSize,
+        minBlockCount,
+        maxKeyLength,
+        maxValueLength,
+        new OffHeapBucketBufferStorage());
+  }
+
+  /**
+   * Creates an hash map object which stores its buckets in the given storage, see {@link
+   * #ZbMap(int, int, int, int)}.
+   *
+   * <p>If the storage limits the resident memory, then the cold bucket buffers are paged out on
+   * the next map operation which exceeds the limit, see {@link
+   * BucketBufferArray#pageOutColdBucketBuffers()}.
+   *
+   * @param storage provides the memory of the bucket buffers, e.g. {@link
+   *     MappedBucketBufferStorage} to hold more entries than fit into the physical memory
+   */
+  public ZbMap(
+      int initialTableSize,
+      int minBlockCount,
+      int maxKeyLength,
+      int maxValueLength,
+      BucketBufferStorage storage) {
     if (LOG.isTraceEnabled()) {
       LOG.trace(
           "Creating map {} in context: \n{}",
@@ -147,7 +172,8 @@ public abstract class ZbMap<K extends KeyHandler, V extends ValueHandler> {
     this.initialTableSize = ensureTableSizeIsPowerOfTwo(initialTableSize);
 
     this.hashTable = new HashTable(this.initialTableSize);
-    this.bucketBufferArray = new BucketBufferArray(minBlockCount, maxKeyLength, maxValueLength);
+    this.bucketBufferArray =
+        new BucketBufferArray(minBlockCount, maxKeyLength, maxValueLength, storage);
     this.bucketMergeHelper =
         new ZbMapBucketMergeHelper(bucketBufferArray, hashTable, minBlockCount);
 
@@ -248,6 +274,9 @@ public abstract class ZbMap<K extends KeyHandler, V extends ValueHandler> {
   }
 
   protected boolean put() {
+    bucketBufferArray.pageOutColdBucketBuffers();
+    hashTable.fillPendingSegment();
+
     final int keyHashCode = keyHandler.keyHashCode();
     int bucketId = getBucketId(keyHashCode);
     boolean isUpdated = false;
@@ -258,7 +287,7 @@ public abstract class ZbMap<K extends KeyHandler, V extends ValueHandler> {
       long bucketAddress = hashTable.getBucketAddress(bucketId);
 
       if (scanForKey) {
-        final Block block = findBlockInBucket(bucketAddress);
+        final Block block = findBlockInBucket(bucketAddress, keyHashCode);
         final boolean blockWasFound = block.wasFound();
         if (blockWasFound) {
           bucketAddress = block.getBucketAddress();
@@ -290,6 +319,9 @@ public abstract class ZbMap<K extends KeyHandler, V extends ValueHandler> {
   }
 
   protected boolean remove() {
+    bucketBufferArray.pageOutColdBucketBuffers();
+    hashTable.fillPendingSegment();
+
     final Block block = findBlock();
     final boolean wasFound = block.wasFound();
     if (wasFound) {
@@ -325,6 +357,8 @@ public abstract class ZbMap<K extends KeyHandler, V extends ValueHandler> {
   }
 
   protected boolean get() {
+    bucketBufferArray.pageOutColdBucketBuffers();
+
     final Block block = findBlock();
     final boolean wasFound = block.wasFound();
     if (wasFound) {
@@ -337,28 +371,23 @@ public abstract class ZbMap<K extends KeyHandler, V extends ValueHandler> {
     final int keyHashCode = keyHandler.keyHashCode();
     final int bucketId = getBucketId(keyHashCode);
     final long bucketAddress = hashTable.getBucketAddress(bucketId);
-    return findBlockInBucket(bucketAddress);
+    return findBlockInBucket(bucketAddress, keyHashCode);
   }
 
-  private Block findBlockInBucket(long bucketAddress) {
+  private Block findBlockInBucket(long bucketAddress, int keyHashCode) {
     final Block foundBlock = blockHelperInstance;
     foundBlock.reset();
     boolean keyFound = false;
 
-    do {
-      final int bucketFillCount = bucketBufferArray.getBucketFillCount(bucketAddress);
-      int blockOffset = bucketBufferArray.getFirstBlockOffset();
-      int blocksVisited = 0;
-
-      while (!keyFound && blocksVisited < bucketFillCount) {
-        keyFound = bucketBufferArray.keyEquals(keyHandler, bucketAddress, blockOffset);
+    final byte fingerprint = BucketBufferArray.fingerprint(keyHashCode);
 
-        if (keyFound) {
-          foundBlock.set(bucketAddress, blockOffset);
-        }
+    do {
+      final int blockOffset =
+          bucketBufferArray.findBlockOffset(keyHandler, bucketAddress, fingerprint);
+      keyFound = blockOffset >= 0;
 
-        blockOffset += bucketBufferArray.getBlockLength();
-        blocksVisited++;
+      if (keyFound) {
+        foundBlock.set(bucketAddress, blockOffset);
       }
 
       bucketAddress = bucketBufferArray.getBucketOverflowPointer(bucketAddress);
@@ -23,7 +23,8 @@ import java.util.*;
 /**
  * A recyclable, allocation-free iterator for a ZbMap.
  *
- * <p>The implementation is not thread-safe and does not allow concurrent modifications.
+ * <p>The implementation is not thread-safe and does not allow concurrent modifications, unless the
+ * iteration is continued by {@link #resume()}.
  */
 public class ZbMapIterator<K extends KeyHandler, V extends ValueHandler, E extends ZbMapEntry<K, V>>
     implements Iterator<E> {
@@ -35,6 +36,7 @@ public class ZbMapIterator<K extends KeyHandler, V extends ValueHandler, E exten
   private final V valueHandler;
 
   int modCount;
+  int relocationCount;
 
   int currentBucketBuffer;
   int currentBucket;
@@ -59,18 +61,32 @@ public class ZbMapIterator<K extends KeyHandler, V extends ValueHandler, E exten
 
   public void reset() {
     modCount = map.modCount;
+    relocationCount = bucketBufferArray.getRelocationCount();
 
     currentBucketBuffer = 0;
     currentBucket = 0;
     currentBucketOffset = bucketBufferArray.getFirstBucketOffset();
 
-    currentBucketAddress = getBucketAddress(currentBucketBuffer, currentBucketOffset);
-    currentBlockOffset = bucketBufferArray.getFirstBlockOffset();
-    currentBlock = 0;
+    seekFilledBucket();
+  }
+
+  /**
+   * Continues the iteration after the map was modified. The iteration continues with the first
+   * entry of the current bucket, so that entries can be returned more than once. Entries which are
+   * added after {@link #reset()} was called may not be returned.
+   *
+   * @return <code>false</code>, if entries could have been moved to buckets which the iteration has
+   *     already passed, so that the iteration starts again with the first bucket
+   */
+  public boolean resume() {
+    if (relocationCount != bucketBufferArray.getRelocationCount()) {
+      reset();
+      return false;
+    }
 
-    hasNext =
-        bucketBufferArray.getBucketCount() > 0
-            && bucketBufferArray.getBucketFillCount(currentBucketAddress) > 0;
+    modCount = map.modCount;
+    seekFilledBucket();
+    return true;
   }
 
   @Override
@@ -103,31 +119,40 @@ public class ZbMapIterator<K extends KeyHandler, V extends ValueHandler, E exten
     } else {
       // the current bucket contains no more blocks
       // go to the next bucket which contains blocks
-      currentBlock = 0;
-      currentBlockOffset = bucketBufferArray.getFirstBlockOffset();
+      currentBucket += 1;
+      currentBucketOffset += bucketBufferArray.getMaxBucketLength();
 
-      do {
-        currentBucket += 1;
-        currentBucketOffset += bucketBufferArray.getMaxBucketLength();
-        currentBucketAddress = getBucketAddress(currentBucketBuffer, currentBucketOffset);
+      seekFilledBucket();
+    }
 
-      } while (currentBucket < bucketBufferArray.getBucketCount(currentBucketBuffer)
-          && bucketBufferArray.getBucketFillCount(currentBucketAddress) == 0);
+    return entry;
+  }
 
-      hasNext = currentBucket < bucketBufferArray.getBucketCount(currentBucketBuffer);
+  /** Moves to the first block of the current or the next bucket which contains blocks. */
+  private void seekFilledBucket() {
+    currentBlock = 0;
+    currentBlockOffset = bucketBufferArray.getFirstBlockOffset();
 
-      if (!hasNext && currentBucketBuffer + 1 < bucketBufferArray.getBucketBufferCount()) {
-        // the current bucket buffer contains no more blocks
-        // go to the next bucket buffer
-        currentBucketBuffer += 1;
-        currentBucket = 0;
-        currentBucketOffset = bucketBufferArray.getFirstBucketOffset();
+    while (currentBucketBuffer < bucketBufferArray.getBucketBufferCount()) {
+      while (currentBucket < bucketBufferArray.getBucketCount(currentBucketBuffer)) {
         currentBucketAddress = getBucketAddress(currentBucketBuffer, currentBucketOffset);
 
-        hasNext = bucketBufferArray.getBucketCount(currentBucketBuffer) > 0;
+        if (bucketBufferArray.getBucketFillCount(currentBucketAddress) > 0) {
+          hasNext = true;
+          return;
+        }
+
+        currentBucket += 1;
+        currentBucketOffset += bucketBufferArray.getMaxBucketLength();
       }
+
+      // the current bucket buffer contains no more blocks
+      // go to the next bucket buffer
+      currentBucketBuffer += 1;
+      currentBucket = 0;
+      currentBucketOffset = bucketBufferArray.getFirstBucketOffset();
     }
 
-    return entry;
+    hasNext = false;
   }
 }
@@ -15,11 +15,23 @@
  */
 package io.zeebe.map;
 
+import static io.zeebe.map.BucketBufferArray.ALLOCATION_FACTOR;
+import static io.zeebe.map.BucketBufferArrayDescriptor.BLOCK_KEY_OFFSET;
+import static io.zeebe.map.BucketBufferArrayDescriptor.BUCKET_BUFFER_BUCKET_COUNT_OFFSET;
+import static io.zeebe.map.BucketBufferArrayDescriptor.BUCKET_BUFFER_HEADER_LENGTH;
+import static io.zeebe.map.BucketBufferArrayDescriptor.BUCKET_DATA_OFFSET;
+import static io.zeebe.map.BucketBufferArrayDescriptor.BUCKET_FILL_COUNT_OFFSET;
+import static io.zeebe.map.BucketBufferArrayDescriptor.MAIN_BUCKET_BUFFER_HEADER_LEN;
+import static io.zeebe.map.BucketBufferArrayDescriptor.MAIN_BUFFER_COUNT_OFFSET;
+import static io.zeebe.map.BucketBufferArrayDescriptor.getBlockValueOffset;
+import static java.lang.Math.addExact;
+import static java.lang.Math.multiplyExact;
 import static org.agrona.BitUtil.SIZE_OF_INT;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import org.agrona.IoUtil;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -29,7 +41,10 @@ public class ZbMapSerializer {
    * The version of the snapshot. Part of the metadata header, which will be written on every
    * snapshot.
    */
-  private static final int VERSION = 1;
+  private static final int VERSION = 2;
+
+  /** The version of the snapshots which were written before the buckets had block fingerprints. */
+  private static final int VERSION_WITHOUT_FINGERPRINTS = 1;
 
   /** The size of the header, which contains meta data like the version of the snapshot etc. */
   private static final int METADATA_LEN = SIZE_OF_INT;
@@ -64,14 +79,96 @@ public class ZbMapSerializer {
 
     final int version = bufferView.getInt(0);
 
-    if (version != VERSION) {
+    if (version == VERSION) {
+      map.getHashTable().readFromStream(inputStream, buffer);
+      map.getBucketBufferArray().readFromStream(inputStream, buffer);
+    } else if (version == VERSION_WITHOUT_FINGERPRINTS) {
+      readWithoutFingerprints(inputStream);
+    } else {
       throw new RuntimeException(
           String.format(
-              "Cannot read map snapshot: expected version %d but got version %d",
-              VERSION, version));
+              "Cannot read map snapshot: expected version %d or %d but got version %d",
+              VERSION_WITHOUT_FINGERPRINTS, VERSION, version));
     }
+  }
 
+  /**
+   * Reads a snapshot without block fingerprints. The buckets of such a snapshot are shorter than
+   * the current ones, so that the bucket buffers can't be copied. Instead, the blocks are put into
+   * the cleared map again, which calculates their fingerprints and rebuilds the hash table.
+   */
+  private void readWithoutFingerprints(InputStream inputStream) throws IOException {
     map.getHashTable().readFromStream(inputStream, buffer);
-    map.getBucketBufferArray().readFromStream(inputStream, buffer);
+    map.clear();
+
+    final BucketBufferArray bucketBufferArray = map.getBucketBufferArray();
+    final int maxKeyLength = bucketBufferArray.getMaxKeyLength();
+    final int maxValueLength = bucketBufferArray.getMaxValueLength();
+    final int blockLength = bucketBufferArray.getBlockLength();
+    final int maxBucketBlockCount = bucketBufferArray.getMaxBucketBlockCount();
+    final int bucketLength =
+        addExact(BUCKET_DATA_OFFSET, multiplyExact(maxBucketBlockCount, blockLength));
+    final int bucketBufferLength =
+        addExact(BUCKET_BUFFER_HEADER_LENGTH, multiplyExact(ALLOCATION_FACTOR, bucketLength));
+
+    final UnsafeBuffer bucketBuffer =
+        new UnsafeBuffer(ByteBuffer.allocateDirect(bucketBufferLength));
+
+    if (readInto(inputStream, bucketBuffer, MAIN_BUCKET_BUFFER_HEADER_LEN)
+        < MAIN_BUCKET_BUFFER_HEADER_LEN) {
+      throw new IOException("Unable to read bucket buffer header of map snapshot");
+    }
+
+    final int bucketBufferCount = bucketBuffer.getInt(MAIN_BUFFER_COUNT_OFFSET);
+
+    for (int bucketBufferIdx = 0; bucketBufferIdx < bucketBufferCount; bucketBufferIdx++) {
+      final int readBytes = readInto(inputStream, bucketBuffer, bucketBufferLength);
+      final int bucketCount =
+          readBytes >= BUCKET_BUFFER_HEADER_LENGTH
+              ? bucketBuffer.getInt(BUCKET_BUFFER_BUCKET_COUNT_OFFSET)
+              : 0;
+
+      if (readBytes < BUCKET_BUFFER_HEADER_LENGTH + bucketCount * bucketLength) {
+        throw new IOException(
+            String.format(
+                "Unable to read bucket buffer %d of map snapshot. Only read %d bytes.",
+                bucketBufferIdx, readBytes));
+      }
+
+      for (int bucketIdx = 0; bucketIdx < bucketCount; bucketIdx++) {
+        final int bucketOffset = BUCKET_BUFFER_HEADER_LENGTH + bucketIdx * bucketLength;
+        final int bucketFillCount = bucketBuffer.getInt(bucketOffset + BUCKET_FILL_COUNT_OFFSET);
+
+        for (int blockIdx = 0; blockIdx < bucketFillCount; blockIdx++) {
+          final long blockAddress =
+              bucketBuffer.addressOffset()
+                  + bucketOffset
+                  + BUCKET_DATA_OFFSET
+                  + blockIdx * blockLength;
+
+          map.keyHandler.readKey(blockAddress + BLOCK_KEY_OFFSET);
+          map.valueHandler.readValue(
+              getBlockValueOffset(blockAddress, maxKeyLength), maxValueLength);
+          map.put();
+        }
+      }
+    }
+  }
+
+  private int readInto(InputStream inputStream, UnsafeBuffer destination, int length)
+      throws IOException {
+    int offset = 0;
+    int bytesRead = 0;
+
+    while (offset < length && bytesRead >= 0) {
+      bytesRead = inputStream.read(buffer, 0, Math.min(buffer.length, length - offset));
+
+      if (bytesRead > 0) {
+        destination.putBytes(offset, buffer, 0, bytesRead);
+        offset += bytesRead;
+      }
+    }
+
+    return offset;
   }
 }
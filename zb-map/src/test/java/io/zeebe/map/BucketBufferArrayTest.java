@@ -65,6 +65,22 @@ public class BucketBufferArrayTest {
                 + ALLOCATION_FACTOR * bucketBufferArray.getMaxBucketLength());
   }
 
+  @Test
+  public void shouldKeepAllBucketBuffersResidentWithoutResidentLimit() {
+    // given
+    for (int i = 0; i < 3 * ALLOCATION_FACTOR; i++) {
+      bucketBufferArray.allocateNewBucket(i, 0);
+    }
+
+    // when
+    bucketBufferArray.pageOutColdBucketBuffers();
+
+    // then
+    assertThat(bucketBufferArray.getBucketBufferCount()).isGreaterThan(1);
+    assertThat(bucketBufferArray.getResidentBucketBufferCount())
+        .isEqualTo(bucketBufferArray.getBucketBufferCount());
+  }
+
   @Test
   public void shouldThrowOverflowExceptionForToLargeMinBlockCount() {
     // expect
@@ -1676,4 +1692,87 @@ public class BucketBufferArrayTest {
     }
     return bucketAddresses;
   }
+
+  @Test
+  public void shouldFindBlockByFingerprint() {
+    // given
+    final LongKeyHandler keyHandler = new LongKeyHandler();
+    final LongValueHandler valueHandler = new LongValueHandler();
+    final long bucketAddress = bucketBufferArray.allocateNewBucket(1, 1);
+
+    keyHandler.theKey = 10;
+    bucketBufferArray.addBlock(bucketAddress, keyHandler, valueHandler);
+    keyHandler.theKey = 11;
+    bucketBufferArray.addBlock(bucketAddress, keyHandler, valueHandler);
+
+    // when
+    final int blockOffset =
+        bucketBufferArray.findBlockOffset(
+            keyHandler, bucketAddress, fingerprint(keyHandler.keyHashCode()));
+
+    // then
+    assertThat(blockOffset)
+        .isEqualTo(bucketBufferArray.getFirstBlockOffset() + bucketBufferArray.getBlockLength());
+    assertThat(bucketBufferArray.getBlockFingerprint(bucketAddress, blockOffset))
+        .isEqualTo(fingerprint(keyHandler.keyHashCode()));
+  }
+
+  @Test
+  public void shouldNotFindBlockWithDifferentFingerprint() {
+    // given
+    final LongKeyHandler keyHandler = new LongKeyHandler();
+    final LongValueHandler valueHandler = new LongValueHandler();
+    final long bucketAddress = bucketBufferArray.allocateNewBucket(1, 1);
+
+    keyHandler.theKey = 10;
+    bucketBufferArray.addBlock(bucketAddress, keyHandler, valueHandler);
+
+    // when
+    final byte otherFingerprint = (byte) (fingerprint(keyHandler.keyHashCode()) + 1);
+    final int blockOffset =
+        bucketBufferArray.findBlockOffset(keyHandler, bucketAddress, otherFingerprint);
+
+    // then
+    assertThat(blockOffset).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldMoveFingerprintsOnRemoveAndRelocate() {
+    // given
+    final LongKeyHandler keyHandler = new LongKeyHandler();
+    final LongValueHandler valueHandler = new LongValueHandler();
+    final long bucketAddress = bucketBufferArray.allocateNewBucket(1, 1);
+    final long newBucketAddress = bucketBufferArray.allocateNewBucket(2, 1);
+
+    keyHandler.theKey = 10;
+    bucketBufferArray.addBlock(bucketAddress, keyHandler, valueHandler);
+    keyHandler.theKey = 11;
+    bucketBufferArray.addBlock(bucketAddress, keyHandler, valueHandler);
+
+    // when
+    final int firstBlockOffset = bucketBufferArray.getFirstBlockOffset();
+    bucketBufferArray.relocateBlock(bucketAddress, firstBlockOffset, newBucketAddress);
+
+    // then
+    keyHandler.theKey = 10;
+    assertThat(
+            bucketBufferArray.findBlockOffset(
+                keyHandler, newBucketAddress, fingerprint(keyHandler.keyHashCode())))
+        .isEqualTo(firstBlockOffset);
+
+    keyHandler.theKey = 11;
+    assertThat(
+            bucketBufferArray.findBlockOffset(
+                keyHandler, bucketAddress, fingerprint(keyHandler.keyHashCode())))
+        .isEqualTo(firstBlockOffset);
+
+    // when
+    bucketBufferArray.relocateBlocksFromBucket(bucketAddress, newBucketAddress);
+
+    // then
+    assertThat(
+            bucketBufferArray.findBlockOffset(
+                keyHandler, newBucketAddress, fingerprint(keyHandler.keyHashCode())))
+        .isEqualTo(firstBlockOffset + bucketBufferArray.getBlockLength());
+  }
 }
@@ -15,9 +15,12 @@
  */
 package io.zeebe.map;
 
+import static io.zeebe.map.HashTable.SEGMENT_CAPACITY;
 import static org.agrona.BitUtil.SIZE_OF_LONG;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -138,4 +141,113 @@ public class HashTableTest {
     // when
     hashTable.getBucketAddress(1);
   }
+
+  @Test
+  public void shouldGrowSegmentedHashTableWithPendingSegments() {
+    // given
+    final HashTable hashTable = new HashTable(SEGMENT_CAPACITY * 2);
+    for (int i = 0; i < hashTable.getCapacity(); i++) {
+      hashTable.setBucketAddress(i, i);
+    }
+
+    // when
+    hashTable.resize(SEGMENT_CAPACITY * 8);
+
+    // then
+    assertThat(hashTable.hasPendingSegments()).isTrue();
+    assertThat(hashTable.getCapacity()).isEqualTo(SEGMENT_CAPACITY * 8);
+    for (int i = 0; i < hashTable.getCapacity(); i++) {
+      assertThat(hashTable.getBucketAddress(i)).isEqualTo(i % (SEGMENT_CAPACITY * 2));
+    }
+  }
+
+  @Test
+  public void shouldFillPendingSegmentsIncrementally() {
+    // given
+    final HashTable hashTable = new HashTable(SEGMENT_CAPACITY);
+    for (int i = 0; i < hashTable.getCapacity(); i++) {
+      hashTable.setBucketAddress(i, i);
+    }
+    hashTable.resize(SEGMENT_CAPACITY * 4);
+
+    // when
+    int filledSegments = 0;
+    while (hashTable.fillPendingSegment()) {
+      filledSegments++;
+    }
+
+    // then
+    assertThat(filledSegments).isEqualTo(3);
+    assertThat(hashTable.hasPendingSegments()).isFalse();
+    for (int i = 0; i < hashTable.getCapacity(); i++) {
+      assertThat(hashTable.getBucketAddress(i)).isEqualTo(i % SEGMENT_CAPACITY);
+    }
+  }
+
+  @Test
+  public void shouldFillPendingSegmentOnWrite() {
+    // given
+    final HashTable hashTable = new HashTable(SEGMENT_CAPACITY);
+    for (int i = 0; i < hashTable.getCapacity(); i++) {
+      hashTable.setBucketAddress(i, i);
+    }
+    hashTable.resize(SEGMENT_CAPACITY * 4);
+
+    // when
+    hashTable.setBucketAddress(SEGMENT_CAPACITY * 2 + 1, 167);
+
+    // then
+    assertThat(hashTable.getBucketAddress(SEGMENT_CAPACITY * 2 + 1)).isEqualTo(167);
+    assertThat(hashTable.getBucketAddress(SEGMENT_CAPACITY * 2)).isEqualTo(0);
+    assertThat(hashTable.getBucketAddress(1)).isEqualTo(1);
+    assertThat(hashTable.getBucketAddress(SEGMENT_CAPACITY + 1)).isEqualTo(1);
+
+    int filledSegments = 0;
+    while (hashTable.fillPendingSegment()) {
+      filledSegments++;
+    }
+    assertThat(filledSegments).isEqualTo(2);
+    assertThat(hashTable.getBucketAddress(SEGMENT_CAPACITY * 2 + 1)).isEqualTo(167);
+  }
+
+  @Test
+  public void shouldShrinkSegmentedHashTable() {
+    // given
+    final HashTable hashTable = new HashTable(SEGMENT_CAPACITY);
+    hashTable.setBucketAddress(1, 167);
+    hashTable.resize(SEGMENT_CAPACITY * 4);
+
+    // when
+    hashTable.resize(4);
+
+    // then
+    assertThat(hashTable.hasPendingSegments()).isFalse();
+    assertThat(hashTable.getLength()).isEqualTo(4 * SIZE_OF_LONG);
+    assertThat(hashTable.getBucketAddress(1)).isEqualTo(167);
+  }
+
+  @Test
+  public void shouldWriteAndReadHashTableWithPendingSegments() throws Exception {
+    // given
+    final HashTable hashTable = new HashTable(SEGMENT_CAPACITY);
+    for (int i = 0; i < hashTable.getCapacity(); i++) {
+      hashTable.setBucketAddress(i, i);
+    }
+    hashTable.resize(SEGMENT_CAPACITY * 4);
+    hashTable.setBucketAddress(SEGMENT_CAPACITY * 3, 167);
+
+    final byte[] buffer = new byte[1000];
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    hashTable.writeToStream(outputStream, buffer);
+
+    // when
+    final HashTable newHashTable = new HashTable(1);
+    newHashTable.readFromStream(new ByteArrayInputStream(outputStream.toByteArray()), buffer);
+
+    // then
+    assertThat(newHashTable.getCapacity()).isEqualTo(SEGMENT_CAPACITY * 4);
+    assertThat(newHashTable.getBucketAddress(SEGMENT_CAPACITY * 3)).isEqualTo(167);
+    assertThat(newHashTable.getBucketAddress(SEGMENT_CAPACITY * 3 + 1)).isEqualTo(1);
+    assertThat(newHashTable.getBucketAddress(SEGMENT_CAPACITY + 2)).isEqualTo(2);
+  }
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MappedBucketBufferStorageTest {
+  private static final int DATASET_SIZE = 100_000;
+  private static final int NO_SUCH_KEY = -1;
+  private static final long MAX_RESIDENT_LENGTH = 64 * 1024;
+
+  @Rule public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  private File directory;
+  private Long2LongZbMap map;
+
+  @Before
+  public void setUp() {
+    directory = new File(tempFolder.getRoot(), "map");
+    map =
+        new Long2LongZbMap(
+            ZbMap.DEFAULT_TABLE_SIZE,
+            ZbMap.DEFAULT_BLOCK_COUNT,
+            new MappedBucketBufferStorage(directory, MAX_RESIDENT_LENGTH));
+  }
+
+  @After
+  public void close() {
+    map.close();
+  }
+
+  @Test
+  public void shouldPutAndGetEntries() {
+    // when
+    for (int i = 0; i < DATASET_SIZE; i++) {
+      map.put(i, i);
+    }
+
+    // then
+    for (int i = 0; i < DATASET_SIZE; i++) {
+      assertThat(map.get(i, NO_SUCH_KEY)).isEqualTo(i);
+    }
+  }
+
+  @Test
+  public void shouldStoreBucketBuffersInFiles() {
+    // when
+    for (int i = 0; i < DATASET_SIZE; i++) {
+      map.put(i, i);
+    }
+
+    // then
+    final int bucketBufferCount = map.getBucketBufferArray().getBucketBufferCount();
+    assertThat(bucketBufferCount).isGreaterThan(1);
+    assertThat(directory.listFiles()).hasSize(bucketBufferCount);
+  }
+
+  @Test
+  public void shouldPageOutColdBucketBuffers() {
+    final BucketBufferArray bucketBufferArray = map.getBucketBufferArray();
+
+    // when
+    for (int i = 0; i < DATASET_SIZE; i++) {
+      map.put(i, i);
+      map.get(i, NO_SUCH_KEY);
+    }
+    bucketBufferArray.pageOutColdBucketBuffers();
+
+    // then
+    assertThat(bucketBufferArray.getBucketBufferCount())
+        .isGreaterThan(bucketBufferArray.getMaxResidentBucketBufferCount());
+    assertThat(bucketBufferArray.getResidentBucketBufferCount())
+        .isLessThanOrEqualTo(bucketBufferArray.getMaxResidentBucketBufferCount());
+  }
+
+  @Test
+  public void shouldPageOutColdBucketBuffersRepeatedly() {
+    final BucketBufferArray bucketBufferArray = map.getBucketBufferArray();
+
+    for (int i = 0; i < DATASET_SIZE; i++) {
+      map.put(i, i);
+    }
+    bucketBufferArray.pageOutColdBucketBuffers();
+
+    // when
+    for (int round = 0; round < 3; round++) {
+      for (int i = 0; i < DATASET_SIZE; i++) {
+        assertThat(map.get(i, NO_SUCH_KEY)).isEqualTo(i);
+      }
+      bucketBufferArray.pageOutColdBucketBuffers();
+
+      // then
+      assertThat(bucketBufferArray.getResidentBucketBufferCount())
+          .isLessThanOrEqualTo(bucketBufferArray.getMaxResidentBucketBufferCount());
+    }
+  }
+
+  @Test
+  public void shouldRemoveEntriesAndReleaseFiles() {
+    // given
+    for (int i = 0; i < DATASET_SIZE; i++) {
+      map.put(i, i);
+    }
+
+    // when
+    for (int i = 0; i < DATASET_SIZE; i++) {
+      assertThat(map.remove(i, NO_SUCH_KEY)).isEqualTo(i);
+    }
+
+    // then
+    assertThat(map.get(0, NO_SUCH_KEY)).isEqualTo(NO_SUCH_KEY);
+    assertThat(directory.listFiles()).hasSize(map.getBucketBufferArray().getBucketBufferCount());
+  }
+
+  @Test
+  public void shouldDeleteFilesOnClose() {
+    // given
+    for (int i = 0; i < DATASET_SIZE; i++) {
+      map.put(i, i);
+    }
+
+    // when
+    map.close();
+
+    // then
+    assertThat(directory.listFiles()).isEmpty();
+  }
+
+  @Test
+  public void shouldWriteAndReadSnapshot() throws Exception {
+    // given
+    for (int i = 0; i < DATASET_SIZE; i++) {
+      map.put(i, i);
+    }
+
+    final ZbMapSerializer serializer = new ZbMapSerializer();
+    serializer.wrap(map);
+
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    serializer.writeToStream(outputStream);
+
+    // when
+    final Long2LongZbMap newMap =
+        new Long2LongZbMap(
+            ZbMap.DEFAULT_TABLE_SIZE,
+            ZbMap.DEFAULT_BLOCK_COUNT,
+            new MappedBucketBufferStorage(
+                new File(tempFolder.getRoot(), "recovered"), MAX_RESIDENT_LENGTH));
+
+    try {
+      serializer.wrap(newMap);
+      serializer.readFromStream(new ByteArrayInputStream(outputStream.toByteArray()));
+
+      // then
+      for (int i = 0; i < DATASET_SIZE; i++) {
+        assertThat(newMap.get(i, NO_SUCH_KEY)).isEqualTo(i);
+      }
+    } finally {
+      newMap.close();
+    }
+  }
+}
@@ -167,6 +167,85 @@ public class ZbMapIteratorTest {
         .containsEntry(16L, 16L);
   }
 
+  @Test
+  public void shouldGetEntriesIfFirstBucketIsEmpty() {
+    // given
+    LongStream.range(0, 16).forEach(k -> putValue(map, k, k));
+
+    final long firstBucketAddress =
+        BucketBufferArray.getBucketAddress(0, map.bucketBufferArray.getFirstBucketOffset());
+    final Set<Long> remainingKeys = LongStream.range(0, 16).boxed().collect(Collectors.toSet());
+
+    while (map.bucketBufferArray.getBucketFillCount(firstBucketAddress) > 0) {
+      iterator.reset();
+      final long key = iterator.next().key;
+      removeValue(map, key);
+      remainingKeys.remove(key);
+    }
+
+    // if then
+    final List<Long> foundKeys = new ArrayList<>();
+
+    iterator.reset();
+    while (iterator.hasNext()) {
+      foundKeys.add(iterator.next().key);
+    }
+
+    assertThat(remainingKeys).isNotEmpty();
+    assertThat(foundKeys).hasSameSizeAs(remainingKeys).hasSameElementsAs(remainingKeys);
+  }
+
+  @Test
+  public void shouldResumeIterationAfterModification() {
+    // given
+    LongStream.range(0, 100).forEach(k -> putValue(map, k, k));
+
+    final Set<Long> foundKeys = new HashSet<>();
+
+    iterator.reset();
+    for (int i = 0; i < 10; i++) {
+      foundKeys.add(iterator.next().key);
+    }
+
+    LongStream.range(100, 200).forEach(k -> putValue(map, k, k));
+
+    // when
+    final boolean resumed = iterator.resume();
+
+    while (iterator.hasNext()) {
+      foundKeys.add(iterator.next().key);
+    }
+
+    // then
+    assertThat(resumed).isTrue();
+    assertThat(foundKeys).containsAll(LongStream.range(0, 100).boxed()::iterator);
+  }
+
+  @Test
+  public void shouldRestartIterationIfEntriesWereRelocated() {
+    // given
+    LongStream.range(0, 100).forEach(k -> putValue(map, k, k));
+
+    iterator.reset();
+    for (int i = 0; i < 10; i++) {
+      iterator.next();
+    }
+
+    LongStream.range(10, 100).forEach(k -> removeValue(map, k));
+
+    // when
+    final boolean resumed = iterator.resume();
+
+    final List<Long> foundKeys = new ArrayList<>();
+    while (iterator.hasNext()) {
+      foundKeys.add(iterator.next().key);
+    }
+
+    // then
+    assertThat(resumed).isFalse();
+    assertThat(foundKeys).hasSize(10).hasSameElementsAs(LongStream.range(0, 10).boxed()::iterator);
+  }
+
   @Test
   public void shouldResetIterator() {
     // given
@@ -233,6 +312,12 @@ public class ZbMapIteratorTest {
     zbMap.put();
   }
 
+  private static void removeValue(
+      ZbMap<? extends LongKeyHandler, LongValueHandler> zbMap, long key) {
+    zbMap.keyHandler.theKey = key;
+    zbMap.remove();
+  }
+
   private final class Long2LongMapEntry implements ZbMapEntry<LongKeyHandler, LongValueHandler> {
     long key;
     long value;
@@ -15,7 +15,17 @@
  */
 package io.zeebe.map;
 
+import static io.zeebe.map.BucketBufferArray.ALLOCATION_FACTOR;
+import static io.zeebe.map.BucketBufferArrayDescriptor.BUCKET_BUFFER_BUCKET_COUNT_OFFSET;
+import static io.zeebe.map.BucketBufferArrayDescriptor.BUCKET_BUFFER_HEADER_LENGTH;
+import static io.zeebe.map.BucketBufferArrayDescriptor.BUCKET_DATA_OFFSET;
+import static io.zeebe.map.BucketBufferArrayDescriptor.BUCKET_FILL_COUNT_OFFSET;
+import static io.zeebe.map.BucketBufferArrayDescriptor.MAIN_BLOCK_COUNT_OFFSET;
+import static io.zeebe.map.BucketBufferArrayDescriptor.MAIN_BUCKET_BUFFER_HEADER_LEN;
+import static io.zeebe.map.BucketBufferArrayDescriptor.MAIN_BUCKET_COUNT_OFFSET;
+import static io.zeebe.map.BucketBufferArrayDescriptor.MAIN_BUFFER_COUNT_OFFSET;
 import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.zeebe.test.util.io.RepeatedlyFailingInputStream;
@@ -203,6 +213,30 @@ public class ZbMapSerializerTest {
     readMap(map, inputStream);
   }
 
+  @Test
+  public void shouldRestoreSnapshotWithoutFingerprints() throws IOException {
+    // given
+    final int keyCount = 1_000;
+    final InputStream inputStream = writeSnapshotWithoutFingerprints(keyCount);
+
+    // when
+    readMap(map, inputStream);
+
+    // then
+    assertThat(map.getBucketBufferArray().getBlockCount()).isEqualTo(keyCount);
+
+    for (int i = 0; i < keyCount; i++) {
+      assertThat(map.get(i, NO_SUCH_KEY)).isEqualTo(i);
+    }
+    assertThat(map.get(keyCount, NO_SUCH_KEY)).isEqualTo(NO_SUCH_KEY);
+
+    map.put(keyCount, keyCount);
+    assertThat(map.remove(0, NO_SUCH_KEY)).isEqualTo(0);
+
+    assertThat(map.get(keyCount, NO_SUCH_KEY)).isEqualTo(keyCount);
+    assertThat(map.get(0, NO_SUCH_KEY)).isEqualTo(NO_SUCH_KEY);
+  }
+
   @Test
   public void shouldThrowOnIllegalVersion() throws IOException {
     final ZbMapSerializer mapSerializer = new ZbMapSerializer();
@@ -236,6 +270,68 @@ public class ZbMapSerializerTest {
     readMap(map, inputStream);
   }
 
+  /**
+   * Writes a snapshot of version 1, whose buckets have no block fingerprints. The keys are written
+   * in ascending order, each key with itself as value.
+   */
+  private InputStream writeSnapshotWithoutFingerprints(int keyCount) {
+    final BucketBufferArray bucketBufferArray = map.getBucketBufferArray();
+    final int maxBlockCount = bucketBufferArray.getMaxBucketBlockCount();
+    final int blockLength = bucketBufferArray.getBlockLength();
+    final int bucketLength = BUCKET_DATA_OFFSET + maxBlockCount * blockLength;
+    final int bucketCount = (keyCount + maxBlockCount - 1) / maxBlockCount;
+    final int bucketBufferCount = (bucketCount + ALLOCATION_FACTOR - 1) / ALLOCATION_FACTOR;
+    final int tableCapacity = map.getHashTable().getCapacity();
+
+    final int snapshotLength =
+        SIZE_OF_INT
+            + SIZE_OF_INT
+            + tableCapacity * SIZE_OF_LONG
+            + MAIN_BUCKET_BUFFER_HEADER_LEN
+            + bucketBufferCount * BUCKET_BUFFER_HEADER_LENGTH
+            + bucketCount * bucketLength;
+
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[snapshotLength]);
+    int offset = 0;
+
+    buffer.putInt(offset, 1);
+    offset += SIZE_OF_INT;
+
+    // the bucket addresses of the hash table are not needed to restore the map
+    buffer.putInt(offset, tableCapacity);
+    offset += SIZE_OF_INT + tableCapacity * SIZE_OF_LONG;
+
+    buffer.putInt(offset + MAIN_BUFFER_COUNT_OFFSET, bucketBufferCount);
+    buffer.putInt(offset + MAIN_BUCKET_COUNT_OFFSET, bucketCount);
+    buffer.putLong(offset + MAIN_BLOCK_COUNT_OFFSET, keyCount);
+    offset += MAIN_BUCKET_BUFFER_HEADER_LEN;
+
+    int key = 0;
+    for (int bucketBufferIdx = 0; bucketBufferIdx < bucketBufferCount; bucketBufferIdx++) {
+      final int bucketsInBuffer =
+          Math.min(ALLOCATION_FACTOR, bucketCount - bucketBufferIdx * ALLOCATION_FACTOR);
+
+      buffer.putInt(offset + BUCKET_BUFFER_BUCKET_COUNT_OFFSET, bucketsInBuffer);
+      offset += BUCKET_BUFFER_HEADER_LENGTH;
+
+      for (int bucketIdx = 0; bucketIdx < bucketsInBuffer; bucketIdx++) {
+        final int bucketFillCount = Math.min(maxBlockCount, keyCount - key);
+        buffer.putInt(offset + BUCKET_FILL_COUNT_OFFSET, bucketFillCount);
+
+        for (int blockIdx = 0; blockIdx < bucketFillCount; blockIdx++) {
+          final int blockOffset = offset + BUCKET_DATA_OFFSET + blockIdx * blockLength;
+          buffer.putLong(blockOffset, key);
+          buffer.putLong(blockOffset + SIZE_OF_LONG, key);
+          key++;
+        }
+
+        offset += bucketLength;
+      }
+    }
+
+    return new ByteArrayInputStream(buffer.byteArray());
+  }
+
   private static void fillMap(final Long2LongZbMap map) {
     for (int i = 0; i < DATASET_SIZE; i++) {
       map.put(i, i);